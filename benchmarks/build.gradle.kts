@@ -0,0 +1,30 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+val pekkoVersion: String by project
+
+dependencies {
+    implementation(project(":core"))
+
+    // SpringActorSystem exposes Spring types (DisposableBean, ApplicationEventPublisher)
+    implementation("org.springframework.boot:spring-boot-starter:2.7.0")
+
+    // BehaviorTestKit runs behaviors synchronously for the dispatch benchmark
+    jmh("org.apache.pekko:pekko-actor-testkit-typed_3:$pekkoVersion")
+}
+
+// Run a subset with e.g. `./gradlew :benchmarks:jmh -PjmhIncludes=ActorLookupBenchmark`
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    project.findProperty("jmhIncludes")?.let { includes.set(listOf(it as String)) }
+}
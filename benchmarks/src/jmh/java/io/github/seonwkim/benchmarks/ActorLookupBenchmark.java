@@ -0,0 +1,88 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.RootGuardian;
+import io.github.seonwkim.core.SpringActorContext;
+import io.github.seonwkim.core.SpringActorHandle;
+import io.github.seonwkim.core.SpringActorSystem;
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.javadsl.AskPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares resolving a top-level actor through the {@link io.github.seonwkim.core.ActorRefIndex}
+ * (what {@link SpringActorSystem#get(Class, String)} and {@link SpringActorSystem#exists(Class, String)}
+ * do now) with asking the root guardian, which was the only lookup path before the index existed.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=ActorLookupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ActorLookupBenchmark {
+
+    private static final String ACTOR_ID = "lookup-target";
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    private SpringActorSystem actorSystem;
+    private ActorSystem<RootGuardian.Command> raw;
+    private SpringActorContext actorContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = BenchmarkActorSystems.local("lookup-benchmark");
+        raw = actorSystem.getRaw();
+        actorContext = new DefaultSpringActorContext(ACTOR_ID);
+        actorSystem.actor(EchoActor.class).withId(ACTOR_ID).spawnAndWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.destroy();
+    }
+
+    @Benchmark
+    public SpringActorHandle<EchoActor.Command> indexedGet() {
+        return actorSystem.get(EchoActor.class, ACTOR_ID).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Boolean indexedExists() {
+        return actorSystem.exists(EchoActor.class, ACTOR_ID).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public RootGuardian.GetActorResponse<?> guardianAskGet() {
+        return AskPattern.ask(
+                        raw,
+                        (ActorRef<RootGuardian.GetActorResponse<?>> replyTo) ->
+                                new RootGuardian.GetActor(EchoActor.class, actorContext, replyTo),
+                        TIMEOUT,
+                        raw.scheduler())
+                .toCompletableFuture()
+                .join();
+    }
+
+    @Benchmark
+    public RootGuardian.ExistsResponse guardianAskExists() {
+        return AskPattern.ask(
+                        raw,
+                        (ActorRef<RootGuardian.ExistsResponse> replyTo) ->
+                                new RootGuardian.CheckExists(EchoActor.class, actorContext, replyTo),
+                        TIMEOUT,
+                        raw.scheduler())
+                .toCompletableFuture()
+                .join();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.AskChannel;
+import io.github.seonwkim.core.SpringActorHandle;
+import io.github.seonwkim.core.SpringActorSystem;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares request-reply throughput against a single actor through {@link SpringActorHandle#ask}
+ * and through an {@link AskChannel}, which additionally keeps track of its pending requests. Both
+ * track their deadlines on the actor system's deadline tracker.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=AskChannelBenchmark}; add
+ * {@code -prof gc} to the JMH arguments to compare allocation per ask
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class AskChannelBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    private SpringActorSystem actorSystem;
+    private SpringActorHandle<EchoActor.Command> echo;
+    private AskChannel<EchoActor.Command> channel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = BenchmarkActorSystems.local("ask-channel-benchmark");
+        echo = actorSystem.actor(EchoActor.class).withId("echo").spawnAndWait();
+        channel = echo.askChannel(actorSystem.getRaw());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.close();
+        actorSystem.destroy();
+    }
+
+    @Benchmark
+    public String askBuilder() {
+        return echo.ask(new EchoActor.Ping())
+                .withTimeout(TIMEOUT)
+                .execute()
+                .toCompletableFuture()
+                .join();
+    }
+
+    @Benchmark
+    public String askChannel() {
+        return channel.ask(new EchoActor.Ping(), TIMEOUT).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.ActorTypeRegistry;
+import io.github.seonwkim.core.RootGuardian;
+import io.github.seonwkim.core.RootGuardianSupplierWrapper;
+import io.github.seonwkim.core.SpringActorSystem;
+import io.github.seonwkim.core.impl.DefaultSpringActorSystemBuilder;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates local {@link SpringActorSystem} instances for benchmarks without starting a Spring
+ * application context. Actors used by the benchmarks are registered in the static
+ * {@link ActorTypeRegistry} the same way the BeanPostProcessor would register them.
+ */
+public final class BenchmarkActorSystems {
+
+    private BenchmarkActorSystems() {}
+
+    /**
+     * Creates a local actor system with the benchmark actors registered.
+     *
+     * @param name The actor system name
+     * @return A new local SpringActorSystem
+     */
+    public static SpringActorSystem local(String name) {
+        return local(name, new HashMap<>());
+    }
+
+    /**
+     * Creates a local actor system with the benchmark actors registered and additional
+     * {@code spring.actor} configuration entries applied.
+     *
+     * @param name The actor system name
+     * @param extraConfig Additional configuration, in the same nested form as {@code spring.actor}
+     * @return A new local SpringActorSystem
+     */
+    @SuppressWarnings("unchecked")
+    public static SpringActorSystem local(String name, Map<String, Object> extraConfig) {
+        EchoActor echoActor = new EchoActor();
+        ActorTypeRegistry.register(EchoActor.class, echoActor::create);
+
+        Map<String, Object> config = new HashMap<>(extraConfig);
+        Map<String, Object> pekko = (Map<String, Object>) config.computeIfAbsent("pekko", k -> new HashMap<>());
+        pekko.put("name", name);
+        pekko.put("loglevel", "WARNING");
+
+        return new DefaultSpringActorSystemBuilder()
+                .withRootGuardianSupplier(new RootGuardianSupplierWrapper(RootGuardian::create))
+                .withConfig(config)
+                .build();
+    }
+}
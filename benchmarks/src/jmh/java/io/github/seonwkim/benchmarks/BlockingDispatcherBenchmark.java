@@ -0,0 +1,125 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.ActorTypeRegistry;
+import io.github.seonwkim.core.AskCommand;
+import io.github.seonwkim.core.DispatcherConfig;
+import io.github.seonwkim.core.SpringActor;
+import io.github.seonwkim.core.SpringActorBehavior;
+import io.github.seonwkim.core.SpringActorContext;
+import io.github.seonwkim.core.SpringActorHandle;
+import io.github.seonwkim.core.SpringActorSpawnBuilder;
+import io.github.seonwkim.core.SpringActorSystem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares {@link DispatcherConfig#blocking()} with {@link DispatcherConfig#virtualThreads()} for
+ * actors that block, standing in for JDBC or HTTP calls. Each operation asks every actor once, and
+ * every actor sleeps for {@code blockMillis} before it replies; the score is the time until all
+ * replies arrived. The blocking dispatcher runs at most its pool size of actors at once, while on
+ * virtual threads all of them block at the same time.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=BlockingDispatcherBenchmark} on JDK 21
+ * or later; the {@code virtualThreads} variant fails to set up on older JVMs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingDispatcherBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    /** Blocks the thread it runs on for every request */
+    public static class SleepingActor implements SpringActor<SleepingActor.Command> {
+
+        public interface Command {}
+
+        public static class Call extends AskCommand<Long> implements Command {
+            public final long blockMillis;
+
+            public Call(long blockMillis) {
+                this.blockMillis = blockMillis;
+            }
+        }
+
+        @Override
+        public SpringActorBehavior<Command> create(SpringActorContext actorContext) {
+            return SpringActorBehavior.builder(Command.class, actorContext)
+                    .onMessage(Call.class, (ctx, msg) -> {
+                        try {
+                            Thread.sleep(msg.blockMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        msg.reply(msg.blockMillis);
+                        return Behaviors.same();
+                    })
+                    .build();
+        }
+    }
+
+    @Param({"blocking", "virtualThreads"})
+    public String dispatcher;
+
+    @Param({"16", "256", "1024"})
+    public int actors;
+
+    @Param({"10"})
+    public long blockMillis;
+
+    private SpringActorSystem actorSystem;
+    private List<SpringActorHandle<SleepingActor.Command>> handles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = BenchmarkActorSystems.local("blocking-dispatcher-benchmark");
+        SleepingActor sleepingActor = new SleepingActor();
+        ActorTypeRegistry.register(SleepingActor.class, sleepingActor::create);
+        handles = new ArrayList<>(actors);
+        for (int i = 0; i < actors; i++) {
+            SpringActorSpawnBuilder<SleepingActor, SleepingActor.Command> builder =
+                    actorSystem.actor(SleepingActor.class).withId("sleeping-" + i);
+            if ("virtualThreads".equals(dispatcher)) {
+                builder.withVirtualThreadDispatcher();
+            } else {
+                builder.withBlockingDispatcher();
+            }
+            handles.add(builder.spawnAndWait());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.destroy();
+    }
+
+    @Benchmark
+    public List<Long> callAll() {
+        List<CompletableFuture<Long>> futures = new ArrayList<>(handles.size());
+        for (SpringActorHandle<SleepingActor.Command> handle : handles) {
+            futures.add(handle.ask(new SleepingActor.Call(blockMillis))
+                    .withTimeout(TIMEOUT)
+                    .execute()
+                    .toCompletableFuture());
+        }
+        List<Long> replies = new ArrayList<>(futures.size());
+        for (CompletableFuture<Long> future : futures) {
+            replies.add(future.join());
+        }
+        return replies;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.AskCommand;
+import io.github.seonwkim.core.SpringActor;
+import io.github.seonwkim.core.SpringActorBehavior;
+import io.github.seonwkim.core.SpringActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Minimal actor used by the benchmarks. It replies to {@link Ping} and ignores {@link Noop}, so
+ * measurements are dominated by framework overhead rather than by handler work.
+ */
+public class EchoActor implements SpringActor<EchoActor.Command> {
+
+    public interface Command {}
+
+    public static class Ping extends AskCommand<String> implements Command {
+        public Ping() {}
+    }
+
+    public static class Noop implements Command {
+        public Noop() {}
+    }
+
+    @Override
+    public SpringActorBehavior<Command> create(SpringActorContext actorContext) {
+        return SpringActorBehavior.builder(Command.class, actorContext)
+                .onMessage(Ping.class, (ctx, msg) -> {
+                    msg.reply("pong");
+                    return Behaviors.same();
+                })
+                .onMessage(Noop.class, (ctx, msg) -> Behaviors.same())
+                .build();
+    }
+}
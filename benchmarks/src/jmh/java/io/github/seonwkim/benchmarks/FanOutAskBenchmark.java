@@ -0,0 +1,80 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.AskAllResult;
+import io.github.seonwkim.core.SpringActorHandle;
+import io.github.seonwkim.core.SpringActorSystem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares a fan-out query over many actors done with one {@code ask} per actor against
+ * {@link SpringActorSystem#askAll}, which gathers all replies in a single aggregator actor with one
+ * shared deadline.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=FanOutAskBenchmark}; add
+ * {@code -prof gc} to the JMH arguments to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FanOutAskBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    @Param({"10", "100", "500"})
+    public int fanOut;
+
+    private SpringActorSystem actorSystem;
+    private List<SpringActorHandle<EchoActor.Command>> handles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = BenchmarkActorSystems.local("fan-out-benchmark");
+        handles = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++) {
+            handles.add(actorSystem.actor(EchoActor.class).withId("echo-" + i).spawnAndWait());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.destroy();
+    }
+
+    @Benchmark
+    public List<String> askEach() {
+        List<CompletableFuture<String>> futures = new ArrayList<>(handles.size());
+        for (SpringActorHandle<EchoActor.Command> handle : handles) {
+            futures.add(handle.ask(new EchoActor.Ping())
+                    .withTimeout(TIMEOUT)
+                    .execute()
+                    .toCompletableFuture());
+        }
+        List<String> replies = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            replies.add(future.join());
+        }
+        return replies;
+    }
+
+    @Benchmark
+    public AskAllResult<EchoActor.Command, String> askAll() {
+        return actorSystem
+                .askAll(handles, handle -> new EchoActor.Ping(), TIMEOUT)
+                .toCompletableFuture()
+                .join();
+    }
+}
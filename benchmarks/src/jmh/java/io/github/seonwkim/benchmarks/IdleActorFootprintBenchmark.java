@@ -0,0 +1,168 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.ActorTypeRegistry;
+import io.github.seonwkim.core.SpringActorBehavior;
+import io.github.seonwkim.core.SpringActorContext;
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the heap retained per idle actor when many actors of one type are spawned, comparing
+ * behaviors built per actor with {@link SpringActorBehavior#builder} against behaviors instantiated
+ * from a shared {@link SpringActorBehavior.Template}. Each invocation spawns {@code actors} actors in
+ * a fresh actor system, waits until all of them have started, and reports the growth of the used
+ * heap after a full GC divided by the number of actors as the {@code bytesPerActor} counter. The
+ * timing score is incidental.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=IdleActorFootprintBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IdleActorFootprintBenchmark {
+
+    public interface Command {}
+
+    public static final class Open implements Command {}
+
+    public static final class Touch implements Command {}
+
+    public static final class Read implements Command {}
+
+    public static final class Write implements Command {}
+
+    public static final class Expire implements Command {}
+
+    public static final class Close implements Command {}
+
+    /** Counted down by every session on start; static because template handlers must not capture it */
+    private static volatile CountDownLatch started = new CountDownLatch(0);
+
+    /** Per-actor state, the same for both variants */
+    public static final class Session {
+        long touches;
+
+        Session() {
+            started.countDown();
+        }
+    }
+
+    /** Stands in for the actor class that owns the cached template */
+    private static final class SessionActor {}
+
+    private static final class SpawnSessions {
+        final int count;
+
+        SpawnSessions(int count) {
+            this.count = count;
+        }
+    }
+
+    /** Reported next to the timing score */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long bytesPerActor;
+    }
+
+    @Param({"builder", "template"})
+    public String mode;
+
+    @Param({"20000"})
+    public int actors;
+
+    private ActorSystem<SpawnSessions> system;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        system = ActorSystem.create(
+                Behaviors.receive(SpawnSessions.class)
+                        .onMessage(SpawnSessions.class, msg -> Behaviors.setup(ctx -> {
+                            for (int i = 0; i < msg.count; i++) {
+                                SpringActorContext actorContext = new DefaultSpringActorContext("session-" + i);
+                                ctx.spawnAnonymous(session(actorContext));
+                            }
+                            return Behaviors.empty();
+                        }))
+                        .build(),
+                "footprint-" + mode);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws Exception {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().get(30, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void spawnIdleActors(Footprint footprint) throws InterruptedException {
+        long before = usedHeapAfterGc();
+        started = new CountDownLatch(actors);
+        system.tell(new SpawnSessions(actors));
+        if (!started.await(Duration.ofMinutes(1).toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Actors did not start in time");
+        }
+        footprint.bytesPerActor = (usedHeapAfterGc() - before) / actors;
+    }
+
+    private Behavior<Command> session(SpringActorContext actorContext) {
+        if ("template".equals(mode)) {
+            return ActorTypeRegistry.template(SessionActor.class, IdleActorFootprintBenchmark::template)
+                    .instantiate(actorContext)
+                    .asBehavior();
+        }
+        return SpringActorBehavior.builder(Command.class, actorContext)
+                .withState(ctx -> new Session())
+                .onMessage(Open.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Touch.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Read.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Write.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Expire.class, (session, msg) -> Behaviors.stopped())
+                .onMessage(Close.class, (session, msg) -> Behaviors.stopped())
+                .build()
+                .asBehavior();
+    }
+
+    private static SpringActorBehavior.Template<Command> template() {
+        return SpringActorBehavior.template(Command.class)
+                .withState(ctx -> new Session())
+                .onMessage(Open.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Touch.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Read.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Write.class, IdleActorFootprintBenchmark::touch)
+                .onMessage(Expire.class, (session, msg) -> Behaviors.stopped())
+                .onMessage(Close.class, (session, msg) -> Behaviors.stopped())
+                .buildTemplate();
+    }
+
+    private static Behavior<Command> touch(Session session, Command msg) {
+        session.touches++;
+        return Behaviors.same();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
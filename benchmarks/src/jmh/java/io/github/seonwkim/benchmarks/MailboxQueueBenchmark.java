@@ -0,0 +1,122 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.MailboxConfig;
+import io.github.seonwkim.core.MpscArrayMessageQueue;
+import io.github.seonwkim.core.OverflowStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.apache.pekko.dispatch.NonBlockingBoundedMailbox;
+import org.apache.pekko.dispatch.SingleConsumerOnlyUnboundedMailbox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.Option;
+
+/**
+ * Compares the message queues behind the default mailbox ({@code SingleConsumerOnlyUnboundedMailbox}),
+ * {@link MailboxConfig#bounded(int)} (a non-blocking bounded node queue) and
+ * {@link MailboxConfig#mpscArray(int, OverflowStrategy)}, without actors or dispatchers around them.
+ *
+ * <ul>
+ *   <li>{@code burst} - one thread enqueues 1024 messages and dequeues them again
+ *   <li>{@code contended} - three producer threads enqueue while one consumer thread dequeues. The
+ *       producers stop at 1024 messages in flight, so the unbounded queue cannot grow
+ *       without limit and the bounded queues never overflow.
+ * </ul>
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=MailboxQueueBenchmark}, and add
+ * {@code -prof gc} to the JMH arguments to compare the allocation per message.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MailboxQueueBenchmark {
+
+    @Param({"default", "bounded", "mpscArray"})
+    public String queue;
+
+    /** Messages per burst, and the in-flight limit of the contended group */
+    private static final int BURST = 1024;
+
+    private ActorSystem system;
+    private ActorRef receiver;
+    private Envelope envelope;
+    private MessageQueue messageQueue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        system = ActorSystem.create("mailbox-queue-benchmark");
+        receiver = system.deadLetters();
+        envelope = Envelope.apply("message", ActorRef.noSender(), system);
+        // Room for the burst plus the message each producer may add past the in-flight check
+        int capacity = BURST + 8;
+        switch (queue) {
+            case "default":
+                messageQueue = new SingleConsumerOnlyUnboundedMailbox().create(Option.empty(), Option.apply(system));
+                break;
+            case "bounded":
+                messageQueue = new NonBlockingBoundedMailbox(capacity).create(Option.empty(), Option.apply(system));
+                break;
+            case "mpscArray":
+                messageQueue = new MpscArrayMessageQueue(capacity, OverflowStrategy.dropNewest(), receiver);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue: " + queue);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().get(30, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Group("burst")
+    @OperationsPerInvocation(BURST)
+    public void enqueueThenDequeue(Blackhole blackhole) {
+        for (int i = 0; i < BURST; i++) {
+            messageQueue.enqueue(receiver, envelope);
+        }
+        for (int i = 0; i < BURST; i++) {
+            blackhole.consume(messageQueue.dequeue());
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public void produce() {
+        if (inFlight.get() < BURST) {
+            inFlight.incrementAndGet();
+            messageQueue.enqueue(receiver, envelope);
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void consume(Blackhole blackhole) {
+        Envelope next = messageQueue.dequeue();
+        if (next != null) {
+            inFlight.decrementAndGet();
+            blackhole.consume(next);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.FrameworkCommand;
+import io.github.seonwkim.core.FrameworkCommands;
+import io.github.seonwkim.core.SpringActorBehavior;
+import io.github.seonwkim.core.SpringBehaviorContext;
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.pekko.actor.testkit.typed.javadsl.BehaviorTestKit;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.BehaviorBuilder;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the cost of routing one message to one of 24 handlers through the class-indexed dispatch
+ * table of {@link SpringActorBehavior} (framework commands enabled), through the linear
+ * {@code isInstance} scan it replaced, and through a raw Pekko {@link BehaviorBuilder}. Behaviors run
+ * on a {@link BehaviorTestKit}, so the numbers exclude mailbox and scheduling overhead.
+ * {@code handlerIndex} selects the handler that accepts the message: the first one is the best case
+ * for a scan, the last one the worst.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=MessageDispatchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageDispatchBenchmark {
+
+    public interface Command extends FrameworkCommand {}
+
+    public static final class M00 implements Command {}
+
+    public static final class M01 implements Command {}
+
+    public static final class M02 implements Command {}
+
+    public static final class M03 implements Command {}
+
+    public static final class M04 implements Command {}
+
+    public static final class M05 implements Command {}
+
+    public static final class M06 implements Command {}
+
+    public static final class M07 implements Command {}
+
+    public static final class M08 implements Command {}
+
+    public static final class M09 implements Command {}
+
+    public static final class M10 implements Command {}
+
+    public static final class M11 implements Command {}
+
+    public static final class M12 implements Command {}
+
+    public static final class M13 implements Command {}
+
+    public static final class M14 implements Command {}
+
+    public static final class M15 implements Command {}
+
+    public static final class M16 implements Command {}
+
+    public static final class M17 implements Command {}
+
+    public static final class M18 implements Command {}
+
+    public static final class M19 implements Command {}
+
+    public static final class M20 implements Command {}
+
+    public static final class M21 implements Command {}
+
+    public static final class M22 implements Command {}
+
+    public static final class M23 implements Command {}
+
+    private static final List<Class<? extends Command>> TYPES = List.of(
+            M00.class,
+            M01.class,
+            M02.class,
+            M03.class,
+            M04.class,
+            M05.class,
+            M06.class,
+            M07.class,
+            M08.class,
+            M09.class,
+            M10.class,
+            M11.class,
+            M12.class,
+            M13.class,
+            M14.class,
+            M15.class,
+            M16.class,
+            M17.class,
+            M18.class,
+            M19.class,
+            M20.class,
+            M21.class,
+            M22.class,
+            M23.class);
+
+    @Param({"0", "23"})
+    public int handlerIndex;
+
+    private Command message;
+    private BehaviorTestKit<Command> dispatchTable;
+    private BehaviorTestKit<Command> linearScan;
+    private BehaviorTestKit<Command> behaviorBuilder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        message = TYPES.get(handlerIndex).getDeclaredConstructor().newInstance();
+        dispatchTable = BehaviorTestKit.create(dispatchTableBehavior());
+        linearScan = BehaviorTestKit.create(linearScanBehavior());
+        behaviorBuilder = BehaviorTestKit.create(behaviorBuilderBehavior());
+    }
+
+    @Benchmark
+    public void dispatchTable() {
+        dispatchTable.run(message);
+    }
+
+    @Benchmark
+    public void linearScan() {
+        linearScan.run(message);
+    }
+
+    @Benchmark
+    public void behaviorBuilder() {
+        behaviorBuilder.run(message);
+    }
+
+    private static Behavior<Command> dispatchTableBehavior() {
+        SpringActorBehavior.Builder<Command, SpringBehaviorContext<Command>> builder =
+                SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("dispatch-benchmark"));
+        for (Class<? extends Command> type : TYPES) {
+            builder = builder.onMessage(type, (ctx, msg) -> Behaviors.same());
+        }
+        return builder.build().asBehavior();
+    }
+
+    /** The dispatch SpringActorBehavior used before the table: framework checks, then a handler scan */
+    private static Behavior<Command> linearScanBehavior() {
+        return Behaviors.receive(Object.class)
+                .onMessage(Object.class, msg -> {
+                    if (msg instanceof FrameworkCommands.SpawnChild
+                            || msg instanceof FrameworkCommands.GetOrSpawnChild
+                            || msg instanceof FrameworkCommands.SpawnChildren
+                            || msg instanceof FrameworkCommands.GetChild
+                            || msg instanceof FrameworkCommands.ExistsChild) {
+                        return Behaviors.same();
+                    }
+                    if (Command.class.isInstance(msg)) {
+                        for (Class<? extends Command> type : TYPES) {
+                            if (type.isInstance(msg)) {
+                                return Behaviors.<Object>same();
+                            }
+                        }
+                    }
+                    return Behaviors.unhandled();
+                })
+                .build()
+                .narrow();
+    }
+
+    private static Behavior<Command> behaviorBuilderBehavior() {
+        BehaviorBuilder<Command> builder = Behaviors.receive(Command.class);
+        for (Class<? extends Command> type : TYPES) {
+            builder = builder.onMessage(type, msg -> Behaviors.same());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.seonwkim.benchmarks;
+
+import io.github.seonwkim.core.SpringActorHandle;
+import io.github.seonwkim.core.SpringActorSystem;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures top-level spawn throughput for different numbers of root guardian stripes
+ * ({@code spring.actor.root-guardian.stripes}). Every invocation spawns an actor with a fresh id, so
+ * the measurement is dominated by the guardian that performs the spawn. With one stripe all spawns
+ * are serialized through a single mailbox; with more stripes they are spread by actor name.
+ *
+ * <p>A new actor system is created for every iteration so the number of live actors stays bounded.
+ *
+ * <p>Run with {@code ./gradlew :benchmarks:jmh -PjmhIncludes=SpawnThroughputBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class SpawnThroughputBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int stripes;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SpringActorSystem actorSystem;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Map<String, Object> rootGuardian = new HashMap<>();
+        rootGuardian.put("stripes", stripes);
+        Map<String, Object> config = new HashMap<>();
+        config.put("root-guardian", rootGuardian);
+
+        actorSystem = BenchmarkActorSystems.local("spawn-benchmark", config);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        actorSystem.destroy();
+    }
+
+    @Benchmark
+    public SpringActorHandle<EchoActor.Command> spawn() {
+        return actorSystem
+                .actor(EchoActor.class)
+                .withId("actor-" + sequence.incrementAndGet())
+                .spawnAndWait();
+    }
+}
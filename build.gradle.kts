@@ -26,8 +26,8 @@ subprojects {
     apply(plugin = "java-library")
     apply(plugin = "com.diffplug.spotless")
 
-    // Only apply error-prone to core modules, not examples
-    if (!project.path.startsWith(":example")) {
+    // Only apply error-prone to core modules, not examples or benchmarks
+    if (!project.path.startsWith(":example") && !project.path.startsWith(":benchmarks")) {
         apply(plugin = "net.ltgt.errorprone")
     }
 
@@ -88,8 +88,8 @@ subprojects {
     val pekkoVersion: String by project
 
     dependencies {
-        // Only add Pekko dependencies to non-metrics modules
-        if (!project.path.startsWith(":metrics")) {
+        // Only add Pekko dependencies to non-metrics, non-processor modules
+        if (!project.path.startsWith(":metrics") && !project.path.startsWith(":processor")) {
             implementation("org.apache.pekko:pekko-actor-typed_3:${pekkoVersion}")
             implementation("org.apache.pekko:pekko-cluster-typed_3:${pekkoVersion}")
             implementation("org.apache.pekko:pekko-cluster-sharding-typed_3:${pekkoVersion}")
@@ -97,14 +97,14 @@ subprojects {
         }
         implementation("com.google.code.findbugs:jsr305:3.0.2")
 
-        // Only add error-prone dependencies for non-example projects
-        if (!project.path.startsWith(":example")) {
+        // Only add error-prone dependencies for non-example, non-benchmark projects
+        if (!project.path.startsWith(":example") && !project.path.startsWith(":benchmarks")) {
             errorprone("com.uber.nullaway:nullaway:0.10.26")
             errorprone("com.google.errorprone:error_prone_core:2.10.0")
         }
 
-        // Only add Pekko testkit to non-metrics modules
-        if (!project.path.startsWith(":metrics")) {
+        // Only add Pekko testkit to non-metrics, non-processor modules
+        if (!project.path.startsWith(":metrics") && !project.path.startsWith(":processor")) {
             testImplementation("org.apache.pekko:pekko-actor-testkit-typed_3:$pekkoVersion")
         }
         testImplementation("org.awaitility:awaitility:4.3.0")
@@ -38,12 +38,17 @@ dependencies {
 	compileOnly("org.apache.pekko:pekko-management-cluster-bootstrap_3:$pekkoManagementVersion")
 	compileOnly("org.apache.pekko:pekko-management-cluster-http_3:$pekkoManagementVersion")
 
+	// Optional: Reactor adapters (ReactiveAsks)
+	compileOnly("io.projectreactor:reactor-core")
+
 	implementation("com.google.code.findbugs:jsr305")
 	implementation("org.springframework.boot:spring-boot-starter")
 
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.apache.pekko:pekko-actor-testkit-typed_3")
 	testImplementation("org.awaitility:awaitility")
+	testImplementation("io.projectreactor:reactor-core")
+	testAnnotationProcessor(project(":processor"))
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
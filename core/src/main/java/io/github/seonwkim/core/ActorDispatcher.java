@@ -0,0 +1,32 @@
+package io.github.seonwkim.core;
+
+import java.util.List;
+import org.apache.pekko.actor.typed.Behavior;
+
+/**
+ * Dispatches messages to the {@link ActorHandler} methods of one class. Implementations are
+ * generated at compile time by the annotation processor, named after the handler class with an
+ * {@code _ActorDispatcher} suffix (nested class names are joined with {@code _}), and are not
+ * meant to be written by hand.
+ *
+ * @param <S> The class declaring the handler methods
+ */
+public interface ActorDispatcher<S> {
+
+    /**
+     * Returns the message types of the handler methods, in declaration order.
+     *
+     * @return The handled message types
+     */
+    List<Class<?>> messageTypes();
+
+    /**
+     * Invokes the handler method at the given index.
+     *
+     * @param target The object declaring the handler methods
+     * @param index The index of the handler in {@link #messageTypes()}
+     * @param message The message, an instance of the handler's message type
+     * @return The behavior returned by the handler
+     */
+    Behavior<?> dispatch(S target, int index, Object message);
+}
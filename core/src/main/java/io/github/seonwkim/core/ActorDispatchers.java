@@ -0,0 +1,119 @@
+package io.github.seonwkim.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.Behavior;
+
+/**
+ * Finds the {@link ActorDispatcher}s generated for a handler class. Each class is resolved once,
+ * walking up its superclasses so that subclasses and proxies of an annotated class are covered,
+ * and the result is cached per class. The processor generates one dispatcher per class for the
+ * handlers that class declares, so the dispatchers found along the way are combined, with the
+ * handlers of subclasses first.
+ */
+final class ActorDispatchers {
+
+    /** Suffix of generated dispatcher class names */
+    static final String SUFFIX = "_ActorDispatcher";
+
+    private static final ClassValue<Optional<ActorDispatcher<?>>> DISPATCHERS =
+            new ClassValue<Optional<ActorDispatcher<?>>>() {
+                @Override
+                protected Optional<ActorDispatcher<?>> computeValue(Class<?> type) {
+                    List<ActorDispatcher<?>> found = new ArrayList<>();
+                    Class<?> current = type;
+                    while (current != null && current != Object.class) {
+                        ActorDispatcher<?> dispatcher = load(current);
+                        if (dispatcher != null) {
+                            found.add(dispatcher);
+                        }
+                        current = current.getSuperclass();
+                    }
+                    if (found.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(found.size() == 1 ? found.get(0) : new Combined(found));
+                }
+            };
+
+    private ActorDispatchers() {}
+
+    /**
+     * Returns the generated dispatcher for the class of the given handler object.
+     *
+     * @param target The object declaring handler methods
+     * @param <S> The type of the handler object
+     * @return The dispatcher, or null if none was generated
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable static <S> ActorDispatcher<S> find(S target) {
+        return (ActorDispatcher<S>) DISPATCHERS.get(target.getClass()).orElse(null);
+    }
+
+    /**
+     * Returns the name of the dispatcher class generated for the given handler class.
+     *
+     * @param type The handler class
+     * @return The fully qualified dispatcher class name
+     */
+    static String dispatcherClassName(Class<?> type) {
+        return type.getName().replace('$', '_') + SUFFIX;
+    }
+
+    @Nullable private static ActorDispatcher<?> load(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        String name = dispatcherClassName(type);
+        Class<?> dispatcherClass;
+        try {
+            dispatcherClass = Class.forName(name, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        try {
+            return (ActorDispatcher<?>) dispatcherClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Cannot instantiate generated dispatcher " + name, e);
+        }
+    }
+
+    /** The dispatchers of a class and its superclasses, with their handlers numbered in sequence */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class Combined implements ActorDispatcher<Object> {
+        private final ActorDispatcher[] dispatchers;
+        /** The index of the first handler of each dispatcher */
+        private final int[] offsets;
+        private final List<Class<?>> messageTypes;
+
+        Combined(List<ActorDispatcher<?>> dispatchers) {
+            this.dispatchers = dispatchers.toArray(new ActorDispatcher[0]);
+            this.offsets = new int[dispatchers.size()];
+            List<Class<?>> types = new ArrayList<>();
+            for (int i = 0; i < this.dispatchers.length; i++) {
+                offsets[i] = types.size();
+                types.addAll(this.dispatchers[i].messageTypes());
+            }
+            this.messageTypes = Collections.unmodifiableList(types);
+        }
+
+        @Override
+        public List<Class<?>> messageTypes() {
+            return messageTypes;
+        }
+
+        @Override
+        public Behavior<?> dispatch(Object target, int index, Object message) {
+            for (int i = dispatchers.length - 1; i >= 0; i--) {
+                if (index >= offsets[i]) {
+                    return dispatchers[i].dispatch(target, index - offsets[i], message);
+                }
+            }
+            throw new IllegalArgumentException("No handler with index " + index);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.seonwkim.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as the handler of the message type of its single parameter. The optional
+ * annotation processor of the {@code spring-boot-starter-actor-processor} artifact generates an
+ * {@link ActorDispatcher} for every class declaring such methods, and
+ * {@link SpringActorBehavior.Builder#build()} picks it up when that class is the behavior's state.
+ * The generated dispatcher calls the methods directly from a switch, so dispatch needs no
+ * reflection, no handler lambdas and no per-handler registration when the actor is spawned.
+ *
+ * <p>Annotated methods must not be private or static, must take exactly one parameter (the
+ * message) and must return a {@link org.apache.pekko.actor.typed.Behavior}. Handlers registered
+ * with {@link SpringActorBehavior.Builder#onMessage(Class, java.util.function.BiFunction)} take
+ * precedence; among annotated methods, the first declared method accepting a message wins.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * public class OrderHandler {
+ *     @ActorHandler
+ *     Behavior<Command> onCreate(CreateOrder msg) { ... }
+ *
+ *     @ActorHandler
+ *     Behavior<Command> onCancel(CancelOrder msg) { ... }
+ * }
+ *
+ * return SpringActorBehavior.builder(Command.class, actorContext)
+ *     .withState(ctx -> new OrderHandler(ctx))
+ *     .build();
+ * }
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface ActorHandler {}
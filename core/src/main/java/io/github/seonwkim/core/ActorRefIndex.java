@@ -0,0 +1,102 @@
+package io.github.seonwkim.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+
+/**
+ * Per actor system index of the top-level actors spawned by the root guardian. Entries are keyed by
+ * the actor name built with {@link ActorSpawner#buildActorName(Class, String)}.
+ *
+ * <p>The root guardian is the only writer: it registers an actor right after spawning it (before
+ * replying to the spawn request) and removes it when it receives the actor's {@code Terminated}
+ * signal. Readers such as {@link SpringActorSystem#get(Class, String)} and
+ * {@link SpringActorSystem#exists(Class, String)} consult the index lock-free from the caller thread
+ * and only fall back to asking the root guardian when there is no entry.
+ *
+ * <p>The index is a Pekko extension, so there is exactly one instance per {@link ActorSystem}. A
+ * custom root guardian that does not maintain the index simply leaves it empty, in which case every
+ * lookup goes through the root guardian as before.
+ */
+public final class ActorRefIndex implements Extension {
+
+    private static final Id ID = new Id();
+
+    private final ConcurrentMap<String, ActorRef<?>> refs = new ConcurrentHashMap<>();
+
+    private ActorRefIndex() {}
+
+    /**
+     * Returns the index of the given actor system, creating it on first access.
+     *
+     * @param system The actor system
+     * @return The index belonging to the actor system
+     */
+    public static ActorRefIndex get(ActorSystem<?> system) {
+        return ID.get(system);
+    }
+
+    /**
+     * Registers a spawned actor under its actor name.
+     *
+     * @param actorName The actor name (see {@link ActorSpawner#buildActorName(Class, String)})
+     * @param ref The reference to the spawned actor
+     */
+    public void register(String actorName, ActorRef<?> ref) {
+        refs.put(actorName, ref);
+    }
+
+    /**
+     * Removes a terminated actor from the index. The entry is only removed if it still points to
+     * the given reference, so a terminated incarnation never evicts a newer actor with the same name.
+     *
+     * @param ref The reference to the terminated actor
+     */
+    public void unregister(ActorRef<?> ref) {
+        refs.remove(ref.path().name(), ref);
+    }
+
+    /**
+     * Looks up an actor by its actor name.
+     *
+     * @param actorName The actor name (see {@link ActorSpawner#buildActorName(Class, String)})
+     * @param <T> The command type of the actor
+     * @return The actor reference, or null if no live actor is registered under the name
+     */
+    @Nullable public <T> ActorRef<T> lookup(String actorName) {
+        @SuppressWarnings("unchecked")
+        ActorRef<T> ref = (ActorRef<T>) refs.get(actorName);
+        return ref;
+    }
+
+    /**
+     * Checks whether an actor is registered under the given actor name.
+     *
+     * @param actorName The actor name (see {@link ActorSpawner#buildActorName(Class, String)})
+     * @return true if a live actor is registered under the name, false otherwise
+     */
+    public boolean contains(String actorName) {
+        return refs.containsKey(actorName);
+    }
+
+    /**
+     * Returns the number of actors currently registered.
+     *
+     * @return The number of registered actors
+     */
+    public int size() {
+        return refs.size();
+    }
+
+    /** Extension id used to create one {@link ActorRefIndex} per actor system. */
+    private static final class Id extends ExtensionId<ActorRefIndex> {
+        @Override
+        public ActorRefIndex createExtension(ActorSystem<?> system) {
+            return new ActorRefIndex();
+        }
+    }
+}
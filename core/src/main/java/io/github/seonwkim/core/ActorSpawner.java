@@ -121,6 +121,10 @@ public final class ActorSpawner {
                         + "Ensure your application is running in cluster mode.");
             }
 
+            if (mailboxConfig.requiresLocalSpawn()) {
+                throw new IllegalArgumentException(mailboxConfig + " cannot be used for cluster singletons");
+            }
+
             SingletonActor<?> singletonActor = SingletonActor.of(behavior, actorName);
 
             // Build Props with dispatcher, mailbox, and tags
@@ -134,11 +138,18 @@ public final class ActorSpawner {
             // Build Props with dispatcher, mailbox, and tags
             Props props = buildProps(dispatcherConfig, mailboxConfig, tagsConfig);
 
-            if (props != Props.empty()) {
-                ref = ctx.spawn(behavior, actorName, props);
-            } else {
-                // If no props needed, use mailbox selector (more efficient)
-                ref = ctx.spawn(behavior, actorName, mailboxConfig.toMailboxSelector());
+            // Lets provisioned mailboxes hand per-actor settings to the mailbox created by the spawn
+            String actorPath = ctx.getSelf().path().child(actorName).toStringWithoutAddress();
+            mailboxConfig.beforeSpawn(ctx.getSystem(), actorPath);
+            try {
+                if (props != Props.empty()) {
+                    ref = ctx.spawn(behavior, actorName, props);
+                } else {
+                    // If no props needed, use mailbox selector (more efficient)
+                    ref = ctx.spawn(behavior, actorName, mailboxConfig.toMailboxSelector());
+                }
+            } finally {
+                mailboxConfig.afterSpawn(ctx.getSystem(), actorPath);
             }
         }
 
@@ -0,0 +1,202 @@
+package io.github.seonwkim.core;
+
+import com.typesafe.config.Config;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+import org.apache.pekko.actor.typed.Props;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Per actor system service behind {@link SpringActorTimers}. Every timer of every actor is one entry
+ * in a shared {@link HashedTimingWheel}, advanced by a single periodic tick, instead of a scheduler
+ * task per timer. On each tick the messages of all expired timers are grouped by target, and an
+ * actor with several expired timers receives them as one {@link MessageBatch}. A cancelled timer is
+ * removed from the wheel on the next tick, and the tick only runs while timers are scheduled.
+ *
+ * <p>The message of a timer is delivered wrapped in its {@link Timer}, which carries the key and
+ * generation of the timer. Before the actor's handlers run, {@link SpringActorTimers} drops the
+ * deliveries of timers that were cancelled or replaced after the message had been sent.
+ *
+ * <p>Example configuration:
+ *
+ * <pre>{@code
+ * spring:
+ *   actor:
+ *     timers:
+ *       resolution: 10ms
+ *       wheel-size: 512
+ * }</pre>
+ */
+final class ActorTimerService implements Extension {
+
+    /** Configuration path of the tick duration, relative to {@code spring.actor}. */
+    static final String RESOLUTION_CONFIG_PATH = "timers.resolution";
+
+    /** Configuration path of the number of wheel buckets, relative to {@code spring.actor}. */
+    static final String WHEEL_SIZE_CONFIG_PATH = "timers.wheel-size";
+
+    /** The default tick duration */
+    static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(10);
+
+    /** The default number of wheel buckets */
+    static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final Id ID = new Id();
+
+    private final Duration resolution;
+    private final HashedTimingWheel<Timer> wheel;
+    private final ActorRef<Tick> driver;
+
+    private ActorTimerService(ActorSystem<?> system) {
+        Config config = system.settings().config();
+        this.resolution = config.hasPath(RESOLUTION_CONFIG_PATH)
+                ? config.getDuration(RESOLUTION_CONFIG_PATH)
+                : DEFAULT_RESOLUTION;
+        int wheelSize = config.hasPath(WHEEL_SIZE_CONFIG_PATH)
+                ? config.getInt(WHEEL_SIZE_CONFIG_PATH)
+                : DEFAULT_WHEEL_SIZE;
+        this.wheel = new HashedTimingWheel<>(resolution, wheelSize, System.nanoTime());
+        this.driver = system.systemActorOf(driverBehavior(), "actor-timer-service", Props.empty());
+    }
+
+    /**
+     * Returns the service of the given actor system, creating it on first access.
+     *
+     * @param system The actor system
+     * @return The service belonging to the actor system
+     */
+    static ActorTimerService get(ActorSystem<?> system) {
+        return ID.get(system);
+    }
+
+    /**
+     * Schedules the first delivery of a timer. Safe to call from any thread.
+     *
+     * @param timer The timer to schedule
+     * @param delay The delay before the first delivery
+     */
+    void schedule(Timer timer, Duration delay) {
+        timer.timeout = schedule(timer, System.nanoTime() + delay.toNanos());
+    }
+
+    /** The number of timers waiting for their next delivery */
+    int scheduledCount() {
+        return wheel.size();
+    }
+
+    private HashedTimingWheel.Timeout<Timer> schedule(Timer timer, long deadlineNanos) {
+        HashedTimingWheel.Timeout<Timer> timeout = wheel.schedule(timer, deadlineNanos);
+        if (wheel.unpark()) {
+            driver.tell(Tick.RESUME);
+        }
+        return timeout;
+    }
+
+    private Behavior<Tick> driverBehavior() {
+        return Behaviors.withTimers(timers -> Behaviors.receive(Tick.class)
+                .onMessageEquals(Tick.RESUME, () -> {
+                    timers.startTimerWithFixedDelay(Tick.ADVANCE, resolution);
+                    return Behaviors.same();
+                })
+                .onMessageEquals(Tick.ADVANCE, () -> {
+                    deliverExpired(System.nanoTime());
+                    if (wheel.park()) {
+                        timers.cancel(Tick.ADVANCE);
+                    }
+                    return Behaviors.same();
+                })
+                .build());
+    }
+
+    private void deliverExpired(long now) {
+        Map<ActorRef<Object>, List<Object>> deliveries = new HashMap<>();
+        wheel.advance(now, timer -> {
+            if (timer.cancelled) {
+                return;
+            }
+            deliveries.computeIfAbsent(timer.target, target -> new ArrayList<>(1)).add(timer);
+            if (timer.intervalNanos > 0) {
+                HashedTimingWheel.Timeout<Timer> next = schedule(timer, now + timer.intervalNanos);
+                timer.timeout = next;
+                // The actor may have cancelled the timer while it still pointed at the expired entry
+                if (timer.cancelled) {
+                    next.cancel();
+                }
+            }
+        });
+        for (Map.Entry<ActorRef<Object>, List<Object>> delivery : deliveries.entrySet()) {
+            List<Object> messages = delivery.getValue();
+            delivery.getKey().tell(messages.size() == 1 ? messages.get(0) : new MessageBatch(messages));
+        }
+    }
+
+    /**
+     * A scheduled message, which is also the envelope its message is delivered in. The owning actor
+     * writes {@code cancelled} and the service writes {@code timeout}; each reads the other's field.
+     */
+    static final class Timer {
+        final SpringActorTimers<?> owner;
+        final Object key;
+
+        /** Tells this timer apart from earlier and later timers with the same key */
+        final long generation;
+
+        final ActorRef<Object> target;
+        final Object message;
+
+        /** The delay between deliveries of a repeated timer, or 0 for a single timer */
+        final long intervalNanos;
+
+        volatile boolean cancelled;
+
+        /** The entry of the next delivery in the wheel */
+        @Nullable volatile HashedTimingWheel.Timeout<Timer> timeout;
+
+        Timer(
+                SpringActorTimers<?> owner,
+                Object key,
+                long generation,
+                ActorRef<Object> target,
+                Object message,
+                long intervalNanos) {
+            this.owner = owner;
+            this.key = key;
+            this.generation = generation;
+            this.target = target;
+            this.message = message;
+            this.intervalNanos = intervalNanos;
+        }
+
+        /** Cancels the timer and removes its entry from the wheel */
+        void cancel() {
+            cancelled = true;
+            HashedTimingWheel.Timeout<Timer> current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+
+    /** Messages of the driver, which advances the wheel while it holds timers */
+    private enum Tick {
+        ADVANCE,
+        RESUME
+    }
+
+    /** Extension id used to create one {@link ActorTimerService} per actor system. */
+    private static final class Id extends ExtensionId<ActorTimerService> {
+        @Override
+        public ActorTimerService createExtension(ActorSystem<?> system) {
+            return new ActorTimerService(system);
+        }
+    }
+}
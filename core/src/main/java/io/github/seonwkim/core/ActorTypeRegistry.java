@@ -3,6 +3,7 @@ package io.github.seonwkim.core;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Static registry for actor types. Maintains thread-safe mappings between actor classes
@@ -16,6 +17,9 @@ public final class ActorTypeRegistry {
     private static final ConcurrentMap<Class<?>, Function<SpringActorContext, SpringActorBehavior<?>>> classToFactory =
             new ConcurrentHashMap<>();
 
+    private static final ConcurrentMap<Class<?>, SpringActorBehavior.Template<?>> classToTemplate =
+            new ConcurrentHashMap<>();
+
     // Prevent instantiation
     private ActorTypeRegistry() {
         throw new UnsupportedOperationException("Utility class");
@@ -92,6 +96,32 @@ public final class ActorTypeRegistry {
         return factory.apply(actorContext);
     }
 
+    /**
+     * Returns the behavior template of the given actor class, building it with the factory on first
+     * use. Actors call this from {@code create(...)} so that all their instances share one compiled
+     * handler set:
+     * <pre>{@code
+     * return ActorTypeRegistry.template(SessionActor.class, this::template).instantiate(actorContext);
+     * }</pre>
+     *
+     * @param <C> The command type that the actor handles
+     * @param actorClass Actor class that owns the template
+     * @param factory Builds the template, called at most once per actor class
+     * @return The cached template
+     * @throws IllegalArgumentException if the actor class or the factory is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> SpringActorBehavior.Template<C> template(
+            Class<?> actorClass, Supplier<SpringActorBehavior.Template<C>> factory) {
+        if (actorClass == null) {
+            throw new IllegalArgumentException("actorClass must not be null");
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null");
+        }
+        return (SpringActorBehavior.Template<C>) classToTemplate.computeIfAbsent(actorClass, key -> factory.get());
+    }
+
     /**
      * Clears all registrations. <b>For testing use only.</b>
      *
@@ -108,5 +138,6 @@ public final class ActorTypeRegistry {
      */
     public static void clear() {
         classToFactory.clear();
+        classToTemplate.clear();
     }
 }
@@ -0,0 +1,93 @@
+package io.github.seonwkim.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.PostStop;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * The short-lived actor behind {@link SpringActorSystem#askAll}. It sends every command with a reply
+ * target of its own (see {@link TempReplyRef}), so actors can forward {@link AskCommand#getReplyTo()}
+ * as with a plain ask. The targets pass each reply on to the aggregator tagged with the position of
+ * its handle, and the aggregator completes the result once all replies arrived or the single shared
+ * deadline fired, whichever comes first. It stops itself afterwards and releases the targets.
+ */
+final class AskAllAggregator {
+
+    /** Timer message fired at the shared deadline */
+    private enum Deadline {
+        INSTANCE
+    }
+
+    /** A reply passed on by the reply target of the handle at {@code index} */
+    private static final class Reply {
+        final int index;
+        final Object response;
+
+        Reply(int index, Object response) {
+            this.index = index;
+            this.response = response;
+        }
+    }
+
+    private AskAllAggregator() {}
+
+    /**
+     * Creates the aggregator behavior.
+     *
+     * @param handles The handles to ask
+     * @param commands The command for each handle, in the same order
+     * @param timeout The shared deadline for all replies
+     * @param result The future to complete with the (possibly partial) result
+     * @param <T> The command type of the asked actors
+     * @param <RES> The type of the replies
+     * @return The aggregator behavior
+     */
+    @SuppressWarnings("unchecked")
+    static <T, RES> Behavior<Object> create(
+            List<SpringActorHandle<T>> handles,
+            List<AskCommand<RES>> commands,
+            Duration timeout,
+            CompletableFuture<AskAllResult<T, RES>> result) {
+        return Behaviors.setup(ctx -> Behaviors.withTimers(timers -> {
+            ActorRef<Object> self = ctx.getSelf();
+            List<TempReplyRef> replyTargets = new ArrayList<>(handles.size());
+            for (int i = 0; i < handles.size(); i++) {
+                int index = i;
+                TempReplyRef replyTo =
+                        TempReplyRef.create(ctx.getSystem(), response -> self.tell(new Reply(index, response)));
+                replyTargets.add(replyTo);
+                AskCommand<RES> command = commands.get(i);
+                command.withReplyTo(replyTo.typed());
+                handles.get(i).getUnderlying().tell((T) command);
+            }
+            timers.startSingleTimer(Deadline.INSTANCE, timeout);
+
+            Map<Integer, RES> replies = new HashMap<>();
+            return Behaviors.receive(Object.class)
+                    .onMessage(Reply.class, reply -> {
+                        replies.putIfAbsent(reply.index, (RES) reply.response);
+                        if (replies.size() < handles.size()) {
+                            return Behaviors.same();
+                        }
+                        result.complete(new AskAllResult<>(handles, replies));
+                        return Behaviors.stopped();
+                    })
+                    .onMessage(Deadline.class, deadline -> {
+                        result.complete(new AskAllResult<>(handles, replies));
+                        return Behaviors.stopped();
+                    })
+                    .onSignal(PostStop.class, signal -> {
+                        replyTargets.forEach(TempReplyRef::release);
+                        return Behaviors.same();
+                    })
+                    .build();
+        }));
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.seonwkim.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Result of a {@link SpringActorSystem#askAll} scatter-gather request. It holds the replies that
+ * arrived before the shared deadline, keyed by the handle that was asked, and the handles that did
+ * not reply in time.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * AskAllResult<AccountActor.Command, Long> result = actorSystem
+ *     .askAll(accounts, account -> new GetBalance())
+ *     .toCompletableFuture()
+ *     .join();
+ *
+ * long total = result.getReplies().values().stream().mapToLong(Long::longValue).sum();
+ * if (!result.isComplete()) {
+ *     log.warn("{} accounts did not reply in time", result.getMissing().size());
+ * }
+ * }</pre>
+ *
+ * @param <T> The command type of the asked actors
+ * @param <RES> The type of the replies
+ */
+public final class AskAllResult<T, RES> {
+
+    private final Map<SpringActorHandle<T>, RES> replies;
+    private final List<SpringActorHandle<T>> missing;
+
+    AskAllResult(List<SpringActorHandle<T>> handles, Map<Integer, RES> repliesByIndex) {
+        Map<SpringActorHandle<T>, RES> replies = new LinkedHashMap<>();
+        List<SpringActorHandle<T>> missing = new ArrayList<>();
+        for (int i = 0; i < handles.size(); i++) {
+            RES reply = repliesByIndex.get(i);
+            if (reply != null) {
+                replies.put(handles.get(i), reply);
+            } else {
+                missing.add(handles.get(i));
+            }
+        }
+        this.replies = Collections.unmodifiableMap(replies);
+        this.missing = Collections.unmodifiableList(missing);
+    }
+
+    /**
+     * Returns the replies received before the deadline, keyed by the handle that was asked, in the
+     * order the handles were given.
+     *
+     * @return The received replies
+     */
+    public Map<SpringActorHandle<T>, RES> getReplies() {
+        return replies;
+    }
+
+    /**
+     * Returns the reply of the given handle.
+     *
+     * @param handle One of the handles passed to askAll
+     * @return The reply, or null if the actor did not reply before the deadline
+     */
+    @Nullable public RES getReply(SpringActorHandle<T> handle) {
+        return replies.get(handle);
+    }
+
+    /**
+     * Returns the handles that did not reply before the deadline, in the order they were given.
+     *
+     * @return The handles without a reply
+     */
+    public List<SpringActorHandle<T>> getMissing() {
+        return missing;
+    }
+
+    /**
+     * Checks whether every asked actor replied before the deadline.
+     *
+     * @return true if all replies were received, false if the result is partial
+     */
+    public boolean isComplete() {
+        return missing.isEmpty();
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.seonwkim.core;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+
+/**
+ * A long-lived request-reply channel to a single actor. Requests are tracked by the
+ * {@link AskDeadlineTracker} of the actor system: each one gets its own lightweight reply target,
+ * so the asked actor can forward {@link AskCommand#getReplyTo()}, and all deadlines share the
+ * tracker's timing wheel instead of a scheduled timeout per request. On top of that, the channel
+ * knows which of its requests are still pending, so closing it fails them right away.
+ *
+ * <p>Timeouts are checked once per tracker resolution, so a request may fail up to one resolution
+ * later than its timeout. Cancelling a returned future forgets the request. A channel is
+ * thread-safe and should be closed when no longer needed.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (AskChannel<CounterActor.Command> channel = counter.askChannel(actorSystem.getRaw())) {
+ *     CompletionStage<Long> value = channel.ask(new GetValue());
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @param <T> The type of messages that the target actor can handle
+ */
+public final class AskChannel<T> implements AutoCloseable {
+
+    private final ActorRef<T> target;
+    private final Duration defaultTimeout;
+    private final AskDeadlineTracker tracker;
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates a new AskChannel. Use {@link SpringActorHandle#askChannel(ActorSystem)} instead of
+     * calling this directly.
+     *
+     * @param actorSystem The actor system whose deadline tracker tracks the requests
+     * @param target The actor to ask
+     * @param defaultTimeout The default timeout for ask operations
+     */
+    AskChannel(ActorSystem<?> actorSystem, ActorRef<T> target, Duration defaultTimeout) {
+        if (actorSystem == null) {
+            throw new IllegalArgumentException("actorSystem must not be null");
+        }
+        this.target = target;
+        this.defaultTimeout = defaultTimeout;
+        this.tracker = AskDeadlineTracker.get(actorSystem);
+    }
+
+    /**
+     * Asks the target actor using the channel's default timeout.
+     *
+     * @param command The command to send (must also be assignable to T)
+     * @param <RES> The type of the response message
+     * @return A CompletionStage that will be completed with the response, or exceptionally with a
+     *     {@link TimeoutException} if no reply arrives in time
+     */
+    public <RES> CompletionStage<RES> ask(AskCommand<RES> command) {
+        return ask(command, defaultTimeout);
+    }
+
+    /**
+     * Asks the target actor with a custom timeout.
+     *
+     * @param command The command to send (must also be assignable to T)
+     * @param timeout The maximum time to wait for a response
+     * @param <RES> The type of the response message
+     * @return A CompletionStage that will be completed with the response, or exceptionally with a
+     *     {@link TimeoutException} if no reply arrives in time
+     * @throws IllegalStateException If the channel is closed
+     */
+    public <RES> CompletionStage<RES> ask(AskCommand<RES> command, Duration timeout) {
+        if (command == null) {
+            throw new IllegalArgumentException("command must not be null");
+        }
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+        if (closed.get()) {
+            throw new IllegalStateException("AskChannel to " + target.path() + " is closed");
+        }
+
+        CompletableFuture<RES> tracked = tracker.ask(target, command, timeout);
+        CompletableFuture<RES> future = new CompletableFuture<>();
+        pending.add(future);
+        // Closing the channel or cancelling the future stops tracking the request; a no-op once replied
+        future.whenComplete((response, error) -> {
+            pending.remove(future);
+            tracked.cancel(false);
+        });
+        tracked.whenComplete((response, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(response);
+            }
+        });
+        if (closed.get()) {
+            // The channel was closed concurrently and may have missed this request
+            failAll();
+        }
+        return future;
+    }
+
+    /**
+     * Returns the number of requests that are waiting for a reply.
+     *
+     * @return The number of pending requests
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Closes the channel. Pending requests fail with an {@link IllegalStateException}. Closing an
+     * already closed channel has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            failAll();
+        }
+    }
+
+    private void failAll() {
+        for (CompletableFuture<?> request : pending) {
+            request.completeExceptionally(new IllegalStateException("AskChannel to " + target.path() + " was closed"));
+        }
+    }
+}
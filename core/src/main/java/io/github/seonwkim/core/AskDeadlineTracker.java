@@ -0,0 +1,524 @@
+package io.github.seonwkim.core;
+
+import com.typesafe.config.Config;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+import org.apache.pekko.actor.typed.Props;
+import org.apache.pekko.actor.typed.RecipientRef;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Per actor system tracker for the deadlines of outstanding asks. {@code AskPattern.ask} registers a
+ * separate scheduler task and a temporary reply actor for every request; at high ask rates that
+ * churn dominates allocation. The tracker instead buckets the deadlines of all asks in a
+ * {@link HashedTimingWheel}, which a single periodic timer advances, so one tick expires every ask
+ * whose deadline fell into the elapsed interval. The timer only runs while asks are outstanding.
+ *
+ * <p>Each ask still gets its own reply target, a lightweight temporary reference (see
+ * {@link TempReplyRef}), so {@link AskCommand#getReplyTo()} can be forwarded like with
+ * {@code AskPattern.ask}. A reply completes the future on the thread of the replying actor without
+ * passing through the tracker's mailbox, and removes the deadline from the wheel right away. Asking
+ * never blocks the caller.
+ *
+ * <p>{@link SpringActorHandle}, {@link io.github.seonwkim.core.shard.SpringShardedActorHandle} and
+ * {@link SpringChildActorReference} use the tracker of their actor system automatically. An ask
+ * times out at most one resolution after its timeout. Cancelling the returned future forgets the
+ * ask right away, so abandoned requests do not hold on to their state until the deadline.
+ *
+ * <p>The tracker also serves {@link StreamingAskCommand}s, whose replies arrive as a stream of
+ * signals through a reply target of their own (see {@link #stream(RecipientRef, StreamingAskCommand,
+ * Duration, StreamListener)}). Streams are demand-driven: the actor only sends the elements that
+ * were requested through the returned {@link StreamSubscription}.
+ *
+ * <p>Example configuration:
+ *
+ * <pre>{@code
+ * spring:
+ *   actor:
+ *     ask:
+ *       timeout-resolution: 10ms
+ *       wheel-size: 512
+ * }</pre>
+ */
+public final class AskDeadlineTracker implements Extension {
+
+    /** Configuration path of the tick duration, relative to {@code spring.actor}. */
+    public static final String RESOLUTION_CONFIG_PATH = "ask.timeout-resolution";
+
+    /** Configuration path of the number of wheel buckets, relative to {@code spring.actor}. */
+    public static final String WHEEL_SIZE_CONFIG_PATH = "ask.wheel-size";
+
+    /** The default tick duration */
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(10);
+
+    /** The default number of wheel buckets */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final Id ID = new Id();
+
+    private final ActorSystem<?> system;
+    private final Duration resolution;
+    private final HashedTimingWheel<Object> wheel;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ActorRef<Tick> driver;
+
+    private AskDeadlineTracker(ActorSystem<?> system) {
+        this.system = system;
+        Config config = system.settings().config();
+        this.resolution = config.hasPath(RESOLUTION_CONFIG_PATH)
+                ? config.getDuration(RESOLUTION_CONFIG_PATH)
+                : DEFAULT_RESOLUTION;
+        int wheelSize = config.hasPath(WHEEL_SIZE_CONFIG_PATH)
+                ? config.getInt(WHEEL_SIZE_CONFIG_PATH)
+                : DEFAULT_WHEEL_SIZE;
+        this.wheel = new HashedTimingWheel<>(resolution, wheelSize, System.nanoTime());
+        this.driver = system.systemActorOf(driverBehavior(), "ask-deadline-tracker", Props.empty());
+    }
+
+    /**
+     * Returns the tracker of the given actor system, creating it on first access.
+     *
+     * @param system The actor system
+     * @return The tracker belonging to the actor system
+     */
+    public static AskDeadlineTracker get(ActorSystem<?> system) {
+        return ID.get(system);
+    }
+
+    /**
+     * Sends the command to the target and returns a future for its reply. The future completes
+     * exceptionally with a {@link TimeoutException} if no reply arrives before the timeout.
+     * Cancelling the future stops tracking the ask; a late reply is then dropped.
+     *
+     * @param target The actor or entity to ask
+     * @param command The command to send (must also be assignable to T)
+     * @param timeout The maximum time to wait for a response
+     * @param <T> The type of messages that the target can handle
+     * @param <RES> The type of the response message
+     * @return A future completed with the response
+     */
+    @SuppressWarnings("unchecked")
+    public <T, RES> CompletableFuture<RES> ask(RecipientRef<T> target, AskCommand<RES> command, Duration timeout) {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+        if (command == null) {
+            throw new IllegalArgumentException("command must not be null");
+        }
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+
+        Pending request = new Pending(target, command, timeout);
+        TempReplyRef replyTo = TempReplyRef.create(system, request::onReply);
+        request.replyTo = replyTo;
+        request.deadline = schedule(request, System.nanoTime() + timeout.toNanos());
+        pending.incrementAndGet();
+
+        command.withReplyTo(replyTo.typed());
+        target.tell((T) command);
+        return (CompletableFuture<RES>) (CompletableFuture<?>) request;
+    }
+
+    /**
+     * Sends the streaming command to the target and passes the signals it emits to the listener.
+     * No element is sent before it was requested with {@link StreamSubscription#request(long)}; the
+     * terminal signal is delivered without demand once the requested elements were sent. The
+     * listener is called on the thread of the emitting actor, or of the tracker when the stream goes
+     * idle, but never concurrently. The stream fails with a {@link TimeoutException} if no signal
+     * arrives for {@code idleTimeout} while elements are requested.
+     *
+     * @param target The actor or entity to ask
+     * @param command The command to send (must also be assignable to T)
+     * @param idleTimeout The maximum time to wait between two signals
+     * @param listener Receives the elements and the terminal signal of the stream
+     * @param <T> The type of messages that the target can handle
+     * @param <E> The type of the streamed elements
+     * @return The subscription that requests elements and cancels the stream
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E> StreamSubscription stream(
+            RecipientRef<T> target, StreamingAskCommand<E> command, Duration idleTimeout, StreamListener<E> listener) {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+        if (command == null) {
+            throw new IllegalArgumentException("command must not be null");
+        }
+        if (idleTimeout == null) {
+            throw new IllegalArgumentException("idleTimeout must not be null");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener must not be null");
+        }
+
+        Stream stream =
+                new Stream(target, command, idleTimeout, (StreamListener<Object>) (StreamListener<?>) listener);
+        TempReplyRef replyTo = TempReplyRef.create(system, reply -> {
+            Object signal = reply instanceof CorrelatedReply ? ((CorrelatedReply) reply).response : null;
+            if (signal instanceof StreamingAskCommand.Signal) {
+                StreamingAskCommand.Signal received = (StreamingAskCommand.Signal) signal;
+                stream.onSignal(received);
+                if (received.kind == StreamingAskCommand.Signal.Kind.OPEN) {
+                    // Demand requested before the producer was known
+                    stream.sendDemand();
+                }
+            }
+        });
+        synchronized (stream) {
+            stream.replyTo = replyTo;
+            stream.deadline = schedule(stream, stream.lastSignalNanos + stream.idleTimeoutNanos);
+        }
+
+        // The reply target belongs to this stream alone, so the correlation id is not needed
+        command.withStreamReplyTo(replyTo.typed(), 0);
+        target.tell((T) command);
+        return stream;
+    }
+
+    /**
+     * Returns the tick duration of the wheel.
+     *
+     * @return The resolution at which ask deadlines are checked
+     */
+    public Duration resolution() {
+        return resolution;
+    }
+
+    /**
+     * Returns the number of asks waiting for a reply.
+     *
+     * @return The number of pending asks
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private HashedTimingWheel.Timeout<Object> schedule(Object entry, long deadlineNanos) {
+        HashedTimingWheel.Timeout<Object> timeout = wheel.schedule(entry, deadlineNanos);
+        if (wheel.unpark()) {
+            driver.tell(Tick.RESUME);
+        }
+        return timeout;
+    }
+
+    private static void removeReplyTo(@Nullable TempReplyRef replyTo) {
+        if (replyTo != null) {
+            replyTo.release();
+        }
+    }
+
+    private Behavior<Tick> driverBehavior() {
+        return Behaviors.withTimers(timers -> Behaviors.receive(Tick.class)
+                .onMessageEquals(Tick.RESUME, () -> {
+                    timers.startTimerWithFixedDelay(Tick.ADVANCE, resolution);
+                    return Behaviors.same();
+                })
+                .onMessageEquals(Tick.ADVANCE, () -> {
+                    long now = System.nanoTime();
+                    wheel.advance(now, entry -> expire(entry, now));
+                    if (wheel.park()) {
+                        timers.cancel(Tick.ADVANCE);
+                    }
+                    return Behaviors.same();
+                })
+                .build());
+    }
+
+    private void expire(Object entry, long now) {
+        if (entry instanceof Pending) {
+            ((Pending) entry).onTimeout();
+        } else {
+            ((Stream) entry).onDeadline(now);
+        }
+    }
+
+    /**
+     * Receives the signals of a stream started with
+     * {@link #stream(RecipientRef, StreamingAskCommand, Duration, StreamListener)}.
+     *
+     * @param <E> The type of the streamed elements
+     */
+    public interface StreamListener<E> {
+
+        /**
+         * Called for each element emitted by the actor.
+         *
+         * @param element The element
+         */
+        void onNext(E element);
+
+        /** Called once when the actor completes the stream. */
+        void onComplete();
+
+        /**
+         * Called once when the actor fails the stream or the stream goes idle for too long.
+         *
+         * @param error The failure
+         */
+        void onError(Throwable error);
+    }
+
+    /**
+     * Controls the demand of a stream started with
+     * {@link #stream(RecipientRef, StreamingAskCommand, Duration, StreamListener)}.
+     */
+    public interface StreamSubscription {
+
+        /**
+         * Requests up to {@code n} more elements. Requests add up; {@link Long#MAX_VALUE} requests
+         * the rest of the stream. Values below one are ignored.
+         *
+         * @param n The number of additional elements
+         */
+        void request(long n);
+
+        /** Cancels the stream. The actor stops sending, and signals arriving afterwards are dropped. */
+        void cancel();
+    }
+
+    /**
+     * An ask waiting for its reply. The ask is its own future, so that cancelling it can stop
+     * tracking the ask without an extra callback per request. Whoever cancels the deadline in the
+     * wheel, or the wheel by expiring it, settles the ask and removes its reply target.
+     */
+    private final class Pending extends CompletableFuture<Object> {
+        final RecipientRef<?> target;
+        final Class<?> commandClass;
+        final Duration timeout;
+
+        /** Set before the command is sent */
+        @Nullable TempReplyRef replyTo;
+
+        /** Set before the command is sent */
+        @Nullable HashedTimingWheel.Timeout<Object> deadline;
+
+        Pending(RecipientRef<?> target, AskCommand<?> command, Duration timeout) {
+            this.target = target;
+            this.commandClass = command.getClass();
+            this.timeout = timeout;
+        }
+
+        void onReply(Object response) {
+            if (release()) {
+                complete(response);
+            }
+        }
+
+        /** Called by the wheel, which has already settled the deadline */
+        void onTimeout() {
+            removeReplyTo(replyTo);
+            pending.decrementAndGet();
+            completeExceptionally(new TimeoutException("Ask timed out on [" + target + "] after ["
+                    + timeout.toMillis() + " ms]. Message of type [" + commandClass.getName() + "]."));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            release();
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        private boolean release() {
+            HashedTimingWheel.Timeout<Object> timeout = deadline;
+            if (timeout == null || !timeout.cancel()) {
+                return false;
+            }
+            removeReplyTo(replyTo);
+            pending.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * A stream of replies to a {@link StreamingAskCommand}. Signals, the idle check and cancellation
+     * synchronize on the stream, so the listener is never called concurrently. Demand is sent to the
+     * producer outside of that lock: a local producer delivers signals while holding its own lock,
+     * and waiting for it here would let the two lock each other out.
+     */
+    private final class Stream implements StreamSubscription {
+        final RecipientRef<?> target;
+        final Class<?> commandClass;
+        final long idleTimeoutNanos;
+        final StreamListener<Object> listener;
+
+        long lastSignalNanos;
+        boolean closed;
+        @Nullable TempReplyRef replyTo;
+        @Nullable HashedTimingWheel.Timeout<Object> deadline;
+
+        /** Announced by the actor's side with its first signal */
+        @Nullable ActorRef<StreamingAskCommand.Demand> producer;
+
+        /** Demand requested but not yet sent to the producer */
+        long unsentDemand;
+
+        /** Elements requested but not yet received; {@link Long#MAX_VALUE} means unbounded */
+        long outstanding;
+
+        /** Set when the producer must be told to stop */
+        boolean unsentCancel;
+
+        Stream(
+                RecipientRef<?> target,
+                StreamingAskCommand<?> command,
+                Duration idleTimeout,
+                StreamListener<Object> listener) {
+            this.target = target;
+            this.commandClass = command.getClass();
+            this.idleTimeoutNanos = idleTimeout.toNanos();
+            this.listener = listener;
+            this.lastSignalNanos = System.nanoTime();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                return;
+            }
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (outstanding == 0) {
+                    // The idle timeout only runs while elements are requested
+                    lastSignalNanos = System.nanoTime();
+                }
+                outstanding = addCapped(outstanding, n);
+                unsentDemand = addCapped(unsentDemand, n);
+            }
+            sendDemand();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                close();
+                unsentCancel = true;
+            }
+            sendDemand();
+        }
+
+        synchronized void onSignal(StreamingAskCommand.Signal signal) {
+            if (closed) {
+                return;
+            }
+            lastSignalNanos = System.nanoTime();
+            switch (signal.kind) {
+                case OPEN:
+                    producer = signal.producer;
+                    break;
+                case NEXT:
+                    if (outstanding != Long.MAX_VALUE && outstanding > 0) {
+                        outstanding--;
+                    }
+                    if (signal.element != null) {
+                        listener.onNext(signal.element);
+                    }
+                    break;
+                case COMPLETE:
+                    close();
+                    listener.onComplete();
+                    break;
+                case ERROR:
+                    close();
+                    listener.onError(
+                            new IllegalStateException("Stream from [" + target + "] failed: " + signal.errorMessage));
+                    break;
+            }
+        }
+
+        /** Called by the wheel when the idle deadline scheduled last has passed */
+        void onDeadline(long now) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                long idleDeadline = lastSignalNanos + idleTimeoutNanos;
+                if (idleDeadline - now > 0) {
+                    // A signal arrived since this deadline was scheduled; keep a single entry per stream
+                    deadline = schedule(this, idleDeadline);
+                    return;
+                }
+                if (producer != null && outstanding == 0) {
+                    // The actor answered and is waiting for demand, so the caller is the slow side
+                    deadline = schedule(this, now + idleTimeoutNanos);
+                    return;
+                }
+                close();
+                unsentCancel = true;
+                listener.onError(new TimeoutException("Stream from [" + target + "] idle for ["
+                        + TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) + " ms]. Message of type ["
+                        + commandClass.getName() + "]."));
+            }
+            sendDemand();
+        }
+
+        /** Sends requested demand or the cancellation once the producer is known */
+        void sendDemand() {
+            ActorRef<StreamingAskCommand.Demand> to;
+            long n;
+            synchronized (this) {
+                to = producer;
+                if (to == null) {
+                    return;
+                }
+                if (unsentCancel) {
+                    unsentCancel = false;
+                    n = StreamingAskCommand.Demand.CANCEL;
+                } else if (!closed && unsentDemand > 0) {
+                    n = unsentDemand;
+                    unsentDemand = 0;
+                } else {
+                    return;
+                }
+            }
+            to.tell(new StreamingAskCommand.Demand(n));
+        }
+
+        /** Closes the stream without telling the producer, which has either finished or is told next */
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            unsentDemand = 0;
+            HashedTimingWheel.Timeout<Object> timeout = deadline;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            removeReplyTo(replyTo);
+        }
+    }
+
+    private static long addCapped(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /** Messages of the driver, which advances the wheel while it holds deadlines */
+    private enum Tick {
+        ADVANCE,
+        RESUME
+    }
+
+    /** Extension id used to create one {@link AskDeadlineTracker} per actor system. */
+    private static final class Id extends ExtensionId<AskDeadlineTracker> {
+        @Override
+        public AskDeadlineTracker createExtension(ActorSystem<?> system) {
+            return new AskDeadlineTracker(system);
+        }
+    }
+}
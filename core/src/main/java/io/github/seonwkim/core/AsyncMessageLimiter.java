@@ -0,0 +1,162 @@
+package io.github.seonwkim.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.BehaviorInterceptor;
+import org.apache.pekko.actor.typed.TypedActorContext;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Runs the asynchronous handlers registered with {@link SpringActorBehavior.Builder#onMessageAsync}
+ * and limits how many of their operations are in flight per actor. One limiter is created per actor
+ * and intercepts every message before the actor's other handlers:
+ *
+ * <ul>
+ *   <li>A message of an asynchronous type starts its operation if fewer than {@code maxInFlight}
+ *       operations of that type are running, and is stashed otherwise. The actor returns to its
+ *       mailbox right away in both cases, so other messages are never held back.
+ *   <li>When an operation completes, its outcome is piped back to the actor and passed to the
+ *       completion handler within a turn of the actor, where the state may be used safely. Then the
+ *       oldest stashed message of that type, if any, starts its operation.
+ *   <li>Bursts sent with {@code tellAll(...)} are unpacked, so their messages are limited as well.
+ * </ul>
+ *
+ * @param <C> The command type of the actor
+ * @param <S> The state type passed to the handlers
+ */
+final class AsyncMessageLimiter<C, S> extends BehaviorInterceptor<Object, Object> {
+
+    /**
+     * An asynchronous handler registered on the builder, shared by all instances of the actor.
+     *
+     * @param <C> The command type of the actor
+     * @param <S> The state type passed to the handlers
+     * @param <M> The message type
+     * @param <R> The type of the operation's value
+     */
+    static final class Spec<C, S, M, R> {
+        final Class<M> type;
+        final int maxInFlight;
+        final BiFunction<S, M, CompletionStage<R>> handler;
+        final BiFunction<S, AsyncResult<M, R>, Behavior<C>> onComplete;
+
+        Spec(
+                Class<M> type,
+                int maxInFlight,
+                BiFunction<S, M, CompletionStage<R>> handler,
+                BiFunction<S, AsyncResult<M, R>, Behavior<C>> onComplete) {
+            this.type = type;
+            this.maxInFlight = maxInFlight;
+            this.handler = handler;
+            this.onComplete = onComplete;
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletionStage<?> start(S state, Object msg) {
+            return handler.apply(state, (M) msg);
+        }
+
+        @SuppressWarnings("unchecked")
+        Behavior<C> complete(S state, Object msg, @Nullable Object value, @Nullable Throwable failure) {
+            return onComplete.apply(state, new AsyncResult<>((M) msg, (R) value, failure));
+        }
+    }
+
+    /** Piped back to the actor when an operation completes */
+    private static final class Completed {
+        final int index;
+        final Object message;
+
+        @Nullable final Object value;
+
+        @Nullable final Throwable failure;
+
+        Completed(int index, Object message, @Nullable Object value, @Nullable Throwable failure) {
+            this.index = index;
+            this.message = message;
+            this.value = value;
+            this.failure = failure;
+        }
+    }
+
+    private final S state;
+    private final List<Spec<C, S, ?, ?>> specs;
+    private final MessageDispatchTable dispatchTable;
+    private final int[] inFlight;
+    private final List<ArrayDeque<Object>> stashes;
+
+    AsyncMessageLimiter(S state, Class<C> commandClass, List<Spec<C, S, ?, ?>> specs) {
+        super(Object.class);
+        this.state = state;
+        this.specs = specs;
+        List<Class<?>> types = new ArrayList<>(specs.size());
+        this.stashes = new ArrayList<>(specs.size());
+        for (Spec<C, S, ?, ?> spec : specs) {
+            types.add(spec.type);
+            stashes.add(new ArrayDeque<>());
+        }
+        this.dispatchTable = MessageDispatchTable.forHandlerTypes(commandClass, types);
+        this.inFlight = new int[specs.size()];
+    }
+
+    /** Wraps the actor's behavior so that this limiter sees every message first. */
+    Behavior<C> wrap(Behavior<C> behavior) {
+        @SuppressWarnings("unchecked")
+        Behavior<Object> inner = (Behavior<Object>) (Behavior<?>) behavior;
+        return Behaviors.intercept(() -> this, inner).narrow();
+    }
+
+    /** Wraps a behavior returned by the intercepted behavior in this interceptor again. */
+    private Behavior<Object> rewrap(Behavior<Object> inner) {
+        return Behaviors.intercept(() -> this, inner);
+    }
+
+    @Override
+    public Behavior<Object> aroundReceive(
+            TypedActorContext<Object> context, Object msg, ReceiveTarget<Object> target) {
+        if (msg instanceof Completed) {
+            return complete(context.asJava(), (Completed) msg);
+        }
+        if (msg instanceof MessageBatch) {
+            return ((MessageBatch) msg).deliver(context.asJava(), m -> aroundReceive(context, m, target), this::rewrap);
+        }
+
+        int index = dispatchTable.indexOf(msg.getClass());
+        if (index == MessageDispatchTable.NO_HANDLER) {
+            return target.apply(context, msg);
+        }
+        if (inFlight[index] < specs.get(index).maxInFlight) {
+            start(context.asJava(), index, msg);
+        } else {
+            stashes.get(index).add(msg);
+        }
+        return Behaviors.same();
+    }
+
+    private void start(ActorContext<Object> ctx, int index, Object msg) {
+        CompletionStage<?> operation = specs.get(index).start(state, msg);
+        inFlight[index]++;
+        ctx.pipeToSelf(operation, (value, failure) -> new Completed(index, msg, value, failure));
+    }
+
+    private Behavior<Object> complete(ActorContext<Object> ctx, Completed completed) {
+        int index = completed.index;
+        inFlight[index]--;
+        @SuppressWarnings("unchecked")
+        Behavior<Object> next = (Behavior<Object>) (Behavior<?>)
+                specs.get(index).complete(state, completed.message, completed.value, completed.failure);
+
+        ArrayDeque<Object> stash = stashes.get(index);
+        while (!stash.isEmpty() && inFlight[index] < specs.get(index).maxInFlight) {
+            start(ctx, index, stash.removeFirst());
+        }
+        // The outcome was handled, there is no message to report as unhandled
+        return next == Behaviors.unhandled() ? Behaviors.same() : next;
+    }
+}
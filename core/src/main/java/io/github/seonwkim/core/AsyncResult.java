@@ -0,0 +1,74 @@
+package io.github.seonwkim.core;
+
+import javax.annotation.Nullable;
+
+/**
+ * The outcome of an asynchronous handler registered with
+ * {@link SpringActorBehavior.Builder#onMessageAsync}. It is passed to the completion handler within
+ * a turn of the actor, together with the message that started the operation.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * (repository, result) -> {
+ *     if (result.isSuccess()) {
+ *         result.getMessage().reply(result.getValue());
+ *     } else {
+ *         repository.getLog().warn("Lookup failed", result.getFailure());
+ *     }
+ *     return Behaviors.same();
+ * }
+ * }</pre>
+ *
+ * @param <M> The type of the message that started the operation
+ * @param <R> The type of the operation's value
+ */
+public final class AsyncResult<M, R> {
+
+    private final M message;
+
+    @Nullable private final R value;
+
+    @Nullable private final Throwable failure;
+
+    AsyncResult(M message, @Nullable R value, @Nullable Throwable failure) {
+        this.message = message;
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the message whose handler started the operation.
+     *
+     * @return The message
+     */
+    public M getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the value the operation completed with, or null if it failed.
+     *
+     * @return The value
+     */
+    @Nullable public R getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the exception the operation failed with, or null if it succeeded.
+     *
+     * @return The failure
+     */
+    @Nullable public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns whether the operation completed normally.
+     *
+     * @return true if the operation succeeded, false otherwise
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
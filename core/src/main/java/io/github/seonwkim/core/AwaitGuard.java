@@ -0,0 +1,188 @@
+package io.github.seonwkim.core;
+
+import com.typesafe.config.Config;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.dispatch.Dispatchers;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per actor system guard for the blocking APIs, such as
+ * {@link SpringActorHandle#askAndAwait(AskCommand)} and {@link SpringActorSpawnBuilder#spawnAndWait()}.
+ * Blocking one of the actor system's dispatcher threads on an ask starves every actor scheduled on
+ * that dispatcher, and deadlocks if the reply must be processed by the same dispatcher. The guard
+ * recognizes dispatcher threads by the name Pekko gives them,
+ * {@code <actor system name>-<dispatcher id>-<number>}, where the id must be a dispatcher configured
+ * in the actor system, and depending on {@code spring.actor.await-guard} logs a warning or fails
+ * the call.
+ *
+ * <p>Waiting on a virtual thread (JDK 21+) only parks the virtual thread and releases its carrier,
+ * so thread-per-request applications running on virtual threads can use these APIs without
+ * sizing their pools for blocked requests. The wait path holds no monitors, so it never pins the
+ * carrier.
+ *
+ * <p>Example configuration:
+ *
+ * <pre>{@code
+ * spring:
+ *   actor:
+ *     await-guard: fail   # off, warn (default) or fail
+ * }</pre>
+ */
+public final class AwaitGuard implements Extension {
+
+    /** Configuration path of the guard mode, relative to {@code spring.actor}. */
+    public static final String MODE_CONFIG_PATH = "await-guard";
+
+    /** What the guard does when a blocking API is called on a dispatcher thread */
+    public enum Mode {
+        /** Do not check the calling thread */
+        OFF,
+        /** Log a warning and block anyway */
+        WARN,
+        /** Throw an {@link IllegalStateException} without sending anything */
+        FAIL
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AwaitGuard.class);
+
+    private static final Id ID = new Id();
+
+    /** Guards of the running actor systems */
+    private static final Set<AwaitGuard> ACTIVE = ConcurrentHashMap.newKeySet();
+
+    private final String threadNamePrefix;
+    private final Dispatchers dispatchers;
+    private final Mode mode;
+
+    private AwaitGuard(ActorSystem<?> system) {
+        this.threadNamePrefix = system.name() + "-";
+        this.dispatchers = system.classicSystem().dispatchers();
+        this.mode = configuredMode(system.settings().config());
+        ACTIVE.add(this);
+        system.getWhenTerminated().thenRun(() -> ACTIVE.remove(this));
+    }
+
+    /**
+     * Returns the guard of the given actor system, creating and activating it on first access.
+     *
+     * @param system The actor system
+     * @return The guard belonging to the actor system
+     */
+    public static AwaitGuard get(ActorSystem<?> system) {
+        return ID.get(system);
+    }
+
+    /**
+     * Reads the configured guard mode. Returns {@link Mode#WARN} if the setting is absent.
+     *
+     * @param config The actor system configuration
+     * @return The guard mode
+     * @throws IllegalArgumentException If the configured value is not a known mode
+     */
+    public static Mode configuredMode(Config config) {
+        if (!config.hasPath(MODE_CONFIG_PATH)) {
+            return Mode.WARN;
+        }
+        String value = config.getString(MODE_CONFIG_PATH);
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "spring.actor." + MODE_CONFIG_PATH + " must be one of off, warn, fail, but was " + value);
+        }
+    }
+
+    /**
+     * Checks the calling thread, then starts the operation and waits for its result. On a virtual
+     * thread the wait parks only the virtual thread.
+     *
+     * @param operation Starts the asynchronous operation
+     * @param <R> The type of the result
+     * @return The result of the operation
+     * @throws IllegalStateException If called on a dispatcher thread of an actor system whose guard
+     *     mode is {@link Mode#FAIL}
+     * @throws java.util.concurrent.CompletionException If the operation completes exceptionally
+     */
+    public static <R> R await(Supplier<? extends CompletionStage<R>> operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("operation must not be null");
+        }
+        checkThread(Thread.currentThread());
+        return operation.get().toCompletableFuture().join();
+    }
+
+    /**
+     * Applies the guard of every running actor system that owns the given thread.
+     *
+     * @param thread The thread about to block
+     */
+    static void checkThread(Thread thread) {
+        if (ACTIVE.isEmpty()) {
+            return;
+        }
+        String threadName = thread.getName();
+        for (AwaitGuard guard : ACTIVE) {
+            if (guard.mode == Mode.OFF || !guard.isDispatcherThread(threadName)) {
+                continue;
+            }
+            String message = "Blocking await called on dispatcher thread [" + threadName + "]. This stalls "
+                    + "the actors scheduled on the dispatcher and can deadlock; use the asynchronous API "
+                    + "inside actors.";
+            if (guard.mode == Mode.FAIL) {
+                throw new IllegalStateException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    /**
+     * Returns whether the thread name is {@code <system>-<dispatcher id>-<number>} for a dispatcher
+     * of this actor system. Checking the id keeps threads of other pools whose names merely start
+     * with the system name, or of a system whose name starts with this one's, from matching.
+     */
+    private boolean isDispatcherThread(String threadName) {
+        if (!threadName.startsWith(threadNamePrefix)) {
+            return false;
+        }
+        int counterStart = threadName.lastIndexOf('-');
+        if (counterStart <= threadNamePrefix.length() || counterStart == threadName.length() - 1) {
+            return false;
+        }
+        for (int i = counterStart + 1; i < threadName.length(); i++) {
+            if (!Character.isDigit(threadName.charAt(i))) {
+                return false;
+            }
+        }
+        try {
+            return dispatchers.hasDispatcher(threadName.substring(threadNamePrefix.length(), counterStart));
+        } catch (RuntimeException e) {
+            // Not a valid configuration path
+            return false;
+        }
+    }
+
+    /**
+     * Returns the guard mode of this actor system.
+     *
+     * @return The guard mode
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /** Extension id used to create one {@link AwaitGuard} per actor system. */
+    private static final class Id extends ExtensionId<AwaitGuard> {
+        @Override
+        public AwaitGuard createExtension(ActorSystem<?> system) {
+            return new AwaitGuard(system);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.seonwkim.core;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.github.seonwkim.core.serialization.JsonSerializable;
+import org.apache.pekko.serialization.jackson.PekkoSerializationDeserializer;
+import org.apache.pekko.serialization.jackson.PekkoSerializationSerializer;
+
+/**
+ * A signal of a {@link StreamingAskCommand}, tagged with the correlation id passed to
+ * {@link StreamingAskCommand#withStreamReplyTo(org.apache.pekko.actor.typed.ActorRef, long)}, so one
+ * receiver can tell the signals of several streams apart.
+ *
+ * <p>Actors never create this message themselves; the methods of {@link StreamingAskCommand} wrap
+ * the signals automatically.
+ */
+public final class CorrelatedReply implements JsonSerializable {
+
+    /** The correlation id of the stream this reply belongs to */
+    public final long correlationId;
+
+    /** The response sent by the actor, serialized with its own serializer binding */
+    @JsonSerialize(using = PekkoSerializationSerializer.class)
+    @JsonDeserialize(using = PekkoSerializationDeserializer.class)
+    public final Object response;
+
+    /**
+     * Creates a new CorrelatedReply.
+     *
+     * @param correlationId The correlation id of the request
+     * @param response The response sent by the actor
+     */
+    @JsonCreator
+    public CorrelatedReply(
+            @JsonProperty("correlationId") long correlationId, @JsonProperty("response") Object response) {
+        this.correlationId = correlationId;
+        this.response = response;
+    }
+}
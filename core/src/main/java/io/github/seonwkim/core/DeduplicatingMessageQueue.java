@@ -0,0 +1,230 @@
+package io.github.seonwkim.core;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+
+/**
+ * Unbounded message queue created by {@link MailboxConfig#deduplicating}, which drops a message at
+ * enqueue time if a message with the same key is still queued or was among the last
+ * {@code windowSize} accepted messages. Duplicates never reach the actor, so they cost no actor turn.
+ *
+ * <p>Known keys live in a {@link KeySet}, an open-addressing table of key hashes that is only
+ * consulted for equality when the hashes match. Each entry counts its references: one while the
+ * message is queued and one while it is inside the window.
+ *
+ * @param <T> The deduplicated message type
+ */
+final class DeduplicatingMessageQueue<T> implements MessageQueue {
+
+    private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+    private final Class<T> type;
+    private final Function<? super T, ?> keyFn;
+    private final KeySet keys = new KeySet();
+
+    /** The keys of the last accepted messages, oldest first from {@code windowHead} */
+    private final Object[] window;
+
+    private int windowHead = 0;
+    private int windowSize = 0;
+    private final LongAdder duplicates = new LongAdder();
+
+    DeduplicatingMessageQueue(Class<T> type, Function<? super T, ?> keyFn, int windowSize) {
+        this.type = type;
+        this.keyFn = keyFn;
+        this.window = new Object[windowSize];
+    }
+
+    /** The number of messages dropped as duplicates */
+    long duplicates() {
+        return duplicates.sum();
+    }
+
+    @Override
+    public void enqueue(ActorRef receiver, Envelope handle) {
+        Object key = keyOf(handle);
+        if (key != null && !accept(key)) {
+            duplicates.increment();
+            MailboxEvents.duplicateDropped(Adapter.toTyped(receiver));
+            return;
+        }
+        queue.add(handle);
+    }
+
+    @Override
+    @Nullable public Envelope dequeue() {
+        Envelope envelope = queue.poll();
+        if (envelope != null) {
+            Object key = keyOf(envelope);
+            if (key != null) {
+                synchronized (keys) {
+                    keys.release(key);
+                }
+            }
+        }
+        return envelope;
+    }
+
+    @Override
+    public int numberOfMessages() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean hasMessages() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+        Envelope envelope;
+        while ((envelope = queue.poll()) != null) {
+            deadLetters.enqueue(owner, envelope);
+        }
+    }
+
+    @Nullable private Object keyOf(Envelope envelope) {
+        Object message = envelope.message();
+        return type.isInstance(message) ? keyFn.apply(type.cast(message)) : null;
+    }
+
+    /** Registers the key unless it is already known; returns false for a duplicate. */
+    private boolean accept(Object key) {
+        synchronized (keys) {
+            if (!keys.add(key, window.length > 0 ? 2 : 1)) {
+                return false;
+            }
+            if (window.length > 0) {
+                if (windowSize == window.length) {
+                    // The oldest key leaves the window
+                    keys.release(Objects.requireNonNull(window[windowHead]));
+                    window[windowHead] = key;
+                    windowHead = (windowHead + 1) % window.length;
+                } else {
+                    window[(windowHead + windowSize) % window.length] = key;
+                    windowSize++;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reference-counted set of keys with linear probing. Hashes are kept in a primitive array, so a
+     * lookup only touches a key object when its hash matches. Removal shifts the following entries
+     * back instead of leaving tombstones. Not thread-safe.
+     */
+    static final class KeySet {
+        private int[] hashes = new int[16];
+        private Object[] keys = new Object[16];
+        private byte[] references = new byte[16];
+        private int size = 0;
+
+        /** Adds the key with the given reference count; returns false if it is already present. */
+        boolean add(Object key, int referenceCount) {
+            if (size >= keys.length / 2) {
+                resize(keys.length * 2);
+            }
+            int hash = hash(key);
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (hashes[slot] == hash && keys[slot].equals(key)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            keys[slot] = key;
+            references[slot] = (byte) referenceCount;
+            size++;
+            return true;
+        }
+
+        /** Drops one reference to the key and removes it once no reference is left. */
+        void release(Object key) {
+            int hash = hash(key);
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (hashes[slot] == hash && keys[slot].equals(key)) {
+                    if (--references[slot] == 0) {
+                        remove(slot);
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        boolean contains(Object key) {
+            int hash = hash(key);
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (hashes[slot] == hash && keys[slot].equals(key)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void remove(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (keys[next] != null) {
+                int home = hashes[next] & mask;
+                // Move the entry into the hole unless its home slot lies cyclically in (hole, next]
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    hashes[hole] = hashes[next];
+                    keys[hole] = keys[next];
+                    references[hole] = references[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = null;
+            references[hole] = 0;
+            size--;
+        }
+
+        private void resize(int capacity) {
+            int[] oldHashes = hashes;
+            Object[] oldKeys = keys;
+            byte[] oldReferences = references;
+            hashes = new int[capacity];
+            keys = new Object[capacity];
+            references = new byte[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = oldHashes[i] & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    hashes[slot] = oldHashes[i];
+                    keys[slot] = oldKeys[i];
+                    references[slot] = oldReferences[i];
+                }
+            }
+        }
+
+        private static int hash(Object key) {
+            int h = key.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
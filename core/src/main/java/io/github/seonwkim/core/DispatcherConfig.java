@@ -10,6 +10,7 @@ import org.apache.pekko.actor.typed.Props;
  * <ul>
  *   <li>{@link #defaultDispatcher()} - Use the default Pekko dispatcher
  *   <li>{@link #blocking()} - Use Pekko's blocking I/O dispatcher
+ *   <li>{@link #virtualThreads()} - Run actors on virtual threads (JDK 21+)
  *   <li>{@link #fromConfig(String)} - Use a custom dispatcher from configuration
  *   <li>{@link #sameAsParent()} - Use the same dispatcher as the parent actor
  * </ul>
@@ -36,6 +37,28 @@ public abstract class DispatcherConfig {
         return BlockingDispatcher.INSTANCE;
     }
 
+    /**
+     * Run actors on virtual threads, with a new virtual thread for each mailbox run. Like
+     * {@link #blocking()}, this isolates actors that make blocking JDBC or HTTP calls from the
+     * default dispatcher, but a blocked actor parks its virtual thread instead of holding one of a
+     * limited pool of platform threads, so many actors can block at the same time. The dispatcher is
+     * provisioned by the framework; no configuration is needed.
+     *
+     * <p>Code that blocks inside {@code synchronized} blocks or native calls pins the carrier thread
+     * on JDK 21, which limits the number of actors that can block at once to the number of carriers.
+     *
+     * @return A dispatcher configuration for virtual threads
+     * @throws UnsupportedOperationException if the JVM is older than JDK 21
+     */
+    public static DispatcherConfig virtualThreads() {
+        if (!ProvisionedDispatchers.virtualThreadsSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require JDK "
+                    + ProvisionedDispatchers.VIRTUAL_THREADS_MIN_JAVA_VERSION + " or later, but this JVM is "
+                    + Runtime.version() + ". Use DispatcherConfig.blocking() instead.");
+        }
+        return VirtualThreadDispatcher.INSTANCE;
+    }
+
     /**
      * Use a custom dispatcher defined in the application configuration.
      * The dispatcher must be configured under the "spring.actor" prefix in your
@@ -125,6 +148,31 @@ public abstract class DispatcherConfig {
         }
     }
 
+    /**
+     * Virtual thread dispatcher configuration - provisioned by the framework.
+     * Uses Pekko's virtual-thread-executor.
+     */
+    private static final class VirtualThreadDispatcher extends DispatcherConfig {
+        static final VirtualThreadDispatcher INSTANCE = new VirtualThreadDispatcher();
+
+        private VirtualThreadDispatcher() {}
+
+        @Override
+        public boolean shouldUseProps() {
+            return true;
+        }
+
+        @Override
+        public Props toProps() {
+            return Props.empty().withDispatcherFromConfig(ProvisionedDispatchers.VIRTUAL_THREADS_DISPATCHER_ID);
+        }
+
+        @Override
+        public String toString() {
+            return "DispatcherConfig.virtualThreads()";
+        }
+    }
+
     /**
      * Custom dispatcher configuration - uses a dispatcher defined in application configuration.
      */
@@ -1,8 +1,11 @@
 package io.github.seonwkim.core;
 
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.SupervisorStrategy;
+import org.apache.pekko.dispatch.ControlMessage;
 
 /**
  * Framework-provided commands that actors can use when their Command interface
@@ -12,6 +15,9 @@ import org.apache.pekko.actor.typed.SupervisorStrategy;
  * the actor's Command interface extends {@link FrameworkCommand}. No explicit
  * configuration is required.
  *
+ * <p>The commands are {@link ControlMessage}s, so actors spawned with
+ * {@link MailboxConfig#controlAware()} or a priority mailbox handle them before queued user messages.
+ *
  * <p><b>Automatic enablement:</b> Simply extend FrameworkCommand in your Command interface:
  * <pre>
  * {@code
@@ -74,7 +80,7 @@ public final class FrameworkCommands {
      *
      * @param <C> The command type of the child actor to spawn
      */
-    public static final class SpawnChild<C> implements FrameworkCommand {
+    public static final class SpawnChild<C> implements FrameworkCommand, ControlMessage {
         public final Class<? extends SpringActorWithContext<C, ?>> actorClass;
         public final SpringActorContext childContext;
 
@@ -136,17 +142,131 @@ public final class FrameworkCommands {
         }
     }
 
+    /**
+     * Framework command to get an existing child actor or spawn it if it does not exist.
+     *
+     * <p>Unlike sending {@link GetChild} followed by {@link SpawnChild}, the lookup and the spawn
+     * are handled in a single message turn of the parent, so concurrent requests for the same child
+     * always resolve to the same instance. The spawn configuration is only used when the child is
+     * created. An existing child is reported with {@link SpawnChildResponse#alreadyExists(ActorRef)}.
+     *
+     * @param <C> The command type of the child actor
+     */
+    public static final class GetOrSpawnChild<C> implements FrameworkCommand, ControlMessage {
+        public final Class<? extends SpringActorWithContext<C, ?>> actorClass;
+        public final SpringActorContext childContext;
+
+        @Nullable public final SupervisorStrategy strategy;
+
+        public final MailboxConfig mailboxConfig;
+        public final DispatcherConfig dispatcherConfig;
+        public final TagsConfig tagsConfig;
+        public final ActorRef<SpawnChildResponse<C>> replyTo;
+
+        public GetOrSpawnChild(
+                Class<? extends SpringActorWithContext<C, ?>> actorClass,
+                SpringActorContext childContext,
+                @Nullable SupervisorStrategy strategy,
+                @Nullable MailboxConfig mailboxConfig,
+                @Nullable DispatcherConfig dispatcherConfig,
+                @Nullable TagsConfig tagsConfig,
+                ActorRef<SpawnChildResponse<C>> replyTo) {
+            this.actorClass = actorClass;
+            this.childContext = childContext;
+            this.strategy = strategy;
+            this.mailboxConfig = mailboxConfig != null ? mailboxConfig : MailboxConfig.defaultMailbox();
+            this.dispatcherConfig = dispatcherConfig != null ? dispatcherConfig : DispatcherConfig.defaultDispatcher();
+            this.tagsConfig = tagsConfig != null ? tagsConfig : TagsConfig.empty();
+            this.replyTo = replyTo;
+        }
+    }
+
+    /**
+     * Framework command to spawn many child actors of the same type in one message.
+     *
+     * <p>Children that already exist are returned as they are. The parent replies once with a
+     * {@link SpawnChildrenResponse} covering every requested child.
+     *
+     * @param <C> The command type of the child actors to spawn
+     */
+    public static final class SpawnChildren<C> implements FrameworkCommand, ControlMessage {
+        public final Class<? extends SpringActorWithContext<C, ?>> actorClass;
+        public final List<SpringActorContext> childContexts;
+
+        @Nullable public final SupervisorStrategy strategy;
+
+        public final MailboxConfig mailboxConfig;
+        public final DispatcherConfig dispatcherConfig;
+        public final TagsConfig tagsConfig;
+        public final ActorRef<SpawnChildrenResponse<C>> replyTo;
+
+        public SpawnChildren(
+                Class<? extends SpringActorWithContext<C, ?>> actorClass,
+                List<SpringActorContext> childContexts,
+                @Nullable SupervisorStrategy strategy,
+                @Nullable MailboxConfig mailboxConfig,
+                @Nullable DispatcherConfig dispatcherConfig,
+                @Nullable TagsConfig tagsConfig,
+                ActorRef<SpawnChildrenResponse<C>> replyTo) {
+            this.actorClass = actorClass;
+            this.childContexts = childContexts;
+            this.strategy = strategy;
+            this.mailboxConfig = mailboxConfig != null ? mailboxConfig : MailboxConfig.defaultMailbox();
+            this.dispatcherConfig = dispatcherConfig != null ? dispatcherConfig : DispatcherConfig.defaultDispatcher();
+            this.tagsConfig = tagsConfig != null ? tagsConfig : TagsConfig.empty();
+            this.replyTo = replyTo;
+        }
+    }
+
+    /**
+     * Response to a {@link SpawnChildren} command.
+     *
+     * <p>Contains the references of the spawned or existing children keyed by child ID, and the
+     * failure reason of every child that could not be spawned.
+     *
+     * @param <C> The command type of the child actors
+     */
+    public static final class SpawnChildrenResponse<C> {
+        public final Map<String, ActorRef<C>> childRefs;
+        public final Map<String, String> failures;
+
+        public SpawnChildrenResponse(Map<String, ActorRef<C>> childRefs, Map<String, String> failures) {
+            this.childRefs = childRefs;
+            this.failures = failures;
+        }
+
+        public boolean isSuccess() {
+            return failures.isEmpty();
+        }
+    }
+
     /**
      * Framework command to get a reference to an existing child actor.
      *
      * <p>This command allows actors to retrieve a reference to a child that has already been spawned.
+     * It is an {@link AskCommand}, so it can also be sent with an ask, which sets its reply-to.
      *
      * @param <C> The command type of the child actor
      */
-    public static final class GetChild<C> implements FrameworkCommand {
+    public static final class GetChild<C> extends AskCommand<GetChildResponse<C>>
+            implements FrameworkCommand, ControlMessage {
         public final Class<? extends SpringActorWithContext<C, ?>> actorClass;
         public final String childId;
-        public final ActorRef<GetChildResponse<C>> replyTo;
+
+        /**
+         * The reply-to passed to the constructor.
+         *
+         * @deprecated Null when the command was sent with an ask; use {@link #getReplyTo()} or
+         *     {@link #reply(Object)} instead.
+         */
+        @Deprecated
+        @Nullable public final ActorRef<GetChildResponse<C>> replyTo;
+
+        public GetChild(Class<? extends SpringActorWithContext<C, ?>> actorClass, String childId) {
+            this.actorClass = actorClass;
+            this.childId = childId;
+            this.replyTo = null;
+        }
 
         public GetChild(
                 Class<? extends SpringActorWithContext<C, ?>> actorClass,
@@ -155,6 +275,7 @@ public final class FrameworkCommands {
             this.actorClass = actorClass;
             this.childId = childId;
             this.replyTo = replyTo;
+            withReplyTo(replyTo);
         }
     }
 
@@ -183,14 +304,30 @@ public final class FrameworkCommands {
     }
 
     /**
-     * Framework command to check if a child actor exists.
+     * Framework command to check if a child actor exists. Like {@link GetChild}, it is an
+     * {@link AskCommand}.
      *
      * @param <C> The command type of the child actor
      */
-    public static final class ExistsChild<C> implements FrameworkCommand {
+    public static final class ExistsChild<C> extends AskCommand<ExistsChildResponse>
+            implements FrameworkCommand, ControlMessage {
         public final Class<? extends SpringActorWithContext<C, ?>> actorClass;
         public final String childId;
-        public final ActorRef<ExistsChildResponse> replyTo;
+
+        /**
+         * The reply-to passed to the constructor.
+         *
+         * @deprecated Null when the command was sent with an ask; use {@link #getReplyTo()} or
+         *     {@link #reply(Object)} instead.
+         */
+        @Deprecated
+        @Nullable public final ActorRef<ExistsChildResponse> replyTo;
+
+        public ExistsChild(Class<? extends SpringActorWithContext<C, ?>> actorClass, String childId) {
+            this.actorClass = actorClass;
+            this.childId = childId;
+            this.replyTo = null;
+        }
 
         public ExistsChild(
                 Class<? extends SpringActorWithContext<C, ?>> actorClass,
@@ -199,6 +336,7 @@ public final class FrameworkCommands {
             this.actorClass = actorClass;
             this.childId = childId;
             this.replyTo = replyTo;
+            withReplyTo(replyTo);
         }
     }
 
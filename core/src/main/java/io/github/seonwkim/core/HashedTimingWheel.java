@@ -0,0 +1,264 @@
+package io.github.seonwkim.core;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * A hashed timing wheel that buckets deadlines at a fixed resolution, so that one tick expires all
+ * entries whose deadline fell into the elapsed interval. Entries can be scheduled and cancelled from
+ * any thread; {@link #advance(long, Consumer)} must only be called by a single owner (typically an
+ * actor on a periodic timer), which keeps the buckets themselves free of synchronization.
+ *
+ * <p>Deadlines are rounded up to the next tick, so an entry expires at most one resolution after
+ * its deadline (plus the delay of the owner's timer). Deadlines further away than one revolution
+ * of the wheel stay in their bucket until the revolution that reaches them. A cancelled entry is
+ * unlinked from its bucket on the next advance, so it doesn't stay in the wheel until its deadline.
+ *
+ * <p>The owner doesn't need to advance an empty wheel. It stops once {@link #park()} succeeds, and
+ * whoever schedules the next entry is told by {@link #unpark()} to wake it up again.
+ *
+ * @param <E> The type of the scheduled entries
+ */
+final class HashedTimingWheel<E> {
+
+    private final long resolutionNanos;
+    private final long startNanos;
+    private final Bucket<E>[] buckets;
+    private final int mask;
+    private final Queue<Timeout<E>> registrations = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<E>> cancellations = new ConcurrentLinkedQueue<>();
+
+    /** The number of entries that are neither expired nor cancelled */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /** Whether the owner stopped advancing the wheel; it starts out parked */
+    private final AtomicBoolean parked = new AtomicBoolean(true);
+
+    /** The last tick whose bucket was processed. Only accessed by the owner. */
+    private long currentTick;
+
+    /**
+     * Creates a new timing wheel.
+     *
+     * @param resolution The duration of one tick
+     * @param wheelSize The number of buckets, rounded up to a power of two
+     * @param startNanos The {@link System#nanoTime()} at which tick 0 starts
+     */
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(Duration resolution, int wheelSize, long startNanos) {
+        if (resolution == null || resolution.isZero() || resolution.isNegative()) {
+            throw new IllegalArgumentException("resolution must be positive");
+        }
+        if (wheelSize < 1 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.resolutionNanos = resolution.toNanos();
+        this.startNanos = startNanos;
+        this.buckets = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Schedules an entry. Safe to call from any thread; the entry is placed into its bucket on the
+     * next {@link #advance(long, Consumer)}.
+     *
+     * @param entry The entry to schedule
+     * @param deadlineNanos The {@link System#nanoTime()} at which the entry expires
+     * @return A handle that cancels the entry
+     */
+    Timeout<E> schedule(E entry, long deadlineNanos) {
+        long elapsed = Math.max(0, deadlineNanos - startNanos);
+        long deadlineTick = (elapsed + resolutionNanos - 1) / resolutionNanos;
+        Timeout<E> timeout = new Timeout<>(this, entry, deadlineTick);
+        size.incrementAndGet();
+        registrations.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of live entries.
+     *
+     * @return The number of entries that have neither expired nor been cancelled
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Called by the owner when it wants to stop advancing the wheel. Fails if the wheel still holds
+     * live entries or cancellations to unlink, including entries scheduled while parking.
+     *
+     * @return true if the owner may stop advancing until it is woken up
+     */
+    boolean park() {
+        if (size.get() > 0 || !cancellations.isEmpty()) {
+            return false;
+        }
+        parked.set(true);
+        // An entry scheduled concurrently either sees the flag and wakes the owner, or is seen here
+        return !(size.get() > 0 && parked.compareAndSet(true, false));
+    }
+
+    /**
+     * Called after {@link #schedule(Object, long)} by any thread.
+     *
+     * @return true if the owner was parked and the caller must wake it up
+     */
+    boolean unpark() {
+        return parked.get() && parked.compareAndSet(true, false);
+    }
+
+    /**
+     * Advances the wheel to the given time and passes every entry whose deadline has passed to
+     * {@code onExpired}. Must only be called by the owner of the wheel.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @param onExpired Receives each expired entry
+     * @return The number of expired entries
+     */
+    int advance(long nowNanos, Consumer<? super E> onExpired) {
+        Timeout<E> cancelled;
+        while ((cancelled = cancellations.poll()) != null) {
+            Bucket<E> bucket = cancelled.bucket;
+            if (bucket != null) {
+                bucket.remove(cancelled);
+            }
+        }
+
+        long targetTick = Math.max(currentTick, (nowNanos - startNanos) / resolutionNanos);
+        int expired = 0;
+
+        Timeout<E> registration;
+        while ((registration = registrations.poll()) != null) {
+            if (registration.state != Timeout.PENDING) {
+                continue;
+            }
+            if (registration.deadlineTick <= targetTick) {
+                if (registration.expire()) {
+                    onExpired.accept(registration.value);
+                    expired++;
+                }
+            } else {
+                buckets[(int) (registration.deadlineTick & mask)].add(registration);
+            }
+        }
+
+        // Visit each bucket at most once, even if the owner fell behind by more than one revolution
+        long fromTick = Math.max(currentTick + 1, targetTick - mask);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Bucket<E> bucket = buckets[(int) (tick & mask)];
+            Timeout<E> timeout = bucket.head;
+            while (timeout != null) {
+                Timeout<E> next = timeout.next;
+                if (timeout.deadlineTick <= tick) {
+                    bucket.remove(timeout);
+                    if (timeout.expire()) {
+                        onExpired.accept(timeout.value);
+                        expired++;
+                    }
+                }
+                timeout = next;
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    /**
+     * A scheduled entry with its deadline expressed in ticks. The links to its neighbours in the
+     * bucket are only accessed by the owner of the wheel.
+     *
+     * @param <E> The type of the scheduled entry
+     */
+    static final class Timeout<E> {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedTimingWheel<E> wheel;
+        final E value;
+        final long deadlineTick;
+
+        private volatile int state = PENDING;
+
+        @Nullable private Bucket<E> bucket;
+        @Nullable private Timeout<E> prev;
+        @Nullable private Timeout<E> next;
+
+        Timeout(HashedTimingWheel<E> wheel, E value, long deadlineTick) {
+            this.wheel = wheel;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancels the entry, unless it has already expired. Safe to call from any thread.
+         *
+         * @return true if this call cancelled the entry
+         */
+        boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.size.decrementAndGet();
+            wheel.cancellations.add(this);
+            return true;
+        }
+
+        private boolean expire() {
+            if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                return false;
+            }
+            wheel.size.decrementAndGet();
+            return true;
+        }
+    }
+
+    /** A doubly-linked list of timeouts, only accessed by the owner of the wheel */
+    private static final class Bucket<E> {
+        @Nullable Timeout<E> head;
+
+        void add(Timeout<E> timeout) {
+            timeout.bucket = this;
+            timeout.next = head;
+            Timeout<E> first = head;
+            if (first != null) {
+                first.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<E> timeout) {
+            Timeout<E> prev = timeout.prev;
+            Timeout<E> next = timeout.next;
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
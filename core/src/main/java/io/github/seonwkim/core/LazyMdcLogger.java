@@ -0,0 +1,508 @@
+package io.github.seonwkim.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.BehaviorInterceptor;
+import org.apache.pekko.actor.typed.Signal;
+import org.apache.pekko.actor.typed.TypedActorContext;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * The logger handed out by {@link SpringBehaviorContext#getLog()} for behaviors built with
+ * {@link SpringActorBehavior.Builder#withLazyMdc(Function)}. Instead of installing the MDC around
+ * every message like {@link Behaviors#withMdc}, it installs the static and per-message MDC values
+ * only around log calls whose level is enabled, and restores the previous values right after. The
+ * per-message values are computed at most once per message, on the first such call.
+ *
+ * <p>Every logging method funnels into {@link #log(Level, Marker, String, Object...)}, which checks
+ * the level and installs the MDC once. Throwables are passed as the last argument, which SLF4J
+ * treats the same as the {@code (String, Throwable)} overloads.
+ *
+ * <p>The message being processed, and the thread processing it, are recorded by the interceptor
+ * returned from {@link #track(Behavior)}. An actor processes one message at a time, so plain fields
+ * are enough to scope the values to the current message. Calls from other threads, such as
+ * callbacks of a {@link java.util.concurrent.CompletionStage}, log through the logger captured at
+ * creation with the static values and Pekko's source values set here, since the actor context must
+ * not be used outside of the actor.
+ *
+ * @param <C> The command type of the actor
+ */
+final class LazyMdcLogger<C> implements Logger {
+
+    private final ActorContext<C> ctx;
+    private final Logger delegate;
+    private final Class<C> commandClass;
+    private final Map<String, String> staticMdc;
+
+    /** The static values plus the source values Pekko would set, for calls off the actor thread */
+    private final Map<String, String> outsideMdc;
+
+    @Nullable private final Function<C, Map<String, String>> mdcForMessage;
+
+    /** The message being processed, or null between messages */
+    @Nullable private C message;
+
+    /** The per-message values of {@link #message}, or null until the first enabled log call */
+    @Nullable private Map<String, String> messageMdc;
+
+    /**
+     * The thread processing {@link #message}, or null between messages. A thread only reads itself
+     * here while it processes a message, because it clears the field before moving on.
+     */
+    @Nullable private Thread actorThread;
+
+    LazyMdcLogger(
+            ActorContext<C> ctx,
+            Class<C> commandClass,
+            Map<String, String> staticMdc,
+            @Nullable Function<C, Map<String, String>> mdcForMessage) {
+        this.ctx = ctx;
+        this.delegate = ctx.getLog();
+        this.commandClass = commandClass;
+        this.staticMdc = staticMdc;
+        this.mdcForMessage = mdcForMessage;
+        Map<String, String> outside = new HashMap<>();
+        outside.put("pekkoSource", ctx.getSelf().path().toString());
+        outside.put("sourceActorSystem", ctx.getSystem().name());
+        outside.putAll(staticMdc);
+        this.outsideMdc = outside;
+    }
+
+    /** Wraps the behavior so that this logger knows which message is being processed, and where. */
+    Behavior<C> track(Behavior<C> behavior) {
+        return Behaviors.intercept(MessageTracker::new, behavior);
+    }
+
+    /**
+     * Logs with the MDC values installed, if the level is enabled. On the actor thread the logger is
+     * fetched from the context again because that also installs Pekko's own MDC values, such as
+     * {@code pekkoSource}, which are cleared after every message.
+     */
+    private void log(Level level, @Nullable Marker marker, String format, Object... arguments) {
+        if (!isEnabled(level, marker)) {
+            return;
+        }
+        boolean onActorThread = actorThread == Thread.currentThread();
+        Logger log = onActorThread ? ctx.getLog() : delegate;
+        Map<String, String> previous = new HashMap<>();
+        if (onActorThread) {
+            put(staticMdc, previous);
+            put(messageMdc(), previous);
+        } else {
+            put(outsideMdc, previous);
+        }
+        try {
+            switch (level) {
+                case TRACE:
+                    log.trace(marker, format, arguments);
+                    break;
+                case DEBUG:
+                    log.debug(marker, format, arguments);
+                    break;
+                case INFO:
+                    log.info(marker, format, arguments);
+                    break;
+                case WARN:
+                    log.warn(marker, format, arguments);
+                    break;
+                case ERROR:
+                    log.error(marker, format, arguments);
+                    break;
+            }
+        } finally {
+            pop(previous);
+        }
+    }
+
+    private boolean isEnabled(Level level, @Nullable Marker marker) {
+        switch (level) {
+            case TRACE:
+                return marker != null ? delegate.isTraceEnabled(marker) : delegate.isTraceEnabled();
+            case DEBUG:
+                return marker != null ? delegate.isDebugEnabled(marker) : delegate.isDebugEnabled();
+            case INFO:
+                return marker != null ? delegate.isInfoEnabled(marker) : delegate.isInfoEnabled();
+            case WARN:
+                return marker != null ? delegate.isWarnEnabled(marker) : delegate.isWarnEnabled();
+            default:
+                return marker != null ? delegate.isErrorEnabled(marker) : delegate.isErrorEnabled();
+        }
+    }
+
+    /** Installs the MDC values, recording in {@code previous} what the keys held before. */
+    private static void put(Map<String, String> values, Map<String, String> previous) {
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (!previous.containsKey(entry.getKey())) {
+                previous.put(entry.getKey(), MDC.get(entry.getKey()));
+            }
+            MDC.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /** Restores the values the keys had before {@link #put}. */
+    private static void pop(Map<String, String> previous) {
+        for (Map.Entry<String, String> entry : previous.entrySet()) {
+            if (entry.getValue() == null) {
+                MDC.remove(entry.getKey());
+            } else {
+                MDC.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private Map<String, String> messageMdc() {
+        Map<String, String> values = messageMdc;
+        if (values == null) {
+            C current = message;
+            values = current != null && mdcForMessage != null ? mdcForMessage.apply(current) : Collections.emptyMap();
+            messageMdc = values;
+        }
+        return values;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return delegate.isTraceEnabled();
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return delegate.isTraceEnabled(marker);
+    }
+
+    @Override
+    public void trace(String msg) {
+        log(Level.TRACE, null, msg);
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        log(Level.TRACE, null, format, arg);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        log(Level.TRACE, null, format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object... arguments) {
+        log(Level.TRACE, null, format, arguments);
+    }
+
+    @Override
+    public void trace(String msg, Throwable t) {
+        log(Level.TRACE, null, msg, t);
+    }
+
+    @Override
+    public void trace(Marker marker, String msg) {
+        log(Level.TRACE, marker, msg);
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg) {
+        log(Level.TRACE, marker, format, arg);
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg1, Object arg2) {
+        log(Level.TRACE, marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object... arguments) {
+        log(Level.TRACE, marker, format, arguments);
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Throwable t) {
+        log(Level.TRACE, marker, msg, t);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return delegate.isDebugEnabled(marker);
+    }
+
+    @Override
+    public void debug(String msg) {
+        log(Level.DEBUG, null, msg);
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        log(Level.DEBUG, null, format, arg);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        log(Level.DEBUG, null, format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object... arguments) {
+        log(Level.DEBUG, null, format, arguments);
+    }
+
+    @Override
+    public void debug(String msg, Throwable t) {
+        log(Level.DEBUG, null, msg, t);
+    }
+
+    @Override
+    public void debug(Marker marker, String msg) {
+        log(Level.DEBUG, marker, msg);
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg) {
+        log(Level.DEBUG, marker, format, arg);
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg1, Object arg2) {
+        log(Level.DEBUG, marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object... arguments) {
+        log(Level.DEBUG, marker, format, arguments);
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Throwable t) {
+        log(Level.DEBUG, marker, msg, t);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return delegate.isInfoEnabled(marker);
+    }
+
+    @Override
+    public void info(String msg) {
+        log(Level.INFO, null, msg);
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        log(Level.INFO, null, format, arg);
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        log(Level.INFO, null, format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object... arguments) {
+        log(Level.INFO, null, format, arguments);
+    }
+
+    @Override
+    public void info(String msg, Throwable t) {
+        log(Level.INFO, null, msg, t);
+    }
+
+    @Override
+    public void info(Marker marker, String msg) {
+        log(Level.INFO, marker, msg);
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg) {
+        log(Level.INFO, marker, format, arg);
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg1, Object arg2) {
+        log(Level.INFO, marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object... arguments) {
+        log(Level.INFO, marker, format, arguments);
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Throwable t) {
+        log(Level.INFO, marker, msg, t);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return delegate.isWarnEnabled(marker);
+    }
+
+    @Override
+    public void warn(String msg) {
+        log(Level.WARN, null, msg);
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        log(Level.WARN, null, format, arg);
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        log(Level.WARN, null, format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, Object... arguments) {
+        log(Level.WARN, null, format, arguments);
+    }
+
+    @Override
+    public void warn(String msg, Throwable t) {
+        log(Level.WARN, null, msg, t);
+    }
+
+    @Override
+    public void warn(Marker marker, String msg) {
+        log(Level.WARN, marker, msg);
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg) {
+        log(Level.WARN, marker, format, arg);
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg1, Object arg2) {
+        log(Level.WARN, marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object... arguments) {
+        log(Level.WARN, marker, format, arguments);
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Throwable t) {
+        log(Level.WARN, marker, msg, t);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return delegate.isErrorEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return delegate.isErrorEnabled(marker);
+    }
+
+    @Override
+    public void error(String msg) {
+        log(Level.ERROR, null, msg);
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        log(Level.ERROR, null, format, arg);
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        log(Level.ERROR, null, format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, Object... arguments) {
+        log(Level.ERROR, null, format, arguments);
+    }
+
+    @Override
+    public void error(String msg, Throwable t) {
+        log(Level.ERROR, null, msg, t);
+    }
+
+    @Override
+    public void error(Marker marker, String msg) {
+        log(Level.ERROR, marker, msg);
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg) {
+        log(Level.ERROR, marker, format, arg);
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg1, Object arg2) {
+        log(Level.ERROR, marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object... arguments) {
+        log(Level.ERROR, marker, format, arguments);
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Throwable t) {
+        log(Level.ERROR, marker, msg, t);
+    }
+
+    /** Records the message being processed, and the thread processing it, for the duration of its handler. */
+    private final class MessageTracker extends BehaviorInterceptor<C, C> {
+
+        MessageTracker() {
+            super(commandClass);
+        }
+
+        @Override
+        public Behavior<C> aroundReceive(TypedActorContext<C> context, C msg, ReceiveTarget<C> target) {
+            message = msg;
+            messageMdc = null;
+            actorThread = Thread.currentThread();
+            try {
+                return target.apply(context, msg);
+            } finally {
+                message = null;
+                messageMdc = null;
+                actorThread = null;
+            }
+        }
+
+        @Override
+        public Behavior<C> aroundSignal(TypedActorContext<C> context, Signal signal, SignalTarget<C> target) {
+            actorThread = Thread.currentThread();
+            try {
+                return target.apply(context, signal);
+            } finally {
+                actorThread = null;
+            }
+        }
+    }
+}
@@ -1,15 +1,27 @@
 package io.github.seonwkim.core;
 
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Function;
+import org.apache.pekko.actor.typed.ActorSystem;
 import org.apache.pekko.actor.typed.MailboxSelector;
 import org.apache.pekko.actor.typed.Props;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MailboxType;
+import org.apache.pekko.dispatch.UnboundedPriorityMailbox;
+import org.apache.pekko.dispatch.UnboundedStablePriorityMailbox;
+import org.apache.pekko.serialization.SerializationExtension;
 
 /**
  * Type-safe configuration for actor mailboxes.
  *
- * <p>Mailboxes can be configured in two ways:
+ * <p>Mailboxes can be configured in three ways:
  * <ul>
  *   <li><strong>Built-in bounded mailbox:</strong> Use {@link #bounded(int)} for simple capacity limits
+ *   <li><strong>Provisioned mailboxes:</strong> Use {@link #priority}, {@link #stablePriority},
+ *       {@link #mpscArray}, {@link #deduplicating}, {@link #spillToDisk} or {@link #controlAware()};
+ *       the framework defines them, no configuration is needed
  *   <li><strong>Custom mailbox from config:</strong> Use {@link #fromConfig(String)} to reference mailboxes
  *       defined in application.yml under spring.actor.*
  * </ul>
@@ -59,10 +71,10 @@ public abstract class MailboxConfig {
 
     /**
      * Use a bounded mailbox with the specified capacity.
-     * When the mailbox is full, the sender will be blocked until space is available.
-     *
-     * <p><strong>Warning:</strong> Blocking behavior can impact sender performance and may cause deadlocks
-     * if actors wait for responses. Consider the message flow carefully.
+     * When the mailbox is full, messages sent with {@link SpringActorHandle#tell(Object)} are dropped
+     * as dead letters. Use {@link SpringActorHandle#offer(Object)} or
+     * {@link SpringActorHandle#offerAsync(Object)} to find out whether a message was accepted and to
+     * apply backpressure to the sender instead.
      *
      * @param capacity The maximum number of messages the mailbox can hold
      * @return A mailbox configuration for a bounded mailbox
@@ -92,9 +104,162 @@ public abstract class MailboxConfig {
         return new FromConfigMailbox(path);
     }
 
+    /**
+     * Use an unbounded mailbox that delivers messages of the given type in the order of the
+     * comparator; messages that compare equal are delivered in no particular order.
+     *
+     * <p>{@link FrameworkCommands} such as child lookups are control messages and are always
+     * delivered first, so a busy parent stays responsive. Messages of other types, such as bursts
+     * sent with {@code tellAll(...)} and messages the framework sends to the actor itself, are
+     * delivered after control messages and before messages of the given type.
+     *
+     * <pre>{@code
+     * actorSystem.actor(Supervisor.class)
+     *     .withId("supervisor")
+     *     .withMailbox(MailboxConfig.priority(Command.class, Comparator.comparing(Command::priority)))
+     *     .spawn();
+     * }</pre>
+     *
+     * <p>Priority mailboxes cannot be used for cluster singletons.
+     *
+     * @param type The message type of the actor
+     * @param comparator Orders messages of the type; smaller messages are delivered first
+     * @param <T> The message type of the actor
+     * @return A mailbox configuration for a priority mailbox
+     * @throws IllegalArgumentException if type or comparator is null
+     */
+    public static <T> MailboxConfig priority(Class<T> type, Comparator<? super T> comparator) {
+        return new PriorityMailbox<>(type, comparator, false);
+    }
+
+    /**
+     * Like {@link #priority(Class, Comparator)}, but messages that compare equal are delivered in
+     * the order they were sent.
+     *
+     * @param type The message type of the actor
+     * @param comparator Orders messages of the type; smaller messages are delivered first
+     * @param <T> The message type of the actor
+     * @return A mailbox configuration for a stable priority mailbox
+     * @throws IllegalArgumentException if type or comparator is null
+     */
+    public static <T> MailboxConfig stablePriority(Class<T> type, Comparator<? super T> comparator) {
+        return new PriorityMailbox<>(type, comparator, true);
+    }
+
+    /**
+     * Use a lock-free bounded mailbox on a preallocated ring buffer. Unlike {@link #bounded(int)},
+     * which is backed by a linked queue that allocates a node per message, enqueuing allocates
+     * nothing, and the overflow strategy decides what happens to a message that arrives while the
+     * mailbox is full. {@link SpringActorHandle#offer(Object)} reports the mailbox as full before
+     * the strategy applies.
+     *
+     * <pre>{@code
+     * actorSystem.actor(PriceFeed.class)
+     *     .withId("feed")
+     *     .withMailbox(MailboxConfig.mpscArray(1024, OverflowStrategy.dropOldest()))
+     *     .spawn();
+     * }</pre>
+     *
+     * <p>Array mailboxes cannot be used for cluster singletons.
+     *
+     * @param capacity The maximum number of queued messages
+     * @param overflowStrategy What to do with a message that arrives while the mailbox is full
+     * @return A mailbox configuration for an array-based bounded mailbox
+     * @throws IllegalArgumentException if capacity is not positive or overflowStrategy is null
+     */
+    public static MailboxConfig mpscArray(int capacity, OverflowStrategy overflowStrategy) {
+        return new MpscArrayMailbox(capacity, overflowStrategy);
+    }
+
+    /**
+     * Use an unbounded mailbox that drops a message of the given type at enqueue time if a message
+     * with the same key is still queued or was among the last {@code windowSize} accepted messages.
+     * Duplicates from retrying clients or at-least-once sources are rejected before they cost an
+     * actor turn; they don't become dead letters, and the metrics module counts them as
+     * {@code actor.mailbox.deduplicated}.
+     *
+     * <pre>{@code
+     * actorSystem.actor(PaymentActor.class)
+     *     .withId("payments")
+     *     .withMailbox(MailboxConfig.deduplicating(Charge.class, Charge::idempotencyKey, 10_000))
+     *     .spawn();
+     * }</pre>
+     *
+     * <p>Messages of other types, and messages whose key is null, are never dropped. Keys must
+     * implement {@code equals} and {@code hashCode}, and the key function must be cheap and return
+     * the same key every time, because it runs on the sender's thread and again on dequeue.
+     * Deduplicating mailboxes cannot be used for cluster singletons.
+     *
+     * @param type The deduplicated message type
+     * @param keyFn Extracts the key that identifies duplicates
+     * @param windowSize How many recently accepted keys to remember after their message was dequeued;
+     *     0 only drops duplicates of queued messages
+     * @param <T> The deduplicated message type
+     * @return A mailbox configuration for a deduplicating mailbox
+     * @throws IllegalArgumentException if type or keyFn is null or windowSize is negative
+     */
+    public static <T> MailboxConfig deduplicating(Class<T> type, Function<? super T, ?> keyFn, int windowSize) {
+        return new DeduplicatingMailbox<>(type, keyFn, windowSize);
+    }
+
+    /**
+     * Use an unbounded mailbox that keeps at most {@code memoryCapacity} messages on the heap and
+     * spills the overflow to memory-mapped segment files in the given directory. Messages are read
+     * back in the order they were sent, so bursts of millions of messages are absorbed without
+     * dropping any of them and without growing the heap.
+     *
+     * <pre>{@code
+     * actorSystem.actor(IngestionActor.class)
+     *     .withId("ingestion")
+     *     .withMailbox(MailboxConfig.spillToDisk(10_000, Path.of("/var/spool/ingestion")))
+     *     .spawn();
+     * }</pre>
+     *
+     * <p>Spilled messages are serialized with the actor system's serialization bindings, so message
+     * types should implement {@link io.github.seonwkim.core.serialization.JsonSerializable} or
+     * {@link io.github.seonwkim.core.serialization.CborSerializable}. Messages without a binding
+     * keep their place in the order but stay on the heap; at most {@code memoryCapacity} of them,
+     * further ones are sent to dead letters while the mailbox is spilling. Segment files are deleted once they have
+     * been read and are not recovered after a restart. Spilling mailboxes cannot be used for cluster
+     * singletons.
+     *
+     * @param memoryCapacity The maximum number of messages kept on the heap
+     * @param directory The directory for the segment files; created if it does not exist
+     * @return A mailbox configuration for a spilling mailbox
+     * @throws IllegalArgumentException if memoryCapacity is not positive or directory is null
+     */
+    public static MailboxConfig spillToDisk(int memoryCapacity, Path directory) {
+        return new SpillingMailbox(memoryCapacity, directory);
+    }
+
+    /**
+     * Use an unbounded mailbox that delivers control messages before all other messages. Control
+     * messages implement {@link org.apache.pekko.dispatch.ControlMessage}; this includes the
+     * {@link FrameworkCommands}, so child lookups don't queue behind user messages.
+     *
+     * @return A mailbox configuration for a control-aware mailbox
+     */
+    public static MailboxConfig controlAware() {
+        return ControlAwareMailbox.INSTANCE;
+    }
+
     // Package-private constructor to prevent external subclassing
     MailboxConfig() {}
 
+    /**
+     * Called by {@link ActorSpawner} right before an actor with this mailbox is spawned in the given
+     * actor system at the given path, which is the actor path without address.
+     */
+    void beforeSpawn(ActorSystem<?> system, String actorPath) {}
+
+    /** Called by {@link ActorSpawner} after the spawn at the given path returned or failed. */
+    void afterSpawn(ActorSystem<?> system, String actorPath) {}
+
+    /** Whether the mailbox relies on {@link #beforeSpawn}, so the actor must be spawned locally. */
+    boolean requiresLocalSpawn() {
+        return false;
+    }
+
     /**
      * Converts this mailbox configuration to a Pekko MailboxSelector.
      * Used when dispatcher doesn't require Props.
@@ -152,7 +317,7 @@ public abstract class MailboxConfig {
     }
 
     /**
-     * Bounded mailbox configuration - blocks sender when capacity is reached.
+     * Bounded mailbox configuration - drops messages to dead letters when capacity is reached.
      * Uses Pekko's built-in BoundedMailbox.
      */
     private static final class BoundedMailbox extends MailboxConfig {
@@ -180,7 +345,7 @@ public abstract class MailboxConfig {
 
         @Override
         public String describe() {
-            return "Bounded mailbox (capacity: " + capacity + ", blocks on overflow)";
+            return "Bounded mailbox (capacity: " + capacity + ", drops on overflow)";
         }
 
         @Override
@@ -202,6 +367,231 @@ public abstract class MailboxConfig {
         }
     }
 
+    /**
+     * Base of the mailboxes whose settings differ per actor. The mailbox type is registered for each
+     * actor that is spawned with it and served by the provisioned per-actor mailbox.
+     */
+    private abstract static class PerActorMailbox extends MailboxConfig {
+
+        /** Creates the mailbox type that creates the message queue of one actor */
+        abstract MailboxType mailboxType();
+
+        @Override
+        public MailboxSelector toMailboxSelector() {
+            return MailboxSelector.fromConfig(ProvisionedMailboxes.PER_ACTOR_MAILBOX_ID);
+        }
+
+        @Override
+        public Props applyToProps(Props props) {
+            return props.withMailboxFromConfig(ProvisionedMailboxes.PER_ACTOR_MAILBOX_ID);
+        }
+
+        @Override
+        void beforeSpawn(ActorSystem<?> system, String actorPath) {
+            ProvisionedMailboxes.register(system, actorPath, mailboxType());
+        }
+
+        @Override
+        void afterSpawn(ActorSystem<?> system, String actorPath) {
+            ProvisionedMailboxes.unregister(system, actorPath);
+        }
+
+        @Override
+        boolean requiresLocalSpawn() {
+            return true;
+        }
+    }
+
+    /**
+     * Priority mailbox configuration - uses Pekko's UnboundedPriorityMailbox or
+     * UnboundedStablePriorityMailbox with the comparator of this configuration.
+     */
+    private static final class PriorityMailbox<T> extends PerActorMailbox {
+        private final Class<T> type;
+        private final Comparator<? super T> comparator;
+        private final boolean stable;
+
+        PriorityMailbox(Class<T> type, Comparator<? super T> comparator, boolean stable) {
+            if (type == null) {
+                throw new IllegalArgumentException("type must not be null");
+            }
+            if (comparator == null) {
+                throw new IllegalArgumentException("comparator must not be null");
+            }
+            this.type = type;
+            this.comparator = comparator;
+            this.stable = stable;
+        }
+
+        @Override
+        MailboxType mailboxType() {
+            Comparator<Envelope> cmp = ProvisionedMailboxes.envelopeComparator(type, comparator);
+            return stable ? new UnboundedStablePriorityMailbox(cmp) : new UnboundedPriorityMailbox(cmp);
+        }
+
+        @Override
+        public String describe() {
+            return (stable ? "Stable priority" : "Priority") + " mailbox (" + type.getSimpleName()
+                    + ", control messages first)";
+        }
+
+        @Override
+        public String toString() {
+            return "MailboxConfig." + (stable ? "stablePriority" : "priority") + "(" + type.getName() + ")";
+        }
+    }
+
+    /**
+     * Array-based bounded mailbox configuration - uses {@link MpscArrayMessageQueue}.
+     */
+    private static final class MpscArrayMailbox extends PerActorMailbox {
+        private final int capacity;
+        private final OverflowStrategy overflowStrategy;
+
+        MpscArrayMailbox(int capacity, OverflowStrategy overflowStrategy) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Mailbox capacity must be positive, got: " + capacity);
+            }
+            if (overflowStrategy == null) {
+                throw new IllegalArgumentException("overflowStrategy must not be null");
+            }
+            this.capacity = capacity;
+            this.overflowStrategy = overflowStrategy;
+        }
+
+        @Override
+        MailboxType mailboxType() {
+            return (owner, system) -> {
+                if (system.isEmpty()) {
+                    throw new IllegalStateException("Array mailboxes require an actor system");
+                }
+                return new MpscArrayMessageQueue(capacity, overflowStrategy, system.get().deadLetters());
+            };
+        }
+
+        @Override
+        public String describe() {
+            return "Array mailbox (capacity: " + capacity + ", " + overflowStrategy + ")";
+        }
+
+        @Override
+        public String toString() {
+            return "MailboxConfig.mpscArray(" + capacity + ", " + overflowStrategy + ")";
+        }
+    }
+
+    /**
+     * Deduplicating mailbox configuration - uses {@link DeduplicatingMessageQueue}.
+     */
+    private static final class DeduplicatingMailbox<T> extends PerActorMailbox {
+        private final Class<T> type;
+        private final Function<? super T, ?> keyFn;
+        private final int windowSize;
+
+        DeduplicatingMailbox(Class<T> type, Function<? super T, ?> keyFn, int windowSize) {
+            if (type == null) {
+                throw new IllegalArgumentException("type must not be null");
+            }
+            if (keyFn == null) {
+                throw new IllegalArgumentException("keyFn must not be null");
+            }
+            if (windowSize < 0) {
+                throw new IllegalArgumentException("windowSize must not be negative, got: " + windowSize);
+            }
+            this.type = type;
+            this.keyFn = keyFn;
+            this.windowSize = windowSize;
+        }
+
+        @Override
+        MailboxType mailboxType() {
+            return (owner, system) -> new DeduplicatingMessageQueue<>(type, keyFn, windowSize);
+        }
+
+        @Override
+        public String describe() {
+            return "Deduplicating mailbox (" + type.getSimpleName() + ", window: " + windowSize + ")";
+        }
+
+        @Override
+        public String toString() {
+            return "MailboxConfig.deduplicating(" + type.getName() + ", " + windowSize + ")";
+        }
+    }
+
+    /**
+     * Spilling mailbox configuration - uses {@link SpillingMessageQueue}.
+     */
+    private static final class SpillingMailbox extends PerActorMailbox {
+        private final int memoryCapacity;
+        private final Path directory;
+
+        SpillingMailbox(int memoryCapacity, Path directory) {
+            if (memoryCapacity <= 0) {
+                throw new IllegalArgumentException("memoryCapacity must be positive, got: " + memoryCapacity);
+            }
+            if (directory == null) {
+                throw new IllegalArgumentException("directory must not be null");
+            }
+            this.memoryCapacity = memoryCapacity;
+            this.directory = directory;
+        }
+
+        @Override
+        MailboxType mailboxType() {
+            return (owner, system) -> {
+                if (system.isEmpty()) {
+                    throw new IllegalStateException("Spilling mailboxes require an actor system");
+                }
+                return new SpillingMessageQueue(
+                        memoryCapacity,
+                        directory,
+                        SpillingMessageQueue.DEFAULT_SEGMENT_SIZE,
+                        SerializationExtension.get(system.get()));
+            };
+        }
+
+        @Override
+        public String describe() {
+            return "Spilling mailbox (memory capacity: " + memoryCapacity + ", directory: " + directory + ")";
+        }
+
+        @Override
+        public String toString() {
+            return "MailboxConfig.spillToDisk(" + memoryCapacity + ", " + directory + ")";
+        }
+    }
+
+    /**
+     * Control-aware mailbox configuration - provisioned by the framework.
+     * Uses Pekko's UnboundedControlAwareMailbox.
+     */
+    private static final class ControlAwareMailbox extends MailboxConfig {
+        static final ControlAwareMailbox INSTANCE = new ControlAwareMailbox();
+
+        private ControlAwareMailbox() {}
+
+        @Override
+        public MailboxSelector toMailboxSelector() {
+            return MailboxSelector.fromConfig(ProvisionedMailboxes.CONTROL_AWARE_MAILBOX_ID);
+        }
+
+        @Override
+        public Props applyToProps(Props props) {
+            return props.withMailboxFromConfig(ProvisionedMailboxes.CONTROL_AWARE_MAILBOX_ID);
+        }
+
+        @Override
+        public String describe() {
+            return "Control-aware mailbox (UnboundedControlAwareMailbox)";
+        }
+
+        @Override
+        public String toString() {
+            return "MailboxConfig.controlAware()";
+        }
+    }
+
     /**
      * Custom mailbox configuration - uses a mailbox defined in application configuration.
      * The mailbox is automatically registered by Pekko from spring.actor.* configuration.
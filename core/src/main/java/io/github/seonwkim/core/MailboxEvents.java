@@ -0,0 +1,46 @@
+package io.github.seonwkim.core;
+
+import org.apache.pekko.actor.typed.ActorRef;
+
+/**
+ * Hook points for messages refused by {@link SpringActorHandle#offer(Object)} or dropped by a
+ * framework mailbox. The methods do nothing by themselves; the metrics module instruments them to
+ * count overflows ({@code actor.mailbox.overflow}) and duplicates ({@code actor.mailbox.deduplicated})
+ * per actor, and to keep the mailbox size in step with messages that offer enqueued directly.
+ */
+public final class MailboxEvents {
+
+    private MailboxEvents() {}
+
+    /**
+     * Called when an offered message is not sent.
+     *
+     * @param target The actor the message was offered to
+     * @param result Why the message was not sent ({@link OfferResult#FULL} or {@link OfferResult#DROPPED})
+     */
+    public static void offerRejected(ActorRef<?> target, OfferResult result) {}
+
+    /**
+     * Called when {@link SpringActorHandle#offer(Object)} added a message to a bounded mailbox
+     * directly instead of sending it with a tell.
+     *
+     * @param target The actor the message was offered to
+     */
+    public static void offerEnqueued(ActorRef<?> target) {}
+
+    /**
+     * Called when a mailbox created with {@link MailboxConfig#mpscArray} is full and its overflow
+     * strategy drops or rejects a message.
+     *
+     * @param target The actor whose mailbox overflowed
+     * @param deadLettered Whether the dropped message was sent to dead letters
+     */
+    public static void overflowed(ActorRef<?> target, boolean deadLettered) {}
+
+    /**
+     * Called when a mailbox created with {@link MailboxConfig#deduplicating} drops a duplicate.
+     *
+     * @param target The actor whose mailbox dropped the message
+     */
+    public static void duplicateDropped(ActorRef<?> target) {}
+}
@@ -0,0 +1,74 @@
+package io.github.seonwkim.core;
+
+import java.util.concurrent.BlockingQueue;
+import org.apache.pekko.actor.ActorCell;
+import org.apache.pekko.actor.ActorRefWithCell;
+import org.apache.pekko.actor.Cell;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.AbstractBoundedNodeQueue;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.Mailbox;
+import org.apache.pekko.dispatch.MessageQueue;
+
+/**
+ * Sends messages to a local actor only if its mailbox has room. Pekko does not expose this through
+ * its public API, so the probe looks at the actor cell behind the reference. Bounded mailboxes
+ * created with {@link MailboxConfig#bounded(int)} (a non-blocking bounded node queue), array
+ * mailboxes created with {@link MailboxConfig#mpscArray(int, OverflowStrategy)} and classic
+ * {@code BoundedMailbox}es configured with {@link MailboxConfig#fromConfig(String)} are supported;
+ * every other mailbox is treated as unbounded.
+ */
+final class MailboxProbe {
+
+    private MailboxProbe() {}
+
+    /**
+     * Sends the message unless the actor's bounded mailbox is full. The message is added with the
+     * queue's own non-blocking insert, so checking the capacity and enqueuing are a single step even
+     * under concurrent senders, and the mailbox is then scheduled the way a tell schedules it.
+     * Messages to unbounded, remote or not yet started actors are sent with a tell.
+     *
+     * @param target The actor to send the message to
+     * @param message The message to send
+     * @param <T> The type of messages the actor handles
+     * @return Whether the message was sent
+     */
+    @SuppressWarnings("unchecked")
+    static <T> OfferResult offer(ActorRef<T> target, T message) {
+        org.apache.pekko.actor.ActorRef classic = Adapter.toClassic(target);
+        if (!(classic instanceof ActorRefWithCell)) {
+            target.tell(message);
+            return OfferResult.ACCEPTED;
+        }
+        Cell cell = ((ActorRefWithCell) classic).underlying();
+        if (cell.isTerminated()) {
+            return OfferResult.DROPPED;
+        }
+        if (!(cell instanceof ActorCell)) {
+            target.tell(message);
+            return OfferResult.ACCEPTED;
+        }
+        ActorCell actorCell = (ActorCell) cell;
+        Mailbox mailbox = actorCell.mailbox();
+        MessageQueue queue = mailbox.messageQueue();
+        Envelope envelope = Envelope.apply(message, org.apache.pekko.actor.ActorRef.noSender(), actorCell.system());
+        boolean added;
+        if (queue instanceof MpscArrayMessageQueue) {
+            added = ((MpscArrayMessageQueue) queue).offer(envelope);
+        } else if (queue instanceof AbstractBoundedNodeQueue) {
+            added = ((AbstractBoundedNodeQueue<Envelope>) queue).add(envelope);
+        } else if (queue instanceof BlockingQueue) {
+            added = ((BlockingQueue<Envelope>) queue).offer(envelope);
+        } else {
+            target.tell(message);
+            return OfferResult.ACCEPTED;
+        }
+        if (!added) {
+            return OfferResult.FULL;
+        }
+        actorCell.dispatcher().registerForExecution(mailbox, true, false);
+        MailboxEvents.offerEnqueued(target);
+        return OfferResult.ACCEPTED;
+    }
+}
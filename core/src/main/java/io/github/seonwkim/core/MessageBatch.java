@@ -0,0 +1,160 @@
+package io.github.seonwkim.core;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.github.seonwkim.core.serialization.JsonSerializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.apache.pekko.actor.UnhandledMessage;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.TypedActorContext;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.serialization.jackson.PekkoSerializationDeserializer;
+import org.apache.pekko.serialization.jackson.PekkoSerializationSerializer;
+
+/**
+ * An envelope carrying a burst of messages to one actor, sent by {@code tellAll(...)} on
+ * {@link SpringActorHandle} and {@link io.github.seonwkim.core.shard.SpringShardedActorHandle}.
+ * The burst takes a single mailbox slot (and, for sharded entities, a single network message), and
+ * the behaviors built with {@link SpringActorBehavior} or
+ * {@link io.github.seonwkim.core.shard.SpringShardedActorBehavior} unpack it within one turn of the
+ * actor, so handlers still see the individual messages in order.
+ *
+ * <p>Each message is serialized on its own with the serializer the actor system binds to its class
+ * (serializer id, manifest and bytes). A batch can therefore only carry messages that could also be
+ * sent on their own, and the receiver only instantiates classes its serialization bindings allow.
+ *
+ * <p>Actors never create this message themselves.
+ */
+public final class MessageBatch implements JsonSerializable {
+
+    /** The messages of the burst, in sending order */
+    @JsonSerialize(contentUsing = PekkoSerializationSerializer.class)
+    @JsonDeserialize(contentUsing = PekkoSerializationDeserializer.class)
+    public final List<Object> messages;
+
+    /**
+     * Creates a new MessageBatch. Use {@link #of(Collection)} to create a batch from user input.
+     *
+     * @param messages The messages of the burst
+     */
+    @JsonCreator
+    public MessageBatch(@JsonProperty("messages") List<Object> messages) {
+        this.messages = messages;
+    }
+
+    /**
+     * Creates a batch holding a copy of the given messages.
+     *
+     * @param messages The messages to send, in order
+     * @return A new batch
+     * @throws IllegalArgumentException If the collection is null or contains null
+     */
+    public static MessageBatch of(Collection<?> messages) {
+        if (messages == null) {
+            throw new IllegalArgumentException("messages must not be null");
+        }
+        List<Object> copy = new ArrayList<>(messages.size());
+        for (Object message : messages) {
+            if (message == null) {
+                throw new IllegalArgumentException("messages must not contain null");
+            }
+            copy.add(message);
+        }
+        return new MessageBatch(Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * Delivers the messages of this batch one by one to the given dispatch function. This method
+     * is called by the framework behaviors and should not be called by user code.
+     *
+     * <p>Messages the dispatch function does not handle are published as unhandled messages, as
+     * if they had been sent on their own. If a handler returns anything other than
+     * {@link Behaviors#same()}, the remaining messages are interpreted against the new behavior
+     * within the same turn, the way unstashing works, so they are still handled before any message
+     * that arrived after the batch. If the actor stops, the remaining messages become dead letters.
+     *
+     * @param ctx The context of the receiving actor
+     * @param dispatch Handles one message and returns the next behavior, or
+     *     {@link Behaviors#unhandled()} if no handler matches
+     * @param <C> The command type of the receiving actor
+     * @return The behavior for the next message
+     */
+    public <C> Behavior<C> deliver(ActorContext<C> ctx, Function<Object, Behavior<C>> dispatch) {
+        return deliver(ctx, dispatch, UnaryOperator.identity());
+    }
+
+    /**
+     * Delivers the messages like {@link #deliver(ActorContext, Function)}, for a dispatch function
+     * that runs inside an interceptor.
+     *
+     * @param wrap Turns a behavior returned by {@code dispatch} into the behavior at the level of
+     *     {@code dispatch}, by wrapping it in the interceptor again
+     */
+    <C> Behavior<C> deliver(
+            ActorContext<C> ctx, Function<Object, Behavior<C>> dispatch, UnaryOperator<Behavior<C>> wrap) {
+        int size = messages.size();
+        for (int i = 0; i < size; i++) {
+            Object message = messages.get(i);
+            Behavior<C> next = dispatch.apply(message);
+            if (next == Behaviors.<C>unhandled()) {
+                publishUnhandled(ctx, message);
+            } else if (next != Behaviors.<C>same()) {
+                return interpret(ctx, wrap.apply(next), messages.subList(i + 1, size));
+            }
+        }
+        return Behaviors.same();
+    }
+
+    /**
+     * Interprets the messages against the behavior within the current turn of the actor and returns
+     * the resulting behavior. Once the behavior stops, the remaining messages are sent back to the
+     * actor, which turns them into dead letters.
+     *
+     * @param ctx The context of the receiving actor
+     * @param behavior The behavior that receives the first message
+     * @param messages The messages to interpret, in order
+     * @param <C> The command type of the receiving actor
+     * @return The behavior for the next message
+     */
+    @SuppressWarnings("unchecked")
+    static <C> Behavior<C> interpret(ActorContext<C> ctx, Behavior<C> behavior, List<?> messages) {
+        TypedActorContext<C> typedCtx = (TypedActorContext<C>) ctx;
+        Behavior<C> current = Behavior.start(behavior, typedCtx);
+        int size = messages.size();
+        for (int i = 0; i < size; i++) {
+            if (!Behavior.isAlive(current)) {
+                ActorRef<Object> self = ctx.getSelf().unsafeUpcast();
+                for (int j = i; j < size; j++) {
+                    self.tell(messages.get(j));
+                }
+                break;
+            }
+            Object message = messages.get(i);
+            Behavior<C> next = Behavior.interpretMessage(current, typedCtx, (C) message);
+            if (Behavior.isUnhandled(next)) {
+                publishUnhandled(ctx, message);
+            }
+            current = Behavior.canonicalize(next, current, typedCtx);
+        }
+        return current;
+    }
+
+    private static void publishUnhandled(ActorContext<?> ctx, Object message) {
+        Adapter.toClassic(ctx.getSystem())
+                .eventStream()
+                .publish(new UnhandledMessage(
+                        message,
+                        Adapter.toClassic(ctx.getSystem().deadLetters()),
+                        Adapter.toClassic(ctx.getSelf())));
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.seonwkim.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.apache.pekko.actor.Cancellable;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.BehaviorInterceptor;
+import org.apache.pekko.actor.typed.PostStop;
+import org.apache.pekko.actor.typed.Signal;
+import org.apache.pekko.actor.typed.TypedActorContext;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Collects the messages of the types registered with
+ * {@link SpringActorBehavior.Builder#onMessageBatch} and passes them to their handler in groups.
+ * One batcher is created per actor and intercepts every message before the actor's other handlers:
+ *
+ * <ul>
+ *   <li>A message of a batched type is appended to the buffer of its type. The buffer is flushed
+ *       when it reaches {@code maxSize}, or {@code maxDelay} after its first message arrived.
+ *   <li>A message of another batched type first flushes the buffer that holds messages, so batches
+ *       of different types are handled in the order their messages arrived. Only consecutive
+ *       messages of one type are grouped.
+ *   <li>Any other message first flushes all buffers, so the handlers observe messages in the order
+ *       they arrived, and is then passed on to the actor's behavior.
+ *   <li>Bursts sent with {@code tellAll(...)} are unpacked, so their messages are batched as well.
+ *   <li>Buffered messages are flushed before the actor stops.
+ * </ul>
+ *
+ * <p>A batch handler that returns something other than {@link Behaviors#same()} is treated like a
+ * handler inside a {@link MessageBatch}: if a message of another type triggered the flush, the new
+ * behavior receives that message within the same turn, and batches it again if it still
+ * registers a batch handler for the type.
+ *
+ * @param <C> The command type of the actor
+ * @param <S> The state type passed to the handlers
+ */
+final class MessageBatcher<C, S> extends BehaviorInterceptor<Object, Object> {
+
+    /**
+     * A batch handler registered on the builder, shared by all instances of the actor.
+     *
+     * @param <C> The command type of the actor
+     * @param <S> The state type passed to the handler
+     * @param <M> The batched message type
+     */
+    static final class Spec<C, S, M> {
+        final Class<M> type;
+        final int maxSize;
+        final Duration maxDelay;
+        final BiFunction<S, List<M>, Behavior<C>> handler;
+
+        Spec(Class<M> type, int maxSize, Duration maxDelay, BiFunction<S, List<M>, Behavior<C>> handler) {
+            this.type = type;
+            this.maxSize = maxSize;
+            this.maxDelay = maxDelay;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        Behavior<C> handle(S state, List<Object> batch) {
+            return handler.apply(state, (List<M>) (List<?>) batch);
+        }
+    }
+
+    /** Scheduled to flush the buffer at {@code index}; ignored if the buffer was flushed since */
+    private static final class Flush {
+        final int index;
+        final long generation;
+
+        Flush(int index, long generation) {
+            this.index = index;
+            this.generation = generation;
+        }
+    }
+
+    private final ActorContext<C> ctx;
+    private final S state;
+    private final List<Spec<C, S, ?>> specs;
+    private final MessageDispatchTable dispatchTable;
+    private final List<List<Object>> buffers;
+    private final long[] generations;
+    /** The pending flush timers; an element is null while its buffer is empty or has no delay */
+    private final Cancellable[] timers;
+
+    MessageBatcher(ActorContext<C> ctx, S state, Class<C> commandClass, List<Spec<C, S, ?>> specs) {
+        super(Object.class);
+        this.ctx = ctx;
+        this.state = state;
+        this.specs = specs;
+        List<Class<?>> types = new ArrayList<>(specs.size());
+        this.buffers = new ArrayList<>(specs.size());
+        for (Spec<C, S, ?> spec : specs) {
+            types.add(spec.type);
+            buffers.add(new ArrayList<>());
+        }
+        this.dispatchTable = MessageDispatchTable.forHandlerTypes(commandClass, types);
+        this.generations = new long[specs.size()];
+        this.timers = new Cancellable[specs.size()];
+    }
+
+    /** Wraps the actor's behavior so that this batcher sees every message first. */
+    Behavior<C> wrap(Behavior<C> behavior) {
+        @SuppressWarnings("unchecked")
+        Behavior<Object> inner = (Behavior<Object>) (Behavior<?>) behavior;
+        return Behaviors.intercept(() -> this, inner).narrow();
+    }
+
+    /** Wraps a behavior returned by the intercepted behavior in this interceptor again. */
+    private Behavior<Object> rewrap(Behavior<Object> inner) {
+        return Behaviors.intercept(() -> this, inner);
+    }
+
+    @Override
+    public Behavior<Object> aroundReceive(
+            TypedActorContext<Object> context, Object msg, ReceiveTarget<Object> target) {
+        if (msg instanceof Flush) {
+            Flush flush = (Flush) msg;
+            if (flush.generation != generations[flush.index]) {
+                return Behaviors.same();
+            }
+            return flush(flush.index);
+        }
+        if (msg instanceof MessageBatch) {
+            return ((MessageBatch) msg).deliver(context.asJava(), m -> aroundReceive(context, m, target), this::rewrap);
+        }
+
+        int index = dispatchTable.indexOf(msg.getClass());
+        if (index == MessageDispatchTable.NO_HANDLER) {
+            Behavior<Object> next = flushAll();
+            if (next != Behaviors.same()) {
+                return MessageBatch.interpret(context.asJava(), rewrap(next), Collections.singletonList(msg));
+            }
+            return target.apply(context, msg);
+        }
+
+        Behavior<Object> next = flushOthers(index);
+        if (next != Behaviors.same()) {
+            return MessageBatch.interpret(context.asJava(), rewrap(next), Collections.singletonList(msg));
+        }
+        List<Object> buffer = buffers.get(index);
+        buffer.add(msg);
+        Spec<C, S, ?> spec = specs.get(index);
+        if (buffer.size() >= spec.maxSize) {
+            return flush(index);
+        }
+        if (buffer.size() == 1) {
+            Flush flush = new Flush(index, generations[index]);
+            if (spec.maxDelay.isZero()) {
+                // Runs after the messages that are already in the mailbox
+                self().tell(flush);
+            } else {
+                timers[index] = ctx.scheduleOnce(spec.maxDelay, self(), flush);
+            }
+        }
+        return Behaviors.same();
+    }
+
+    @Override
+    public Behavior<Object> aroundSignal(
+            TypedActorContext<Object> context, Signal signal, SignalTarget<Object> target) {
+        if (signal instanceof PostStop) {
+            flushAll();
+        }
+        return target.apply(context, signal);
+    }
+
+    /** Flushes the buffers until a handler changes the behavior. */
+    private Behavior<Object> flushAll() {
+        return flushOthers(-1);
+    }
+
+    /**
+     * Flushes the buffers other than the one at {@code index}. Since every message of another type
+     * flushes them, at most one buffer holds messages at a time, and the order of the flushes
+     * doesn't matter.
+     */
+    private Behavior<Object> flushOthers(int index) {
+        for (int i = 0; i < buffers.size(); i++) {
+            if (i == index) {
+                continue;
+            }
+            Behavior<Object> next = flush(i);
+            if (next != Behaviors.same()) {
+                return next;
+            }
+        }
+        return Behaviors.same();
+    }
+
+    private Behavior<Object> flush(int index) {
+        List<Object> batch = buffers.get(index);
+        if (batch.isEmpty()) {
+            return Behaviors.same();
+        }
+        buffers.set(index, new ArrayList<>());
+        generations[index]++;
+        Cancellable timer = timers[index];
+        if (timer != null) {
+            timer.cancel();
+            timers[index] = null;
+        }
+        @SuppressWarnings("unchecked")
+        Behavior<Object> next = (Behavior<Object>) (Behavior<?>) specs.get(index).handle(state, batch);
+        // The batch was handled, there is no single message to report as unhandled
+        return next == Behaviors.unhandled() ? Behaviors.same() : next;
+    }
+
+    private ActorRef<Object> self() {
+        return ctx.getSelf().unsafeUpcast();
+    }
+}
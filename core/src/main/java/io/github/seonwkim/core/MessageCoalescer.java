@@ -0,0 +1,158 @@
+package io.github.seonwkim.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.BehaviorInterceptor;
+import org.apache.pekko.actor.typed.TypedActorContext;
+import org.apache.pekko.actor.typed.javadsl.ActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Drops superseded messages of the types registered with {@link SpringActorBehavior.Builder#coalesce}.
+ * One coalescer is created per actor and intercepts every message before the actor's handlers:
+ *
+ * <ul>
+ *   <li>A message of a coalesced type is held back, replacing any held message with the same key,
+ *       and the coalescer sends itself a marker. When the marker arrives, every message that was
+ *       queued before it has been seen, and the newest message per key is delivered, in the order
+ *       those messages arrived.
+ *   <li>Any other message first delivers the held messages, so other message types are never
+ *       reordered around coalesced ones, and is then passed on to the actor's behavior.
+ *   <li>Bursts sent with {@code tellAll(...)} are unpacked, so their messages are coalesced as well.
+ * </ul>
+ *
+ * <p>Actors cannot look into their mailbox, so the self-sent marker is what bounds a coalescing
+ * window: it costs one extra message per window, no matter how many messages the window absorbs.
+ *
+ * @param <C> The command type of the actor
+ */
+final class MessageCoalescer<C> extends BehaviorInterceptor<Object, Object> {
+
+    /**
+     * A coalesced message type registered on the builder, shared by all instances of the actor.
+     *
+     * @param <M> The coalesced message type
+     */
+    static final class Spec<M> {
+        final Class<M> type;
+        final Function<? super M, ?> keyFn;
+
+        Spec(Class<M> type, Function<? super M, ?> keyFn) {
+            this.type = type;
+            this.keyFn = keyFn;
+        }
+
+        Object key(Object msg) {
+            return keyFn.apply(type.cast(msg));
+        }
+    }
+
+    /** Sent to self to end the current coalescing window */
+    private enum Flush {
+        INSTANCE
+    }
+
+    /** Keys of different coalesced types never replace each other */
+    private static final class Key {
+        final int index;
+        final Object key;
+
+        Key(int index, Object key) {
+            this.index = index;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return index == other.index && Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * index + Objects.hashCode(key);
+        }
+    }
+
+    private final ActorContext<C> ctx;
+    private final List<Spec<?>> specs;
+    private final MessageDispatchTable dispatchTable;
+    private final Map<Key, Object> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    MessageCoalescer(ActorContext<C> ctx, Class<C> commandClass, List<Spec<?>> specs) {
+        super(Object.class);
+        this.ctx = ctx;
+        this.specs = specs;
+        List<Class<?>> types = new ArrayList<>(specs.size());
+        for (Spec<?> spec : specs) {
+            types.add(spec.type);
+        }
+        this.dispatchTable = MessageDispatchTable.forHandlerTypes(commandClass, types);
+    }
+
+    /** Wraps the actor's behavior so that this coalescer sees every message first. */
+    Behavior<C> wrap(Behavior<C> behavior) {
+        @SuppressWarnings("unchecked")
+        Behavior<Object> inner = (Behavior<Object>) (Behavior<?>) behavior;
+        return Behaviors.intercept(() -> this, inner).narrow();
+    }
+
+    /** Wraps a behavior returned by the intercepted behavior in this interceptor again. */
+    private Behavior<Object> rewrap(Behavior<Object> inner) {
+        return Behaviors.intercept(() -> this, inner);
+    }
+
+    @Override
+    public Behavior<Object> aroundReceive(
+            TypedActorContext<Object> context, Object msg, ReceiveTarget<Object> target) {
+        if (msg == Flush.INSTANCE) {
+            flushScheduled = false;
+            return deliverPending(context, target);
+        }
+        if (msg instanceof MessageBatch) {
+            return ((MessageBatch) msg).deliver(context.asJava(), m -> aroundReceive(context, m, target), this::rewrap);
+        }
+
+        int index = dispatchTable.indexOf(msg.getClass());
+        if (index == MessageDispatchTable.NO_HANDLER) {
+            Behavior<Object> next = deliverPending(context, target);
+            if (next != Behaviors.same()) {
+                return MessageBatch.interpret(context.asJava(), next, Collections.singletonList(msg));
+            }
+            return target.apply(context, msg);
+        }
+
+        Key key = new Key(index, specs.get(index).key(msg));
+        // Remove first, so the newest message takes the position of its arrival
+        pending.remove(key);
+        pending.put(key, msg);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            ctx.getSelf().<Object>unsafeUpcast().tell(Flush.INSTANCE);
+        }
+        return Behaviors.same();
+    }
+
+    /** Passes the held messages to the actor's behavior, with the semantics of a {@link MessageBatch}. */
+    private Behavior<Object> deliverPending(TypedActorContext<Object> context, ReceiveTarget<Object> target) {
+        if (pending.isEmpty()) {
+            return Behaviors.same();
+        }
+        List<Object> messages = new ArrayList<>(pending.values());
+        pending.clear();
+        return new MessageBatch(messages).deliver(context.asJava(), m -> target.apply(context, m), this::rewrap);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.seonwkim.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps concrete message classes to the index of the first handler type that accepts them. Lookups
+ * honour subtype matching like a linear {@code isInstance} scan over the handler types, but each
+ * message class is resolved only once and then served from a {@link ClassValue}, so dispatch costs
+ * the same no matter how many handlers an actor registers.
+ *
+ * <p>A table depends only on the ordered handler types, not on the handler functions, so every
+ * instance of an actor type shares one table. Tables are cached per command class and released
+ * together with it.
+ */
+final class MessageDispatchTable {
+
+    /** Index returned for message classes that no handler type accepts */
+    static final int NO_HANDLER = -1;
+
+    private static final ClassValue<Map<List<Class<?>>, MessageDispatchTable>> TABLES =
+            new ClassValue<Map<List<Class<?>>, MessageDispatchTable>>() {
+                @Override
+                protected Map<List<Class<?>>, MessageDispatchTable> computeValue(Class<?> commandClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final Class<?>[] handlerTypes;
+
+    private final ClassValue<Integer> indexes = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> messageClass) {
+            for (int i = 0; i < handlerTypes.length; i++) {
+                if (handlerTypes[i].isAssignableFrom(messageClass)) {
+                    return i;
+                }
+            }
+            return NO_HANDLER;
+        }
+    };
+
+    private MessageDispatchTable(List<Class<?>> handlerTypes) {
+        this.handlerTypes = handlerTypes.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * Returns the shared table for the given handler types, creating it on first use.
+     *
+     * @param commandClass The command class of the actor, which owns the cached table
+     * @param handlerTypes The message types of the handlers, in registration order
+     * @return The dispatch table
+     */
+    static MessageDispatchTable forHandlerTypes(Class<?> commandClass, List<Class<?>> handlerTypes) {
+        return TABLES.get(commandClass)
+                .computeIfAbsent(new ArrayList<>(handlerTypes), MessageDispatchTable::new);
+    }
+
+    /**
+     * Returns the index of the first handler type that accepts messages of the given class.
+     *
+     * @param messageClass The concrete class of a message
+     * @return The handler index, or {@link #NO_HANDLER}
+     */
+    int indexOf(Class<?> messageClass) {
+        return indexes.get(messageClass);
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.seonwkim.core;
+
+import io.github.seonwkim.core.exception.MailboxOverflowException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.DeadLetter;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+
+/**
+ * Lock-free bounded message queue on a preallocated ring buffer, created by
+ * {@link MailboxConfig#mpscArray(int, OverflowStrategy)}. Enqueuing allocates nothing, unlike the
+ * linked queues behind the default and {@link MailboxConfig#bounded(int) bounded} mailboxes, which
+ * allocate a node per message.
+ *
+ * <p>Every slot carries a sequence number that tells producers and the consumer whether it is free
+ * or filled, so a producer claims a slot with a single compare-and-set on the producer index. The
+ * consumer index is advanced with a compare-and-set as well, because the drop-oldest strategy lets
+ * producers remove the head. Both indices are padded so that producers and the consumer don't
+ * invalidate each other's cache lines.
+ */
+public final class MpscArrayMessageQueue implements MessageQueue {
+
+    /** An index on its own cache line */
+    @SuppressWarnings("unused")
+    private static final class PaddedIndex extends AtomicLong {
+        long p1, p2, p3, p4, p5, p6, p7;
+        long p8, p9, p10, p11, p12, p13, p14, p15;
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Envelope> buffer;
+    private final AtomicLongArray sequences;
+    private final PaddedIndex producerIndex = new PaddedIndex();
+    private final PaddedIndex consumerIndex = new PaddedIndex();
+    private final OverflowStrategy overflowStrategy;
+    private final ActorRef deadLetters;
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param capacity The maximum number of queued messages
+     * @param overflowStrategy What to do with a message that arrives while the queue is full
+     * @param deadLetters Receives dropped messages
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public MpscArrayMessageQueue(int capacity, OverflowStrategy overflowStrategy, ActorRef deadLetters) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, got: " + capacity);
+        }
+        int slots = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.capacity = capacity;
+        this.mask = slots - 1;
+        this.buffer = new AtomicReferenceArray<>(slots);
+        this.sequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++) {
+            sequences.set(i, i);
+        }
+        this.overflowStrategy = Objects.requireNonNull(overflowStrategy, "overflowStrategy");
+        this.deadLetters = deadLetters;
+    }
+
+    /** The maximum number of queued messages */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void enqueue(ActorRef receiver, Envelope handle) {
+        while (!offer(handle)) {
+            switch (overflowStrategy.kind) {
+                case DROP_NEWEST:
+                    deadLetter(receiver, handle);
+                    return;
+                case DROP_OLDEST:
+                    Envelope oldest = poll();
+                    if (oldest != null) {
+                        deadLetter(receiver, oldest);
+                    }
+                    // Retry, another producer may have taken the freed slot
+                    break;
+                case REJECT:
+                    MailboxEvents.overflowed(Adapter.toTyped(receiver), false);
+                    Objects.requireNonNull(overflowStrategy.onReject).accept(handle.message());
+                    return;
+                default:
+                    MailboxEvents.overflowed(Adapter.toTyped(receiver), false);
+                    throw new MailboxOverflowException(receiver.path().toString(), capacity);
+            }
+        }
+    }
+
+    @Override
+    @Nullable public Envelope dequeue() {
+        return poll();
+    }
+
+    @Override
+    public int numberOfMessages() {
+        // Read the consumer index first, so the difference is never negative
+        long consumed = consumerIndex.get();
+        long produced = producerIndex.get();
+        return (int) Math.min(capacity, produced - consumed);
+    }
+
+    @Override
+    public boolean hasMessages() {
+        return producerIndex.get() != consumerIndex.get();
+    }
+
+    @Override
+    public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+        Envelope envelope;
+        while ((envelope = poll()) != null) {
+            deadLetters.enqueue(owner, envelope);
+        }
+    }
+
+    /** Adds the envelope unless the queue is full, without applying the overflow strategy */
+    boolean offer(Envelope envelope) {
+        while (true) {
+            long index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+            int slot = (int) index & mask;
+            long diff = sequences.get(slot) - index;
+            if (diff == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    buffer.lazySet(slot, envelope);
+                    // Publishes the envelope to the consumer
+                    sequences.lazySet(slot, index + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // The slot still holds a message from the previous lap
+                return false;
+            }
+            // Another producer claimed the slot, retry with the new index
+        }
+    }
+
+    @Nullable private Envelope poll() {
+        while (true) {
+            long index = consumerIndex.get();
+            int slot = (int) index & mask;
+            long diff = sequences.get(slot) - (index + 1);
+            if (diff == 0) {
+                if (consumerIndex.compareAndSet(index, index + 1)) {
+                    Envelope envelope = buffer.get(slot);
+                    buffer.lazySet(slot, null);
+                    // Frees the slot for the producer of the next lap
+                    sequences.lazySet(slot, index + mask + 1);
+                    return envelope;
+                }
+            } else if (diff < 0) {
+                // Empty, or the producer of this slot has not published its message yet
+                return null;
+            }
+            // A producer dropping the oldest message took the slot, retry
+        }
+    }
+
+    private void deadLetter(ActorRef receiver, Envelope envelope) {
+        MailboxEvents.overflowed(Adapter.toTyped(receiver), true);
+        deadLetters.tell(new DeadLetter(envelope.message(), envelope.sender(), receiver), envelope.sender());
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.seonwkim.core;
+
+/**
+ * The outcome of {@link SpringActorHandle#offer(Object)}.
+ */
+public enum OfferResult {
+    /** The message was sent to the actor. */
+    ACCEPTED,
+    /** The message was not sent because the actor has terminated. */
+    DROPPED,
+    /** The message was not sent because the actor's bounded mailbox is at capacity. */
+    FULL
+}
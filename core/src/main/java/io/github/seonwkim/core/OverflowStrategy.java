@@ -0,0 +1,96 @@
+package io.github.seonwkim.core;
+
+import io.github.seonwkim.core.exception.MailboxOverflowException;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * What a mailbox created with {@link MailboxConfig#mpscArray(int, OverflowStrategy)} does with a
+ * message that arrives while it is full. The strategy runs on the sender's thread.
+ *
+ * <ul>
+ *   <li>{@link #dropNewest()} - the new message becomes a dead letter
+ *   <li>{@link #dropOldest()} - the oldest queued message becomes a dead letter to make room
+ *   <li>{@link #reject(Consumer)} - the new message is passed to a callback instead
+ *   <li>{@link #fail()} - {@code tell} throws a {@link MailboxOverflowException}
+ * </ul>
+ */
+public final class OverflowStrategy {
+
+    enum Kind {
+        DROP_NEWEST,
+        DROP_OLDEST,
+        REJECT,
+        FAIL
+    }
+
+    private static final OverflowStrategy DROP_NEWEST = new OverflowStrategy(Kind.DROP_NEWEST, null);
+    private static final OverflowStrategy DROP_OLDEST = new OverflowStrategy(Kind.DROP_OLDEST, null);
+    private static final OverflowStrategy FAIL = new OverflowStrategy(Kind.FAIL, null);
+
+    final Kind kind;
+
+    @Nullable final Consumer<Object> onReject;
+
+    private OverflowStrategy(Kind kind, @Nullable Consumer<Object> onReject) {
+        this.kind = kind;
+        this.onReject = onReject;
+    }
+
+    /**
+     * Sends the new message to dead letters, like {@link MailboxConfig#bounded(int)}.
+     *
+     * @return The drop-newest strategy
+     */
+    public static OverflowStrategy dropNewest() {
+        return DROP_NEWEST;
+    }
+
+    /**
+     * Sends the oldest queued message to dead letters and enqueues the new one. Useful when only
+     * recent messages matter, such as status updates.
+     *
+     * @return The drop-oldest strategy
+     */
+    public static OverflowStrategy dropOldest() {
+        return DROP_OLDEST;
+    }
+
+    /**
+     * Passes the new message to the callback instead of enqueuing it. The callback runs on the
+     * sender's thread and must not block.
+     *
+     * @param onReject Receives each message that did not fit
+     * @return A reject strategy
+     * @throws IllegalArgumentException if onReject is null
+     */
+    public static OverflowStrategy reject(Consumer<Object> onReject) {
+        if (onReject == null) {
+            throw new IllegalArgumentException("onReject must not be null");
+        }
+        return new OverflowStrategy(Kind.REJECT, onReject);
+    }
+
+    /**
+     * Throws a {@link MailboxOverflowException} from {@code tell}, so the sender finds out right away.
+     *
+     * @return The fail strategy
+     */
+    public static OverflowStrategy fail() {
+        return FAIL;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case DROP_NEWEST:
+                return "OverflowStrategy.dropNewest()";
+            case DROP_OLDEST:
+                return "OverflowStrategy.dropOldest()";
+            case REJECT:
+                return "OverflowStrategy.reject(...)";
+            default:
+                return "OverflowStrategy.fail()";
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.seonwkim.core;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dispatchers that the framework provisions for {@link DispatcherConfig#virtualThreads()}, so they
+ * need no hand-written configuration.
+ */
+public final class ProvisionedDispatchers {
+
+    /** Configuration id of the dispatcher that runs every actor on its own virtual thread */
+    static final String VIRTUAL_THREADS_DISPATCHER_ID = "spring-actor-dispatchers.virtual-threads";
+
+    /** The first JDK release with virtual threads */
+    static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    private ProvisionedDispatchers() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Returns the configuration that defines the provisioned dispatchers. {@code SpringActorSystemBuilder}
+     * adds it as a fallback to the actor system configuration.
+     *
+     * @return The dispatcher definitions
+     */
+    public static Config config() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(VIRTUAL_THREADS_DISPATCHER_ID + ".type", "Dispatcher");
+        config.put(VIRTUAL_THREADS_DISPATCHER_ID + ".executor", "virtual-thread-executor");
+        // Each mailbox run gets its own virtual thread, so actors don't wait for each other and a higher
+        // throughput only saves thread starts. The deadline still hands the thread back after a long run.
+        config.put(VIRTUAL_THREADS_DISPATCHER_ID + ".throughput", 16);
+        config.put(VIRTUAL_THREADS_DISPATCHER_ID + ".throughput-deadline-time", "100ms");
+        return ConfigFactory.parseMap(config);
+    }
+
+    /** Whether the running JVM supports virtual threads */
+    static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_MIN_JAVA_VERSION;
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.seonwkim.core;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.ControlMessage;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MailboxType;
+import org.apache.pekko.dispatch.MessageQueue;
+import scala.Option;
+
+/**
+ * Mailboxes that the framework provisions for {@link MailboxConfig#priority},
+ * {@link MailboxConfig#stablePriority}, {@link MailboxConfig#mpscArray},
+ * {@link MailboxConfig#deduplicating}, {@link MailboxConfig#spillToDisk} and
+ * {@link MailboxConfig#controlAware()}, so they need no hand-written configuration or mailbox class.
+ *
+ * <p>Pekko selects mailboxes by configuration id and creates one mailbox type per id, so per-actor
+ * settings such as a comparator or a capacity cannot be part of the configuration. Instead,
+ * {@link ActorSpawner} registers a mailbox type under the path of the actor it is about to spawn,
+ * and the per-actor mailbox type delegates to it when Pekko creates the actor's message queue, which
+ * happens synchronously within the spawn. The registrations are kept per actor system, so systems
+ * that share a JVM and a name, such as the nodes of a cluster test, don't see each other's.
+ */
+public final class ProvisionedMailboxes {
+
+    /** Configuration id of the mailbox that delegates to the mailbox type registered for the actor */
+    static final String PER_ACTOR_MAILBOX_ID = "spring-actor-mailboxes.per-actor";
+
+    /** Configuration id of the control-aware mailbox */
+    static final String CONTROL_AWARE_MAILBOX_ID = "spring-actor-mailboxes.control-aware";
+
+    private ProvisionedMailboxes() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Returns the configuration that defines the provisioned mailboxes. {@code SpringActorSystemBuilder}
+     * adds it as a fallback to the actor system configuration.
+     *
+     * @return The mailbox definitions
+     */
+    public static Config config() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(PER_ACTOR_MAILBOX_ID + ".mailbox-type", PerActorMailboxType.class.getName());
+        config.put(
+                CONTROL_AWARE_MAILBOX_ID + ".mailbox-type", "org.apache.pekko.dispatch.UnboundedControlAwareMailbox");
+        return ConfigFactory.parseMap(config);
+    }
+
+    /**
+     * Orders control messages, such as {@link FrameworkCommands}, first, then messages that are not
+     * of the given type, and then messages of the type by the given comparator.
+     */
+    static <T> Comparator<Envelope> envelopeComparator(Class<T> type, Comparator<? super T> comparator) {
+        return (a, b) -> {
+            Object x = a.message();
+            Object y = b.message();
+            int rankX = rank(type, x);
+            int rankY = rank(type, y);
+            if (rankX != rankY) {
+                return Integer.compare(rankX, rankY);
+            }
+            return rankX == 2 ? comparator.compare(type.cast(x), type.cast(y)) : 0;
+        };
+    }
+
+    private static int rank(Class<?> type, Object msg) {
+        if (msg instanceof ControlMessage) {
+            return 0;
+        }
+        return type.isInstance(msg) ? 2 : 1;
+    }
+
+    static void register(
+            org.apache.pekko.actor.typed.ActorSystem<?> system, String actorPath, MailboxType mailboxType) {
+        Registry.ID.get(system).mailboxTypes.put(actorPath, mailboxType);
+    }
+
+    static void unregister(org.apache.pekko.actor.typed.ActorSystem<?> system, String actorPath) {
+        Registry.ID.get(system).mailboxTypes.remove(actorPath);
+    }
+
+    /** Creates the message queue of each actor with the mailbox type registered for its path. */
+    public static final class PerActorMailboxType implements MailboxType {
+        public PerActorMailboxType(ActorSystem.Settings settings, Config config) {}
+
+        @Override
+        public MessageQueue create(Option<ActorRef> owner, Option<ActorSystem> system) {
+            MailboxType mailboxType = owner.isDefined() && system.isDefined()
+                    ? Registry.ID
+                            .get(Adapter.toTyped(system.get()))
+                            .mailboxTypes
+                            .get(owner.get().path().toStringWithoutAddress())
+                    : null;
+            if (mailboxType == null) {
+                throw new IllegalStateException("No mailbox registered for " + owner
+                        + ". Select provisioned mailboxes through MailboxConfig when spawning the actor.");
+            }
+            return mailboxType.create(owner, system);
+        }
+    }
+
+    /** The mailbox types registered for the actors that one actor system is about to spawn */
+    private static final class Registry implements Extension {
+        static final Id ID = new Id();
+
+        final Map<String, MailboxType> mailboxTypes = new ConcurrentHashMap<>();
+    }
+
+    /** Extension id used to create one registry per actor system. */
+    private static final class Id extends ExtensionId<Registry> {
+        @Override
+        public Registry createExtension(org.apache.pekko.actor.typed.ActorSystem<?> system) {
+            return new Registry();
+        }
+    }
+}
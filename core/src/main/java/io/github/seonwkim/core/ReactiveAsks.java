@@ -0,0 +1,230 @@
+package io.github.seonwkim.core;
+
+import io.github.seonwkim.core.shard.SpringShardedActorHandle;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Asks an actor through Project Reactor types. Reactor is an optional dependency, so the handles
+ * themselves only expose {@link CompletionStage}s and listeners; wrapping a handle here requires
+ * {@code io.projectreactor:reactor-core} on the classpath.
+ *
+ * <p>Unlike {@code Mono.fromCompletionStage(handle.ask(...).execute())}, the publishers returned
+ * here send the command only on subscription, and a cancelled subscription cancels the pending ask,
+ * so the deadline tracker forgets it immediately instead of holding it until the timeout. Streams
+ * pass the subscriber's demand on to the actor's side, which only sends the requested elements.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * Mono<String> name = ReactiveAsks.of(springActorHandle).mono(new GetUserName("user123"));
+ * Flux<Order> orders = ReactiveAsks.of(springActorHandle).flux(new ListOrders());
+ * }
+ * </pre>
+ *
+ * @param <T> The type of messages that the actor can handle
+ */
+public final class ReactiveAsks<T> {
+
+    private final Source source;
+
+    private ReactiveAsks(Source source) {
+        this.source = source;
+    }
+
+    /**
+     * Wraps a handle of a local or remote actor.
+     *
+     * @param handle The handle to ask through
+     * @param <T> The type of messages that the actor can handle
+     * @return The reactive view of the handle
+     */
+    public static <T> ReactiveAsks<T> of(SpringActorHandle<T> handle) {
+        if (handle == null) {
+            throw new IllegalArgumentException("handle must not be null");
+        }
+        return new ReactiveAsks<>(new Source() {
+            @Override
+            public <RES> CompletionStage<RES> ask(AskCommand<RES> command, @Nullable Duration timeout) {
+                return timeout != null
+                        ? handle.ask(command).withTimeout(timeout).execute()
+                        : handle.ask(command).execute();
+            }
+
+            @Override
+            public <E> AskDeadlineTracker.StreamSubscription stream(
+                    StreamingAskCommand<E> command,
+                    @Nullable Duration idleTimeout,
+                    AskDeadlineTracker.StreamListener<E> listener) {
+                return idleTimeout != null
+                        ? handle.askStream(command, idleTimeout, listener)
+                        : handle.askStream(command, listener);
+            }
+        });
+    }
+
+    /**
+     * Wraps a handle of a sharded actor.
+     *
+     * @param handle The handle to ask through
+     * @param <T> The type of messages that the actor can handle
+     * @return The reactive view of the handle
+     */
+    public static <T> ReactiveAsks<T> of(SpringShardedActorHandle<T> handle) {
+        if (handle == null) {
+            throw new IllegalArgumentException("handle must not be null");
+        }
+        return new ReactiveAsks<>(new Source() {
+            @Override
+            public <RES> CompletionStage<RES> ask(AskCommand<RES> command, @Nullable Duration timeout) {
+                return timeout != null
+                        ? handle.ask(command).withTimeout(timeout).execute()
+                        : handle.ask(command).execute();
+            }
+
+            @Override
+            public <E> AskDeadlineTracker.StreamSubscription stream(
+                    StreamingAskCommand<E> command,
+                    @Nullable Duration idleTimeout,
+                    AskDeadlineTracker.StreamListener<E> listener) {
+                return idleTimeout != null
+                        ? handle.askStream(command, idleTimeout, listener)
+                        : handle.askStream(command, listener);
+            }
+        });
+    }
+
+    /**
+     * Asks the actor and returns the reply as a {@link Mono}, using the default timeout of the
+     * handle. The command is sent when the Mono is subscribed, and cancelling the subscription
+     * cancels the pending ask.
+     *
+     * @param command The command that implements AskCommand (must also be assignable to T)
+     * @param <RES> The type of the response message
+     * @return A Mono emitting the response, or a {@link TimeoutException} if no reply arrives in time
+     */
+    public <RES> Mono<RES> mono(AskCommand<RES> command) {
+        return monoOf(command, null);
+    }
+
+    /**
+     * Asks the actor with a custom timeout and returns the reply as a {@link Mono}. See
+     * {@link #mono(AskCommand)}.
+     *
+     * @param command The command that implements AskCommand (must also be assignable to T)
+     * @param timeout The maximum time to wait for a response
+     * @param <RES> The type of the response message
+     * @return A Mono emitting the response, or a {@link TimeoutException} if no reply arrives in time
+     */
+    public <RES> Mono<RES> mono(AskCommand<RES> command, Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+        return monoOf(command, timeout);
+    }
+
+    /**
+     * Asks the actor with a {@link StreamingAskCommand} and returns its replies as a {@link Flux},
+     * using the default timeout of the handle as the maximum time between two replies. The command
+     * is sent when the Flux is subscribed, the subscriber's requests are forwarded to the actor's
+     * side, and cancelling the subscription stops the stream. Requires a handle obtained from
+     * {@link SpringActorSystem}.
+     *
+     * @param command The streaming command (must also be assignable to T)
+     * @param <E> The type of the streamed elements
+     * @return A Flux emitting the streamed elements
+     */
+    public <E> Flux<E> flux(StreamingAskCommand<E> command) {
+        return fluxOf(command, null);
+    }
+
+    /**
+     * Asks the actor with a {@link StreamingAskCommand} and a custom idle timeout. See
+     * {@link #flux(StreamingAskCommand)}.
+     *
+     * @param command The streaming command (must also be assignable to T)
+     * @param idleTimeout The maximum time to wait between two replies while elements are requested
+     * @param <E> The type of the streamed elements
+     * @return A Flux emitting the streamed elements
+     */
+    public <E> Flux<E> flux(StreamingAskCommand<E> command, Duration idleTimeout) {
+        if (idleTimeout == null) {
+            throw new IllegalArgumentException("idleTimeout must not be null");
+        }
+        return fluxOf(command, idleTimeout);
+    }
+
+    private <RES> Mono<RES> monoOf(AskCommand<RES> command, @Nullable Duration timeout) {
+        if (command == null) {
+            throw new IllegalArgumentException("command must not be null");
+        }
+        return Mono.create(sink -> {
+            CompletableFuture<RES> future = source.ask(command, timeout).toCompletableFuture();
+            sink.onCancel(() -> future.cancel(false));
+            future.whenComplete((response, error) -> {
+                if (future.isCancelled()) {
+                    return;
+                }
+                if (error != null) {
+                    sink.error(unwrap(error));
+                } else {
+                    sink.success(response);
+                }
+            });
+        });
+    }
+
+    private <E> Flux<E> fluxOf(StreamingAskCommand<E> command, @Nullable Duration idleTimeout) {
+        if (command == null) {
+            throw new IllegalArgumentException("command must not be null");
+        }
+        return Flux.create(sink -> {
+            AskDeadlineTracker.StreamSubscription subscription;
+            try {
+                subscription = source.stream(command, idleTimeout, new AskDeadlineTracker.StreamListener<E>() {
+                    @Override
+                    public void onNext(E element) {
+                        sink.next(element);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        sink.complete();
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        sink.error(error);
+                    }
+                });
+            } catch (IllegalStateException e) {
+                sink.error(e);
+                return;
+            }
+            // The sink only buffers what the actor sent on request, so the buffer stays bounded
+            sink.onRequest(subscription::request);
+            sink.onCancel(subscription::cancel);
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error.getCause();
+        return error instanceof CompletionException && cause != null ? cause : error;
+    }
+
+    /** Sends asks through one of the handle types */
+    private interface Source {
+        <RES> CompletionStage<RES> ask(AskCommand<RES> command, @Nullable Duration timeout);
+
+        <E> AskDeadlineTracker.StreamSubscription stream(
+                StreamingAskCommand<E> command,
+                @Nullable Duration idleTimeout,
+                AskDeadlineTracker.StreamListener<E> listener);
+    }
+}
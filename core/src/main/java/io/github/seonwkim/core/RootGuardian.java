@@ -2,6 +2,8 @@ package io.github.seonwkim.core;
 
 import io.github.seonwkim.core.impl.DefaultRootGuardian;
 import io.github.seonwkim.core.topic.SpringTopicRef;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
@@ -71,6 +73,131 @@ public interface RootGuardian {
         }
     }
 
+    /**
+     * Command to get an existing actor or spawn it if it does not exist. The lookup and the spawn
+     * happen in a single message turn of the root guardian, so concurrent requests for the same
+     * actor all resolve to the same instance instead of racing on a duplicate actor name.
+     *
+     * <p>The spawn configuration is only used when the actor does not exist yet. Cluster singletons
+     * are not supported; use {@link SpawnActor} for those.
+     */
+    class GetOrSpawnActor implements Command {
+        public final Class<?> actorClass;
+        /** The context of the actor */
+        public final SpringActorContext actorContext;
+        /** The actor reference to reply to with the existing or spawned actor reference */
+        public final ActorRef<Spawned<?>> replyTo;
+        /** The mailbox configuration to use if the actor is spawned */
+        public final MailboxConfig mailboxConfig;
+        /** The dispatcher configuration to use if the actor is spawned */
+        public final DispatcherConfig dispatcherConfig;
+        /** The tags configuration to use if the actor is spawned */
+        public final TagsConfig tagsConfig;
+        /** The supervisor strategy to use if the actor is spawned */
+        @Nullable public final SupervisorStrategy supervisorStrategy;
+
+        /**
+         * Creates a new GetOrSpawnActor command.
+         *
+         * @param actorClass The class of the actor
+         * @param actorContext The context of the actor
+         * @param replyTo The actor reference to reply to with the actor reference
+         * @param mailboxConfig The mailbox configuration
+         * @param dispatcherConfig The dispatcher configuration
+         * @param tagsConfig The tags configuration
+         * @param supervisorStrategy The supervisor strategy (null for no supervision)
+         */
+        public GetOrSpawnActor(
+                Class<?> actorClass,
+                SpringActorContext actorContext,
+                ActorRef<Spawned<?>> replyTo,
+                MailboxConfig mailboxConfig,
+                DispatcherConfig dispatcherConfig,
+                TagsConfig tagsConfig,
+                @Nullable SupervisorStrategy supervisorStrategy) {
+            this.actorClass = actorClass;
+            this.actorContext = actorContext;
+            this.replyTo = replyTo;
+            this.mailboxConfig = mailboxConfig;
+            this.dispatcherConfig = dispatcherConfig;
+            this.tagsConfig = tagsConfig;
+            this.supervisorStrategy = supervisorStrategy;
+        }
+    }
+
+    /**
+     * Command to spawn many actors of the same type in one message. Actors that already exist are
+     * returned as they are, so the command can be repeated safely (e.g. for cache warmup). The reply
+     * is a single {@link SpawnedActors} message covering every actor in the batch.
+     *
+     * <p>Cluster singletons are not supported; use {@link SpawnActor} for those.
+     */
+    class SpawnActors implements Command {
+        public final Class<?> actorClass;
+        /** The contexts of the actors to spawn, one per actor */
+        public final List<SpringActorContext> actorContexts;
+        /** The actor reference to reply to with the spawned actor references */
+        public final ActorRef<SpawnedActors> replyTo;
+        /** The mailbox configuration to use */
+        public final MailboxConfig mailboxConfig;
+        /** The dispatcher configuration */
+        public final DispatcherConfig dispatcherConfig;
+        /** The tags configuration for logging/categorization */
+        public final TagsConfig tagsConfig;
+        /** The supervisor strategy to use for each actor */
+        @Nullable public final SupervisorStrategy supervisorStrategy;
+
+        /**
+         * Creates a new SpawnActors command.
+         *
+         * @param actorClass The class of the actors
+         * @param actorContexts The contexts of the actors, one per actor
+         * @param replyTo The actor reference to reply to with the spawned actor references
+         * @param mailboxConfig The mailbox configuration
+         * @param dispatcherConfig The dispatcher configuration
+         * @param tagsConfig The tags configuration
+         * @param supervisorStrategy The supervisor strategy (null for no supervision)
+         */
+        public SpawnActors(
+                Class<?> actorClass,
+                List<SpringActorContext> actorContexts,
+                ActorRef<SpawnedActors> replyTo,
+                MailboxConfig mailboxConfig,
+                DispatcherConfig dispatcherConfig,
+                TagsConfig tagsConfig,
+                @Nullable SupervisorStrategy supervisorStrategy) {
+            this.actorClass = actorClass;
+            this.actorContexts = actorContexts;
+            this.replyTo = replyTo;
+            this.mailboxConfig = mailboxConfig;
+            this.dispatcherConfig = dispatcherConfig;
+            this.tagsConfig = tagsConfig;
+            this.supervisorStrategy = supervisorStrategy;
+        }
+    }
+
+    /**
+     * Response message to a {@link SpawnActors} command. Actors that could not be spawned are listed
+     * in {@link #failures} with the reason instead of failing the whole batch.
+     */
+    class SpawnedActors {
+        /** The references of the spawned or existing actors, keyed by actor ID */
+        public final Map<String, ActorRef<?>> refs;
+        /** The failure reasons of actors that could not be spawned, keyed by actor ID */
+        public final Map<String, String> failures;
+
+        /**
+         * Creates a new SpawnedActors message.
+         *
+         * @param refs The actor references, keyed by actor ID
+         * @param failures The failure reasons, keyed by actor ID
+         */
+        public SpawnedActors(Map<String, ActorRef<?>> refs, Map<String, String> failures) {
+            this.refs = refs;
+            this.failures = failures;
+        }
+    }
+
     /**
      * Command to get an existing actor reference by looking it up in the actor context.
      */
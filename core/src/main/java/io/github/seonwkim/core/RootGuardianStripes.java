@@ -0,0 +1,131 @@
+package io.github.seonwkim.core;
+
+import com.typesafe.config.Config;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+
+/**
+ * Per actor system table of striped root guardians. When {@code spring.actor.root-guardian.stripes}
+ * is greater than 1, the default root guardian spawns that many stripe guardians as its children
+ * and publishes them here. Each top-level actor is owned by exactly one stripe, selected by the hash
+ * of its actor name (see {@link ActorSpawner#buildActorName(Class, String)}), so spawn and lookup
+ * traffic for different actors is processed by different mailboxes in parallel.
+ *
+ * <p><strong>Striping changes actor paths.</strong> Top-level actors are children of their stripe, so
+ * an actor that lives at {@code /user/<name>} with a single guardian lives at
+ * {@code /user/root-guardian-stripe-N/<name>} when striping is enabled. Lookups through
+ * {@link SpringActorSystem} are not affected, but code and tooling that address actors by path, for
+ * example with {@code actorSelection}, must include the stripe.
+ *
+ * <p>{@link SpringActorSystem} sends commands directly to the owning stripe once the table is
+ * published. Until then (and for callers that address the root guardian directly) the root guardian
+ * forwards each command to the owning stripe, so routing is always consistent.
+ *
+ * <p>Example configuration:
+ *
+ * <pre>{@code
+ * spring:
+ *   actor:
+ *     root-guardian:
+ *       stripes: 8
+ * }</pre>
+ */
+public final class RootGuardianStripes implements Extension {
+
+    /**
+     * Configuration path of the number of root guardian stripes, relative to {@code spring.actor}.
+     * Values greater than 1 move top-level actors under {@code /user/root-guardian-stripe-N/}.
+     */
+    public static final String STRIPES_CONFIG_PATH = "root-guardian.stripes";
+
+    private static final Id ID = new Id();
+
+    @Nullable private volatile List<ActorRef<RootGuardian.Command>> stripes;
+
+    private RootGuardianStripes() {}
+
+    /**
+     * Returns the stripe table of the given actor system, creating it on first access.
+     *
+     * @param system The actor system
+     * @return The stripe table belonging to the actor system
+     */
+    public static RootGuardianStripes get(ActorSystem<?> system) {
+        return ID.get(system);
+    }
+
+    /**
+     * Reads the configured number of stripes. Returns 1 (no striping) if the setting is absent.
+     *
+     * @param config The actor system configuration
+     * @return The number of stripes
+     * @throws IllegalArgumentException If the configured value is less than 1
+     */
+    public static int configuredStripeCount(Config config) {
+        if (!config.hasPath(STRIPES_CONFIG_PATH)) {
+            return 1;
+        }
+        int stripeCount = config.getInt(STRIPES_CONFIG_PATH);
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException(
+                    "spring.actor." + STRIPES_CONFIG_PATH + " must be at least 1, but was " + stripeCount);
+        }
+        return stripeCount;
+    }
+
+    /**
+     * Selects the stripe that owns the given actor name.
+     *
+     * @param actorName The actor name
+     * @param stripeCount The number of stripes
+     * @return The index of the owning stripe
+     */
+    public static int stripeIndex(String actorName, int stripeCount) {
+        return Math.floorMod(actorName.hashCode(), stripeCount);
+    }
+
+    /**
+     * Publishes the stripe guardians. Called once by the root guardian after spawning them.
+     *
+     * @param stripes The stripe guardians, in stripe index order
+     */
+    public void publish(List<ActorRef<RootGuardian.Command>> stripes) {
+        this.stripes = List.copyOf(stripes);
+    }
+
+    /**
+     * Returns the stripe guardian owning the given actor name.
+     *
+     * @param actorName The actor name
+     * @return The owning stripe, or null if striping is disabled or the stripes are not published yet
+     */
+    @Nullable public ActorRef<RootGuardian.Command> stripeFor(String actorName) {
+        List<ActorRef<RootGuardian.Command>> current = stripes;
+        if (current == null) {
+            return null;
+        }
+        return current.get(stripeIndex(actorName, current.size()));
+    }
+
+    /**
+     * Returns the number of published stripes.
+     *
+     * @return The number of stripes, or 0 if striping is disabled or the stripes are not published yet
+     */
+    public int stripeCount() {
+        List<ActorRef<RootGuardian.Command>> current = stripes;
+        return current == null ? 0 : current.size();
+    }
+
+    /** Extension id used to create one {@link RootGuardianStripes} per actor system. */
+    private static final class Id extends ExtensionId<RootGuardianStripes> {
+        @Override
+        public RootGuardianStripes createExtension(ActorSystem<?> system) {
+            return new RootGuardianStripes();
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package io.github.seonwkim.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.DeadLetter;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.apache.pekko.serialization.Serialization;
+import org.apache.pekko.serialization.Serializer;
+import org.apache.pekko.serialization.Serializers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unbounded message queue created by {@link MailboxConfig#spillToDisk}, which keeps at most
+ * {@code memoryCapacity} messages on the heap and appends the overflow to memory-mapped segment
+ * files. Once a message was spilled, later messages are spilled as well until the consumer has read
+ * the segments back, so messages are always delivered in the order they were enqueued.
+ *
+ * <p>Spilled messages are serialized with the actor system's serialization, so the bindings for
+ * {@link io.github.seonwkim.core.serialization.JsonSerializable} and
+ * {@link io.github.seonwkim.core.serialization.CborSerializable} apply. A message without a usable
+ * serializer, such as a framework command, is kept on the heap and only a marker is written to the
+ * segment, which keeps its position in the order. At most {@code memoryCapacity} of them are kept
+ * this way; further ones are sent to dead letters while the queue is spilling. A spilled message
+ * that cannot be deserialized is dropped with a warning.
+ *
+ * <p>A segment file is unmapped and deleted once it was read completely, except for the last one,
+ * which is rewound and reused the next time the queue spills instead of mapping a new file. The
+ * queue is guarded by a single lock; messages are serialized outside of it when the queue is
+ * already spilling.
+ */
+final class SpillingMessageQueue implements MessageQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(SpillingMessageQueue.class);
+
+    /** The size of a segment file, unless a single entry is larger */
+    static final int DEFAULT_SEGMENT_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * Written after the last entry when the writer moves on to the next segment; the zero-filled
+     * space of a fresh segment reads as this tag as well
+     */
+    private static final byte END_OF_SEGMENT = 0;
+
+    /** {@code Unsafe.invokeCleaner}, or null if this JVM doesn't expose it */
+    @Nullable private static final MethodHandle INVOKE_CLEANER = lookUpCleaner();
+
+    private static final byte SERIALIZED_ENTRY = 1;
+    private static final byte PINNED_ENTRY = 2;
+
+    /** A message in its spilled form */
+    private static final class SerializedEnvelope {
+        final int serializerId;
+        final byte[] manifest;
+        final byte[] sender;
+        final byte[] payload;
+
+        SerializedEnvelope(int serializerId, byte[] manifest, byte[] sender, byte[] payload) {
+            this.serializerId = serializerId;
+            this.manifest = manifest;
+            this.sender = sender;
+            this.payload = payload;
+        }
+
+        int size() {
+            return 1 + 4 + manifest.length + 4 + sender.length + 4 + payload.length + 4;
+        }
+    }
+
+    /** A memory-mapped segment file with independent write and read positions */
+    private static final class Segment {
+        final Path file;
+        /** The mapping itself, which is what gets unmapped; only the duplicates are read and written */
+        final MappedByteBuffer buffer;
+        final ByteBuffer writer;
+        final ByteBuffer reader;
+
+        Segment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+            this.writer = buffer.duplicate();
+            this.reader = buffer.duplicate();
+        }
+    }
+
+    private final int memoryCapacity;
+    private final Path directory;
+    private final int segmentSize;
+    private final Serialization serialization;
+
+    private final Object lock = new Object();
+    private final Queue<Envelope> memory = new ArrayDeque<>();
+    /** Spilled messages without a serializer, in the order of their markers */
+    private final Queue<Envelope> pinned = new ArrayDeque<>();
+    /** Oldest segment first; empty while nothing is spilled */
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+    private long spilled = 0;
+    private volatile long size = 0;
+
+    SpillingMessageQueue(int memoryCapacity, Path directory, int segmentSize, Serialization serialization) {
+        this.memoryCapacity = memoryCapacity;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.serialization = serialization;
+    }
+
+    /** The number of messages that are currently spilled */
+    long spilled() {
+        synchronized (lock) {
+            return spilled;
+        }
+    }
+
+    @Override
+    public void enqueue(ActorRef receiver, Envelope handle) {
+        // Serialize outside of the lock when the message is going to be spilled anyway
+        SerializedEnvelope serialized = size >= memoryCapacity ? serialize(handle) : null;
+        synchronized (lock) {
+            if (spilled == 0 && memory.size() < memoryCapacity) {
+                memory.add(handle);
+            } else {
+                if (serialized == null) {
+                    serialized = serialize(handle);
+                }
+                if (serialized == null && pinned.size() >= memoryCapacity) {
+                    deadLetter(receiver, handle);
+                    return;
+                }
+                spill(handle, serialized);
+            }
+            size++;
+        }
+    }
+
+    @Override
+    @Nullable public Envelope dequeue() {
+        synchronized (lock) {
+            Envelope envelope = memory.poll();
+            while (envelope == null && spilled > 0) {
+                envelope = readNext();
+                if (envelope == null) {
+                    // The entry could not be read back and was dropped
+                    size--;
+                }
+            }
+            if (envelope != null) {
+                size--;
+            }
+            return envelope;
+        }
+    }
+
+    @Override
+    public int numberOfMessages() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean hasMessages() {
+        return size > 0;
+    }
+
+    @Override
+    public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+        Envelope envelope;
+        while ((envelope = dequeue()) != null) {
+            deadLetters.enqueue(owner, envelope);
+        }
+        synchronized (lock) {
+            deleteSegments();
+        }
+    }
+
+    /** Returns the spilled form of the message, or null if it has no usable serializer. */
+    @Nullable private SerializedEnvelope serialize(Envelope envelope) {
+        Object message = envelope.message();
+        try {
+            Serializer serializer = serialization.findSerializerFor(message);
+            byte[] payload = serializer.toBinary(message);
+            byte[] manifest = Serializers.manifestFor(serializer, message).getBytes(StandardCharsets.UTF_8);
+            ActorRef sender = envelope.sender();
+            byte[] senderPath = sender == null || sender == ActorRef.noSender()
+                    ? new byte[0]
+                    : Serialization.serializedActorPath(sender).getBytes(StandardCharsets.UTF_8);
+            return new SerializedEnvelope(serializer.identifier(), manifest, senderPath, payload);
+        } catch (Exception e) {
+            // No binding, or the serializer rejected the message
+            return null;
+        }
+    }
+
+    private void spill(Envelope envelope, @Nullable SerializedEnvelope serialized) {
+        int entrySize = serialized == null ? 1 : serialized.size();
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.writer.remaining() < entrySize) {
+            if (segment != null && segment.writer.hasRemaining()) {
+                // A reused segment may still hold older entries behind the writer
+                segment.writer.put(segment.writer.position(), END_OF_SEGMENT);
+            }
+            segment = createSegment(Math.max(segmentSize, entrySize));
+            segments.add(segment);
+        }
+        ByteBuffer writer = segment.writer;
+        if (serialized == null) {
+            writer.put(PINNED_ENTRY);
+            pinned.add(envelope);
+        } else {
+            writer.put(SERIALIZED_ENTRY);
+            writer.putInt(serialized.serializerId);
+            putBytes(writer, serialized.manifest);
+            putBytes(writer, serialized.sender);
+            putBytes(writer, serialized.payload);
+        }
+        spilled++;
+    }
+
+    /** Reads the oldest spilled entry, or returns null if it could not be deserialized. */
+    @Nullable private Envelope readNext() {
+        Segment segment = segments.element();
+        while (!segment.reader.hasRemaining() || segment.reader.get(segment.reader.position()) == END_OF_SEGMENT) {
+            delete(segments.remove());
+            segment = segments.element();
+        }
+        Envelope envelope = read(segment.reader);
+        spilled--;
+        if (spilled == 0) {
+            rewind();
+        }
+        return envelope;
+    }
+
+    /** Keeps the last segment for the next time the queue spills and drops the others */
+    private void rewind() {
+        Segment last = segments.removeLast();
+        deleteSegments();
+        if (last.buffer.capacity() != segmentSize) {
+            // Mapped for a single oversized entry
+            delete(last);
+            return;
+        }
+        last.writer.clear();
+        last.reader.clear();
+        last.writer.put(0, END_OF_SEGMENT);
+        segments.add(last);
+    }
+
+    /** Consumes the entry at the reader's position, even if it cannot be deserialized. */
+    @Nullable private Envelope read(ByteBuffer reader) {
+        if (reader.get() == PINNED_ENTRY) {
+            return pinned.remove();
+        }
+        int serializerId = reader.getInt();
+        String manifest = new String(getBytes(reader), StandardCharsets.UTF_8);
+        String senderPath = new String(getBytes(reader), StandardCharsets.UTF_8);
+        byte[] payload = getBytes(reader);
+        try {
+            Object message = serialization.deserialize(payload, serializerId, manifest).get();
+            ActorRef sender = senderPath.isEmpty()
+                    ? ActorRef.noSender()
+                    : serialization.system().provider().resolveActorRef(senderPath);
+            return Envelope.apply(message, sender, serialization.system());
+        } catch (Exception e) {
+            log.warn(
+                    "Dropped a spilled message that could not be deserialized (serializer {}, manifest [{}])",
+                    serializerId,
+                    manifest,
+                    e);
+            return null;
+        }
+    }
+
+    private void deadLetter(ActorRef receiver, Envelope envelope) {
+        ActorRef deadLetters = serialization.system().deadLetters();
+        deadLetters.tell(new DeadLetter(envelope.message(), envelope.sender(), receiver), envelope.sender());
+    }
+
+    private Segment createSegment(int capacity) {
+        try {
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "mailbox-", ".segment");
+            try (FileChannel channel =
+                    FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a mailbox segment in " + directory, e);
+        }
+    }
+
+    private void deleteSegments() {
+        while (!segments.isEmpty()) {
+            delete(segments.remove());
+        }
+    }
+
+    private static void delete(Segment segment) {
+        unmap(segment.buffer);
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            // Still mapped on platforms that don't allow deleting mapped files
+            segment.file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Releases the mapping right away instead of when the buffer is garbage collected. The buffer
+     * must not be accessed afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        MethodHandle invokeCleaner = INVOKE_CLEANER;
+        if (invokeCleaner == null) {
+            return;
+        }
+        try {
+            invokeCleaner.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            // Left to the garbage collector
+        }
+    }
+
+    @Nullable private static MethodHandle lookUpCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
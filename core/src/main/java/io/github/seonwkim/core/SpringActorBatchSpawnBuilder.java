@@ -0,0 +1,230 @@
+package io.github.seonwkim.core;
+
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.SupervisorStrategy;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A fluent builder for spawning many actors of the same class with one request. Instead of one
+ * {@link RootGuardian.SpawnActor} ask per actor, the IDs are sent to the root guardian in batches of
+ * {@link RootGuardian.SpawnActors} commands and the result is collected into a single map.
+ *
+ * <p>Actors that already exist are returned as they are, so spawning the same IDs twice is safe.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * Map<String, SpringActorHandle<SessionActor.Command>> sessions = actorSystem
+ *     .actors(SessionActor.class)
+ *     .withIds(sessionIds)
+ *     .withMailbox(MailboxConfig.bounded(100))
+ *     .spawnAll()
+ *     .toCompletableFuture()
+ *     .join();
+ * }</pre>
+ *
+ * @param <A> The type of the actors
+ * @param <C> The type of commands that the actors can handle
+ */
+public class SpringActorBatchSpawnBuilder<A extends SpringActorWithContext<C, ?>, C> {
+
+    /** The default number of actors per spawn command */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final SpringActorSystem actorSystem;
+    private final Class<A> actorClass;
+
+    private final List<String> actorIds = new ArrayList<>();
+
+    private Duration timeout = ActorConstants.DEFAULT_TIMEOUT;
+    private MailboxConfig mailboxConfig = MailboxConfig.defaultMailbox();
+    private DispatcherConfig dispatcherConfig = DispatcherConfig.defaultDispatcher();
+    private TagsConfig tagsConfig = TagsConfig.empty();
+    private MdcConfig mdcConfig = MdcConfig.empty();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @Nullable private SupervisorStrategy supervisorStrategy = null;
+
+    /**
+     * Creates a new SpringActorBatchSpawnBuilder.
+     *
+     * @param actorSystem The actor system to spawn the actors in
+     * @param actorClass The class of the actors to spawn
+     */
+    public SpringActorBatchSpawnBuilder(SpringActorSystem actorSystem, Class<A> actorClass) {
+        if (actorSystem == null) {
+            throw new IllegalArgumentException("actorSystem must not be null");
+        }
+        if (actorClass == null) {
+            throw new IllegalArgumentException("actorClass must not be null");
+        }
+        this.actorSystem = actorSystem;
+        this.actorClass = actorClass;
+    }
+
+    /**
+     * Sets the IDs of the actors to spawn. Duplicate IDs are spawned once.
+     *
+     * @param actorIds The IDs of the actors
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withIds(Collection<String> actorIds) {
+        if (actorIds == null) {
+            throw new IllegalArgumentException("actorIds must not be null");
+        }
+        for (String actorId : actorIds) {
+            if (actorId == null || ObjectUtils.isEmpty(actorId)) {
+                throw new IllegalArgumentException("actorIds must not contain null or empty IDs");
+            }
+        }
+        this.actorIds.clear();
+        this.actorIds.addAll(new LinkedHashSet<>(actorIds));
+        return this;
+    }
+
+    /**
+     * Sets the timeout of each spawn batch.
+     *
+     * @param timeout The timeout duration
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withTimeout(Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of actors spawned per command. Smaller batches keep each root guardian
+     * message turn short; larger batches send fewer messages.
+     *
+     * @param batchSize The maximum number of actors per command
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the mailbox configuration of every actor.
+     *
+     * @param mailboxConfig The mailbox configuration
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withMailbox(MailboxConfig mailboxConfig) {
+        if (mailboxConfig == null) {
+            throw new IllegalArgumentException("mailboxConfig must not be null");
+        }
+        this.mailboxConfig = mailboxConfig;
+        return this;
+    }
+
+    /**
+     * Sets the dispatcher configuration of every actor.
+     *
+     * @param dispatcherConfig The dispatcher configuration
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withDispatcher(DispatcherConfig dispatcherConfig) {
+        if (dispatcherConfig == null) {
+            throw new IllegalArgumentException("dispatcherConfig must not be null");
+        }
+        this.dispatcherConfig = dispatcherConfig;
+        return this;
+    }
+
+    /**
+     * Sets the tags configuration of every actor.
+     *
+     * @param tagsConfig The tags configuration
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withTags(TagsConfig tagsConfig) {
+        if (tagsConfig == null) {
+            throw new IllegalArgumentException("tagsConfig must not be null");
+        }
+        this.tagsConfig = tagsConfig;
+        return this;
+    }
+
+    /**
+     * Sets static MDC values for every actor.
+     *
+     * @param mdcConfig The MDC configuration
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withMdc(MdcConfig mdcConfig) {
+        if (mdcConfig == null) {
+            throw new IllegalArgumentException("mdcConfig must not be null");
+        }
+        this.mdcConfig = mdcConfig;
+        return this;
+    }
+
+    /**
+     * Sets the supervisor strategy of every actor.
+     *
+     * @param supervisorStrategy The supervisor strategy (e.g., SupervisorStrategy.restart())
+     * @return This builder
+     */
+    public SpringActorBatchSpawnBuilder<A, C> withSupervisionStrategy(SupervisorStrategy supervisorStrategy) {
+        this.supervisorStrategy = supervisorStrategy;
+        return this;
+    }
+
+    /**
+     * Spawns all actors and returns their handles keyed by actor ID, in the order the IDs were given.
+     * The stage completes exceptionally if any actor could not be spawned or a batch timed out.
+     *
+     * @return A CompletionStage that will be completed with the actor handles keyed by actor ID
+     * @throws IllegalStateException If no IDs are set
+     */
+    public CompletionStage<Map<String, SpringActorHandle<C>>> spawnAll() {
+        if (actorIds.isEmpty()) {
+            throw new IllegalStateException("withIds(...) must be called with at least one ID before spawnAll(). "
+                    + "Actor class: "
+                    + actorClass.getName());
+        }
+
+        List<SpringActorContext> actorContexts = new ArrayList<>(actorIds.size());
+        for (String actorId : actorIds) {
+            SpringActorContext actorContext = new DefaultSpringActorContext(actorId);
+            actorContext.setMdcConfig(mdcConfig);
+            actorContexts.add(actorContext);
+        }
+
+        return actorSystem.spawnAll(
+                actorClass,
+                actorContexts,
+                mailboxConfig,
+                dispatcherConfig,
+                tagsConfig,
+                supervisorStrategy,
+                batchSize,
+                timeout);
+    }
+
+    /**
+     * Spawns all actors synchronously. This method blocks until every batch has been spawned.
+     *
+     * @return The actor handles keyed by actor ID
+     * @throws IllegalStateException If no IDs are set
+     */
+    public Map<String, SpringActorHandle<C>> spawnAllAndWait() {
+        return spawnAll().toCompletableFuture().join();
+    }
+}
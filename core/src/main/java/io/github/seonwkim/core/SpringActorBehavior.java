@@ -1,16 +1,23 @@
 package io.github.seonwkim.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.ExtensibleBehavior;
+import org.apache.pekko.actor.typed.PostStop;
+import org.apache.pekko.actor.typed.PreRestart;
 import org.apache.pekko.actor.typed.Signal;
 import org.apache.pekko.actor.typed.SupervisorStrategy;
+import org.apache.pekko.actor.typed.TypedActorContext;
 import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.BehaviorBuilder;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
@@ -50,10 +57,34 @@ import org.apache.pekko.actor.typed.javadsl.Behaviors;
  * Command interface extends {@link FrameworkCommand}. When enabled, the behavior will automatically handle:
  * <ul>
  *   <li>{@link FrameworkCommands.SpawnChild} - Spawn child actors with Spring DI</li>
+ *   <li>{@link FrameworkCommands.GetOrSpawnChild} - Get or spawn a child actor atomically</li>
+ *   <li>{@link FrameworkCommands.SpawnChildren} - Spawn many child actors in one message</li>
  *   <li>{@link FrameworkCommands.GetChild} - Get reference to existing child actors</li>
  *   <li>{@link FrameworkCommands.ExistsChild} - Check if child actor exists</li>
  * </ul>
  *
+ * <p><b>Dispatch:</b> With framework commands enabled, each message is routed with a single lookup in a
+ * table keyed by its concrete class, shared by all instances of the actor type, so the cost of a message
+ * does not grow with the number of handlers. As with a linear scan, the first registered handler whose
+ * type accepts the message wins.
+ *
+ * <p><b>Generated handlers:</b> If the state object's class declares {@link ActorHandler} methods and the
+ * annotation processor generated an {@link ActorDispatcher} for it, those methods handle the messages
+ * that no handler registered with {@code onMessage} accepts, without any handler lambdas.
+ *
+ * <p><b>Batches:</b> Bursts sent with {@code tellAll(...)} arrive as one {@link MessageBatch}, which the
+ * behavior unpacks within a single turn, passing each message to the matching handler in order. Handlers
+ * registered with {@code onMessageBatch} receive the messages of their type in groups instead, and types
+ * registered with {@code coalesce} only deliver the newest queued message per key.
+ *
+ * <p><b>Asynchronous handlers:</b> Handlers registered with {@code onMessageAsync} return a
+ * {@link CompletionStage}; the actor keeps processing messages while up to a configured number of
+ * operations run, and handles each outcome within a later turn.
+ *
+ * <p><b>Templates:</b> Actor types with many instances can compile their handlers once with
+ * {@link #template(Class)} and instantiate the resulting {@link Template} per actor, which keeps only
+ * the state object and a small dispatching behavior per instance.
+ *
  * <p><b>Zero Overhead:</b> If your Command interface does not extend {@link FrameworkCommand},
  * there is no performance overhead - the user's behavior is used directly without any wrapping.
  *
@@ -63,6 +94,22 @@ import org.apache.pekko.actor.typed.javadsl.Behaviors;
  */
 public final class SpringActorBehavior<C> {
 
+    /** Message types handled by the framework, in the order of the dispatch indexes below */
+    private static final List<Class<?>> FRAMEWORK_MESSAGE_TYPES = List.of(
+            FrameworkCommands.SpawnChild.class,
+            FrameworkCommands.GetOrSpawnChild.class,
+            FrameworkCommands.SpawnChildren.class,
+            FrameworkCommands.GetChild.class,
+            FrameworkCommands.ExistsChild.class,
+            MessageBatch.class);
+
+    private static final int SPAWN_CHILD = 0;
+    private static final int GET_OR_SPAWN_CHILD = 1;
+    private static final int SPAWN_CHILDREN = 2;
+    private static final int GET_CHILD = 3;
+    private static final int EXISTS_CHILD = 4;
+    private static final int MESSAGE_BATCH = 5;
+
     private final Behavior<C> behavior;
 
     private SpringActorBehavior(Behavior<C> behavior) {
@@ -106,7 +153,45 @@ public final class SpringActorBehavior<C> {
      */
     public static <C> Builder<C, SpringBehaviorContext<C>> builder(
             Class<C> commandClass, SpringActorContext actorContext) {
-        return new Builder<>(commandClass, actorContext, ctx -> ctx);
+        return new Builder<>(commandClass, actorContext, (ctx, context) -> ctx);
+    }
+
+    /**
+     * Creates a builder for a {@link Template}: a handler set compiled once and shared by every
+     * actor instantiated from it. Finish it with {@link Builder#buildTemplate()} instead of
+     * {@link Builder#build()}.
+     *
+     * <p>Actors built with {@link #builder(Class, SpringActorContext)} rebuild their handler lists
+     * on every {@code create(...)} and keep a handler object per message type alive for as long as
+     * they live. A template keeps the handlers once; each instance only holds its state object and a
+     * small behavior object that dispatches through the template's class-indexed table. This makes a
+     * difference for actor types with many instances, such as session actors or sharded entities.
+     * Cache templates per actor class with {@link ActorTypeRegistry#template(Class, java.util.function.Supplier)}:
+     * <pre>
+     * {@code
+     * @Override
+     * public SpringActorBehavior<Command> create(SpringActorContext actorContext) {
+     *     return ActorTypeRegistry.template(SessionActor.class, this::template).instantiate(actorContext);
+     * }
+     *
+     * private SpringActorBehavior.Template<Command> template() {
+     *     return SpringActorBehavior.template(Command.class)
+     *         .withContextualState((ctx, actorContext) -> new Session(ctx, actorContext.actorId()))
+     *         .onMessage(Touch.class, (session, msg) -> session.touch(msg))
+     *         .buildTemplate();
+     * }
+     * }
+     * </pre>
+     *
+     * <p>Handlers are shared by all instances, so they must keep per-actor data in the state object,
+     * never in captured variables.
+     *
+     * @param commandClass the command class
+     * @param <C>          the command type
+     * @return a new template builder with SpringBehaviorContext as the state type
+     */
+    public static <C> Builder<C, SpringBehaviorContext<C>> template(Class<C> commandClass) {
+        return new Builder<>(commandClass, null, (ctx, context) -> ctx);
     }
 
     /**
@@ -119,21 +204,26 @@ public final class SpringActorBehavior<C> {
      * @param <S> the state type passed to message handlers (defaults to SpringBehaviorContext&lt;C&gt;)
      */
     public static final class Builder<C, S> {
-        private final SpringActorContext actorContext;
+        @Nullable private final SpringActorContext actorContext;
         private final Class<C> commandClass;
-        private final Function<SpringBehaviorContext<C>, S> stateFactory;
+        private final BiFunction<SpringBehaviorContext<C>, SpringActorContext, S> stateFactory;
         private final List<MessageHandler<C, S, ?>> messageHandlers = new ArrayList<>();
         private final List<SignalHandler<C, S, ?>> signalHandlers = new ArrayList<>();
+        private final List<MessageBatcher.Spec<C, S, ?>> batchHandlers = new ArrayList<>();
+        private final List<MessageCoalescer.Spec<?>> coalescedTypes = new ArrayList<>();
+        private final List<AsyncMessageLimiter.Spec<C, S, ?, ?>> asyncHandlers = new ArrayList<>();
         private boolean enableFrameworkCommands = false;
 
         @Nullable private SupervisorStrategy supervisionStrategy = null;
 
         @Nullable private Function<C, Map<String, String>> mdcForMessage = null;
 
+        private boolean lazyMdc = false;
+
         private Builder(
                 Class<C> commandClass,
-                SpringActorContext actorContext,
-                Function<SpringBehaviorContext<C>, S> stateFactory) {
+                @Nullable SpringActorContext actorContext,
+                BiFunction<SpringBehaviorContext<C>, SpringActorContext, S> stateFactory) {
             this.commandClass = commandClass;
             this.actorContext = actorContext;
             this.stateFactory = stateFactory;
@@ -185,10 +275,27 @@ public final class SpringActorBehavior<C> {
          * @return a new builder with the evolved state type
          */
         public <NewS> Builder<C, NewS> withState(Function<SpringBehaviorContext<C>, NewS> stateFactory) {
+            return withContextualState((ctx, actorContext) -> stateFactory.apply(ctx));
+        }
+
+        /**
+         * Like {@link #withState(Function)}, but the state factory also receives the Spring actor
+         * context of the actor being created. Templates need this to give each instance its own
+         * context-dependent state, because their handlers are shared.
+         *
+         * @param stateFactory the function that creates the state object from SpringBehaviorContext
+         *     and the actor context
+         * @param <NewS> the new state type
+         * @return a new builder with the evolved state type
+         */
+        public <NewS> Builder<C, NewS> withContextualState(
+                BiFunction<SpringBehaviorContext<C>, SpringActorContext, NewS> stateFactory) {
             Builder<C, NewS> newBuilder = new Builder<>(commandClass, actorContext, stateFactory);
             newBuilder.enableFrameworkCommands = this.enableFrameworkCommands;
             newBuilder.supervisionStrategy = this.supervisionStrategy;
             newBuilder.mdcForMessage = this.mdcForMessage;
+            newBuilder.lazyMdc = this.lazyMdc;
+            newBuilder.coalescedTypes.addAll(this.coalescedTypes);
             return newBuilder;
         }
 
@@ -208,6 +315,155 @@ public final class SpringActorBehavior<C> {
             return this;
         }
 
+        /**
+         * Adds a handler that receives messages of a specific type in batches, for example to write
+         * them to a database in one transaction.
+         *
+         * <p>Messages of the type are collected per actor and passed to the handler together once
+         * {@code maxSize} of them are buffered, or {@code maxDelay} after the first of them arrived.
+         * With a zero delay, a batch holds the messages of the type that were already queued in the
+         * mailbox. A message of any other type, including another batched type, flushes the buffered
+         * messages first, so handlers still observe all messages in arrival order. Buffered messages
+         * are also flushed before the actor stops.
+         *
+         * <p>Batch handlers see their messages before the handlers registered with
+         * {@link #onMessage(Class, BiFunction)}.
+         *
+         * <p>Example usage:
+         * <pre>
+         * {@code
+         * .onMessageBatch(SaveOrder.class, 100, Duration.ofMillis(5), (repository, orders) -> {
+         *     repository.saveAll(orders);
+         *     return Behaviors.same();
+         * })
+         * }
+         * </pre>
+         *
+         * @param type     the message class to handle in batches
+         * @param maxSize  the largest number of messages passed to one handler call
+         * @param maxDelay how long the first buffered message may wait for more messages
+         * @param handler  the handler function that receives state and the batch, in arrival order
+         * @param <M>      the message type
+         * @return this builder for chaining
+         * @throws IllegalArgumentException if an argument is null, maxSize is not positive, or maxDelay
+         *     is negative
+         */
+        public <M extends C> Builder<C, S> onMessageBatch(
+                Class<M> type, int maxSize, Duration maxDelay, BiFunction<S, List<M>, Behavior<C>> handler) {
+            if (type == null) {
+                throw new IllegalArgumentException("type must not be null");
+            }
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("maxSize must be positive");
+            }
+            if (maxDelay == null || maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must not be null or negative");
+            }
+            if (handler == null) {
+                throw new IllegalArgumentException("handler must not be null");
+            }
+            batchHandlers.add(new MessageBatcher.Spec<>(type, maxSize, maxDelay, handler));
+            return this;
+        }
+
+        /**
+         * Adds a handler that starts an asynchronous operation, such as a non-blocking I/O call, for
+         * each message of a specific type, without blocking the actor while it runs.
+         *
+         * <p>At most {@code maxInFlight} operations of the type run at the same time per actor.
+         * Further messages of the type are stashed and started, in arrival order, as earlier
+         * operations complete. Other messages are handled as usual in the meantime. When an operation
+         * completes, {@code onComplete} is called within a turn of the actor with the message and the
+         * outcome, so it may update the state like any other handler. Operations complete in any
+         * order.
+         *
+         * <p>Asynchronous handlers see their messages before the handlers registered with
+         * {@link #onMessage(Class, BiFunction)}. Stashed messages are held in memory and are not
+         * bounded by the actor's mailbox capacity.
+         *
+         * <p>Example usage:
+         * <pre>
+         * {@code
+         * .onMessageAsync(
+         *     FetchProfile.class,
+         *     8,
+         *     (client, msg) -> client.fetchProfile(msg.userId),
+         *     (client, result) -> {
+         *         if (result.isSuccess()) {
+         *             result.getMessage().reply(result.getValue());
+         *         }
+         *         return Behaviors.same();
+         *     })
+         * }
+         * </pre>
+         *
+         * @param type        the message class to handle asynchronously
+         * @param maxInFlight the largest number of operations of the type running at the same time
+         * @param handler     starts the operation for a message; called within a turn of the actor
+         * @param onComplete  handles the outcome of an operation; called within a turn of the actor
+         * @param <M>         the message type
+         * @param <R>         the type of the operation's value
+         * @return this builder for chaining
+         * @throws IllegalArgumentException if an argument is null or maxInFlight is not positive
+         */
+        public <M extends C, R> Builder<C, S> onMessageAsync(
+                Class<M> type,
+                int maxInFlight,
+                BiFunction<S, M, CompletionStage<R>> handler,
+                BiFunction<S, AsyncResult<M, R>, Behavior<C>> onComplete) {
+            if (type == null) {
+                throw new IllegalArgumentException("type must not be null");
+            }
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight must be positive");
+            }
+            if (handler == null) {
+                throw new IllegalArgumentException("handler must not be null");
+            }
+            if (onComplete == null) {
+                throw new IllegalArgumentException("onComplete must not be null");
+            }
+            asyncHandlers.add(new AsyncMessageLimiter.Spec<>(type, maxInFlight, handler, onComplete));
+            return this;
+        }
+
+        /**
+         * Delivers only the newest of the queued messages of a type that share a key, for actors
+         * where each message replaces the previous state of its key, such as price or presence
+         * updates.
+         *
+         * <p>Messages of the type are held back until every message that was queued when the first
+         * of them arrived has been seen. Then the newest message per key is passed to the handlers,
+         * in arrival order, and older messages with the same key are dropped. A message of any other
+         * type delivers the held messages first, so it is never reordered around them. Coalescing
+         * only filters messages; they still need a handler registered with
+         * {@link #onMessage(Class, BiFunction)} or {@link #onMessageBatch}.
+         *
+         * <p>Example usage:
+         * <pre>
+         * {@code
+         * .coalesce(PriceUpdate.class, update -> update.symbol)
+         * .onMessage(PriceUpdate.class, (book, update) -> book.apply(update))
+         * }
+         * </pre>
+         *
+         * @param type  the message class to coalesce
+         * @param keyFn extracts the key; messages with equal keys replace each other
+         * @param <M>   the message type
+         * @return this builder for chaining
+         * @throws IllegalArgumentException if type or keyFn is null
+         */
+        public <M extends C> Builder<C, S> coalesce(Class<M> type, Function<? super M, ?> keyFn) {
+            if (type == null) {
+                throw new IllegalArgumentException("type must not be null");
+            }
+            if (keyFn == null) {
+                throw new IllegalArgumentException("keyFn must not be null");
+            }
+            coalescedTypes.add(new MessageCoalescer.Spec<>(type, keyFn));
+            return this;
+        }
+
         /**
          * Adds a signal handler for a specific signal type.
          *
@@ -255,6 +511,29 @@ public final class SpringActorBehavior<C> {
          */
         public Builder<C, S> withMdc(Function<C, Map<String, String>> mdcForMessage) {
             this.mdcForMessage = mdcForMessage;
+            this.lazyMdc = false;
+            return this;
+        }
+
+        /**
+         * Like {@link #withMdc(Function)}, but the MDC is only installed when the actor actually logs.
+         *
+         * <p>{@link #withMdc(Function)} computes the per-message values and installs them, together
+         * with the static values, around every message, even if the handler does not log anything. In
+         * lazy mode the logger returned by {@link SpringBehaviorContext#getLog()} installs them around
+         * each log call whose level is enabled and removes them right after; the function is called at
+         * most once per message, on the first such call. Handlers that log rarely, or only at levels
+         * that are usually disabled, then pay nothing for MDC.
+         *
+         * <p>Only log calls made through {@link SpringBehaviorContext#getLog()} see the MDC values;
+         * the logger of the underlying Pekko context does not.
+         *
+         * @param mdcForMessage A function that computes MDC values from a message
+         * @return this builder for chaining
+         */
+        public Builder<C, S> withLazyMdc(Function<C, Map<String, String>> mdcForMessage) {
+            this.mdcForMessage = mdcForMessage;
+            this.lazyMdc = true;
             return this;
         }
 
@@ -262,17 +541,86 @@ public final class SpringActorBehavior<C> {
          * Builds the final SpringActorBehavior.
          *
          * @return the constructed behavior
+         * @throws IllegalStateException if this builder was created with
+         *     {@link SpringActorBehavior#template(Class)}
          */
         public SpringActorBehavior<C> build() {
+            if (actorContext == null) {
+                throw new IllegalStateException("Template builders have no actor context; use buildTemplate()");
+            }
+            return new SpringActorBehavior<>(createBehavior(actorContext));
+        }
+
+        /**
+         * Compiles this builder's handlers into a template that instantiates behaviors for any number
+         * of actors. The builder must not be modified afterwards.
+         *
+         * @return the template
+         */
+        public Template<C> buildTemplate() {
+            Builder<C, S> frozen = new Builder<>(commandClass, null, stateFactory);
+            frozen.enableFrameworkCommands = this.enableFrameworkCommands;
+            frozen.supervisionStrategy = this.supervisionStrategy;
+            frozen.mdcForMessage = this.mdcForMessage;
+            frozen.lazyMdc = this.lazyMdc;
+            frozen.messageHandlers.addAll(this.messageHandlers);
+            frozen.signalHandlers.addAll(this.signalHandlers);
+            frozen.batchHandlers.addAll(this.batchHandlers);
+            frozen.coalescedTypes.addAll(this.coalescedTypes);
+            frozen.asyncHandlers.addAll(this.asyncHandlers);
+            return new Template<>(frozen);
+        }
+
+        /**
+         * Creates the behavior of one actor instantiated from a template. Only the state object and a
+         * {@link TemplateBehavior} are allocated per actor; the handlers and the dispatch table are shared.
+         */
+        private Behavior<C> createTemplateBehavior(SpringActorContext actorContext) {
+            return Behaviors.setup(ctx -> {
+                LazyMdcLogger<C> lazyLog = lazyMdcLogger(ctx, actorContext);
+                SpringBehaviorContext<C> springCtx = new SpringBehaviorContext<>(ctx, lazyLog);
+                S state = stateFactory.apply(springCtx, actorContext);
+                ActorDispatcher<S> generated = ActorDispatchers.find(state);
+
+                List<Class<?>> types = handlerTypes(generated);
+                if (enableFrameworkCommands) {
+                    // Framework message types come first, as in createFrameworkCommandHandlingBehavior
+                    types.addAll(0, FRAMEWORK_MESSAGE_TYPES);
+                }
+                MessageDispatchTable dispatchTable = MessageDispatchTable.forHandlerTypes(commandClass, types);
+                Behavior<C> behavior = withMessageBuffering(
+                        ctx, state, new TemplateBehavior<>(this, springCtx, state, generated, dispatchTable).narrow());
+
+                // Apply supervision strategy if provided
+                if (supervisionStrategy != null) {
+                    behavior = Behaviors.supervise(behavior).onFailure(supervisionStrategy);
+                }
+
+                // Wrap with MDC if configured
+                behavior = wrapWithMdcIfConfigured(behavior, actorContext, lazyLog);
+
+                // Outermost, so every other layer sees the messages of timers unwrapped
+                return SpringActorTimers.interceptDeliveries(behavior);
+            });
+        }
+
+        /**
+         * Creates the behavior of one actor, building the handler cases for this instance.
+         */
+        private Behavior<C> createBehavior(SpringActorContext actorContext) {
             if (enableFrameworkCommands) {
                 // Wrap with framework command handling
                 Behavior<C> behaviorWithFramework = Behaviors.setup(ctx -> {
                     // Wrap ActorContext with SpringBehaviorContext
-                    SpringBehaviorContext<C> springCtx = new SpringBehaviorContext<>(ctx);
+                    LazyMdcLogger<C> lazyLog = lazyMdcLogger(ctx, actorContext);
+                    SpringBehaviorContext<C> springCtx = new SpringBehaviorContext<>(ctx, lazyLog);
                     // Create the state object
-                    S state = stateFactory.apply(springCtx);
+                    S state = stateFactory.apply(springCtx, actorContext);
+                    // Handlers generated from @ActorHandler methods of the state class, if any
+                    ActorDispatcher<S> generated = ActorDispatchers.find(state);
 
-                    Behavior<C> behavior = createFrameworkCommandHandlingBehavior(ctx, state);
+                    Behavior<C> behavior = createFrameworkCommandHandlingBehavior(ctx, springCtx, state, generated);
+                    behavior = withMessageBuffering(ctx, state, behavior);
 
                     // Apply supervision strategy if provided
                     if (supervisionStrategy != null) {
@@ -280,18 +628,22 @@ public final class SpringActorBehavior<C> {
                     }
 
                     // Wrap with MDC if configured
-                    behavior = wrapWithMdcIfConfigured(behavior);
+                    behavior = wrapWithMdcIfConfigured(behavior, actorContext, lazyLog);
+
+                    // Outermost, so every other layer sees the messages of timers unwrapped
+                    behavior = SpringActorTimers.interceptDeliveries(behavior);
 
                     return behavior;
                 });
-                return new SpringActorBehavior<>(behaviorWithFramework);
+                return behaviorWithFramework;
             } else {
                 // No framework commands - just create the user behavior
                 Behavior<C> userBehavior = Behaviors.setup(ctx -> {
                     // Wrap ActorContext with SpringBehaviorContext
-                    SpringBehaviorContext<C> springCtx = new SpringBehaviorContext<>(ctx);
+                    LazyMdcLogger<C> lazyLog = lazyMdcLogger(ctx, actorContext);
+                    SpringBehaviorContext<C> springCtx = new SpringBehaviorContext<>(ctx, lazyLog);
                     // Create the state object
-                    S state = stateFactory.apply(springCtx);
+                    S state = stateFactory.apply(springCtx, actorContext);
 
                     BehaviorBuilder<C> builder = Behaviors.receive(commandClass);
 
@@ -301,11 +653,22 @@ public final class SpringActorBehavior<C> {
                     }
 
                     // Add all signal handlers
-                    for (SignalHandler<C, S, ?> handler : signalHandlers) {
-                        builder = handler.addTo(builder, state);
+                    builder = builder.onSignal(Signal.class, sig -> handleSignal(springCtx, state, sig));
+
+                    // Handlers generated from @ActorHandler methods run after the registered ones
+                    ActorDispatcher<S> generated = ActorDispatchers.find(state);
+                    MessageDispatchTable dispatchTable =
+                            MessageDispatchTable.forHandlerTypes(commandClass, handlerTypes(generated));
+                    if (generated != null) {
+                        builder = builder.onMessage(
+                                commandClass, msg -> dispatch(dispatchTable, state, generated, msg));
                     }
 
-                    Behavior<C> behavior = builder.build();
+                    // Unpack bursts sent with tellAll; only reached by messages no handler matched
+                    builder = builder.onMessage(batchClass(), batch -> ((MessageBatch) batch)
+                            .deliver(ctx, m -> dispatch(dispatchTable, state, generated, m)));
+
+                    Behavior<C> behavior = withMessageBuffering(ctx, state, builder.build());
 
                     // Apply supervision strategy if provided
                     if (supervisionStrategy != null) {
@@ -313,18 +676,57 @@ public final class SpringActorBehavior<C> {
                     }
 
                     // Wrap with MDC if configured
-                    behavior = wrapWithMdcIfConfigured(behavior);
+                    behavior = wrapWithMdcIfConfigured(behavior, actorContext, lazyLog);
+
+                    // Outermost, so every other layer sees the messages of timers unwrapped
+                    behavior = SpringActorTimers.interceptDeliveries(behavior);
 
                     return behavior;
                 });
-                return new SpringActorBehavior<>(userBehavior);
+                return userBehavior;
+            }
+        }
+
+        /**
+         * Lets a per-actor {@link AsyncMessageLimiter}, {@link MessageBatcher} and
+         * {@link MessageCoalescer} see every message first if asynchronous handlers, batch handlers or
+         * coalesced types are registered.
+         */
+        private Behavior<C> withMessageBuffering(ActorContext<C> ctx, S state, Behavior<C> behavior) {
+            if (!asyncHandlers.isEmpty()) {
+                behavior = new AsyncMessageLimiter<>(state, commandClass, asyncHandlers).wrap(behavior);
             }
+            if (!batchHandlers.isEmpty()) {
+                behavior = new MessageBatcher<>(ctx, state, commandClass, batchHandlers).wrap(behavior);
+            }
+            if (!coalescedTypes.isEmpty()) {
+                // Outermost, so batch handlers only see the messages that survived coalescing
+                behavior = new MessageCoalescer<>(ctx, commandClass, coalescedTypes).wrap(behavior);
+            }
+            return behavior;
+        }
+
+        /**
+         * Creates the lazy MDC logger of one actor, or returns null if MDC is eager or not configured.
+         */
+        @Nullable private LazyMdcLogger<C> lazyMdcLogger(ActorContext<C> ctx, SpringActorContext actorContext) {
+            Map<String, String> staticMdc = actorContext.mdcConfig().getMdc();
+            if (!lazyMdc || (staticMdc.isEmpty() && mdcForMessage == null)) {
+                return null;
+            }
+            return new LazyMdcLogger<>(ctx, commandClass, staticMdc, mdcForMessage);
         }
 
         /**
-         * Wraps the behavior with MDC if either static or dynamic MDC is configured.
+         * Wraps the behavior with MDC if either static or dynamic MDC is configured. In lazy mode the
+         * behavior only records the current message for the lazy logger.
          */
-        private Behavior<C> wrapWithMdcIfConfigured(Behavior<C> behavior) {
+        private Behavior<C> wrapWithMdcIfConfigured(
+                Behavior<C> behavior, SpringActorContext actorContext, @Nullable LazyMdcLogger<C> lazyLog) {
+            if (lazyLog != null) {
+                return lazyLog.track(behavior);
+            }
+
             // Get static MDC from context
             Map<String, String> staticMdc = actorContext.mdcConfig().getMdc();
             boolean hasStaticMdc = !staticMdc.isEmpty();
@@ -353,52 +755,127 @@ public final class SpringActorBehavior<C> {
          * Creates a behavior that intercepts framework commands before delegating to user handlers.
          */
         @SuppressWarnings("unchecked")
-        private Behavior<C> createFrameworkCommandHandlingBehavior(ActorContext<C> ctx, S state) {
+        private Behavior<C> createFrameworkCommandHandlingBehavior(
+                ActorContext<C> ctx,
+                SpringBehaviorContext<C> springCtx,
+                S state,
+                @Nullable ActorDispatcher<S> generated) {
+            // Framework message types come first in the table, so they take precedence over user handlers
+            List<Class<?>> types = new ArrayList<>(FRAMEWORK_MESSAGE_TYPES);
+            types.addAll(handlerTypes(generated));
+            MessageDispatchTable dispatchTable = MessageDispatchTable.forHandlerTypes(commandClass, types);
+
             // Use Object.class to receive both framework commands and user commands
             return Behaviors.receive(Object.class)
-                    .onMessage(Object.class, msg -> {
-                        // Handle framework commands first
-                        if (msg instanceof FrameworkCommands.SpawnChild) {
-                            handleSpawnChild(ctx, (FrameworkCommands.SpawnChild<?>) msg);
-                            return Behaviors.same();
-                        }
-                        if (msg instanceof FrameworkCommands.GetChild) {
-                            handleGetChild(ctx, (FrameworkCommands.GetChild<?>) msg);
-                            return Behaviors.same();
-                        }
-                        if (msg instanceof FrameworkCommands.ExistsChild) {
-                            handleExistsChild(ctx, (FrameworkCommands.ExistsChild<?>) msg);
-                            return Behaviors.same();
-                        }
-
-                        // If it's a user command, handle it
-                        if (commandClass.isInstance(msg)) {
-                            C typedMsg = (C) msg;
-                            // Try each user message handler
-                            for (MessageHandler<C, S, ?> handler : messageHandlers) {
-                                Behavior<C> result = handler.tryHandle(typedMsg, state);
-                                if (result != null) {
-                                    return (Behavior<Object>) result;
-                                }
-                            }
-                        }
-
-                        return Behaviors.unhandled();
-                    })
-                    .onSignal(Signal.class, sig -> {
-                        // Try each signal handler
-                        for (SignalHandler<C, S, ?> handler : signalHandlers) {
-                            Behavior<C> result = handler.tryHandle(sig, state);
-                            if (result != null) {
-                                return (Behavior<Object>) result;
-                            }
-                        }
-                        return Behaviors.unhandled();
-                    })
+                    .onMessage(Object.class, msg -> (Behavior<Object>)
+                            receiveWithFrameworkCommands(ctx, state, generated, dispatchTable, msg))
+                    .onSignal(Signal.class, sig -> (Behavior<Object>) handleSignal(springCtx, state, sig))
                     .build()
                     .narrow();
         }
 
+        /**
+         * Passes a signal to the first matching signal handler. Timers started through
+         * {@link SpringBehaviorContext#timers()} are cancelled when the actor stops or restarts.
+         */
+        private Behavior<C> handleSignal(SpringBehaviorContext<C> springCtx, S state, Signal sig) {
+            if (sig instanceof PostStop || sig instanceof PreRestart) {
+                springCtx.cancelTimers();
+            }
+            for (SignalHandler<C, S, ?> handler : signalHandlers) {
+                Behavior<C> result = handler.tryHandle(sig, state);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return Behaviors.unhandled();
+        }
+
+        /**
+         * Handles one message with a single table lookup instead of a scan over all handlers.
+         */
+        private Behavior<C> receiveWithFrameworkCommands(
+                ActorContext<C> ctx,
+                S state,
+                @Nullable ActorDispatcher<S> generated,
+                MessageDispatchTable dispatchTable,
+                Object msg) {
+            int index = dispatchTable.indexOf(msg.getClass());
+            switch (index) {
+                case MessageDispatchTable.NO_HANDLER:
+                    return Behaviors.unhandled();
+                case SPAWN_CHILD:
+                    handleSpawnChild(ctx, (FrameworkCommands.SpawnChild<?>) msg);
+                    return Behaviors.same();
+                case GET_OR_SPAWN_CHILD:
+                    handleGetOrSpawnChild(ctx, (FrameworkCommands.GetOrSpawnChild<?>) msg);
+                    return Behaviors.same();
+                case SPAWN_CHILDREN:
+                    handleSpawnChildren(ctx, (FrameworkCommands.SpawnChildren<?>) msg);
+                    return Behaviors.same();
+                case GET_CHILD:
+                    handleGetChild(ctx, (FrameworkCommands.GetChild<?>) msg);
+                    return Behaviors.same();
+                case EXISTS_CHILD:
+                    handleExistsChild(ctx, (FrameworkCommands.ExistsChild<?>) msg);
+                    return Behaviors.same();
+                case MESSAGE_BATCH:
+                    // Unpack bursts sent with tellAll
+                    return ((MessageBatch) msg)
+                            .deliver(ctx, m -> receiveWithFrameworkCommands(ctx, state, generated, dispatchTable, m));
+                default:
+                    return handleUserMessage(index - FRAMEWORK_MESSAGE_TYPES.size(), state, generated, msg);
+            }
+        }
+
+        /**
+         * Passes a message to the first user message handler that accepts it.
+         */
+        private Behavior<C> dispatch(
+                MessageDispatchTable dispatchTable, S state, @Nullable ActorDispatcher<S> generated, Object msg) {
+            int index = dispatchTable.indexOf(msg.getClass());
+            if (index == MessageDispatchTable.NO_HANDLER) {
+                return Behaviors.unhandled();
+            }
+            return handleUserMessage(index, state, generated, msg);
+        }
+
+        /**
+         * Invokes the user handler at the given index: registered handlers first, then generated ones.
+         */
+        @SuppressWarnings("unchecked")
+        private Behavior<C> handleUserMessage(
+                int handlerIndex, S state, @Nullable ActorDispatcher<S> generated, Object msg) {
+            if (handlerIndex < messageHandlers.size()) {
+                return messageHandlers.get(handlerIndex).handle(state, msg);
+            }
+            return (Behavior<C>) Objects.requireNonNull(generated)
+                    .dispatch(state, handlerIndex - messageHandlers.size(), msg);
+        }
+
+        /**
+         * Returns the message types of the user handlers in dispatch order: registered handlers in
+         * registration order, followed by the generated ones.
+         */
+        private List<Class<?>> handlerTypes(@Nullable ActorDispatcher<S> generated) {
+            List<Class<?>> types = new ArrayList<>(messageHandlers.size());
+            for (MessageHandler<C, S, ?> handler : messageHandlers) {
+                types.add(handler.type);
+            }
+            if (generated != null) {
+                types.addAll(generated.messageTypes());
+            }
+            return types;
+        }
+
+        /**
+         * Returns the batch envelope class typed as a command, so it can be matched by a BehaviorBuilder.
+         */
+        @SuppressWarnings("unchecked")
+        private Class<C> batchClass() {
+            return (Class<C>) (Class<?>) MessageBatch.class;
+        }
+
         /**
          * Handles SpawnChild framework command.
          */
@@ -417,8 +894,7 @@ public final class SpringActorBehavior<C> {
                     return;
                 }
 
-                // Spawn the child using the centralized spawning logic with static ActorTypeRegistry
-                ActorRef<CC> childRef = ActorSpawner.spawnActor(
+                ActorRef<CC> childRef = spawnChild(
                         ctx,
                         msg.actorClass,
                         childContext,
@@ -426,10 +902,7 @@ public final class SpringActorBehavior<C> {
                         msg.strategy,
                         msg.mailboxConfig,
                         msg.dispatcherConfig,
-                        msg.tagsConfig,
-                        null, // clusterSingleton - not supported for child actors
-                        false // isClusterSingleton - not supported for child actors
-                        );
+                        msg.tagsConfig);
 
                 msg.replyTo.tell(FrameworkCommands.SpawnChildResponse.success(childRef));
 
@@ -440,6 +913,103 @@ public final class SpringActorBehavior<C> {
             }
         }
 
+        /**
+         * Handles GetOrSpawnChild framework command. Replies with the existing child if there is one,
+         * otherwise spawns it within the same message turn.
+         */
+        @SuppressWarnings("unchecked")
+        private <CC> void handleGetOrSpawnChild(ActorContext<C> ctx, FrameworkCommands.GetOrSpawnChild<CC> msg) {
+            try {
+                SpringActorContext childContext = msg.childContext;
+                String childName = ActorSpawner.buildActorName(msg.actorClass, childContext.actorId());
+
+                ActorRef<CC> existingChild =
+                        (ActorRef<CC>) ctx.getChild(childName).orElse(null);
+                if (existingChild != null) {
+                    msg.replyTo.tell(FrameworkCommands.SpawnChildResponse.alreadyExists(existingChild));
+                    return;
+                }
+
+                ActorRef<CC> childRef = spawnChild(
+                        ctx,
+                        msg.actorClass,
+                        childContext,
+                        childName,
+                        msg.strategy,
+                        msg.mailboxConfig,
+                        msg.dispatcherConfig,
+                        msg.tagsConfig);
+
+                msg.replyTo.tell(FrameworkCommands.SpawnChildResponse.success(childRef));
+
+            } catch (Exception e) {
+                ctx.getLog().error("Failed to spawn child actor", e);
+                msg.replyTo.tell(
+                        FrameworkCommands.SpawnChildResponse.failure("Failed to spawn child: " + e.getMessage()));
+            }
+        }
+
+        /**
+         * Handles SpawnChildren framework command. Existing children are reused; a child that fails
+         * to spawn is reported in the response without affecting the others.
+         */
+        @SuppressWarnings("unchecked")
+        private <CC> void handleSpawnChildren(ActorContext<C> ctx, FrameworkCommands.SpawnChildren<CC> msg) {
+            Map<String, ActorRef<CC>> childRefs = new HashMap<>();
+            Map<String, String> failures = new HashMap<>();
+
+            for (SpringActorContext childContext : msg.childContexts) {
+                String childName = ActorSpawner.buildActorName(msg.actorClass, childContext.actorId());
+                try {
+                    ActorRef<CC> childRef =
+                            (ActorRef<CC>) ctx.getChild(childName).orElse(null);
+                    if (childRef == null) {
+                        childRef = spawnChild(
+                                ctx,
+                                msg.actorClass,
+                                childContext,
+                                childName,
+                                msg.strategy,
+                                msg.mailboxConfig,
+                                msg.dispatcherConfig,
+                                msg.tagsConfig);
+                    }
+                    childRefs.put(childContext.actorId(), childRef);
+                } catch (Exception e) {
+                    ctx.getLog().error("Failed to spawn child actor {}", childName, e);
+                    failures.put(childContext.actorId(), "Failed to spawn child: " + e.getMessage());
+                }
+            }
+
+            msg.replyTo.tell(new FrameworkCommands.SpawnChildrenResponse<>(childRefs, failures));
+        }
+
+        /**
+         * Spawns a child using the centralized spawning logic with static ActorTypeRegistry.
+         */
+        private <CC> ActorRef<CC> spawnChild(
+                ActorContext<C> ctx,
+                Class<?> actorClass,
+                SpringActorContext childContext,
+                String childName,
+                @Nullable SupervisorStrategy strategy,
+                MailboxConfig mailboxConfig,
+                DispatcherConfig dispatcherConfig,
+                TagsConfig tagsConfig) {
+            return ActorSpawner.spawnActor(
+                    ctx,
+                    actorClass,
+                    childContext,
+                    childName,
+                    strategy,
+                    mailboxConfig,
+                    dispatcherConfig,
+                    tagsConfig,
+                    null, // clusterSingleton - not supported for child actors
+                    false // isClusterSingleton - not supported for child actors
+                    );
+        }
+
         /**
          * Handles GetChild framework command.
          */
@@ -448,9 +1018,9 @@ public final class SpringActorBehavior<C> {
             ActorRef<CC> childRef = ActorSpawner.getActor(ctx, msg.actorClass, msg.childId);
 
             if (childRef != null) {
-                msg.replyTo.tell(FrameworkCommands.GetChildResponse.found(childRef));
+                msg.reply(FrameworkCommands.GetChildResponse.found(childRef));
             } else {
-                msg.replyTo.tell(FrameworkCommands.GetChildResponse.notFound());
+                msg.reply(FrameworkCommands.GetChildResponse.notFound());
             }
         }
 
@@ -461,9 +1031,58 @@ public final class SpringActorBehavior<C> {
             boolean exists = ActorSpawner.actorExists(ctx, msg.actorClass, msg.childId);
 
             if (exists) {
-                msg.replyTo.tell(FrameworkCommands.ExistsChildResponse.exists());
+                msg.reply(FrameworkCommands.ExistsChildResponse.exists());
             } else {
-                msg.replyTo.tell(FrameworkCommands.ExistsChildResponse.notExists());
+                msg.reply(FrameworkCommands.ExistsChildResponse.notExists());
+            }
+        }
+
+        /**
+         * The per-actor behavior of a template instance. It holds the actor's state and delegates
+         * everything else to the shared builder, so no handler cases are built per actor.
+         */
+        private static final class TemplateBehavior<C, S> extends ExtensibleBehavior<Object> {
+            private final Builder<C, S> template;
+            private final SpringBehaviorContext<C> springCtx;
+            private final S state;
+
+            @Nullable private final ActorDispatcher<S> generated;
+
+            private final MessageDispatchTable dispatchTable;
+
+            TemplateBehavior(
+                    Builder<C, S> template,
+                    SpringBehaviorContext<C> springCtx,
+                    S state,
+                    @Nullable ActorDispatcher<S> generated,
+                    MessageDispatchTable dispatchTable) {
+                this.template = template;
+                this.springCtx = springCtx;
+                this.state = state;
+                this.generated = generated;
+                this.dispatchTable = dispatchTable;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Behavior<Object> receive(TypedActorContext<Object> ctx, Object msg) {
+                ActorContext<C> actorContext = (ActorContext<C>) (ActorContext<?>) ctx.asJava();
+                Behavior<C> next;
+                if (template.enableFrameworkCommands) {
+                    next = template.receiveWithFrameworkCommands(actorContext, state, generated, dispatchTable, msg);
+                } else if (msg instanceof MessageBatch) {
+                    next = ((MessageBatch) msg)
+                            .deliver(actorContext, m -> template.dispatch(dispatchTable, state, generated, m));
+                } else {
+                    next = template.dispatch(dispatchTable, state, generated, msg);
+                }
+                return (Behavior<Object>) (Behavior<?>) next;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Behavior<Object> receiveSignal(TypedActorContext<Object> ctx, Signal sig) {
+                return (Behavior<Object>) (Behavior<?>) template.handleSignal(springCtx, state, sig);
             }
         }
 
@@ -484,11 +1103,8 @@ public final class SpringActorBehavior<C> {
             }
 
             @SuppressWarnings("unchecked")
-            @Nullable Behavior<C> tryHandle(C msg, S state) {
-                if (type.isInstance(msg)) {
-                    return handler.apply(state, (M) msg);
-                }
-                return null;
+            Behavior<C> handle(S state, Object msg) {
+                return handler.apply(state, (M) msg);
             }
         }
 
@@ -504,10 +1120,6 @@ public final class SpringActorBehavior<C> {
                 this.handler = handler;
             }
 
-            BehaviorBuilder<C> addTo(BehaviorBuilder<C> builder, S state) {
-                return builder.onSignal(type, sig -> handler.apply(state, sig));
-            }
-
             @SuppressWarnings("unchecked")
             @Nullable Behavior<C> tryHandle(Signal sig, S state) {
                 if (type.isInstance(sig)) {
@@ -517,4 +1129,32 @@ public final class SpringActorBehavior<C> {
             }
         }
     }
+
+    /**
+     * A handler set compiled once by {@link Builder#buildTemplate()} and shared by every actor
+     * instantiated from it. Templates are immutable and thread-safe.
+     *
+     * @param <C> The command type of the actors
+     * @see SpringActorBehavior#template(Class)
+     */
+    public static final class Template<C> {
+        private final Builder<C, ?> builder;
+
+        private Template(Builder<C, ?> builder) {
+            this.builder = builder;
+        }
+
+        /**
+         * Creates the behavior of one actor. Only the state object is created per actor.
+         *
+         * @param actorContext the Spring actor context of the actor
+         * @return the behavior of the actor
+         */
+        public SpringActorBehavior<C> instantiate(SpringActorContext actorContext) {
+            if (actorContext == null) {
+                throw new IllegalArgumentException("actorContext must not be null");
+            }
+            return new SpringActorBehavior<>(builder.createTemplateBehavior(actorContext));
+        }
+    }
 }
@@ -1,14 +1,18 @@
 package io.github.seonwkim.core;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.PoisonPill;
 import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
 import org.apache.pekko.actor.typed.Scheduler;
 import org.apache.pekko.actor.typed.javadsl.AskPattern;
+import org.apache.pekko.dispatch.ExecutionContexts;
 import org.apache.pekko.japi.function.Function;
 
 /**
@@ -22,6 +26,7 @@ public class SpringActorHandle<T> {
     private final Scheduler scheduler;
     private final ActorRef<T> actorRef;
     private final Duration defaultTimeout;
+    @Nullable private final AskDeadlineTracker deadlineTracker;
 
     /**
      * Creates a builder for SpringActorHandle.
@@ -38,6 +43,11 @@ public class SpringActorHandle<T> {
     /** Default value for the default timeout in seconds. */
     public static final int DEFAULT_TIMEOUT_SECONDS = ActorConstants.DEFAULT_TIMEOUT_SECONDS;
 
+    /** The upper bound of the backoff between two attempts of {@link #offerAsync(Object, Duration)}. */
+    public static final Duration MAX_OFFER_RETRY_DELAY = Duration.ofMillis(50);
+
+    private static final Duration MIN_OFFER_RETRY_DELAY = Duration.ofMillis(1);
+
     /**
      * Creates a new SpringActorHandle with the given scheduler and actor reference.
      *
@@ -56,6 +66,23 @@ public class SpringActorHandle<T> {
      * @param defaultTimeout The default timeout for ask operations
      */
     public SpringActorHandle(Scheduler scheduler, ActorRef<T> actorRef, Duration defaultTimeout) {
+        this(scheduler, actorRef, defaultTimeout, null);
+    }
+
+    /**
+     * Creates a new SpringActorHandle that tracks ask deadlines with the given tracker instead of
+     * scheduling a separate timeout per ask.
+     *
+     * @param scheduler The scheduler to use for asking messages
+     * @param actorRef The actor reference to wrap
+     * @param defaultTimeout The default timeout for ask operations
+     * @param deadlineTracker The deadline tracker of the actor system (null to use AskPattern)
+     */
+    public SpringActorHandle(
+            Scheduler scheduler,
+            ActorRef<T> actorRef,
+            Duration defaultTimeout,
+            @Nullable AskDeadlineTracker deadlineTracker) {
         if (scheduler == null) {
             throw new IllegalArgumentException("scheduler must not be null");
         }
@@ -68,6 +95,7 @@ public class SpringActorHandle<T> {
         this.scheduler = scheduler;
         this.actorRef = actorRef;
         this.defaultTimeout = defaultTimeout;
+        this.deadlineTracker = deadlineTracker;
     }
 
     /**
@@ -99,7 +127,110 @@ public class SpringActorHandle<T> {
      */
     @SuppressWarnings("unchecked")
     public <RES> AskBuilder<T, RES> ask(AskCommand<RES> command) {
-        return new AskBuilder<>(replyTo -> (T) command.withReplyTo(replyTo), actorRef, scheduler, defaultTimeout);
+        return new AskBuilder<>(
+                replyTo -> (T) command.withReplyTo(replyTo),
+                command,
+                actorRef,
+                scheduler,
+                defaultTimeout,
+                deadlineTracker);
+    }
+
+    /**
+     * Opens a long-lived {@link AskChannel} to this actor. The channel tracks its requests on the
+     * actor system's {@link AskDeadlineTracker}, even if this handle was created without one, and
+     * fails the requests that are still pending when it is closed. Close it when done.
+     *
+     * <p>Example usage:
+     * <pre>
+     * {@code
+     * AskChannel<Command> channel = springActorHandle.askChannel(springActorSystem.getRaw());
+     * CompletionStage<String> result = channel.ask(new GetUserName("user123"));
+     * }
+     * </pre>
+     *
+     * @param actorSystem The actor system whose deadline tracker tracks the requests
+     * @return A new AskChannel using this handle's default timeout
+     */
+    public AskChannel<T> askChannel(ActorSystem<?> actorSystem) {
+        return new AskChannel<>(actorSystem, actorRef, defaultTimeout);
+    }
+
+    /**
+     * Asks the actor and blocks until the reply arrives, using the default timeout. Intended for
+     * thread-per-request callers such as Spring MVC controllers running on virtual threads, where the
+     * wait only parks the virtual thread. Calls on a dispatcher thread of the actor system are
+     * reported or rejected according to {@link AwaitGuard}.
+     *
+     * <p>Example usage:
+     * <pre>
+     * {@code
+     * String name = springActorHandle.askAndAwait(new GetUserName("user123"));
+     * }
+     * </pre>
+     *
+     * @param command The command that implements AskCommand (must also be assignable to T)
+     * @param <RES> The type of the response message
+     * @return The response
+     * @throws java.util.concurrent.CompletionException If the ask fails or times out
+     */
+    public <RES> RES askAndAwait(AskCommand<RES> command) {
+        return ask(command).executeAndAwait();
+    }
+
+    /**
+     * Asks the actor with a custom timeout and blocks until the reply arrives. See
+     * {@link #askAndAwait(AskCommand)}.
+     *
+     * @param command The command that implements AskCommand (must also be assignable to T)
+     * @param timeout The maximum time to wait for a response
+     * @param <RES> The type of the response message
+     * @return The response
+     * @throws java.util.concurrent.CompletionException If the ask fails or times out
+     */
+    public <RES> RES askAndAwait(AskCommand<RES> command, Duration timeout) {
+        return ask(command).withTimeout(timeout).executeAndAwait();
+    }
+
+    /**
+     * Asks the actor with a {@link StreamingAskCommand} and passes its replies to the listener,
+     * using the default timeout as the maximum time between two replies. The actor sends the
+     * elements requested through the returned subscription; see
+     * {@link AskDeadlineTracker#stream(org.apache.pekko.actor.typed.RecipientRef, StreamingAskCommand,
+     * Duration, AskDeadlineTracker.StreamListener)}. Use {@link ReactiveAsks} to consume the stream
+     * as a {@code Flux}.
+     *
+     * @param command The streaming command (must also be assignable to T)
+     * @param listener Receives the elements and the terminal signal of the stream
+     * @param <E> The type of the streamed elements
+     * @return The subscription that requests elements and cancels the stream
+     * @throws IllegalStateException If the handle was not obtained from {@link SpringActorSystem}
+     */
+    public <E> AskDeadlineTracker.StreamSubscription askStream(
+            StreamingAskCommand<E> command, AskDeadlineTracker.StreamListener<E> listener) {
+        return askStream(command, defaultTimeout, listener);
+    }
+
+    /**
+     * Asks the actor with a {@link StreamingAskCommand} and a custom idle timeout. See
+     * {@link #askStream(StreamingAskCommand, AskDeadlineTracker.StreamListener)}.
+     *
+     * @param command The streaming command (must also be assignable to T)
+     * @param idleTimeout The maximum time to wait between two replies
+     * @param listener Receives the elements and the terminal signal of the stream
+     * @param <E> The type of the streamed elements
+     * @return The subscription that requests elements and cancels the stream
+     * @throws IllegalStateException If the handle was not obtained from {@link SpringActorSystem}
+     */
+    public <E> AskDeadlineTracker.StreamSubscription askStream(
+            StreamingAskCommand<E> command, Duration idleTimeout, AskDeadlineTracker.StreamListener<E> listener) {
+        AskDeadlineTracker tracker = deadlineTracker;
+        if (tracker == null) {
+            throw new IllegalStateException(
+                    "Streaming asks require a handle obtained from SpringActorSystem, which provides an "
+                            + "AskDeadlineTracker");
+        }
+        return tracker.stream(actorRef, command, idleTimeout, listener);
     }
 
     /**
@@ -111,6 +242,107 @@ public class SpringActorHandle<T> {
         actorRef.tell(message);
     }
 
+    /**
+     * Sends a burst of messages to the actor as a single envelope. The burst takes one mailbox slot
+     * and is unpacked within one turn of the actor, so handlers still receive the messages one by one
+     * and in order, without the per-message enqueue cost of calling {@link #tell(Object)} in a loop.
+     * An empty collection sends nothing.
+     *
+     * <p>The actor's behavior must be built with {@link SpringActorBehavior}, which unpacks the
+     * envelope; other behaviors see an unhandled {@link MessageBatch}.
+     *
+     * @param messages The messages to send, in order
+     * @throws IllegalArgumentException If the collection is null or contains null
+     */
+    @SuppressWarnings("unchecked")
+    public void tellAll(Collection<? extends T> messages) {
+        MessageBatch batch = MessageBatch.of(messages);
+        if (!batch.messages.isEmpty()) {
+            actorRef.tell((T) batch);
+        }
+    }
+
+    /**
+     * Offers a message to the actor without blocking. Unlike {@link #tell(Object)}, which silently
+     * turns messages into dead letters when a bounded mailbox overflows, offer reports whether the
+     * message was sent, so callers can apply backpressure (for example by answering HTTP 429).
+     *
+     * <p>Capacity is only known for local actors with a bounded mailbox (see
+     * {@link MailboxConfig#bounded(int)} and {@link MailboxConfig#mpscArray(int, OverflowStrategy)});
+     * messages to other actors are always sent. The capacity check and the enqueue are a single
+     * step, so concurrent senders never overflow the mailbox through offer.
+     *
+     * <p>Example usage:
+     * <pre>
+     * {@code
+     * if (springActorHandle.offer(new Enqueue(job)) == OfferResult.FULL) {
+     *     return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+     * }
+     * }
+     * </pre>
+     *
+     * @param message The message to send
+     * @return {@link OfferResult#ACCEPTED} if the message was sent, {@link OfferResult#FULL} if the
+     *     mailbox is at capacity, or {@link OfferResult#DROPPED} if the actor has terminated
+     */
+    public OfferResult offer(T message) {
+        OfferResult result = MailboxProbe.offer(actorRef, message);
+        if (result != OfferResult.ACCEPTED) {
+            MailboxEvents.offerRejected(actorRef, result);
+        }
+        return result;
+    }
+
+    /**
+     * Offers a message to the actor, waiting up to the default timeout for mailbox capacity to free
+     * up. See {@link #offer(Object)}.
+     *
+     * @param message The message to send
+     * @return A CompletionStage completed with the result once the message was sent, the actor
+     *     terminated, or the timeout elapsed with the mailbox still full
+     */
+    public CompletionStage<OfferResult> offerAsync(T message) {
+        return offerAsync(message, defaultTimeout);
+    }
+
+    /**
+     * Offers a message to the actor, waiting up to the given timeout for mailbox capacity to free up.
+     * While the mailbox is full the offer is retried with an exponential backoff of at most
+     * {@link #MAX_OFFER_RETRY_DELAY}. See {@link #offer(Object)}.
+     *
+     * @param message The message to send
+     * @param timeout The maximum time to wait for capacity
+     * @return A CompletionStage completed with the result once the message was sent, the actor
+     *     terminated, or the timeout elapsed with the mailbox still full
+     */
+    public CompletionStage<OfferResult> offerAsync(T message, Duration timeout) {
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+        CompletableFuture<OfferResult> future = new CompletableFuture<>();
+        retryOffer(message, future, System.nanoTime() + timeout.toNanos(), MIN_OFFER_RETRY_DELAY);
+        return future;
+    }
+
+    private void retryOffer(T message, CompletableFuture<OfferResult> future, long deadlineNanos, Duration delay) {
+        OfferResult result = MailboxProbe.offer(actorRef, message);
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (result != OfferResult.FULL || remainingNanos <= 0) {
+            if (result != OfferResult.ACCEPTED) {
+                MailboxEvents.offerRejected(actorRef, result);
+            }
+            future.complete(result);
+            return;
+        }
+        Duration nextDelay = delay.multipliedBy(2).compareTo(MAX_OFFER_RETRY_DELAY) < 0
+                ? delay.multipliedBy(2)
+                : MAX_OFFER_RETRY_DELAY;
+        scheduler.scheduleOnce(
+                Duration.ofNanos(Math.min(delay.toNanos(), remainingNanos)),
+                () -> retryOffer(message, future, deadlineNanos, nextDelay),
+                ExecutionContexts.parasitic());
+    }
+
     /**
      * Returns the underlying actor reference.
      *
@@ -196,7 +428,8 @@ public class SpringActorHandle<T> {
      */
     public <CC> SpringChildActorReference<T, CC> child(
             Class<? extends SpringActorWithContext<CC, ?>> childActorClass, String childId) {
-        return new SpringChildActorReference<>(actorRef, scheduler, childActorClass, childId, defaultTimeout);
+        return new SpringChildActorReference<>(
+                actorRef, scheduler, childActorClass, childId, defaultTimeout, deadlineTracker);
     }
 
     /**
@@ -228,7 +461,7 @@ public class SpringActorHandle<T> {
      * @return A fluent builder for configuring and spawning the child actor
      */
     public <CC> SpringChildActorBuilder<T, CC> child(Class<? extends SpringActorWithContext<CC, ?>> childActorClass) {
-        return new SpringChildActorBuilder<>(actorRef, scheduler, childActorClass, defaultTimeout);
+        return new SpringChildActorBuilder<>(actorRef, scheduler, childActorClass, defaultTimeout, deadlineTracker);
     }
 
     /**
@@ -241,8 +474,10 @@ public class SpringActorHandle<T> {
      */
     public static class AskBuilder<REQ, RES> {
         private final Function<ActorRef<RES>, REQ> messageFactory;
+        @Nullable private final AskCommand<RES> command;
         private final ActorRef<REQ> actorRef;
         private final Scheduler scheduler;
+        @Nullable private final AskDeadlineTracker deadlineTracker;
         private Duration timeout;
 
         @Nullable private Supplier<RES> timeoutHandler;
@@ -260,10 +495,33 @@ public class SpringActorHandle<T> {
                 ActorRef<REQ> actorRef,
                 Scheduler scheduler,
                 Duration defaultTimeout) {
+            this(messageFactory, null, actorRef, scheduler, defaultTimeout, null);
+        }
+
+        /**
+         * Creates a new AskBuilder that sends the command through the deadline tracker when one is
+         * given, and falls back to the message factory otherwise.
+         *
+         * @param messageFactory The message factory function
+         * @param command The command to send through the deadline tracker
+         * @param actorRef The actor reference to ask
+         * @param scheduler The scheduler for the ask pattern
+         * @param defaultTimeout The default timeout
+         * @param deadlineTracker The deadline tracker (null to use AskPattern)
+         */
+        AskBuilder(
+                Function<ActorRef<RES>, REQ> messageFactory,
+                @Nullable AskCommand<RES> command,
+                ActorRef<REQ> actorRef,
+                Scheduler scheduler,
+                Duration defaultTimeout,
+                @Nullable AskDeadlineTracker deadlineTracker) {
             this.messageFactory = messageFactory;
+            this.command = command;
             this.actorRef = actorRef;
             this.scheduler = scheduler;
             this.timeout = defaultTimeout;
+            this.deadlineTracker = deadlineTracker;
         }
 
         /**
@@ -300,7 +558,9 @@ public class SpringActorHandle<T> {
          *         default value if a timeout occurs and a timeout handler was configured
          */
         public CompletionStage<RES> execute() {
-            CompletionStage<RES> result = AskPattern.ask(actorRef, messageFactory::apply, timeout, scheduler);
+            CompletionStage<RES> result = deadlineTracker != null && command != null
+                    ? deadlineTracker.ask(actorRef, command, timeout)
+                    : AskPattern.ask(actorRef, messageFactory::apply, timeout, scheduler);
 
             // Apply timeout handler if configured
             if (timeoutHandler != null) {
@@ -320,5 +580,18 @@ public class SpringActorHandle<T> {
 
             return result;
         }
+
+        /**
+         * Executes the ask operation and blocks until it completes. On a virtual thread the wait
+         * only parks the virtual thread; calls on a dispatcher thread are reported or rejected
+         * according to {@link AwaitGuard}.
+         *
+         * @return The response, or the default value if a timeout occurs and a timeout handler was
+         *         configured
+         * @throws java.util.concurrent.CompletionException If the ask fails or times out
+         */
+        public RES executeAndAwait() {
+            return AwaitGuard.await(this::execute);
+        }
     }
 }
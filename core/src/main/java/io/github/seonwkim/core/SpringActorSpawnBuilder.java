@@ -149,6 +149,19 @@ public class SpringActorSpawnBuilder<A extends SpringActorWithContext<C, ?>, C>
         return this;
     }
 
+    /**
+     * Configures the actor to run on virtual threads. This should be used for actors that perform
+     * blocking I/O operations on JDK 21 or later.
+     *
+     * @return This builder
+     * @throws UnsupportedOperationException if the JVM is older than JDK 21
+     * @see DispatcherConfig#virtualThreads()
+     */
+    public SpringActorSpawnBuilder<A, C> withVirtualThreadDispatcher() {
+        this.dispatcherConfig = DispatcherConfig.virtualThreads();
+        return this;
+    }
+
     /**
      * Configures the actor to use the default dispatcher.
      * This is the default behavior if no dispatcher is specified.
@@ -289,14 +302,49 @@ public class SpringActorSpawnBuilder<A extends SpringActorWithContext<C, ?>, C>
                 timeout);
     }
 
+    /**
+     * Gets the actor if it already exists, or spawns it with this builder's configuration if it
+     * doesn't. The root guardian resolves or creates the actor in a single message turn, so
+     * concurrent calls with the same ID all complete with the same actor.
+     *
+     * <p>The mailbox, dispatcher, tags, MDC, and supervision settings only apply when the actor is
+     * spawned by this call. Cluster singletons are not supported.
+     *
+     * @return A CompletionStage that will be completed with a reference to the existing or spawned actor
+     * @throws IllegalStateException If neither actorId nor actorContext is set, or the builder is
+     *     configured as a cluster singleton
+     */
+    public CompletionStage<SpringActorHandle<C>> getOrSpawn() {
+        if (isClusterSingleton) {
+            throw new IllegalStateException(
+                    "getOrSpawn() is not supported for cluster singletons. Use spawn() instead.");
+        }
+        if (actorContext == null) {
+            if (actorId == null) {
+                throw new IllegalStateException("Either actorId or actorContext must be set before spawning. "
+                        + "Call withId(\"your-id\") or withContext(context) on the builder. "
+                        + "Actor class: "
+                        + actorClass.getName());
+            }
+            actorContext = new DefaultSpringActorContext(actorId);
+        }
+
+        // Apply MDC configuration to the context
+        actorContext.setMdcConfig(mdcConfig);
+
+        return actorSystem.getOrSpawn(
+                actorClass, actorContext, mailboxConfig, dispatcherConfig, tagsConfig, supervisorStrategy, timeout);
+    }
+
     /**
      * Spawns the actor synchronously and returns the actor reference. This method blocks until the
-     * actor is spawned.
+     * actor is spawned. Calls on a dispatcher thread of the actor system are reported or rejected
+     * according to {@link AwaitGuard}.
      *
      * @return A reference to the spawned actor
      * @throws IllegalStateException If neither actorId nor actorContext is set
      */
     public SpringActorHandle<C> spawnAndWait() {
-        return spawn().toCompletableFuture().join();
+        return AwaitGuard.await(this::spawn);
     }
 }
@@ -8,8 +8,17 @@ import io.github.seonwkim.core.shard.ShardedActorRegistry;
 import io.github.seonwkim.core.shard.SpringShardedActor;
 import io.github.seonwkim.core.shard.SpringShardedActorBuilder;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.*;
 import org.apache.pekko.actor.typed.javadsl.AskPattern;
@@ -50,6 +59,14 @@ public class SpringActorSystem implements DisposableBean {
 
     @Nullable private final ClusterSingleton clusterSingleton;
 
+    private final ActorRefIndex actorRefIndex;
+
+    private final RootGuardianStripes rootGuardianStripes;
+
+    private final AskDeadlineTracker askDeadlineTracker;
+
+    private final AtomicLong askAllSequence = new AtomicLong();
+
     private final Duration defaultQueryTimeout = Duration.ofMillis(100);
 
     private final Duration defaultActorRefTimeout = Duration.ofSeconds(3);
@@ -64,6 +81,11 @@ public class SpringActorSystem implements DisposableBean {
         this.cluster = null;
         this.clusterSharding = null;
         this.clusterSingleton = null;
+        this.actorRefIndex = ActorRefIndex.get(actorSystem);
+        this.rootGuardianStripes = RootGuardianStripes.get(actorSystem);
+        this.askDeadlineTracker = AskDeadlineTracker.get(actorSystem);
+        // Activates the dispatcher thread guard of the blocking APIs
+        AwaitGuard.get(actorSystem);
     }
 
     /**
@@ -104,6 +126,11 @@ public class SpringActorSystem implements DisposableBean {
         this.cluster = cluster;
         this.clusterSharding = clusterSharding;
         this.clusterSingleton = clusterSingleton;
+        this.actorRefIndex = ActorRefIndex.get(actorSystem);
+        this.rootGuardianStripes = RootGuardianStripes.get(actorSystem);
+        this.askDeadlineTracker = AskDeadlineTracker.get(actorSystem);
+        // Activates the dispatcher thread guard of the blocking APIs
+        AwaitGuard.get(actorSystem);
 
         ActorRef<ClusterEvent.ClusterDomainEvent> listener = actorSystem.systemActorOf(
                 ClusterEventBehavior.create(publisher), "cluster-event-listener", Props.empty());
@@ -163,6 +190,31 @@ public class SpringActorSystem implements DisposableBean {
         return new SpringActorSpawnBuilder<>(this, actorClass);
     }
 
+    /**
+     * Creates a fluent builder for spawning many actors of the same class in bulk. Spawn requests
+     * are batched, so thousands of actors cost a handful of messages instead of one ask each.
+     *
+     * <p>Example usage:
+     *
+     * <pre>
+     * Map&lt;String, SpringActorHandle&lt;Command&gt;&gt; sessions = actorSystem
+     *     .actors(SessionActor.class)
+     *     .withIds(sessionIds)
+     *     .spawnAll()
+     *     .toCompletableFuture()
+     *     .join();
+     * </pre>
+     *
+     * @param actorClass The class of the actors
+     * @param <A> The type of the actors
+     * @param <C> The type of commands that the actors can handle
+     * @return A builder for configuring and spawning the actors
+     */
+    public <A extends SpringActorWithContext<C, ?>, C> SpringActorBatchSpawnBuilder<A, C> actors(
+            Class<A> actorClass) {
+        return new SpringActorBatchSpawnBuilder<>(this, actorClass);
+    }
+
     /**
      * Checks if an actor with the given class and ID exists in the actor system.
      *
@@ -180,6 +232,9 @@ public class SpringActorSystem implements DisposableBean {
     /**
      * Checks if an actor with the given class and ID exists in the actor system with a custom timeout.
      *
+     * <p>Actors spawned through the root guardian are resolved from the {@link ActorRefIndex} without
+     * a round trip; the root guardian is only asked when the index has no entry.
+     *
      * @param actorClass The class of the actor
      * @param actorId The ID of the actor
      * @param timeout The maximum time to wait for the response
@@ -189,10 +244,14 @@ public class SpringActorSystem implements DisposableBean {
      */
     public <A extends SpringActorWithContext<C, ?>, C> CompletionStage<Boolean> exists(
             Class<A> actorClass, String actorId, Duration timeout) {
+        if (actorRefIndex.contains(ActorSpawner.buildActorName(actorClass, actorId))) {
+            return CompletableFuture.completedFuture(true);
+        }
+
         SpringActorContext actorContext = new DefaultSpringActorContext(actorId);
 
         return AskPattern.ask(
-                        actorSystem,
+                        guardianFor(actorClass, actorId),
                         (ActorRef<RootGuardian.ExistsResponse> replyTo) ->
                                 new RootGuardian.CheckExists(actorClass, actorContext, replyTo),
                         timeout,
@@ -218,6 +277,9 @@ public class SpringActorSystem implements DisposableBean {
     /**
      * Gets a reference to an existing actor with the given class and ID with a custom timeout.
      *
+     * <p>Actors spawned through the root guardian are resolved from the {@link ActorRefIndex} without
+     * a round trip; the root guardian is only asked when the index has no entry.
+     *
      * @param actorClass The class of the actor
      * @param actorId The ID of the actor
      * @param timeout The maximum time to wait for the response
@@ -227,10 +289,15 @@ public class SpringActorSystem implements DisposableBean {
      */
     public <A extends SpringActorWithContext<C, ?>, C> CompletionStage<SpringActorHandle<C>> get(
             Class<A> actorClass, String actorId, Duration timeout) {
+        SpringActorHandle<C> indexed = lookupIndexed(actorClass, actorId);
+        if (indexed != null) {
+            return CompletableFuture.completedFuture(indexed);
+        }
+
         SpringActorContext actorContext = new DefaultSpringActorContext(actorId);
 
         return AskPattern.ask(
-                        actorSystem,
+                        guardianFor(actorClass, actorId),
                         (ActorRef<RootGuardian.GetActorResponse<?>> replyTo) ->
                                 new RootGuardian.GetActor(actorClass, actorContext, replyTo),
                         timeout,
@@ -242,14 +309,14 @@ public class SpringActorSystem implements DisposableBean {
 
                     @SuppressWarnings("unchecked")
                     ActorRef<C> typedRef = (ActorRef<C>) response.ref;
-                    return new SpringActorHandle<>(actorSystem.scheduler(), typedRef, defaultActorRefTimeout);
+                    return handleFor(typedRef);
                 })
                 .exceptionally(throwable -> null);
     }
 
     /**
      * Gets a reference to an existing actor, or spawns a new one if it doesn't exist.
-     * This is a convenience method that combines exists/get/spawn logic.
+     * The lookup and the spawn are performed atomically by the root guardian.
      *
      * @param actorClass The class of the actor
      * @param actorId The ID of the actor
@@ -264,7 +331,11 @@ public class SpringActorSystem implements DisposableBean {
 
     /**
      * Gets a reference to an existing actor, or spawns a new one if it doesn't exist with a custom timeout.
-     * This is a convenience method that combines exists/get/spawn logic.
+     *
+     * <p>Actors already in the {@link ActorRefIndex} are returned without a round trip. Otherwise a
+     * single {@link RootGuardian.GetOrSpawnActor} command is sent, and the root guardian resolves or
+     * creates the actor in one message turn. Concurrent callers with the same ID therefore all
+     * receive the same actor instead of failing on a duplicate actor name.
      *
      * @param actorClass The class of the actor
      * @param actorId The ID of the actor
@@ -275,13 +346,48 @@ public class SpringActorSystem implements DisposableBean {
      */
     public <A extends SpringActorWithContext<C, ?>, C> CompletionStage<SpringActorHandle<C>> getOrSpawn(
             Class<A> actorClass, String actorId, Duration timeout) {
-        return exists(actorClass, actorId, timeout).thenCompose(exists -> {
-            if (exists) {
-                return get(actorClass, actorId, timeout);
-            } else {
-                return actor(actorClass).withId(actorId).withTimeout(timeout).spawn();
-            }
-        });
+        SpringActorHandle<C> indexed = lookupIndexed(actorClass, actorId);
+        if (indexed != null) {
+            return CompletableFuture.completedFuture(indexed);
+        }
+
+        return getOrSpawn(
+                actorClass,
+                new DefaultSpringActorContext(actorId),
+                MailboxConfig.defaultMailbox(),
+                DispatcherConfig.defaultDispatcher(),
+                TagsConfig.empty(),
+                null,
+                timeout);
+    }
+
+    /**
+     * Resolves an actor from the {@link ActorRefIndex} without contacting the root guardian.
+     *
+     * @return A handle to the actor, or null if the index has no entry for it
+     */
+    @Nullable private <A extends SpringActorWithContext<C, ?>, C> SpringActorHandle<C> lookupIndexed(
+            Class<A> actorClass, String actorId) {
+        ActorRef<C> ref = actorRefIndex.lookup(ActorSpawner.buildActorName(actorClass, actorId));
+        if (ref == null) {
+            return null;
+        }
+        return handleFor(ref);
+    }
+
+    /**
+     * Returns the guardian that owns the given actor: its {@link RootGuardianStripes stripe} when the
+     * root guardian is striped, or the root guardian itself otherwise.
+     */
+    private ActorRef<RootGuardian.Command> guardianFor(Class<?> actorClass, String actorId) {
+        ActorRef<RootGuardian.Command> stripe =
+                rootGuardianStripes.stripeFor(ActorSpawner.buildActorName(actorClass, actorId));
+        return stripe != null ? stripe : actorSystem;
+    }
+
+    /** Wraps a top-level actor reference in a handle whose asks use the {@link AskDeadlineTracker}. */
+    private <C> SpringActorHandle<C> handleFor(ActorRef<C> ref) {
+        return new SpringActorHandle<>(actorSystem.scheduler(), ref, defaultActorRefTimeout, askDeadlineTracker);
     }
 
     protected <A extends SpringActorWithContext<C, ?>, C> CompletionStage<SpringActorHandle<C>> spawn(
@@ -302,7 +408,7 @@ public class SpringActorSystem implements DisposableBean {
         }
 
         return AskPattern.ask(
-                        actorSystem,
+                        guardianFor(actorClass, actorContext.actorId()),
                         (ActorRef<Spawned<?>> replyTo) -> new RootGuardian.SpawnActor(
                                 actorClass,
                                 actorContext,
@@ -317,10 +423,185 @@ public class SpringActorSystem implements DisposableBean {
                 .thenApply(spawned -> {
                     @SuppressWarnings("unchecked")
                     ActorRef<C> typedRef = (ActorRef<C>) spawned.ref;
-                    return new SpringActorHandle<>(actorSystem.scheduler(), typedRef, defaultActorRefTimeout);
+                    return handleFor(typedRef);
                 });
     }
 
+    protected <A extends SpringActorWithContext<C, ?>, C> CompletionStage<SpringActorHandle<C>> getOrSpawn(
+            Class<A> actorClass,
+            SpringActorContext actorContext,
+            MailboxConfig mailboxConfig,
+            DispatcherConfig dispatcherConfig,
+            TagsConfig tagsConfig,
+            @Nullable SupervisorStrategy supervisorStrategy,
+            Duration timeout) {
+
+        return AskPattern.ask(
+                        guardianFor(actorClass, actorContext.actorId()),
+                        (ActorRef<Spawned<?>> replyTo) -> new RootGuardian.GetOrSpawnActor(
+                                actorClass,
+                                actorContext,
+                                replyTo,
+                                mailboxConfig,
+                                dispatcherConfig,
+                                tagsConfig,
+                                supervisorStrategy),
+                        timeout,
+                        actorSystem.scheduler())
+                .thenApply(spawned -> {
+                    @SuppressWarnings("unchecked")
+                    ActorRef<C> typedRef = (ActorRef<C>) spawned.ref;
+                    return handleFor(typedRef);
+                });
+    }
+
+    protected <A extends SpringActorWithContext<C, ?>, C> CompletionStage<Map<String, SpringActorHandle<C>>> spawnAll(
+            Class<A> actorClass,
+            List<SpringActorContext> actorContexts,
+            MailboxConfig mailboxConfig,
+            DispatcherConfig dispatcherConfig,
+            TagsConfig tagsConfig,
+            @Nullable SupervisorStrategy supervisorStrategy,
+            int batchSize,
+            Duration timeout) {
+
+        // Group by owning guardian so that every batch is handled by a single stripe
+        Map<ActorRef<RootGuardian.Command>, List<SpringActorContext>> byGuardian = new LinkedHashMap<>();
+        for (SpringActorContext actorContext : actorContexts) {
+            byGuardian
+                    .computeIfAbsent(guardianFor(actorClass, actorContext.actorId()), k -> new ArrayList<>())
+                    .add(actorContext);
+        }
+
+        List<CompletableFuture<RootGuardian.SpawnedActors>> batches = new ArrayList<>();
+        byGuardian.forEach((guardian, contexts) -> {
+            for (int from = 0; from < contexts.size(); from += batchSize) {
+                List<SpringActorContext> batch =
+                        new ArrayList<>(contexts.subList(from, Math.min(from + batchSize, contexts.size())));
+                batches.add(AskPattern.ask(
+                                guardian,
+                                (ActorRef<RootGuardian.SpawnedActors> replyTo) -> new RootGuardian.SpawnActors(
+                                        actorClass,
+                                        batch,
+                                        replyTo,
+                                        mailboxConfig,
+                                        dispatcherConfig,
+                                        tagsConfig,
+                                        supervisorStrategy),
+                                timeout,
+                                actorSystem.scheduler())
+                        .toCompletableFuture());
+            }
+        });
+
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, ActorRef<?>> refs = new HashMap<>();
+                    Map<String, String> failures = new LinkedHashMap<>();
+                    for (CompletableFuture<RootGuardian.SpawnedActors> batch : batches) {
+                        RootGuardian.SpawnedActors spawned = batch.join();
+                        refs.putAll(spawned.refs);
+                        failures.putAll(spawned.failures);
+                    }
+
+                    if (!failures.isEmpty()) {
+                        throw new IllegalStateException("Failed to spawn "
+                                + failures.size()
+                                + " of "
+                                + actorContexts.size()
+                                + " actors of "
+                                + actorClass.getName()
+                                + ": "
+                                + failures);
+                    }
+
+                    // Preserve the order in which the IDs were requested
+                    Map<String, SpringActorHandle<C>> handles = new LinkedHashMap<>();
+                    for (SpringActorContext actorContext : actorContexts) {
+                        @SuppressWarnings("unchecked")
+                        ActorRef<C> typedRef = (ActorRef<C>) Objects.requireNonNull(
+                                refs.get(actorContext.actorId()), "No reply for actor " + actorContext.actorId());
+                        handles.put(actorContext.actorId(), handleFor(typedRef));
+                    }
+                    return handles;
+                });
+    }
+
+    /**
+     * Asks many actors at once and gathers their replies into a single result. This is equivalent
+     * to calling {@code handle.ask(command).execute()} for every handle, but all replies are
+     * collected by one short-lived aggregator actor, and a single shared deadline replaces the
+     * per-request timeouts.
+     *
+     * <p>If some actors do not reply before the deadline, the stage still completes normally with
+     * the replies that did arrive; see {@link AskAllResult#getMissing()}.
+     *
+     * <p>Example usage:
+     *
+     * <pre>{@code
+     * AskAllResult<AccountActor.Command, Long> balances = actorSystem
+     *     .askAll(accounts, account -> new GetBalance())
+     *     .toCompletableFuture()
+     *     .join();
+     * }</pre>
+     *
+     * @param handles The actors to ask
+     * @param commandFactory Creates the command to send to each actor; each call must return a new
+     *     command instance that is also assignable to {@code T}
+     * @param <T> The command type of the actors
+     * @param <RES> The type of the replies
+     * @return A CompletionStage that completes with the replies once all arrived or the deadline passed
+     */
+    public <T, RES> CompletionStage<AskAllResult<T, RES>> askAll(
+            Collection<SpringActorHandle<T>> handles,
+            Function<? super SpringActorHandle<T>, ? extends AskCommand<RES>> commandFactory) {
+        return askAll(handles, commandFactory, defaultActorRefTimeout);
+    }
+
+    /**
+     * Asks many actors at once with a custom shared deadline. See
+     * {@link #askAll(Collection, Function)}.
+     *
+     * @param handles The actors to ask
+     * @param commandFactory Creates the command to send to each actor; each call must return a new
+     *     command instance that is also assignable to {@code T}
+     * @param timeout The shared deadline for all replies
+     * @param <T> The command type of the actors
+     * @param <RES> The type of the replies
+     * @return A CompletionStage that completes with the replies once all arrived or the deadline passed
+     */
+    public <T, RES> CompletionStage<AskAllResult<T, RES>> askAll(
+            Collection<SpringActorHandle<T>> handles,
+            Function<? super SpringActorHandle<T>, ? extends AskCommand<RES>> commandFactory,
+            Duration timeout) {
+        if (handles == null) {
+            throw new IllegalArgumentException("handles must not be null");
+        }
+        if (commandFactory == null) {
+            throw new IllegalArgumentException("commandFactory must not be null");
+        }
+        if (timeout == null) {
+            throw new IllegalArgumentException("timeout must not be null");
+        }
+
+        List<SpringActorHandle<T>> targets = new ArrayList<>(handles);
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(new AskAllResult<>(targets, new HashMap<>()));
+        }
+
+        List<AskCommand<RES>> commands = new ArrayList<>(targets.size());
+        for (SpringActorHandle<T> handle : targets) {
+            commands.add(commandFactory.apply(handle));
+        }
+
+        CompletableFuture<AskAllResult<T, RES>> result = new CompletableFuture<>();
+        actorSystem.systemActorOf(
+                AskAllAggregator.create(targets, commands, timeout, result),
+                "ask-all-" + askAllSequence.incrementAndGet(),
+                Props.empty());
+        return result;
+    }
+
     /**
      * Creates a fluent builder for getting a reference to a sharded actor. This provides a simplified
      * API for working with sharded actors.
@@ -0,0 +1,197 @@
+package io.github.seonwkim.core;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.BehaviorInterceptor;
+import org.apache.pekko.actor.typed.TypedActorContext;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+
+/**
+ * Timers of one actor, returned by {@link SpringBehaviorContext#timers()}. Unlike
+ * {@code Behaviors.withTimers}, which registers a scheduler task per timer, all timers of an actor
+ * system share one hashed timing wheel that is advanced by a single periodic tick, so a timer costs
+ * a single small object. This makes per-entity idle or heartbeat timers affordable for millions of
+ * actors.
+ *
+ * <p>Timers are keyed: starting a timer with the key of an active timer replaces it. Timers fire at
+ * most one resolution late, and all timers of the actor that fire in the same tick arrive as one
+ * {@link MessageBatch}, which behaviors built with {@link SpringActorBehavior} unpack. The timers
+ * of an actor built with {@link SpringActorBehavior} or
+ * {@link io.github.seonwkim.core.shard.SpringShardedActorBehavior} are cancelled when it stops.
+ *
+ * <p>Cancelling or replacing a timer removes it from the wheel, so restarting an idle timer on every
+ * message doesn't accumulate entries. Like with {@code Behaviors.withTimers}, a message that was
+ * already on its way when its timer was cancelled or replaced is dropped before the actor's handlers
+ * see it, so a cancelled timer never fires.
+ *
+ * <p>Timers must only be used from within the actor. The resolution and wheel size are configured
+ * with {@code spring.actor.timers.resolution} (default 10ms) and {@code spring.actor.timers.wheel-size}
+ * (default 512).
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * .onMessage(Touch.class, (ctx, msg) -> {
+ *     ctx.timers().startSingleTimer("idle", new Passivate(), Duration.ofMinutes(2));
+ *     return Behaviors.same();
+ * })
+ * }</pre>
+ *
+ * @param <T> The message type of the actor
+ */
+public final class SpringActorTimers<T> {
+
+    private final ActorTimerService service;
+    private final ActorRef<Object> self;
+    private final Map<Object, ActorTimerService.Timer> timers = new HashMap<>();
+    private long generation = 0;
+
+    SpringActorTimers(ActorTimerService service, ActorRef<T> self) {
+        this.service = service;
+        this.self = self.unsafeUpcast();
+    }
+
+    /**
+     * Sends the message to the actor once after the delay.
+     *
+     * @param key Identifies the timer; replaces an active timer with the same key
+     * @param message The message to send
+     * @param delay The delay before the message is sent
+     * @throws IllegalArgumentException if an argument is null or the delay is negative
+     */
+    public void startSingleTimer(Object key, T message, Duration delay) {
+        start(key, message, delay, false);
+    }
+
+    /**
+     * Sends the message to the actor every {@code delay}, starting after the first delay, until the
+     * timer is cancelled.
+     *
+     * @param key Identifies the timer; replaces an active timer with the same key
+     * @param message The message to send
+     * @param delay The delay between two messages
+     * @throws IllegalArgumentException if an argument is null or the delay is not positive
+     */
+    public void startTimerWithFixedDelay(Object key, T message, Duration delay) {
+        if (delay != null && delay.isZero()) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        start(key, message, delay, true);
+    }
+
+    /**
+     * Returns whether a timer with the key is scheduled: a single timer whose message has not been
+     * handled yet, or a repeated timer that has not been cancelled.
+     *
+     * @param key The key of the timer
+     * @return true if the timer is active
+     */
+    public boolean isTimerActive(Object key) {
+        return timers.containsKey(key);
+    }
+
+    /**
+     * Cancels the timer with the key, if any.
+     *
+     * @param key The key of the timer
+     */
+    public void cancel(Object key) {
+        ActorTimerService.Timer timer = timers.remove(key);
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    /** Cancels all timers of the actor. */
+    public void cancelAll() {
+        for (ActorTimerService.Timer timer : timers.values()) {
+            timer.cancel();
+        }
+        timers.clear();
+    }
+
+    private void start(Object key, T message, Duration delay, boolean repeat) {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+        if (message == null) {
+            throw new IllegalArgumentException("message must not be null");
+        }
+        if (delay == null || delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be null or negative");
+        }
+        cancel(key);
+        ActorTimerService.Timer timer =
+                new ActorTimerService.Timer(this, key, ++generation, self, message, repeat ? delay.toNanos() : 0);
+        timers.put(key, timer);
+        service.schedule(timer, delay);
+    }
+
+    /**
+     * Called when the message of a timer reaches the actor.
+     *
+     * @return true if the timer is still the current one for its key, false if the delivery is stale
+     */
+    private boolean accept(ActorTimerService.Timer delivered) {
+        ActorTimerService.Timer current = timers.get(delivered.key);
+        if (current == null || current.generation != delivered.generation) {
+            return false;
+        }
+        if (delivered.intervalNanos == 0) {
+            timers.remove(delivered.key);
+        }
+        return true;
+    }
+
+    /**
+     * Wraps a behavior so that it receives the messages of its timers, and drops the messages of
+     * timers that were cancelled or replaced after the message was sent. This method is called by
+     * the framework for behaviors built with {@link SpringActorBehavior} or
+     * {@link io.github.seonwkim.core.shard.SpringShardedActorBehavior} and should not be called by
+     * user code.
+     *
+     * @param behavior The behavior of the actor
+     * @param <T> The message type of the actor
+     * @return The behavior that unwraps timer deliveries
+     */
+    public static <T> Behavior<T> interceptDeliveries(Behavior<T> behavior) {
+        @SuppressWarnings("unchecked")
+        Behavior<Object> inner = (Behavior<Object>) (Behavior<?>) behavior;
+        return DeliveryInterceptor.INTERCEPT.apply(inner).narrow();
+    }
+
+    /**
+     * Unwraps timer deliveries. It holds no state, since every delivery knows the timers it belongs
+     * to, so all actors share one instance.
+     */
+    private static final class DeliveryInterceptor extends BehaviorInterceptor<Object, Object> {
+        static final DeliveryInterceptor INSTANCE = new DeliveryInterceptor();
+        static final UnaryOperator<Behavior<Object>> INTERCEPT = inner -> Behaviors.intercept(() -> INSTANCE, inner);
+
+        private DeliveryInterceptor() {
+            super(Object.class);
+        }
+
+        @Override
+        public Behavior<Object> aroundReceive(TypedActorContext<Object> ctx, Object msg, ReceiveTarget<Object> target) {
+            if (msg instanceof ActorTimerService.Timer) {
+                ActorTimerService.Timer timer = (ActorTimerService.Timer) msg;
+                return timer.owner.accept(timer) ? target.apply(ctx, timer.message) : Behaviors.same();
+            }
+            if (msg instanceof MessageBatch && isTimerBatch((MessageBatch) msg)) {
+                // Timers that fired in the same tick; each is checked right before it is handled
+                return ((MessageBatch) msg).deliver(ctx.asJava(), m -> aroundReceive(ctx, m, target), INTERCEPT);
+            }
+            return target.apply(ctx, msg);
+        }
+
+        private static boolean isTimerBatch(MessageBatch batch) {
+            List<Object> messages = batch.messages;
+            return !messages.isEmpty() && messages.get(0) instanceof ActorTimerService.Timer;
+        }
+    }
+}
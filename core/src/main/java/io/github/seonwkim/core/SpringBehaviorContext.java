@@ -2,6 +2,7 @@ package io.github.seonwkim.core;
 
 import java.util.List;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import org.apache.pekko.actor.ActorPath;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
@@ -46,13 +47,26 @@ public final class SpringBehaviorContext<T> {
 
     private final ActorContext<T> underlying;
 
+    @Nullable private final Logger log;
+
+    @Nullable private SpringActorTimers<T> timers;
+
     /**
      * Creates a new SpringBehaviorContext wrapping the given ActorContext.
      *
      * @param underlying The Pekko ActorContext to wrap
      */
     public SpringBehaviorContext(ActorContext<T> underlying) {
+        this(underlying, null);
+    }
+
+    /**
+     * Creates a context whose {@link #getLog()} returns the given logger instead of the one of the
+     * underlying context, such as the lazy MDC logger.
+     */
+    SpringBehaviorContext(ActorContext<T> underlying, @Nullable Logger log) {
         this.underlying = underlying;
+        this.log = log;
     }
 
     /**
@@ -75,16 +89,22 @@ public final class SpringBehaviorContext<T> {
      * @return This actor's reference
      */
     public SpringActorHandle<T> getSelf() {
-        return new SpringActorHandle<>(underlying.getSystem().scheduler(), underlying.getSelf());
+        return new SpringActorHandle<>(
+                underlying.getSystem().scheduler(),
+                underlying.getSelf(),
+                ActorConstants.DEFAULT_TIMEOUT,
+                AskDeadlineTracker.get(underlying.getSystem()));
     }
 
     /**
-     * Returns the logger for this actor.
+     * Returns the logger for this actor. With
+     * {@link SpringActorBehavior.Builder#withLazyMdc(java.util.function.Function)} the logger
+     * installs the actor's MDC values around each enabled log call.
      *
      * @return The SLF4J logger instance
      */
     public Logger getLog() {
-        return underlying.getLog();
+        return log != null ? log : underlying.getLog();
     }
 
     /**
@@ -96,6 +116,34 @@ public final class SpringBehaviorContext<T> {
         return underlying.getSystem().scheduler();
     }
 
+    /**
+     * Returns the timers of this actor, which share one timing wheel per actor system instead of
+     * scheduling a task per timer. Must only be used from within the actor, and only by behaviors
+     * built with {@link SpringActorBehavior} or {@link io.github.seonwkim.core.shard.SpringShardedActorBehavior},
+     * which unwrap the timer messages.
+     *
+     * @return The timers of this actor
+     * @see SpringActorTimers
+     */
+    public SpringActorTimers<T> timers() {
+        SpringActorTimers<T> current = timers;
+        if (current == null) {
+            current = new SpringActorTimers<>(ActorTimerService.get(underlying.getSystem()), underlying.getSelf());
+            timers = current;
+        }
+        return current;
+    }
+
+    /**
+     * Cancels all timers of this actor, if any were started. This method is called by the framework
+     * when the actor stops and should not be called by user code.
+     */
+    public void cancelTimers() {
+        if (timers != null) {
+            timers.cancelAll();
+        }
+    }
+
     /**
      * Spawns a child actor with the given behavior and name.
      *
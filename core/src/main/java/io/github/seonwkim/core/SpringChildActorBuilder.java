@@ -2,7 +2,13 @@ package io.github.seonwkim.core;
 
 import io.github.seonwkim.core.impl.DefaultSpringActorContext;
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
@@ -36,9 +42,12 @@ public class SpringChildActorBuilder<P, C> {
     private final Scheduler scheduler;
     private final Class<? extends SpringActorWithContext<C, ?>> childActorClass;
     private final Duration defaultTimeout;
+    @Nullable private final AskDeadlineTracker deadlineTracker;
 
     @Nullable private String childId;
 
+    private final List<String> childIds = new ArrayList<>();
+
     @Nullable private SpringActorContext childContext;
 
     @Nullable private SupervisorStrategy supervisionStrategy;
@@ -65,6 +74,25 @@ public class SpringChildActorBuilder<P, C> {
             Scheduler scheduler,
             Class<? extends SpringActorWithContext<C, ?>> childActorClass,
             Duration defaultTimeout) {
+        this(parentRef, scheduler, childActorClass, defaultTimeout, null);
+    }
+
+    /**
+     * Creates a new SpringChildActorBuilder whose resulting child handles track ask deadlines with
+     * the given tracker.
+     *
+     * @param parentRef The parent actor reference
+     * @param scheduler The scheduler for ask operations
+     * @param childActorClass The child actor class
+     * @param defaultTimeout The default timeout for operations
+     * @param deadlineTracker The deadline tracker of the actor system (null to use AskPattern)
+     */
+    public SpringChildActorBuilder(
+            ActorRef<P> parentRef,
+            Scheduler scheduler,
+            Class<? extends SpringActorWithContext<C, ?>> childActorClass,
+            Duration defaultTimeout,
+            @Nullable AskDeadlineTracker deadlineTracker) {
         if (parentRef == null) {
             throw new IllegalArgumentException("parentRef must not be null");
         }
@@ -78,6 +106,7 @@ public class SpringChildActorBuilder<P, C> {
         this.scheduler = scheduler;
         this.childActorClass = childActorClass;
         this.defaultTimeout = defaultTimeout;
+        this.deadlineTracker = deadlineTracker;
         this.timeout = defaultTimeout;
     }
 
@@ -95,6 +124,26 @@ public class SpringChildActorBuilder<P, C> {
         return this;
     }
 
+    /**
+     * Sets the IDs of the child actors to spawn with {@link #spawnAll()}. Duplicate IDs are spawned once.
+     *
+     * @param childIds The child actor IDs
+     * @return This builder for method chaining
+     */
+    public SpringChildActorBuilder<P, C> withIds(Collection<String> childIds) {
+        if (childIds == null) {
+            throw new IllegalArgumentException("childIds must not be null");
+        }
+        for (String id : childIds) {
+            if (id == null || ObjectUtils.isEmpty(id)) {
+                throw new IllegalArgumentException("childIds must not contain null or empty IDs");
+            }
+        }
+        this.childIds.clear();
+        this.childIds.addAll(new LinkedHashSet<>(childIds));
+        return this;
+    }
+
     /**
      * Sets a custom context for the child actor.
      *
@@ -276,7 +325,7 @@ public class SpringChildActorBuilder<P, C> {
                 .thenApply(response -> {
                     if ((response.success || "Child already exists".equals(response.message))
                             && response.childRef != null) {
-                        return new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout);
+                        return new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout, deadlineTracker);
                     } else {
                         throw new RuntimeException("Failed to spawn child actor "
                                 + childActorClass.getName()
@@ -289,19 +338,84 @@ public class SpringChildActorBuilder<P, C> {
     }
 
     /**
-     * Spawns the child actor synchronously and returns the child actor reference.
-     * This method blocks until the child is spawned.
+     * Spawns the child actor synchronously and returns the child actor reference. This method blocks until the
+     * child actor is spawned. Calls on a dispatcher thread of the actor system are reported or rejected
+     * according to {@link AwaitGuard}.
      *
      * @return The child actor reference
      * @throws IllegalStateException If neither childId nor childContext is set
      */
     public SpringActorHandle<C> spawnAndWait() {
-        return spawn().toCompletableFuture().join();
+        return AwaitGuard.await(this::spawn);
+    }
+
+    /**
+     * Spawns every child set with {@link #withIds(Collection)} using a single
+     * {@link FrameworkCommands.SpawnChildren} message and returns the handles keyed by child ID, in
+     * the order the IDs were given. Children that already exist are returned as they are.
+     *
+     * @return A CompletionStage that will be completed with the child actor handles keyed by child ID
+     * @throws IllegalStateException If no IDs are set
+     */
+    @SuppressWarnings("unchecked")
+    public CompletionStage<Map<String, SpringActorHandle<C>>> spawnAll() {
+        if (childIds.isEmpty()) {
+            throw new IllegalStateException("withIds(...) must be called with at least one ID before spawnAll(). "
+                    + "Child actor class: "
+                    + childActorClass.getName());
+        }
+
+        final List<SpringActorContext> contexts = new ArrayList<>(childIds.size());
+        for (String id : childIds) {
+            SpringActorContext context = new DefaultSpringActorContext(id);
+            context.setMdcConfig(mdcConfig);
+            contexts.add(context);
+        }
+
+        ActorRef<Object> parentAsObject = (ActorRef<Object>) parentRef;
+
+        final SupervisorStrategy strategy = supervisionStrategy;
+        final MailboxConfig mailbox = mailboxConfig;
+        final DispatcherConfig dispatcher = dispatcherConfig;
+        final TagsConfig tags = tagsConfig;
+
+        return AskPattern.ask(
+                        parentAsObject,
+                        (ActorRef<FrameworkCommands.SpawnChildrenResponse<C>> replyTo) ->
+                                new FrameworkCommands.SpawnChildren<>(
+                                        childActorClass, contexts, strategy, mailbox, dispatcher, tags, replyTo),
+                        timeout,
+                        scheduler)
+                .thenApply(response -> {
+                    if (!response.isSuccess()) {
+                        throw new RuntimeException("Failed to spawn "
+                                + response.failures.size()
+                                + " of "
+                                + contexts.size()
+                                + " child actors "
+                                + childActorClass.getName()
+                                + ": "
+                                + response.failures);
+                    }
+
+                    Map<String, SpringActorHandle<C>> handles = new LinkedHashMap<>();
+                    for (SpringActorContext context : contexts) {
+                        ActorRef<C> childRef = Objects.requireNonNull(
+                                response.childRefs.get(context.actorId()),
+                                "No reply for child " + context.actorId());
+                        handles.put(
+                                context.actorId(),
+                                new SpringActorHandle<>(scheduler, childRef, defaultTimeout, deadlineTracker));
+                    }
+                    return handles;
+                });
     }
 
     /**
      * Gets a reference to the child actor if it exists, or spawns it if it doesn't.
-     * This is a convenience method that combines exists checking and spawning.
+     * The parent resolves or creates the child in a single message turn using
+     * {@link FrameworkCommands.GetOrSpawnChild}, so concurrent calls with the same ID all complete
+     * with the same child.
      *
      * @return A CompletionStage that will be completed with the child actor reference
      * @throws IllegalStateException If neither childId nor childContext is set
@@ -315,25 +429,35 @@ public class SpringChildActorBuilder<P, C> {
             childContext = new DefaultSpringActorContext(childId);
         }
 
-        final SpringActorContext context = childContext;
+        // Apply MDC configuration to the child context
+        childContext.setMdcConfig(mdcConfig);
 
-        // Try to get existing child first
         ActorRef<Object> parentAsObject = (ActorRef<Object>) parentRef;
 
+        final SpringActorContext context = childContext;
+        final SupervisorStrategy strategy = supervisionStrategy;
+        final MailboxConfig mailbox = mailboxConfig;
+        final DispatcherConfig dispatcher = dispatcherConfig;
+        final TagsConfig tags = tagsConfig;
+
         return AskPattern.ask(
                         parentAsObject,
-                        (ActorRef<FrameworkCommands.GetChildResponse<C>> replyTo) ->
-                                new FrameworkCommands.GetChild<>(childActorClass, context.actorId(), replyTo),
+                        (ActorRef<FrameworkCommands.SpawnChildResponse<C>> replyTo) ->
+                                new FrameworkCommands.GetOrSpawnChild<>(
+                                        childActorClass, context, strategy, mailbox, dispatcher, tags, replyTo),
                         timeout,
                         scheduler)
-                .thenCompose(response -> {
-                    if (response.found && response.childRef != null) {
-                        // Child exists, return it
-                        return CompletableFuture.completedFuture(
-                                new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout));
+                .thenApply(response -> {
+                    if ((response.success || "Child already exists".equals(response.message))
+                            && response.childRef != null) {
+                        return new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout, deadlineTracker);
                     } else {
-                        // Child doesn't exist, spawn it
-                        return spawn();
+                        throw new RuntimeException("Failed to get or spawn child actor "
+                                + childActorClass.getName()
+                                + " with id '"
+                                + context.actorId()
+                                + "': "
+                                + response.message);
                     }
                 });
     }
@@ -365,7 +489,7 @@ public class SpringChildActorBuilder<P, C> {
                         scheduler)
                 .thenApply(response -> {
                     if (response.found && response.childRef != null) {
-                        return new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout);
+                        return new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout, deadlineTracker);
                     } else {
                         return null;
                     }
@@ -3,6 +3,7 @@ package io.github.seonwkim.core;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Scheduler;
 import org.apache.pekko.actor.typed.javadsl.AskPattern;
@@ -47,6 +48,7 @@ public class SpringChildActorReference<P, C> {
     private final Class<? extends SpringActorWithContext<C, ?>> childActorClass;
     private final String childId;
     private final Duration defaultTimeout;
+    @Nullable private final AskDeadlineTracker deadlineTracker;
     private Duration timeout;
 
     /**
@@ -64,6 +66,27 @@ public class SpringChildActorReference<P, C> {
             Class<? extends SpringActorWithContext<C, ?>> childActorClass,
             String childId,
             Duration defaultTimeout) {
+        this(parentRef, scheduler, childActorClass, childId, defaultTimeout, null);
+    }
+
+    /**
+     * Creates a new SpringChildActorReference that tracks the deadlines of its asks with the given
+     * tracker instead of scheduling a separate timeout per ask.
+     *
+     * @param parentRef The parent actor reference
+     * @param scheduler The scheduler for ask operations
+     * @param childActorClass The child actor class
+     * @param childId The unique ID of the child actor
+     * @param defaultTimeout The default timeout for operations
+     * @param deadlineTracker The deadline tracker of the actor system (null to use AskPattern)
+     */
+    public SpringChildActorReference(
+            ActorRef<P> parentRef,
+            Scheduler scheduler,
+            Class<? extends SpringActorWithContext<C, ?>> childActorClass,
+            String childId,
+            Duration defaultTimeout,
+            @Nullable AskDeadlineTracker deadlineTracker) {
         if (parentRef == null) {
             throw new IllegalArgumentException("parentRef must not be null");
         }
@@ -81,6 +104,7 @@ public class SpringChildActorReference<P, C> {
         this.childActorClass = childActorClass;
         this.childId = childId;
         this.defaultTimeout = defaultTimeout;
+        this.deadlineTracker = deadlineTracker;
         this.timeout = defaultTimeout;
     }
 
@@ -109,23 +133,15 @@ public class SpringChildActorReference<P, C> {
      * @return A CompletionStage that will be completed with an Optional containing the child
      *         actor reference if found, or an empty Optional if not found
      */
-    @SuppressWarnings("unchecked")
     public CompletionStage<Optional<SpringActorHandle<C>>> get() {
-        ActorRef<Object> parentAsObject = (ActorRef<Object>) parentRef;
-
-        return AskPattern.ask(
-                        parentAsObject,
-                        (ActorRef<FrameworkCommands.GetChildResponse<C>> replyTo) ->
-                                new FrameworkCommands.GetChild<>(childActorClass, childId, replyTo),
-                        timeout,
-                        scheduler)
-                .thenApply(response -> {
-                    if (response.found && response.childRef != null) {
-                        return Optional.of(new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout));
-                    } else {
-                        return Optional.empty();
-                    }
-                });
+        return ask(new FrameworkCommands.GetChild<>(childActorClass, childId)).thenApply(response -> {
+            if (response.found && response.childRef != null) {
+                return Optional.of(
+                        new SpringActorHandle<>(scheduler, response.childRef, defaultTimeout, deadlineTracker));
+            } else {
+                return Optional.empty();
+            }
+        });
     }
 
     /**
@@ -137,16 +153,20 @@ public class SpringChildActorReference<P, C> {
      * @return A CompletionStage that will be completed with true if the child exists,
      *         false otherwise
      */
-    @SuppressWarnings("unchecked")
     public CompletionStage<Boolean> exists() {
-        ActorRef<Object> parentAsObject = (ActorRef<Object>) parentRef;
-
-        return AskPattern.ask(
-                        parentAsObject,
-                        (ActorRef<FrameworkCommands.ExistsChildResponse> replyTo) ->
-                                new FrameworkCommands.ExistsChild<>(childActorClass, childId, replyTo),
-                        timeout,
-                        scheduler)
+        return ask(new FrameworkCommands.ExistsChild<>(childActorClass, childId))
                 .thenApply(response -> response.exists);
     }
+
+    /**
+     * Sends a framework command to the parent, through the deadline tracker when available.
+     */
+    @SuppressWarnings("unchecked")
+    private <RES> CompletionStage<RES> ask(AskCommand<RES> command) {
+        ActorRef<Object> parentAsObject = (ActorRef<Object>) parentRef;
+        if (deadlineTracker != null) {
+            return deadlineTracker.ask(parentAsObject, command, timeout);
+        }
+        return AskPattern.ask(parentAsObject, command::withReplyTo, timeout, scheduler);
+    }
 }
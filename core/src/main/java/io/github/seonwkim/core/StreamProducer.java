@@ -0,0 +1,102 @@
+package io.github.seonwkim.core;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.apache.pekko.actor.Terminated;
+import org.apache.pekko.actor.typed.ActorRef;
+
+/**
+ * The sending side of a {@link StreamingAskCommand}, created on the node of the emitting actor when
+ * it sends its first signal. Elements are only sent while the consumer has requested more of them;
+ * the others wait in an outbox until {@link StreamingAskCommand.Demand} arrives, so a slow
+ * subscriber holds back the stream instead of being flooded. Terminal signals queue behind the
+ * waiting elements.
+ *
+ * <p>Demand is received through a {@link TempReplyRef}, the same kind of reference the caller's side
+ * uses for the replies, which the producer announces to the consumer with an
+ * {@link StreamingAskCommand.Signal.Kind#OPEN} signal. The reference is released once the stream
+ * ends, is cancelled, or the consumer terminates.
+ */
+final class StreamProducer {
+
+    private final ActorRef<CorrelatedReply> replyTo;
+    private final long correlationId;
+    private final TempReplyRef demandRef;
+    private final Queue<StreamingAskCommand.Signal> outbox = new ArrayDeque<>();
+
+    /** The number of elements the consumer requested that have not been sent yet */
+    private long credit;
+
+    /** Set once a terminal signal was offered; later signals are dropped */
+    private boolean terminated;
+
+    /** Set once the terminal signal was sent or the consumer is gone */
+    private boolean finished;
+
+    StreamProducer(ActorRef<CorrelatedReply> replyTo, long correlationId) {
+        this.replyTo = replyTo;
+        this.correlationId = correlationId;
+        this.demandRef = TempReplyRef.createNextTo(replyTo, this::onMessage);
+        ActorRef<StreamingAskCommand.Demand> producer = demandRef.typed();
+        replyTo.tell(new CorrelatedReply(correlationId, StreamingAskCommand.Signal.open(producer)));
+        demandRef.watch(replyTo);
+    }
+
+    /**
+     * Sends the signal now if the consumer has demand for it, or queues it otherwise.
+     *
+     * @param signal The signal emitted by the actor
+     */
+    synchronized void offer(StreamingAskCommand.Signal signal) {
+        if (terminated || finished) {
+            return;
+        }
+        terminated = signal.kind != StreamingAskCommand.Signal.Kind.NEXT;
+        outbox.add(signal);
+        drain();
+    }
+
+    private synchronized void onMessage(Object message) {
+        if (finished) {
+            return;
+        }
+        if (message instanceof StreamingAskCommand.Demand) {
+            long n = ((StreamingAskCommand.Demand) message).n;
+            if (n == StreamingAskCommand.Demand.CANCEL) {
+                finish();
+                return;
+            }
+            credit = credit + n < 0 ? Long.MAX_VALUE : credit + n;
+            drain();
+        } else if (message instanceof Terminated) {
+            // The consumer is gone, nobody will request the waiting elements
+            finish();
+        }
+    }
+
+    private void drain() {
+        StreamingAskCommand.Signal signal;
+        while ((signal = outbox.peek()) != null) {
+            boolean element = signal.kind == StreamingAskCommand.Signal.Kind.NEXT;
+            if (element && credit == 0) {
+                return;
+            }
+            outbox.poll();
+            // Spend the credit first: a local consumer may request more from within this tell
+            if (element && credit != Long.MAX_VALUE) {
+                credit--;
+            }
+            replyTo.tell(new CorrelatedReply(correlationId, signal));
+            if (!element) {
+                finish();
+                return;
+            }
+        }
+    }
+
+    private void finish() {
+        finished = true;
+        outbox.clear();
+        demandRef.release();
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.seonwkim.core;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.github.seonwkim.core.serialization.JsonSerializable;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.serialization.jackson.PekkoSerializationDeserializer;
+import org.apache.pekko.serialization.jackson.PekkoSerializationSerializer;
+
+/**
+ * Base class for commands that answer with a stream of replies instead of a single one. The actor
+ * emits any number of elements followed by exactly one terminal signal. Callers consume the stream
+ * with {@code askStream(...)} on {@link SpringActorHandle} or
+ * {@link io.github.seonwkim.core.shard.SpringShardedActorHandle}, or as a {@code Flux} through
+ * {@link ReactiveAsks}.
+ *
+ * <p>The stream is demand-driven: an element is only sent to the caller once the caller requested
+ * it. Elements the actor emits ahead of the demand wait on the actor's node, so a slow consumer is
+ * never flooded, and a terminal signal follows the elements that are still waiting.
+ *
+ * <p>The framework manages the reply-to reference, like it does for {@link AskCommand}.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * public class ListOrders extends StreamingAskCommand<Order> implements Command {}
+ *
+ * private Behavior<Command> onListOrders(ListOrders msg) {
+ *     orders.forEach(msg::emit);
+ *     msg.complete();
+ *     return Behaviors.same();
+ * }
+ *
+ * // Usage:
+ * Flux<Order> orders = ReactiveAsks.of(springActorHandle).flux(new ListOrders());
+ * }
+ * </pre>
+ *
+ * @param <E> The type of the streamed elements
+ */
+public abstract class StreamingAskCommand<E> {
+
+    @JsonSerialize(using = PekkoSerializationSerializer.class)
+    @JsonDeserialize(using = PekkoSerializationDeserializer.class)
+    @Nullable private ActorRef<CorrelatedReply> replyTo;
+
+    private long correlationId;
+
+    /** Created on the actor's node with the first signal */
+    @JsonIgnore
+    @Nullable private StreamProducer producer;
+
+    /**
+     * Sets the reference that receives the stream signals of this command.
+     * This method is called by the framework and should not be called by user code.
+     *
+     * @param replyTo The ActorRef that collects correlated replies
+     * @param correlationId The id identifying this stream at the receiver
+     * @return This command instance
+     */
+    public final StreamingAskCommand<E> withStreamReplyTo(ActorRef<CorrelatedReply> replyTo, long correlationId) {
+        this.replyTo = replyTo;
+        this.correlationId = correlationId;
+        this.producer = null;
+        return this;
+    }
+
+    /**
+     * Emits the next element of the stream. The element is sent once the caller requested it.
+     *
+     * @param element The element to emit
+     * @throws IllegalStateException if the reply-to has not been set by the framework
+     */
+    public final void emit(E element) {
+        send(new Signal(Signal.Kind.NEXT, element, null));
+    }
+
+    /**
+     * Completes the stream after the elements emitted so far. Elements emitted afterwards are dropped.
+     *
+     * @throws IllegalStateException if the reply-to has not been set by the framework
+     */
+    public final void complete() {
+        send(new Signal(Signal.Kind.COMPLETE, null, null));
+    }
+
+    /**
+     * Fails the stream with the given reason. Elements emitted afterwards are dropped.
+     *
+     * @param reason A description of the failure
+     * @throws IllegalStateException if the reply-to has not been set by the framework
+     */
+    public final void fail(String reason) {
+        send(new Signal(Signal.Kind.ERROR, null, reason));
+    }
+
+    /**
+     * Checks if this command has a reply-to reference set.
+     *
+     * @return true if the command was sent as a streaming ask, false otherwise
+     */
+    public final boolean hasReplyTo() {
+        return replyTo != null;
+    }
+
+    private void send(Signal signal) {
+        if (replyTo == null) {
+            throw new IllegalStateException("Cannot send stream signal: replyTo has not been set. "
+                    + "Ensure you're using askStream(), not tell() which doesn't expect a response. "
+                    + "Command type: "
+                    + this.getClass().getName());
+        }
+        StreamProducer current = producer;
+        if (current == null) {
+            current = new StreamProducer(replyTo, correlationId);
+            producer = current;
+        }
+        current.offer(signal);
+    }
+
+    /**
+     * One signal of a stream: the announcement of the producer, an element, the completion, or a
+     * failure. Actors never create this message themselves; {@link #emit(Object)},
+     * {@link #complete()} and {@link #fail(String)} do.
+     */
+    public static final class Signal implements JsonSerializable {
+
+        /** The kind of a stream signal */
+        public enum Kind {
+            OPEN,
+            NEXT,
+            COMPLETE,
+            ERROR
+        }
+
+        /** The kind of this signal */
+        public final Kind kind;
+
+        /** The element of a {@link Kind#NEXT} signal, serialized with its own serializer binding */
+        @JsonSerialize(using = PekkoSerializationSerializer.class)
+        @JsonDeserialize(using = PekkoSerializationDeserializer.class)
+        @Nullable public final Object element;
+
+        /** The reason of an {@link Kind#ERROR} signal */
+        @Nullable public final String errorMessage;
+
+        /** The reference that receives the demand of the caller, sent with {@link Kind#OPEN} */
+        @JsonSerialize(using = PekkoSerializationSerializer.class)
+        @JsonDeserialize(using = PekkoSerializationDeserializer.class)
+        @Nullable public final ActorRef<Demand> producer;
+
+        /**
+         * Creates a new Signal.
+         *
+         * @param kind The kind of the signal
+         * @param element The element of a NEXT signal
+         * @param errorMessage The reason of an ERROR signal
+         * @param producer The demand reference of an OPEN signal
+         */
+        @JsonCreator
+        public Signal(
+                @JsonProperty("kind") Kind kind,
+                @JsonProperty("element") @Nullable Object element,
+                @JsonProperty("errorMessage") @Nullable String errorMessage,
+                @JsonProperty("producer") @Nullable ActorRef<Demand> producer) {
+            this.kind = kind;
+            this.element = element;
+            this.errorMessage = errorMessage;
+            this.producer = producer;
+        }
+
+        Signal(Kind kind, @Nullable Object element, @Nullable String errorMessage) {
+            this(kind, element, errorMessage, null);
+        }
+
+        static Signal open(ActorRef<Demand> producer) {
+            return new Signal(Kind.OPEN, null, null, producer);
+        }
+    }
+
+    /**
+     * Requests more elements of a stream from its producer, or cancels the stream. Sent by the
+     * caller; actors never see this message.
+     */
+    public static final class Demand implements JsonSerializable {
+
+        /** The value of {@link #n} that cancels the stream */
+        public static final long CANCEL = -1;
+
+        /** The number of additional elements requested, or {@link #CANCEL} */
+        public final long n;
+
+        /**
+         * Creates a new Demand.
+         *
+         * @param n The number of additional elements requested, or {@link #CANCEL}
+         */
+        @JsonCreator
+        public Demand(@JsonProperty("n") long n) {
+            this.n = n;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.seonwkim.core;
+
+import java.util.function.Consumer;
+import org.apache.pekko.actor.ActorPath;
+import org.apache.pekko.actor.ActorRefProvider;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.FunctionRef;
+import org.apache.pekko.actor.InternalActorRef;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import scala.runtime.BoxedUnit;
+
+/**
+ * A reply target that is not backed by an actor: every message sent to it runs a callback on the
+ * sender's thread. The framework creates one per request, the way {@code AskPattern} creates a
+ * promise reference per ask, so the target can be forwarded and answered from any node.
+ *
+ * <p>This is the only class that uses Pekko's internal API for temporary references
+ * ({@link ActorRefProvider#tempPath()}, {@link ActorRefProvider#registerTempActor} and
+ * {@link FunctionRef}), which is the same mechanism Pekko's own ask pattern relies on. The API has
+ * no compatibility guarantee, so a Pekko upgrade only needs to check this class.
+ */
+final class TempReplyRef {
+
+    private final ActorRefProvider provider;
+    private final FunctionRef ref;
+
+    private TempReplyRef(ActorRefProvider provider, Consumer<Object> onMessage) {
+        this.provider = provider;
+        ActorPath path = provider.tempPath();
+        this.ref = new FunctionRef(path, provider, provider.guardian().underlying().system(), (sender, message) -> {
+            onMessage.accept(message);
+            return BoxedUnit.UNIT;
+        });
+        provider.registerTempActor(ref, path);
+    }
+
+    /**
+     * Creates a reply target in the given actor system.
+     *
+     * @param system The actor system that hosts the target
+     * @param onMessage Called with every message sent to the target, on the sender's thread
+     * @return The registered target
+     */
+    static TempReplyRef create(ActorSystem<?> system, Consumer<Object> onMessage) {
+        return new TempReplyRef(((ExtendedActorSystem) Adapter.toClassic(system)).provider(), onMessage);
+    }
+
+    /**
+     * Creates a reply target in the actor system that resolved the given reference, which is the
+     * local system even if the reference points to another node.
+     *
+     * @param resolved A reference resolved by the hosting actor system
+     * @param onMessage Called with every message sent to the target, on the sender's thread
+     * @return The registered target
+     */
+    static TempReplyRef createNextTo(ActorRef<?> resolved, Consumer<Object> onMessage) {
+        return new TempReplyRef(((InternalActorRef) Adapter.toClassic(resolved)).provider(), onMessage);
+    }
+
+    /**
+     * Returns the typed reference of the target.
+     *
+     * @param <M> The type of messages the caller sends to the target
+     * @return The reference to pass as reply-to
+     */
+    <M> ActorRef<M> typed() {
+        return Adapter.toTyped(ref);
+    }
+
+    /**
+     * Watches the given actor; its termination is passed to the callback as a
+     * {@link org.apache.pekko.actor.Terminated} message.
+     *
+     * @param other The actor to watch
+     */
+    void watch(ActorRef<?> other) {
+        ref.watch(Adapter.toClassic(other));
+    }
+
+    /** Unregisters the target. Messages sent to it afterwards go to dead letters. */
+    void release() {
+        provider.unregisterTempActor(ref.path());
+        ref.stop();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.seonwkim.core.exception;
+
+/**
+ * Exception thrown to the sender when a mailbox created with
+ * {@code MailboxConfig.mpscArray(capacity, OverflowStrategy.fail())} is full.
+ */
+public class MailboxOverflowException extends RuntimeException {
+
+    private final int capacity;
+
+    /**
+     * Creates a new MailboxOverflowException.
+     *
+     * @param recipient The path of the actor whose mailbox is full
+     * @param capacity The capacity of the mailbox
+     */
+    public MailboxOverflowException(String recipient, int capacity) {
+        super(String.format("Mailbox of '%s' is full (capacity: %d)", recipient, capacity));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the capacity of the mailbox that overflowed.
+     *
+     * @return the mailbox capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -1,12 +1,23 @@
 package io.github.seonwkim.core.impl;
 
+import io.github.seonwkim.core.ActorRefIndex;
 import io.github.seonwkim.core.ActorSpawner;
+import io.github.seonwkim.core.DispatcherConfig;
+import io.github.seonwkim.core.MailboxConfig;
 import io.github.seonwkim.core.RootGuardian;
+import io.github.seonwkim.core.RootGuardianStripes;
 import io.github.seonwkim.core.SpringActorContext;
+import io.github.seonwkim.core.TagsConfig;
 import io.github.seonwkim.core.topic.SpringTopicRef;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.SupervisorStrategy;
+import org.apache.pekko.actor.typed.Terminated;
 import org.apache.pekko.actor.typed.javadsl.ActorContext;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.apache.pekko.actor.typed.pubsub.Topic;
@@ -15,9 +26,17 @@ import org.apache.pekko.cluster.typed.ClusterSingleton;
 /**
  * Default implementation of the {@code RootGuardian} interface. This class manages the lifecycle of
  * actors by handling spawn commands.
+ *
+ * <p>When {@code spring.actor.root-guardian.stripes} is greater than 1, the root guardian spawns
+ * that many stripe guardians, each running this same behavior, and only forwards commands to the
+ * stripe that owns the target actor name. Top-level actors are then children of their stripe, at
+ * {@code /user/root-guardian-stripe-N/<name>}. See {@link RootGuardianStripes}.
  */
 public class DefaultRootGuardian implements RootGuardian {
 
+    /** Name prefix of the stripe guardians spawned in striped mode */
+    public static final String STRIPE_NAME_PREFIX = "root-guardian-stripe-";
+
     /**
      * Creates a new DefaultRootGuardian behavior using the static ActorTypeRegistry.
      *
@@ -32,14 +51,35 @@ public class DefaultRootGuardian implements RootGuardian {
             } catch (Exception e) {
                 // Not in cluster mode, clusterSingleton will be null
             }
+            int stripeCount = RootGuardianStripes.configuredStripeCount(
+                    ctx.getSystem().settings().config());
+            if (stripeCount > 1) {
+                return new DefaultRootGuardian(ctx, clusterSingleton).stripedBehavior(stripeCount);
+            }
             return new DefaultRootGuardian(ctx, clusterSingleton).behavior();
         });
     }
 
+    /**
+     * Creates the behavior of a single stripe guardian. A stripe handles the same commands as an
+     * unstriped root guardian for the actors it owns. A failing command (for example a spawn with a
+     * duplicate name) is resumed so that the stripe keeps its children.
+     *
+     * @param clusterSingleton The cluster singleton (null in local mode)
+     * @return A behavior for a stripe guardian
+     */
+    private static Behavior<Command> createStripe(@Nullable ClusterSingleton clusterSingleton) {
+        return Behaviors.supervise(Behaviors.<Command>setup(
+                        ctx -> new DefaultRootGuardian(ctx, clusterSingleton).behavior()))
+                .onFailure(SupervisorStrategy.resume());
+    }
+
     /** The actor context */
     private final ActorContext<Command> ctx;
     /** The cluster singleton (null in local mode) */
     @Nullable private final ClusterSingleton clusterSingleton;
+    /** Index of spawned actors shared with {@code SpringActorSystem} for lock-free lookups */
+    private final ActorRefIndex actorRefIndex;
 
     /**
      * Creates a new DefaultRootGuardian with the given actor context.
@@ -51,24 +91,114 @@ public class DefaultRootGuardian implements RootGuardian {
     public DefaultRootGuardian(ActorContext<Command> ctx, @Nullable ClusterSingleton clusterSingleton) {
         this.ctx = ctx;
         this.clusterSingleton = clusterSingleton;
+        this.actorRefIndex = ActorRefIndex.get(ctx.getSystem());
     }
 
     /**
-     * Creates the behavior for this DefaultRootGuardian. The behavior handles SpawnActor, GetActor, CheckExists,
-     * CreateTopic, and GetOrCreateTopic commands.
+     * Creates the behavior for this DefaultRootGuardian. The behavior handles SpawnActor, GetOrSpawnActor,
+     * SpawnActors, GetActor, CheckExists, CreateTopic, and GetOrCreateTopic commands, and the Terminated
+     * signal of watched actors.
      *
      * @return A behavior for this DefaultRootGuardian
      */
     private Behavior<Command> behavior() {
         return Behaviors.setup(ctx -> Behaviors.receive(Command.class)
                 .onMessage(SpawnActor.class, this::handleSpawnActor)
+                .onMessage(GetOrSpawnActor.class, this::handleGetOrSpawnActor)
+                .onMessage(SpawnActors.class, this::handleSpawnActors)
                 .onMessage(GetActor.class, this::handleGetActor)
                 .onMessage(CheckExists.class, this::handleCheckExists)
                 .onMessage(CreateTopic.class, this::handleCreateTopicRaw)
                 .onMessage(GetOrCreateTopic.class, this::handleGetOrCreateTopicRaw)
+                .onSignal(Terminated.class, this::handleTerminated)
                 .build());
     }
 
+    /**
+     * Creates the behavior of a striped root guardian. It spawns the stripe guardians, publishes them
+     * in {@link RootGuardianStripes}, and forwards every command to the stripe that owns the target
+     * actor name. Commands sent by {@code SpringActorSystem} after the stripes are published skip
+     * this hop and go to the owning stripe directly.
+     *
+     * @param stripeCount The number of stripes
+     * @return A behavior for the striped root guardian
+     */
+    private Behavior<Command> stripedBehavior(int stripeCount) {
+        List<ActorRef<Command>> stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(ctx.spawn(createStripe(clusterSingleton), STRIPE_NAME_PREFIX + i));
+        }
+        RootGuardianStripes.get(ctx.getSystem()).publish(stripes);
+
+        return Behaviors.receive(Command.class)
+                .onMessage(SpawnActor.class, msg -> forward(stripes, msg.actorClass, msg.actorContext, msg))
+                .onMessage(GetOrSpawnActor.class, msg -> forward(stripes, msg.actorClass, msg.actorContext, msg))
+                .onMessage(SpawnActors.class, msg -> forwardBatch(stripes, msg))
+                .onMessage(GetActor.class, msg -> forward(stripes, msg.actorClass, msg.actorContext, msg))
+                .onMessage(CheckExists.class, msg -> forward(stripes, msg.actorClass, msg.actorContext, msg))
+                .onMessage(
+                        CreateTopic.class,
+                        msg -> forward(stripes, buildTopicActorName(msg.topicName, msg.messageType), msg))
+                .onMessage(
+                        GetOrCreateTopic.class,
+                        msg -> forward(stripes, buildTopicActorName(msg.topicName, msg.messageType), msg))
+                .build();
+    }
+
+    private Behavior<Command> forward(
+            List<ActorRef<Command>> stripes, Class<?> actorClass, SpringActorContext actorContext, Command msg) {
+        return forward(stripes, buildActorKey(actorClass, actorContext), msg);
+    }
+
+    private Behavior<Command> forward(List<ActorRef<Command>> stripes, String actorName, Command msg) {
+        stripes.get(RootGuardianStripes.stripeIndex(actorName, stripes.size())).tell(msg);
+        return Behaviors.same();
+    }
+
+    /**
+     * Splits a SpawnActors batch by owning stripe and merges the stripes' replies into one reply.
+     */
+    private Behavior<Command> forwardBatch(List<ActorRef<Command>> stripes, SpawnActors msg) {
+        Map<Integer, List<SpringActorContext>> byStripe = new HashMap<>();
+        for (SpringActorContext actorContext : msg.actorContexts) {
+            int stripe = RootGuardianStripes.stripeIndex(buildActorKey(msg.actorClass, actorContext), stripes.size());
+            byStripe.computeIfAbsent(stripe, k -> new ArrayList<>()).add(actorContext);
+        }
+        if (byStripe.isEmpty()) {
+            msg.replyTo.tell(new SpawnedActors(new HashMap<>(), new HashMap<>()));
+            return Behaviors.same();
+        }
+
+        ActorRef<SpawnedActors> merger = ctx.spawnAnonymous(mergeSpawnedActors(byStripe.size(), msg.replyTo));
+        byStripe.forEach((stripe, actorContexts) -> stripes.get(stripe)
+                .tell(new SpawnActors(
+                        msg.actorClass,
+                        actorContexts,
+                        merger,
+                        msg.mailboxConfig,
+                        msg.dispatcherConfig,
+                        msg.tagsConfig,
+                        msg.supervisorStrategy)));
+        return Behaviors.same();
+    }
+
+    private static Behavior<SpawnedActors> mergeSpawnedActors(int expectedReplies, ActorRef<SpawnedActors> replyTo) {
+        Map<String, ActorRef<?>> refs = new HashMap<>();
+        Map<String, String> failures = new HashMap<>();
+        int[] remaining = {expectedReplies};
+        return Behaviors.receive(SpawnedActors.class)
+                .onMessage(SpawnedActors.class, part -> {
+                    refs.putAll(part.refs);
+                    failures.putAll(part.failures);
+                    if (--remaining[0] > 0) {
+                        return Behaviors.same();
+                    }
+                    replyTo.tell(new SpawnedActors(refs, failures));
+                    return Behaviors.stopped();
+                })
+                .build();
+    }
+
     /**
      * Handles a SpawnActor command by creating a new actor. Each spawn request creates a new actor
      * instance. Users should implement their own caching if they want to reuse actor references.
@@ -80,6 +210,10 @@ public class DefaultRootGuardian implements RootGuardian {
      * ClusterSingleton API. The returned reference is a proxy that routes messages to whichever
      * node currently hosts the singleton.
      *
+     * <p>Regular (non-singleton) actors are watched and registered in the {@link ActorRefIndex}
+     * before the reply is sent, so a caller that receives the reference can immediately resolve the
+     * actor through the index.
+     *
      * @param msg The SpawnActor command
      * @return The same behavior, as this handler doesn't change the behavior
      */
@@ -98,10 +232,108 @@ public class DefaultRootGuardian implements RootGuardian {
                 clusterSingleton,
                 msg.isClusterSingleton);
 
+        if (!msg.isClusterSingleton) {
+            ctx.watch(ref);
+            actorRefIndex.register(key, ref);
+        }
+
+        msg.replyTo.tell(new Spawned<>(ref));
+        return Behaviors.same();
+    }
+
+    /**
+     * Handles a GetOrSpawnActor command by replying with the existing child actor, or by spawning
+     * it when there is none. Because both steps run in the same message turn, concurrent requests
+     * for the same actor never race on the actor name.
+     *
+     * @param msg The GetOrSpawnActor command
+     * @return The same behavior
+     */
+    public Behavior<RootGuardian.Command> handleGetOrSpawnActor(GetOrSpawnActor msg) {
+        ActorRef<?> ref = getOrSpawnActor(
+                msg.actorClass,
+                msg.actorContext,
+                msg.mailboxConfig,
+                msg.dispatcherConfig,
+                msg.tagsConfig,
+                msg.supervisorStrategy);
+
         msg.replyTo.tell(new Spawned<>(ref));
         return Behaviors.same();
     }
 
+    /**
+     * Handles a SpawnActors command by resolving or spawning every actor of the batch in this
+     * message turn and replying once. A failure to spawn one actor is reported in the reply and does
+     * not affect the rest of the batch.
+     *
+     * @param msg The SpawnActors command
+     * @return The same behavior
+     */
+    public Behavior<RootGuardian.Command> handleSpawnActors(SpawnActors msg) {
+        Map<String, ActorRef<?>> refs = new HashMap<>();
+        Map<String, String> failures = new HashMap<>();
+
+        for (SpringActorContext actorContext : msg.actorContexts) {
+            try {
+                refs.put(
+                        actorContext.actorId(),
+                        getOrSpawnActor(
+                                msg.actorClass,
+                                actorContext,
+                                msg.mailboxConfig,
+                                msg.dispatcherConfig,
+                                msg.tagsConfig,
+                                msg.supervisorStrategy));
+            } catch (Exception e) {
+                ctx.getLog().error("Failed to spawn actor {}", buildActorKey(msg.actorClass, actorContext), e);
+                failures.put(actorContext.actorId(), String.valueOf(e.getMessage()));
+            }
+        }
+
+        msg.replyTo.tell(new SpawnedActors(refs, failures));
+        return Behaviors.same();
+    }
+
+    private ActorRef<?> getOrSpawnActor(
+            Class<?> actorClass,
+            SpringActorContext actorContext,
+            MailboxConfig mailboxConfig,
+            DispatcherConfig dispatcherConfig,
+            TagsConfig tagsConfig,
+            @Nullable SupervisorStrategy supervisorStrategy) {
+        String key = buildActorKey(actorClass, actorContext);
+
+        ActorRef<?> ref = ctx.getChild(key).orElse(null);
+        if (ref == null) {
+            ref = ActorSpawner.spawnActor(
+                    ctx,
+                    actorClass,
+                    actorContext,
+                    key,
+                    supervisorStrategy,
+                    mailboxConfig,
+                    dispatcherConfig,
+                    tagsConfig,
+                    clusterSingleton,
+                    false);
+            ctx.watch(ref);
+            actorRefIndex.register(key, ref);
+        }
+        return ref;
+    }
+
+    /**
+     * Handles the Terminated signal of a watched actor by evicting it from the {@link ActorRefIndex}.
+     *
+     * @param signal The Terminated signal (also covers ChildFailed)
+     * @return The same behavior
+     */
+    public Behavior<RootGuardian.Command> handleTerminated(Terminated signal) {
+        actorRefIndex.unregister(signal.getRef());
+        return Behaviors.same();
+    }
+
     /**
      * Handles a GetActor command by looking up a child actor using the actor context.
      * No caching is used - the lookup is performed directly on the actor context.
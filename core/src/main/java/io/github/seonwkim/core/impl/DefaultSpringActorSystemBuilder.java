@@ -3,6 +3,8 @@ package io.github.seonwkim.core.impl;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValueFactory;
+import io.github.seonwkim.core.ProvisionedDispatchers;
+import io.github.seonwkim.core.ProvisionedMailboxes;
 import io.github.seonwkim.core.RootGuardian;
 import io.github.seonwkim.core.RootGuardianSupplierWrapper;
 import io.github.seonwkim.core.SpringActorSystem;
@@ -88,7 +90,9 @@ public class DefaultSpringActorSystemBuilder implements SpringActorSystemBuilder
         }
 
         final Config config = ConfigFactory.parseMap(ConfigValueFactory.fromMap(applyDefaultSerializers(configMap)))
-                .withFallback(ConfigFactory.load());
+                .withFallback(ConfigFactory.load())
+                .withFallback(ProvisionedMailboxes.config())
+                .withFallback(ProvisionedDispatchers.config());
         final String name = config.hasPath("pekko.name") ? config.getString("pekko.name") : DEFAULT_SYSTEM_NAME;
 
         final ActorSystem<RootGuardian.Command> actorSystem = ActorSystem.create(supplier.get(), name, config);
@@ -0,0 +1,33 @@
+package io.github.seonwkim.core.shard;
+
+/**
+ * Hook points for extra ask attempts made by {@link SpringShardedActorHandle.AskBuilder}. The
+ * methods do nothing by themselves; the metrics module instruments them to count hedged requests
+ * and retries per entity type ({@code actor.ask.hedges}, {@code actor.ask.retries} and
+ * {@code actor.ask.retries.rejected}).
+ */
+public final class AskAttemptEvents {
+
+    private AskAttemptEvents() {}
+
+    /**
+     * Called when a hedged copy of a request is sent.
+     *
+     * @param entityType The name of the entity type that was asked
+     */
+    public static void hedgeSent(String entityType) {}
+
+    /**
+     * Called when a timed-out request is retried.
+     *
+     * @param entityType The name of the entity type that was asked
+     */
+    public static void retrySent(String entityType) {}
+
+    /**
+     * Called when a retry is skipped because the retry budget is exhausted.
+     *
+     * @param entityType The name of the entity type that was asked
+     */
+    public static void retryRejected(String entityType) {}
+}
@@ -0,0 +1,100 @@
+package io.github.seonwkim.core.shard;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nullable;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+
+/**
+ * Keeps a sliding sample of successful ask latencies per entity type and derives the 95th
+ * percentile from it, which {@link SpringShardedActorHandle.AskBuilder#withHedging(int)} uses as
+ * the hedge delay. The percentile is recomputed every {@value #RECOMPUTE_INTERVAL} samples instead
+ * of on every read.
+ *
+ * <p>The estimators of an actor system are kept in its {@link Estimators} extension, so systems
+ * sharing a JVM don't mix their latencies.
+ */
+final class AskLatencyEstimator {
+
+    private static final int SAMPLE_SIZE = 256;
+    private static final int RECOMPUTE_INTERVAL = 32;
+    private static final int MIN_SAMPLES = 20;
+    private static final double PERCENTILE = 0.95;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long p95Nanos = -1;
+
+    /**
+     * Records the latency of a successful ask.
+     *
+     * @param latencyNanos The latency in nanoseconds
+     */
+    void record(long latencyNanos) {
+        long count = recorded.incrementAndGet();
+        samples.set((int) ((count - 1) % SAMPLE_SIZE), latencyNanos);
+        if (count >= MIN_SAMPLES && (count % RECOMPUTE_INTERVAL == 0 || p95Nanos < 0)) {
+            recompute((int) Math.min(count, SAMPLE_SIZE));
+        }
+    }
+
+    /**
+     * Returns the current 95th percentile latency.
+     *
+     * @return The estimate, or null if fewer than {@value #MIN_SAMPLES} samples were recorded
+     */
+    @Nullable Duration p95() {
+        long current = p95Nanos;
+        return current < 0 ? null : Duration.ofNanos(current);
+    }
+
+    private void recompute(int size) {
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        p95Nanos = snapshot[Math.min(size - 1, (int) Math.ceil(size * PERCENTILE) - 1)];
+    }
+
+    /** The estimators of one actor system, or of one handle created without an actor system */
+    static final class Estimators implements Extension {
+        private static final Id ID = new Id();
+
+        private final Map<String, AskLatencyEstimator> byEntityType = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the estimators of the given actor system, creating them on first access.
+         *
+         * @param system The actor system
+         * @return The estimators shared by all handles of the actor system
+         */
+        static Estimators get(ActorSystem<?> system) {
+            return ID.get(system);
+        }
+
+        /**
+         * Returns the estimator of the given entity type.
+         *
+         * @param entityType The name of the entity type
+         * @return The estimator, shared by all handles to that entity type
+         */
+        AskLatencyEstimator forEntityType(String entityType) {
+            return byEntityType.computeIfAbsent(entityType, key -> new AskLatencyEstimator());
+        }
+    }
+
+    /** Extension id used to create one set of {@link Estimators} per actor system. */
+    private static final class Id extends ExtensionId<Estimators> {
+        @Override
+        public Estimators createExtension(ActorSystem<?> system) {
+            return new Estimators();
+        }
+    }
+}
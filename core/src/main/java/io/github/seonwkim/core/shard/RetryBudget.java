@@ -0,0 +1,171 @@
+package io.github.seonwkim.core.shard;
+
+import com.typesafe.config.Config;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.pekko.actor.typed.ActorSystem;
+import org.apache.pekko.actor.typed.Extension;
+import org.apache.pekko.actor.typed.ExtensionId;
+
+/**
+ * Limits retries to a fraction of the original requests, so that retrying timed-out asks cannot
+ * amplify an overload. Every request deposits {@code ratio} tokens into the budget and every retry
+ * withdraws one; on top of that a small number of retries per second is always allowed, so
+ * low-traffic callers can still retry.
+ *
+ * <p>{@link #get(ActorSystem)} returns the budget shared by all asks of an actor system. Because
+ * every node enforces the same ratio, retries across the whole cluster stay within that ratio of
+ * the cluster's request rate.
+ *
+ * <p>Example configuration:
+ *
+ * <pre>{@code
+ * spring:
+ *   actor:
+ *     ask:
+ *       retry-budget:
+ *         ratio: 0.1
+ *         min-retries-per-second: 10
+ * }</pre>
+ *
+ * @see SpringShardedActorHandle.AskBuilder#withRetry(java.time.Duration, RetryBudget)
+ */
+public final class RetryBudget implements Extension {
+
+    /** Configuration path of the retry ratio, relative to {@code spring.actor}. */
+    public static final String RATIO_CONFIG_PATH = "ask.retry-budget.ratio";
+
+    /** Configuration path of the retries always allowed per second, relative to {@code spring.actor}. */
+    public static final String MIN_RETRIES_PER_SECOND_CONFIG_PATH = "ask.retry-budget.min-retries-per-second";
+
+    /** The default fraction of requests that may be retried */
+    public static final double DEFAULT_RATIO = 0.1;
+
+    /** The default number of retries always allowed per second */
+    public static final int DEFAULT_MIN_RETRIES_PER_SECOND = 10;
+
+    /** Upper bound of saved-up tokens, expressed in requests, so an idle period cannot fund a burst */
+    private static final int MAX_SAVED_REQUESTS = 1000;
+
+    /** Tokens are kept in thousandths to support fractional ratios */
+    private static final long TOKEN_SCALE = 1000;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final Id ID = new Id();
+
+    private final double ratio;
+    private final int minRetriesPerSecond;
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicLong reserveSecond = new AtomicLong();
+    private final AtomicInteger reserveUsed = new AtomicInteger();
+
+    private RetryBudget(double ratio, int minRetriesPerSecond) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("ratio must be between 0 and 1, but was " + ratio);
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("minRetriesPerSecond must not be negative");
+        }
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.depositPerRequest = Math.round(ratio * TOKEN_SCALE);
+        this.maxBalance = depositPerRequest * MAX_SAVED_REQUESTS;
+    }
+
+    /**
+     * Creates a standalone budget.
+     *
+     * @param ratio The fraction of requests that may be retried, between 0 and 1
+     * @param minRetriesPerSecond The number of retries always allowed per second
+     * @return A new budget
+     */
+    public static RetryBudget of(double ratio, int minRetriesPerSecond) {
+        return new RetryBudget(ratio, minRetriesPerSecond);
+    }
+
+    /**
+     * Returns the budget shared by all asks of the given actor system, creating it on first access.
+     *
+     * @param system The actor system
+     * @return The budget belonging to the actor system
+     */
+    public static RetryBudget get(ActorSystem<?> system) {
+        return ID.get(system);
+    }
+
+    /** Records an original request, adding {@code ratio} tokens to the budget. */
+    public void deposit() {
+        if (depositPerRequest == 0) {
+            return;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(maxBalance, current + depositPerRequest)));
+    }
+
+    /**
+     * Tries to take one retry out of the budget.
+     *
+     * @return true if the retry may be sent, false if the budget is exhausted
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN_SCALE) {
+                return tryWithdrawReserve();
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN_SCALE));
+        return true;
+    }
+
+    private boolean tryWithdrawReserve() {
+        if (minRetriesPerSecond == 0) {
+            return false;
+        }
+        long second = System.nanoTime() / NANOS_PER_SECOND;
+        long previous = reserveSecond.get();
+        if (previous != second && reserveSecond.compareAndSet(previous, second)) {
+            reserveUsed.set(0);
+        }
+        return reserveUsed.incrementAndGet() <= minRetriesPerSecond;
+    }
+
+    /**
+     * Returns the fraction of requests that may be retried.
+     *
+     * @return The retry ratio
+     */
+    public double ratio() {
+        return ratio;
+    }
+
+    /**
+     * Returns the number of retries always allowed per second.
+     *
+     * @return The minimum retries per second
+     */
+    public int minRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    /** Extension id used to create one {@link RetryBudget} per actor system. */
+    private static final class Id extends ExtensionId<RetryBudget> {
+        @Override
+        public RetryBudget createExtension(ActorSystem<?> system) {
+            Config config = system.settings().config();
+            double ratio = config.hasPath(RATIO_CONFIG_PATH) ? config.getDouble(RATIO_CONFIG_PATH) : DEFAULT_RATIO;
+            int minRetriesPerSecond = config.hasPath(MIN_RETRIES_PER_SECOND_CONFIG_PATH)
+                    ? config.getInt(MIN_RETRIES_PER_SECOND_CONFIG_PATH)
+                    : DEFAULT_MIN_RETRIES_PER_SECOND;
+            return new RetryBudget(ratio, minRetriesPerSecond);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package io.github.seonwkim.core.shard;
 
+import io.github.seonwkim.core.MessageBatch;
+import io.github.seonwkim.core.SpringActorTimers;
 import io.github.seonwkim.core.SpringBehaviorContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.PostStop;
 import org.apache.pekko.actor.typed.Signal;
 import org.apache.pekko.actor.typed.javadsl.BehaviorBuilder;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
@@ -42,6 +46,10 @@ import org.apache.pekko.actor.typed.javadsl.Behaviors;
  * }
  * </pre>
  *
+ * <p>Bursts sent with {@link SpringShardedActorHandle#tellAll(java.util.Collection)} arrive as one
+ * {@link MessageBatch}, which the behavior unpacks within a single turn of the entity. Timers started
+ * through {@link SpringBehaviorContext#timers()} are cancelled when the entity stops or is passivated.
+ *
  * @param <T> The message type this behavior handles
  */
 public final class SpringShardedActorBehavior<T> {
@@ -162,17 +170,62 @@ public final class SpringShardedActorBehavior<T> {
                     builder = handler.addTo(builder, state);
                 }
 
-                // Add all signal handlers - capture the returned builder each time
-                for (SignalHandler<T, S, ?> handler : signalHandlers) {
-                    builder = handler.addTo(builder, state);
-                }
+                // Add all signal handlers
+                builder = builder.onSignal(Signal.class, sig -> handleSignal(springCtx, state, sig));
+
+                // Unpack bursts sent with tellAll; only reached by messages no handler matched
+                builder = builder.onMessage(batchClass(), batch -> ((MessageBatch) batch)
+                        .deliver(ctx, m -> dispatch(m, state)));
 
-                return builder.build();
+                return SpringActorTimers.interceptDeliveries(builder.build());
             });
 
             return new SpringShardedActorBehavior<>(userBehavior);
         }
 
+        /**
+         * Passes a signal to the first matching signal handler. Timers started through
+         * {@link SpringBehaviorContext#timers()} are cancelled when the entity stops, so a passivated
+         * entity leaves nothing behind in the shared timing wheel.
+         */
+        private Behavior<T> handleSignal(SpringBehaviorContext<T> springCtx, S state, Signal sig) {
+            if (sig instanceof PostStop) {
+                springCtx.cancelTimers();
+            }
+            for (SignalHandler<T, S, ?> handler : signalHandlers) {
+                Behavior<T> result = handler.tryHandle(sig, state);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return Behaviors.unhandled();
+        }
+
+        /**
+         * Passes a message to the first message handler that accepts it.
+         */
+        @SuppressWarnings("unchecked")
+        private Behavior<T> dispatch(Object msg, S state) {
+            if (commandClass.isInstance(msg)) {
+                T typedMsg = (T) msg;
+                for (MessageHandler<T, S, ?> handler : messageHandlers) {
+                    Behavior<T> result = handler.tryHandle(typedMsg, state);
+                    if (result != null) {
+                        return result;
+                    }
+                }
+            }
+            return Behaviors.unhandled();
+        }
+
+        /**
+         * Returns the batch envelope class typed as a command, so it can be matched by a BehaviorBuilder.
+         */
+        @SuppressWarnings("unchecked")
+        private Class<T> batchClass() {
+            return (Class<T>) (Class<?>) MessageBatch.class;
+        }
+
         /**
          * Internal class to store message handler information.
          */
@@ -188,6 +241,14 @@ public final class SpringShardedActorBehavior<T> {
             BehaviorBuilder<T> addTo(BehaviorBuilder<T> builder, S state) {
                 return builder.onMessage(type, msg -> handler.apply(state, msg));
             }
+
+            @SuppressWarnings("unchecked")
+            @Nullable Behavior<T> tryHandle(T msg, S state) {
+                if (type.isInstance(msg)) {
+                    return handler.apply(state, (M) msg);
+                }
+                return null;
+            }
         }
 
         /**
@@ -202,8 +263,12 @@ public final class SpringShardedActorBehavior<T> {
                 this.handler = handler;
             }
 
-            BehaviorBuilder<T> addTo(BehaviorBuilder<T> builder, S state) {
-                return builder.onSignal(type, sig -> handler.apply(state, sig));
+            @SuppressWarnings("unchecked")
+            @Nullable Behavior<T> tryHandle(Signal sig, S state) {
+                if (type.isInstance(sig)) {
+                    return handler.apply(state, (M) sig);
+                }
+                return null;
             }
         }
     }
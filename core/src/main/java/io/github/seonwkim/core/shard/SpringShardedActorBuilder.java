@@ -1,5 +1,6 @@
 package io.github.seonwkim.core.shard;
 
+import io.github.seonwkim.core.ActorConstants;
 import io.github.seonwkim.core.SpringActorSystem;
 import javax.annotation.Nullable;
 import org.apache.pekko.cluster.sharding.typed.javadsl.EntityRef;
@@ -75,7 +76,7 @@ public class SpringShardedActorBuilder<T> {
         }
 
         final EntityRef<T> entityRef = actorSystem.getClusterSharding().entityRefFor(typeKey, entityId);
-        return new SpringShardedActorHandle<>(actorSystem.getRaw().scheduler(), entityRef);
+        return new SpringShardedActorHandle<>(actorSystem.getRaw(), entityRef, ActorConstants.DEFAULT_TIMEOUT);
     }
 
     /**
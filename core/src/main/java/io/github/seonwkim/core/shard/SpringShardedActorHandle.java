@@ -2,15 +2,24 @@ package io.github.seonwkim.core.shard;
 
 import io.github.seonwkim.core.ActorConstants;
 import io.github.seonwkim.core.AskCommand;
+import io.github.seonwkim.core.AskDeadlineTracker;
+import io.github.seonwkim.core.AwaitGuard;
+import io.github.seonwkim.core.MessageBatch;
+import io.github.seonwkim.core.ReactiveAsks;
+import io.github.seonwkim.core.StreamingAskCommand;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.ActorSystem;
 import org.apache.pekko.actor.typed.Scheduler;
 import org.apache.pekko.actor.typed.javadsl.AskPattern;
 import org.apache.pekko.cluster.sharding.typed.javadsl.EntityRef;
+import org.apache.pekko.dispatch.ExecutionContexts;
 import org.apache.pekko.japi.function.Function;
 
 /**
@@ -25,6 +34,8 @@ public class SpringShardedActorHandle<T> {
     private final Scheduler scheduler;
     private final EntityRef<T> entityRef;
     private final Duration defaultTimeout;
+    @Nullable private final AskDeadlineTracker deadlineTracker;
+    private final AskLatencyEstimator.Estimators latencyEstimators;
 
     /**
      * Creates a builder for SpringShardedActorHandle.
@@ -61,6 +72,51 @@ public class SpringShardedActorHandle<T> {
      * @param defaultTimeout The default timeout for ask operations
      */
     public SpringShardedActorHandle(Scheduler scheduler, EntityRef<T> entityRef, Duration defaultTimeout) {
+        this(scheduler, entityRef, defaultTimeout, null);
+    }
+
+    /**
+     * Creates a new SpringShardedActorHandle that uses the scheduler, the ask deadline tracker and
+     * the ask latencies that {@link AskBuilder#withHedging(int)} derives its delay from, of the given
+     * actor system.
+     *
+     * @param system The actor system the entity reference belongs to
+     * @param entityRef The entity reference to wrap
+     * @param defaultTimeout The default timeout for ask operations
+     */
+    public SpringShardedActorHandle(ActorSystem<?> system, EntityRef<T> entityRef, Duration defaultTimeout) {
+        this(
+                requireSystem(system).scheduler(),
+                entityRef,
+                defaultTimeout,
+                AskDeadlineTracker.get(system),
+                AskLatencyEstimator.Estimators.get(system));
+    }
+
+    /**
+     * Creates a new SpringShardedActorHandle that tracks ask deadlines with the given tracker
+     * instead of scheduling a separate timeout per ask. Latencies for
+     * {@link AskBuilder#withHedging(int)} are only shared by the asks of this handle.
+     *
+     * @param scheduler The scheduler to use for asking messages
+     * @param entityRef The entity reference to wrap
+     * @param defaultTimeout The default timeout for ask operations
+     * @param deadlineTracker The deadline tracker of the actor system (null to use AskPattern)
+     */
+    public SpringShardedActorHandle(
+            Scheduler scheduler,
+            EntityRef<T> entityRef,
+            Duration defaultTimeout,
+            @Nullable AskDeadlineTracker deadlineTracker) {
+        this(scheduler, entityRef, defaultTimeout, deadlineTracker, new AskLatencyEstimator.Estimators());
+    }
+
+    private SpringShardedActorHandle(
+            Scheduler scheduler,
+            EntityRef<T> entityRef,
+            Duration defaultTimeout,
+            @Nullable AskDeadlineTracker deadlineTracker,
+            AskLatencyEstimator.Estimators latencyEstimators) {
         if (scheduler == null) {
             throw new IllegalArgumentException("scheduler must not be null");
         }
@@ -73,6 +129,15 @@ public class SpringShardedActorHandle<T> {
         this.scheduler = scheduler;
         this.entityRef = entityRef;
         this.defaultTimeout = defaultTimeout;
+        this.deadlineTracker = deadlineTracker;
+        this.latencyEstimators = latencyEstimators;
+    }
+
+    private static ActorSystem<?> requireSystem(ActorSystem<?> system) {
+        if (system == null) {
+            throw new IllegalArgumentException("system must not be null");
+        }
+        return system;
     }
 
     /**
@@ -103,7 +168,93 @@ public class SpringShardedActorHandle<T> {
      */
     @SuppressWarnings("unchecked")
     public <RES> AskBuilder<T, RES> ask(AskCommand<RES> command) {
-        return new AskBuilder<>(replyTo -> (T) command.withReplyTo(replyTo), entityRef, scheduler, defaultTimeout);
+        return new AskBuilder<>(
+                replyTo -> (T) command.withReplyTo(replyTo),
+                command,
+                entityRef,
+                scheduler,
+                defaultTimeout,
+                deadlineTracker,
+                latencyEstimators);
+    }
+
+    /**
+     * Asks the sharded actor and blocks until the reply arrives, using the default timeout. Intended for
+     * thread-per-request callers such as Spring MVC controllers running on virtual threads, where the
+     * wait only parks the virtual thread. Calls on a dispatcher thread of the actor system are
+     * reported or rejected according to {@link AwaitGuard}.
+     *
+     * <p>Example usage:
+     * <pre>
+     * {@code
+     * String name = shardedActorRef.askAndAwait(new GetUserName("user123"));
+     * }
+     * </pre>
+     *
+     * @param command The command that implements AskCommand (must also be assignable to T)
+     * @param <RES> The type of the response message
+     * @return The response
+     * @throws java.util.concurrent.CompletionException If the ask fails or times out
+     */
+    public <RES> RES askAndAwait(AskCommand<RES> command) {
+        return ask(command).executeAndAwait();
+    }
+
+    /**
+     * Asks the sharded actor with a custom timeout and blocks until the reply arrives. See
+     * {@link #askAndAwait(AskCommand)}.
+     *
+     * @param command The command that implements AskCommand (must also be assignable to T)
+     * @param timeout The maximum time to wait for a response
+     * @param <RES> The type of the response message
+     * @return The response
+     * @throws java.util.concurrent.CompletionException If the ask fails or times out
+     */
+    public <RES> RES askAndAwait(AskCommand<RES> command, Duration timeout) {
+        return ask(command).withTimeout(timeout).executeAndAwait();
+    }
+
+    /**
+     * Asks the sharded actor with a {@link StreamingAskCommand} and passes its replies to the
+     * listener, using the default timeout as the maximum time between two replies. The actor sends
+     * the elements requested through the returned subscription; see
+     * {@link AskDeadlineTracker#stream(org.apache.pekko.actor.typed.RecipientRef, StreamingAskCommand,
+     * Duration, AskDeadlineTracker.StreamListener)}. Use {@link ReactiveAsks} to consume the stream
+     * as a {@code Flux}.
+     *
+     * @param command The streaming command (must also be assignable to T)
+     * @param listener Receives the elements and the terminal signal of the stream
+     * @param <E> The type of the streamed elements
+     * @return The subscription that requests elements and cancels the stream
+     * @throws IllegalStateException If the handle was not obtained from
+     *     {@link io.github.seonwkim.core.SpringActorSystem}
+     */
+    public <E> AskDeadlineTracker.StreamSubscription askStream(
+            StreamingAskCommand<E> command, AskDeadlineTracker.StreamListener<E> listener) {
+        return askStream(command, defaultTimeout, listener);
+    }
+
+    /**
+     * Asks the sharded actor with a {@link StreamingAskCommand} and a custom idle timeout. See
+     * {@link #askStream(StreamingAskCommand, AskDeadlineTracker.StreamListener)}.
+     *
+     * @param command The streaming command (must also be assignable to T)
+     * @param idleTimeout The maximum time to wait between two replies
+     * @param listener Receives the elements and the terminal signal of the stream
+     * @param <E> The type of the streamed elements
+     * @return The subscription that requests elements and cancels the stream
+     * @throws IllegalStateException If the handle was not obtained from
+     *     {@link io.github.seonwkim.core.SpringActorSystem}
+     */
+    public <E> AskDeadlineTracker.StreamSubscription askStream(
+            StreamingAskCommand<E> command, Duration idleTimeout, AskDeadlineTracker.StreamListener<E> listener) {
+        AskDeadlineTracker tracker = deadlineTracker;
+        if (tracker == null) {
+            throw new IllegalStateException(
+                    "Streaming asks require a handle obtained from SpringActorSystem, which provides an "
+                            + "AskDeadlineTracker");
+        }
+        return tracker.stream(entityRef, command, idleTimeout, listener);
     }
 
     /**
@@ -115,6 +266,26 @@ public class SpringShardedActorHandle<T> {
         entityRef.tell(message);
     }
 
+    /**
+     * Sends a burst of messages to the entity as a single envelope. The burst crosses the network as
+     * one message, takes one mailbox slot and is unpacked within one turn of the entity, so handlers
+     * still receive the messages one by one and in order. The messages must be serializable like any
+     * other message to the entity. An empty collection sends nothing.
+     *
+     * <p>The entity's behavior must be built with {@link SpringShardedActorBehavior}, which unpacks the
+     * envelope; other behaviors see an unhandled {@link MessageBatch}.
+     *
+     * @param messages The messages to send, in order
+     * @throws IllegalArgumentException If the collection is null or contains null
+     */
+    @SuppressWarnings("unchecked")
+    public void tellAll(Collection<? extends T> messages) {
+        MessageBatch batch = MessageBatch.of(messages);
+        if (!batch.messages.isEmpty()) {
+            entityRef.tell((T) batch);
+        }
+    }
+
     /**
      * Returns the underlying entity reference.
      *
@@ -129,17 +300,36 @@ public class SpringShardedActorHandle<T> {
      * This builder provides a more flexible API compared to the simple ask() methods,
      * allowing configuration of timeouts and error handling.
      *
+     * <p>To cut tail latency caused by slow shard hand-offs or pauses on a remote node, a request can
+     * be hedged ({@link #withHedging(Duration, int)}) or retried after a timeout
+     * ({@link #withRetry(Duration, RetryBudget)}). Hedged copies and retries resend the same command
+     * with its original reply-to, so the first reply wins and later ones are dropped. The entity must
+     * therefore handle duplicate requests safely.
+     *
      * @param <REQ> The type of the request message
      * @param <RES> The type of the response message
      */
     public static class AskBuilder<REQ, RES> {
+        /** The default maximum number of retries per ask */
+        public static final int DEFAULT_MAX_RETRIES = 3;
+
         private final Function<ActorRef<RES>, REQ> messageFactory;
+        @Nullable private final AskCommand<RES> command;
         private final EntityRef<REQ> entityRef;
         private final Scheduler scheduler;
+        @Nullable private final AskDeadlineTracker deadlineTracker;
+        private final AskLatencyEstimator.Estimators latencyEstimators;
         private Duration timeout;
 
         @Nullable private Supplier<RES> timeoutHandler;
 
+        private int hedgeAttempts = 1;
+        @Nullable private Duration hedgeDelay;
+
+        @Nullable private RetryBudget retryBudget;
+        private Duration retryBackoff = Duration.ZERO;
+        private int maxRetries;
+
         /**
          * Creates a new AskBuilder.
          *
@@ -153,10 +343,43 @@ public class SpringShardedActorHandle<T> {
                 EntityRef<REQ> entityRef,
                 Scheduler scheduler,
                 Duration defaultTimeout) {
+            this(
+                    messageFactory,
+                    null,
+                    entityRef,
+                    scheduler,
+                    defaultTimeout,
+                    null,
+                    new AskLatencyEstimator.Estimators());
+        }
+
+        /**
+         * Creates a new AskBuilder that sends the command through the deadline tracker when one is
+         * given, and falls back to the message factory otherwise.
+         *
+         * @param messageFactory The message factory function
+         * @param command The command to send through the deadline tracker
+         * @param entityRef The entity reference to ask
+         * @param scheduler The scheduler for the ask pattern
+         * @param defaultTimeout The default timeout
+         * @param deadlineTracker The deadline tracker (null to use AskPattern)
+         * @param latencyEstimators The latencies that derive the delay of {@link #withHedging(int)}
+         */
+        AskBuilder(
+                Function<ActorRef<RES>, REQ> messageFactory,
+                @Nullable AskCommand<RES> command,
+                EntityRef<REQ> entityRef,
+                Scheduler scheduler,
+                Duration defaultTimeout,
+                @Nullable AskDeadlineTracker deadlineTracker,
+                AskLatencyEstimator.Estimators latencyEstimators) {
             this.messageFactory = messageFactory;
+            this.command = command;
             this.entityRef = entityRef;
             this.scheduler = scheduler;
             this.timeout = defaultTimeout;
+            this.deadlineTracker = deadlineTracker;
+            this.latencyEstimators = latencyEstimators;
         }
 
         /**
@@ -186,6 +409,82 @@ public class SpringShardedActorHandle<T> {
             return this;
         }
 
+        /**
+         * Sends up to {@code maxAttempts - 1} extra copies of the request, one every {@code delay},
+         * while no reply has arrived. The first reply completes the ask. A delay around the p95
+         * latency of the entity type keeps the extra load at roughly 5% of requests.
+         *
+         * @param delay The time to wait for a reply before sending the next copy
+         * @param maxAttempts The maximum number of copies sent, including the original request
+         * @return This builder for method chaining
+         */
+        public AskBuilder<REQ, RES> withHedging(Duration delay, int maxAttempts) {
+            if (delay == null || delay.isNegative()) {
+                throw new IllegalArgumentException("delay must not be null or negative");
+            }
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.hedgeDelay = delay;
+            this.hedgeAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Hedges the request like {@link #withHedging(Duration, int)}, with the delay derived from
+         * the observed p95 latency of successful asks to the same entity type. Until enough
+         * latencies have been observed, half of the timeout is used.
+         *
+         * @param maxAttempts The maximum number of copies sent, including the original request
+         * @return This builder for method chaining
+         */
+        public AskBuilder<REQ, RES> withHedging(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.hedgeDelay = null;
+            this.hedgeAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Retries the request up to {@value #DEFAULT_MAX_RETRIES} times after a timeout. See
+         * {@link #withRetry(Duration, int, RetryBudget)}.
+         *
+         * @param backoff The wait before the first retry; doubled for every further retry
+         * @param budget The retry budget, usually {@link RetryBudget#get} of the actor system
+         * @return This builder for method chaining
+         */
+        public AskBuilder<REQ, RES> withRetry(Duration backoff, RetryBudget budget) {
+            return withRetry(backoff, DEFAULT_MAX_RETRIES, budget);
+        }
+
+        /**
+         * Retries the request after a timeout, waiting {@code backoff} before the first retry and
+         * doubling the wait for every further retry. Each attempt gets the full timeout. A retry is
+         * only sent if the budget allows it; otherwise the ask fails with the timeout as usual.
+         *
+         * @param backoff The wait before the first retry; doubled for every further retry
+         * @param maxRetries The maximum number of retries per ask
+         * @param budget The retry budget, usually {@link RetryBudget#get} of the actor system
+         * @return This builder for method chaining
+         */
+        public AskBuilder<REQ, RES> withRetry(Duration backoff, int maxRetries, RetryBudget budget) {
+            if (backoff == null || backoff.isNegative()) {
+                throw new IllegalArgumentException("backoff must not be null or negative");
+            }
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative");
+            }
+            if (budget == null) {
+                throw new IllegalArgumentException("budget must not be null");
+            }
+            this.retryBackoff = backoff;
+            this.maxRetries = maxRetries;
+            this.retryBudget = budget;
+            return this;
+        }
+
         /**
          * Executes the ask operation with the configured options.
          *
@@ -193,14 +492,23 @@ public class SpringShardedActorHandle<T> {
          *         default value if a timeout occurs and a timeout handler was configured
          */
         public CompletionStage<RES> execute() {
-            CompletionStage<RES> result = AskPattern.ask(entityRef, messageFactory::apply, timeout, scheduler);
+            CompletionStage<RES> result;
+            if (command != null && (hedgeAttempts > 1 || retryBudget != null)) {
+                result = sendWithCopies(command);
+            } else {
+                long startNanos = System.nanoTime();
+                result = send(timeout).whenComplete((response, error) -> {
+                    if (error == null) {
+                        latencyEstimator().record(System.nanoTime() - startNanos);
+                    }
+                });
+            }
 
             // Apply timeout handler if configured
             if (timeoutHandler != null) {
                 final Supplier<RES> handler = timeoutHandler;
                 result = result.exceptionally(throwable -> {
-                    if (throwable instanceof TimeoutException
-                            || (throwable.getCause() != null && throwable.getCause() instanceof TimeoutException)) {
+                    if (isTimeout(throwable)) {
                         return handler.get();
                     }
                     // Re-throw non-timeout exceptions
@@ -213,5 +521,166 @@ public class SpringShardedActorHandle<T> {
 
             return result;
         }
+
+        /**
+         * Executes the ask operation and blocks until it completes. On a virtual thread the wait
+         * only parks the virtual thread; calls on a dispatcher thread are reported or rejected
+         * according to {@link AwaitGuard}.
+         *
+         * @return The response, or the default value if a timeout occurs and a timeout handler was
+         *         configured
+         * @throws java.util.concurrent.CompletionException If the ask fails or times out
+         */
+        public RES executeAndAwait() {
+            return AwaitGuard.await(this::execute);
+        }
+
+        /** Sends the request once, through the deadline tracker when available. */
+        private CompletionStage<RES> send(Duration replyTimeout) {
+            return deadlineTracker != null && command != null
+                    ? deadlineTracker.ask(entityRef, command, replyTimeout)
+                    : AskPattern.ask(entityRef, messageFactory::apply, replyTimeout, scheduler);
+        }
+
+        /**
+         * Sends the request once with a reply-to that outlives all attempts, then sends hedged copies
+         * and retries of the same command. The reply-to is set only once, so a copy still queued in a
+         * local mailbox never sees it change.
+         */
+        private CompletionStage<RES> sendWithCopies(AskCommand<RES> request) {
+            if (retryBudget != null) {
+                retryBudget.deposit();
+            }
+            long startNanos = System.nanoTime();
+            CompletableFuture<RES> reply = send(totalTimeout()).toCompletableFuture();
+            Copies copies = new Copies(request, reply);
+            copies.startAttempt(0);
+            reply.whenComplete((response, error) -> {
+                if (error == null) {
+                    // With copies in flight, the reply may answer any of them
+                    if (copies.sent == 0) {
+                        latencyEstimator().record(System.nanoTime() - startNanos);
+                    }
+                    copies.combined.complete(response);
+                } else {
+                    copies.combined.completeExceptionally(error);
+                }
+            });
+            return copies.combined;
+        }
+
+        /** The time the reply-to of {@link #sendWithCopies} waits: every attempt and backoff */
+        private Duration totalTimeout() {
+            Duration total = timeout;
+            if (retryBudget != null) {
+                for (int retry = 0; retry < maxRetries; retry++) {
+                    total = total.plus(retryDelay(retry)).plus(timeout);
+                }
+            }
+            return total;
+        }
+
+        private Duration retryDelay(int retry) {
+            return retryBackoff.multipliedBy(1L << Math.min(retry, 30));
+        }
+
+        /** The hedged copies and retries of one ask, which all share the reply of the first send */
+        private final class Copies {
+            final AskCommand<RES> request;
+            final CompletableFuture<RES> reply;
+            final CompletableFuture<RES> combined = new CompletableFuture<>();
+
+            /** The number of copies sent after the first send */
+            volatile int sent = 0;
+
+            /** The attempt whose hedges and timeout are scheduled; older ones are ignored */
+            volatile int attempt = 0;
+
+            Copies(AskCommand<RES> request, CompletableFuture<RES> reply) {
+                this.request = request;
+                this.reply = reply;
+            }
+
+            void startAttempt(int retry) {
+                attempt = retry;
+                if (hedgeAttempts > 1) {
+                    scheduleHedge(retry, 1);
+                }
+                if (retryBudget != null) {
+                    scheduler.scheduleOnce(timeout, () -> onAttemptTimeout(retry), ExecutionContexts.parasitic());
+                }
+            }
+
+            private void onAttemptTimeout(int retry) {
+                RetryBudget budget = retryBudget;
+                if (reply.isDone() || attempt != retry || budget == null) {
+                    return;
+                }
+                if (retry < maxRetries) {
+                    if (budget.tryWithdraw()) {
+                        AskAttemptEvents.retrySent(entityType());
+                        scheduler.scheduleOnce(
+                                retryDelay(retry), () -> retry(retry + 1), ExecutionContexts.parasitic());
+                        return;
+                    }
+                    AskAttemptEvents.retryRejected(entityType());
+                }
+                combined.completeExceptionally(new TimeoutException("Ask timed out on [" + entityRef + "] after ["
+                        + timeout.toMillis() + " ms]. Message of type [" + request.getClass().getName() + "]."));
+                // Releases the reply-to
+                reply.cancel(false);
+            }
+
+            private void retry(int retry) {
+                if (reply.isDone()) {
+                    return;
+                }
+                tell();
+                startAttempt(retry);
+            }
+
+            private void scheduleHedge(int retry, int hedges) {
+                scheduler.scheduleOnce(
+                        currentHedgeDelay(),
+                        () -> {
+                            if (reply.isDone() || attempt != retry) {
+                                return;
+                            }
+                            tell();
+                            AskAttemptEvents.hedgeSent(entityType());
+                            if (hedges + 1 < hedgeAttempts) {
+                                scheduleHedge(retry, hedges + 1);
+                            }
+                        },
+                        ExecutionContexts.parasitic());
+            }
+
+            @SuppressWarnings("unchecked")
+            private void tell() {
+                sent++;
+                entityRef.tell((REQ) request);
+            }
+        }
+
+        private Duration currentHedgeDelay() {
+            if (hedgeDelay != null) {
+                return hedgeDelay;
+            }
+            Duration p95 = latencyEstimator().p95();
+            return p95 != null ? p95 : timeout.dividedBy(2);
+        }
+
+        private AskLatencyEstimator latencyEstimator() {
+            return latencyEstimators.forEntityType(entityType());
+        }
+
+        private String entityType() {
+            return entityRef.getTypeKey().name();
+        }
+
+        private static boolean isTimeout(Throwable throwable) {
+            return throwable instanceof TimeoutException
+                    || (throwable.getCause() != null && throwable.getCause() instanceof TimeoutException);
+        }
     }
 }
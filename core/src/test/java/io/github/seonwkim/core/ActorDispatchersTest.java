@@ -0,0 +1,148 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActorDispatchersTest {
+
+    public interface Command extends FrameworkCommand {}
+
+    public static class Add implements Command {
+        public final String value;
+
+        public Add(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Report implements Command {
+        public final ActorRef<List<String>> replyTo;
+
+        public Report(ActorRef<List<String>> replyTo) {
+            this.replyTo = replyTo;
+        }
+    }
+
+    public static class Reset implements Command {}
+
+    /** Handler state whose dispatcher is generated by the annotation processor */
+    public static class Handler {
+        final List<String> received = new CopyOnWriteArrayList<>();
+
+        @ActorHandler
+        Behavior<Command> onAdd(Add msg) {
+            received.add("generated:" + msg.value);
+            return Behaviors.same();
+        }
+
+        @ActorHandler
+        Behavior<Command> onReport(Report msg) {
+            msg.replyTo.tell(List.copyOf(received));
+            return Behaviors.same();
+        }
+    }
+
+    public static class ProxiedHandler extends Handler {}
+
+    public static class ResettableHandler extends Handler {
+        @ActorHandler
+        Behavior<Command> onReset(Reset msg) {
+            received.clear();
+            return Behaviors.same();
+        }
+    }
+
+    private ActorTestKit testKit;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void findsGeneratedDispatcherThroughSuperclasses() {
+        ActorDispatcher<Handler> dispatcher = ActorDispatchers.find(new Handler());
+
+        assertNotNull(dispatcher);
+        assertSame(dispatcher, ActorDispatchers.find(new ProxiedHandler()));
+        assertNull(ActorDispatchers.find("no handlers"));
+        assertEquals(
+                "io.github.seonwkim.core.ActorDispatchersTest_Handler_ActorDispatcher",
+                ActorDispatchers.dispatcherClassName(Handler.class));
+    }
+
+    @Test
+    void builderDispatchesToGeneratedHandlers() {
+        Behavior<Command> behavior = SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("a"))
+                .withState(ctx -> new Handler())
+                .build()
+                .asBehavior();
+        ActorRef<Command> actor = testKit.spawn(behavior);
+        TestProbe<List<String>> probe = testKit.createTestProbe();
+
+        actor.tell(new Add("one"));
+        actor.tell(new Report(probe.getRef()));
+
+        assertEquals(List.of("generated:one"), probe.receiveMessage());
+    }
+
+    @Test
+    void combinesDispatchersAcrossTheHierarchy() {
+        ActorDispatcher<ResettableHandler> dispatcher = ActorDispatchers.find(new ResettableHandler());
+
+        assertNotNull(dispatcher);
+        assertEquals(List.of(Reset.class, Add.class, Report.class), dispatcher.messageTypes());
+
+        Behavior<Command> behavior = SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("c"))
+                .withState(ctx -> new ResettableHandler())
+                .build()
+                .asBehavior();
+        ActorRef<Command> actor = testKit.spawn(behavior);
+        TestProbe<List<String>> probe = testKit.createTestProbe();
+
+        actor.tell(new Add("one"));
+        actor.tell(new Reset());
+        actor.tell(new Add("two"));
+        actor.tell(new Report(probe.getRef()));
+
+        assertEquals(List.of("generated:two"), probe.receiveMessage());
+    }
+
+    @Test
+    void registeredHandlersTakePrecedence() {
+        Behavior<Command> behavior = SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("b"))
+                .withState(ctx -> new Handler())
+                .onMessage(Add.class, (handler, msg) -> {
+                    handler.received.add("registered:" + msg.value);
+                    return Behaviors.same();
+                })
+                .build()
+                .asBehavior();
+        ActorRef<Command> actor = testKit.spawn(behavior);
+        TestProbe<List<String>> probe = testKit.createTestProbe();
+
+        actor.tell(new Add("one"));
+        actor.tell(new Report(probe.getRef()));
+
+        assertEquals(List.of("registered:one"), probe.receiveMessage());
+    }
+}
@@ -1,11 +1,17 @@
 package io.github.seonwkim.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.github.seonwkim.core.ActorTypeRegistryTest.DummyActor.Command;
 import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pekko.actor.testkit.typed.javadsl.BehaviorTestKit;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,8 @@ public class ActorTypeRegistryTest {
 
         public interface Command {}
 
+        public static class Ping implements Command {}
+
         @Override
         public SpringActorBehavior<Command> create(SpringActorContext actorContext) {
             return null;
@@ -59,4 +67,54 @@ public class ActorTypeRegistryTest {
                 () -> ActorTypeRegistry.createTypedBehavior(
                         DummyActor.class, new DefaultSpringActorContext("missing")));
     }
+
+    @Test
+    public void testTemplateIsBuiltOncePerActorClass() {
+        AtomicInteger builds = new AtomicInteger();
+
+        SpringActorBehavior.Template<Command> first = ActorTypeRegistry.template(DummyActor.class, () -> {
+            builds.incrementAndGet();
+            return SpringActorBehavior.template(Command.class).buildTemplate();
+        });
+        SpringActorBehavior.Template<Command> second = ActorTypeRegistry.template(DummyActor.class, () -> {
+            builds.incrementAndGet();
+            return SpringActorBehavior.template(Command.class).buildTemplate();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void testTemplateInstancesKeepTheirOwnState() {
+        List<List<String>> states = new ArrayList<>();
+        SpringActorBehavior.Template<Command> template = SpringActorBehavior.template(Command.class)
+                .withContextualState((ctx, actorContext) -> {
+                    List<String> received = new ArrayList<>();
+                    received.add(actorContext.actorId());
+                    states.add(received);
+                    return received;
+                })
+                .onMessage(DummyActor.Ping.class, (received, msg) -> {
+                    received.add("ping");
+                    return Behaviors.same();
+                })
+                .buildTemplate();
+
+        BehaviorTestKit<Command> first = BehaviorTestKit.create(
+                template.instantiate(new DefaultSpringActorContext("first")).asBehavior());
+        BehaviorTestKit<Command> second = BehaviorTestKit.create(
+                template.instantiate(new DefaultSpringActorContext("second")).asBehavior());
+        first.run(new DummyActor.Ping());
+        first.run(new DummyActor.Ping());
+        second.run(new DummyActor.Ping());
+
+        assertEquals(List.of(List.of("first", "ping", "ping"), List.of("second", "ping")), states);
+    }
+
+    @Test
+    public void testTemplateBuilderCannotBuildSingleBehavior() {
+        assertThrows(IllegalStateException.class, () -> SpringActorBehavior.template(Command.class)
+                .build());
+    }
 }
@@ -0,0 +1,124 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncMessageLimiterTest {
+
+    public interface Command {}
+
+    public static class Fetch implements Command {
+        public final int id;
+
+        public Fetch(int id) {
+            this.id = id;
+        }
+    }
+
+    public static class Mark implements Command {
+        public final String label;
+
+        public Mark(String label) {
+            this.label = label;
+        }
+    }
+
+    private ActorTestKit testKit;
+    private TestProbe<String> probe;
+    private final Map<Integer, CompletableFuture<String>> operations = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create();
+        probe = testKit.createTestProbe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void limitsOperationsInFlightAndStartsStashedMessagesOnCompletion() {
+        ActorRef<Command> actor = spawnAsyncActor(2);
+
+        actor.tell(new Fetch(1));
+        actor.tell(new Fetch(2));
+        actor.tell(new Fetch(3));
+        actor.tell(new Mark("a"));
+
+        assertEquals("start:1", probe.receiveMessage());
+        assertEquals("start:2", probe.receiveMessage());
+        // The third fetch is stashed, but other messages are still handled
+        assertEquals("mark:a", probe.receiveMessage());
+        probe.expectNoMessage(Duration.ofMillis(100));
+
+        operations.get(2).complete("two");
+        assertEquals("done:2=two", probe.receiveMessage());
+        assertEquals("start:3", probe.receiveMessage());
+    }
+
+    @Test
+    void passesFailuresToCompletionHandler() {
+        ActorRef<Command> actor = spawnAsyncActor(1);
+
+        actor.tell(new Fetch(1));
+        assertEquals("start:1", probe.receiveMessage());
+
+        operations.get(1).completeExceptionally(new IllegalStateException("boom"));
+        assertEquals("failed:1=boom", probe.receiveMessage());
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("invalid"))
+                        .onMessageAsync(
+                                Fetch.class,
+                                0,
+                                (ctx, msg) -> CompletableFuture.completedFuture("value"),
+                                (ctx, result) -> Behaviors.same()));
+    }
+
+    private ActorRef<Command> spawnAsyncActor(int maxInFlight) {
+        return testKit.spawn(SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("async"))
+                .onMessageAsync(
+                        Fetch.class,
+                        maxInFlight,
+                        (ctx, msg) -> {
+                            CompletableFuture<String> operation = new CompletableFuture<>();
+                            operations.put(msg.id, operation);
+                            probe.getRef().tell("start:" + msg.id);
+                            return operation;
+                        },
+                        (ctx, result) -> {
+                            int id = result.getMessage().id;
+                            if (result.isSuccess()) {
+                                probe.getRef().tell("done:" + id + "=" + result.getValue());
+                            } else {
+                                probe.getRef().tell("failed:" + id + "=" + result.getFailure().getMessage());
+                            }
+                            return Behaviors.same();
+                        })
+                .onMessage(Mark.class, (ctx, msg) -> {
+                    probe.getRef().tell("mark:" + msg.label);
+                    return Behaviors.same();
+                })
+                .build()
+                .asBehavior());
+    }
+}
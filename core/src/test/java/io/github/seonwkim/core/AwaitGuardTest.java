@@ -0,0 +1,51 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.typesafe.config.ConfigFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.junit.jupiter.api.Test;
+
+class AwaitGuardTest {
+
+    @Test
+    void defaultsToWarn() {
+        assertEquals(AwaitGuard.Mode.WARN, AwaitGuard.configuredMode(ConfigFactory.empty()));
+        assertEquals(
+                AwaitGuard.Mode.FAIL, AwaitGuard.configuredMode(ConfigFactory.parseString("await-guard = FAIL")));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> AwaitGuard.configuredMode(ConfigFactory.parseString("await-guard = sometimes")));
+    }
+
+    @Test
+    void failModeRejectsDispatcherThreadsBeforeStarting() {
+        ActorTestKit testKit = ActorTestKit.create("await-guard-test", ConfigFactory.parseString("await-guard = fail"));
+        try {
+            AwaitGuard.get(testKit.system());
+            Thread dispatcherThread = new Thread(() -> {}, "await-guard-test-pekko.actor.default-dispatcher-3");
+            Thread requestThread = new Thread(() -> {}, "http-nio-8080-exec-1");
+            Thread prefixedThread = new Thread(() -> {}, "await-guard-test-http-nio-8080-exec-1");
+            Thread otherSystemThread =
+                    new Thread(() -> {}, "await-guard-test-2-pekko.actor.default-dispatcher-3");
+
+            assertThrows(IllegalStateException.class, () -> AwaitGuard.checkThread(dispatcherThread));
+            AwaitGuard.checkThread(requestThread);
+            AwaitGuard.checkThread(prefixedThread);
+            AwaitGuard.checkThread(otherSystemThread);
+
+            AtomicBoolean started = new AtomicBoolean();
+            assertEquals("done", AwaitGuard.await(() -> {
+                started.set(true);
+                return CompletableFuture.completedFuture("done");
+            }));
+            assertTrue(started.get());
+        } finally {
+            testKit.shutdownTestKit();
+        }
+    }
+}
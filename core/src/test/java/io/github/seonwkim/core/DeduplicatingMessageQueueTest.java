@@ -0,0 +1,132 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.Envelope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeduplicatingMessageQueueTest {
+
+    public static class Charge {
+        public final String id;
+
+        public Charge(String id) {
+            this.id = id;
+        }
+    }
+
+    private ActorTestKit testKit;
+    private ActorSystem system;
+    private ActorRef receiver;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create();
+        system = Adapter.toClassic(testKit.system());
+        receiver = system.deadLetters();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void dropsDuplicatesOfQueuedMessages() {
+        DeduplicatingMessageQueue<Charge> queue = new DeduplicatingMessageQueue<>(Charge.class, c -> c.id, 0);
+
+        queue.enqueue(receiver, envelope(new Charge("a")));
+        queue.enqueue(receiver, envelope(new Charge("b")));
+        queue.enqueue(receiver, envelope(new Charge("a")));
+
+        assertEquals(List.of("a", "b"), drain(queue));
+        assertEquals(1, queue.duplicates());
+
+        // Without a window, a key is forgotten once its message was dequeued
+        queue.enqueue(receiver, envelope(new Charge("a")));
+        assertEquals(List.of("a"), drain(queue));
+    }
+
+    @Test
+    void remembersKeysWithinWindow() {
+        DeduplicatingMessageQueue<Charge> queue = new DeduplicatingMessageQueue<>(Charge.class, c -> c.id, 2);
+
+        queue.enqueue(receiver, envelope(new Charge("a")));
+        assertEquals(List.of("a"), drain(queue));
+        queue.enqueue(receiver, envelope(new Charge("a")));
+        queue.enqueue(receiver, envelope(new Charge("b")));
+        queue.enqueue(receiver, envelope(new Charge("c")));
+        // "a" left the window when "c" was accepted
+        queue.enqueue(receiver, envelope(new Charge("a")));
+
+        assertEquals(List.of("b", "c", "a"), drain(queue));
+        assertEquals(1, queue.duplicates());
+    }
+
+    @Test
+    void passesOtherMessagesAndNullKeys() {
+        DeduplicatingMessageQueue<Charge> queue = new DeduplicatingMessageQueue<>(Charge.class, c -> c.id, 10);
+
+        queue.enqueue(receiver, envelope("other"));
+        queue.enqueue(receiver, envelope("other"));
+        queue.enqueue(receiver, envelope(new Charge(null)));
+        queue.enqueue(receiver, envelope(new Charge(null)));
+
+        assertEquals(4, queue.numberOfMessages());
+        assertEquals(0, queue.duplicates());
+    }
+
+    @Test
+    void keySetKeepsEntriesReachableAfterRemoval() {
+        DeduplicatingMessageQueue.KeySet keys = new DeduplicatingMessageQueue.KeySet();
+        // "Aa" and "BB" share a hash code, so they collide and probe past each other
+        assertTrue(keys.add("Aa", 1));
+        assertTrue(keys.add("BB", 1));
+        assertFalse(keys.add("BB", 1));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(keys.add(i, 1));
+        }
+
+        keys.release("Aa");
+        assertFalse(keys.contains("Aa"));
+        assertTrue(keys.contains("BB"));
+        for (int i = 0; i < 100; i += 2) {
+            keys.release(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, keys.contains(i));
+        }
+        assertEquals(51, keys.size());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.deduplicating(null, c -> c, 1));
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.deduplicating(Charge.class, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.deduplicating(Charge.class, c -> c.id, -1));
+    }
+
+    private Envelope envelope(Object message) {
+        return Envelope.apply(message, ActorRef.noSender(), system);
+    }
+
+    private static List<String> drain(DeduplicatingMessageQueue<Charge> queue) {
+        List<String> ids = new ArrayList<>();
+        Envelope envelope;
+        while ((envelope = queue.dequeue()) != null) {
+            ids.add(((Charge) envelope.message()).id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.junit.jupiter.api.Test;
+
+class DispatcherConfigTest {
+
+    @Test
+    void virtualThreadsRunActorsOnVirtualThreads() {
+        assumeTrue(ProvisionedDispatchers.virtualThreadsSupported());
+        ActorTestKit testKit = ActorTestKit.create(ProvisionedDispatchers.config());
+        try {
+            TestProbe<String> probe = testKit.createTestProbe();
+            ActorRef<String> actor = testKit.spawn(
+                    Behaviors.receiveMessage(msg -> {
+                        probe.getRef().tell(Thread.currentThread().getClass().getName());
+                        return Behaviors.same();
+                    }),
+                    "virtual",
+                    DispatcherConfig.virtualThreads().toProps());
+
+            actor.tell("which thread");
+
+            assertEquals("java.lang.VirtualThread", probe.receiveMessage());
+        } finally {
+            testKit.shutdownTestKit();
+        }
+    }
+
+    @Test
+    void virtualThreadsFailOnOlderJvms() {
+        assumeFalse(ProvisionedDispatchers.virtualThreadsSupported());
+
+        assertThrows(UnsupportedOperationException.class, DispatcherConfig::virtualThreads);
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private static final long MILLI = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void expiresEntriesOnceTheirTickHasPassed() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("a", 25 * MILLI);
+        wheel.schedule("b", 40 * MILLI);
+
+        assertEquals(0, wheel.advance(20 * MILLI, expired::add));
+        assertEquals(1, wheel.advance(30 * MILLI, expired::add));
+        assertEquals(List.of("a"), expired);
+        assertEquals(1, wheel.advance(40 * MILLI, expired::add));
+        assertEquals(List.of("a", "b"), expired);
+    }
+
+    @Test
+    void expiresManyEntriesInOneTick() {
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, 0);
+        List<Integer> expired = new ArrayList<>();
+
+        wheel.advance(0, expired::add);
+        for (int i = 0; i < 1000; i++) {
+            wheel.schedule(i, (11 + i % 9) * MILLI);
+        }
+
+        assertEquals(1000, wheel.advance(20 * MILLI, expired::add));
+    }
+
+    @Test
+    void keepsDeadlinesBeyondOneRevolution() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 4, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("far", 100 * MILLI);
+
+        for (long now = 10; now < 100; now += 10) {
+            wheel.advance(now * MILLI, expired::add);
+        }
+        assertTrue(expired.isEmpty());
+        wheel.advance(100 * MILLI, expired::add);
+        assertEquals(List.of("far"), expired);
+    }
+
+    @Test
+    void catchesUpWhenTheOwnerFallsBehind() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 4, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("a", 20 * MILLI);
+        wheel.schedule("b", 90 * MILLI);
+        wheel.advance(0, expired::add);
+
+        assertEquals(2, wheel.advance(500 * MILLI, expired::add));
+    }
+
+    @Test
+    void cancelledEntriesNeverExpire() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        HashedTimingWheel.Timeout<String> bucketed = wheel.schedule("bucketed", 25 * MILLI);
+        wheel.schedule("kept", 25 * MILLI);
+        wheel.advance(10 * MILLI, expired::add);
+        // Not placed into its bucket yet
+        HashedTimingWheel.Timeout<String> registered = wheel.schedule("registered", 25 * MILLI);
+
+        assertTrue(bucketed.cancel());
+        assertFalse(bucketed.cancel());
+        assertTrue(registered.cancel());
+
+        assertEquals(1, wheel.advance(30 * MILLI, expired::add));
+        assertEquals(List.of("kept"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void expiredEntriesCannotBeCancelled() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, 0);
+
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", 10 * MILLI);
+        wheel.advance(10 * MILLI, entry -> {});
+
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void parksOnlyWhileEmpty() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(10), 8, 0);
+
+        // A new wheel starts parked, so the first entry wakes the owner
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", 50 * MILLI);
+        assertTrue(wheel.unpark());
+        assertFalse(wheel.unpark());
+        assertFalse(wheel.park());
+
+        timeout.cancel();
+        // The cancellation is still waiting to be unlinked
+        assertFalse(wheel.park());
+        wheel.advance(10 * MILLI, entry -> {});
+        assertTrue(wheel.park());
+
+        wheel.schedule("b", 50 * MILLI);
+        assertTrue(wheel.unpark());
+    }
+}
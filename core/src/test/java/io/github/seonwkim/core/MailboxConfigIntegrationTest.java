@@ -1,8 +1,15 @@
 package io.github.seonwkim.core;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +56,11 @@ public class MailboxConfigIntegrationTest {
         public TestChildActor mailboxTestChildActor() {
             return new TestChildActor();
         }
+
+        @Bean
+        public OrderRecordingActor mailboxOrderRecordingActor() {
+            return new OrderRecordingActor();
+        }
     }
 
     // Test message types
@@ -62,6 +74,49 @@ public class MailboxConfigIntegrationTest {
         }
     }
 
+    /** Blocks the actor until the latch is released, so the following messages queue up */
+    public static class Block implements TestCommand {
+        public final CountDownLatch started = new CountDownLatch(1);
+        public final CountDownLatch release;
+
+        public Block(CountDownLatch release) {
+            this.release = release;
+        }
+    }
+
+    public static class Job implements TestCommand {
+        public final int priority;
+        public final String label;
+        public final List<String> received;
+
+        public Job(int priority, String label, List<String> received) {
+            this.priority = priority;
+            this.label = label;
+            this.received = received;
+        }
+    }
+
+    public static class OrderRecordingActor implements SpringActorWithContext<TestCommand, SpringActorContext> {
+        @Override
+        public SpringActorBehavior<TestCommand> create(SpringActorContext actorContext) {
+            return SpringActorBehavior.builder(TestCommand.class, actorContext)
+                    .onMessage(Block.class, (ctx, msg) -> {
+                        msg.started.countDown();
+                        try {
+                            msg.release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return Behaviors.same();
+                    })
+                    .onMessage(Job.class, (ctx, msg) -> {
+                        msg.received.add(msg.label);
+                        return Behaviors.same();
+                    })
+                    .build();
+        }
+    }
+
     public static class TestActor implements SpringActorWithContext<TestCommand, SpringActorContext> {
         @Override
         public SpringActorBehavior<TestCommand> create(SpringActorContext actorContext) {
@@ -261,6 +316,85 @@ public class MailboxConfigIntegrationTest {
         actor.tell(new Ping("Hello with BoundedStablePriorityMailbox"));
     }
 
+    @Test
+    void testStablePriorityMailboxOrdersMessages() {
+        SpringActorHandle<TestCommand> actor = actorSystem
+                .actor(OrderRecordingActor.class)
+                .withId("stable-priority-actor")
+                .withMailbox(MailboxConfig.stablePriority(TestCommand.class, Comparator.comparingInt(
+                        (TestCommand cmd) -> cmd instanceof Job ? ((Job) cmd).priority : 0)))
+                .spawnAndWait();
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        actor.tell(new Block(release));
+        actor.tell(new Job(2, "low-1", received));
+        actor.tell(new Job(1, "high-1", received));
+        actor.tell(new Job(2, "low-2", received));
+        actor.tell(new Job(1, "high-2", received));
+        release.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received.size() == 4);
+        assertEquals(List.of("high-1", "high-2", "low-1", "low-2"), received);
+    }
+
+    @Test
+    void testControlAwareMailboxHandlesFrameworkCommandsFirst() throws Exception {
+        SpringActorHandle<TestCommand> actor = actorSystem
+                .actor(OrderRecordingActor.class)
+                .withId("control-aware-actor")
+                .withMailbox(MailboxConfig.controlAware())
+                .spawnAndWait();
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(1);
+
+        actor.tell(new Block(first));
+        actor.tell(new Block(second));
+        for (int i = 0; i < 100; i++) {
+            actor.tell(new Job(0, "job-" + i, received));
+        }
+        CompletionStage<Boolean> exists = actor.child(TestChildActor.class).withId("missing").exists();
+        first.countDown();
+
+        // Answered while the actor is still blocked by the second user message
+        assertFalse(exists.toCompletableFuture().get(3, TimeUnit.SECONDS));
+        assertTrue(received.isEmpty());
+        second.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> received.size() == 100);
+    }
+
+    @Test
+    void testMpscArrayMailboxDropsOldestMessages() throws Exception {
+        SpringActorHandle<TestCommand> actor = actorSystem
+                .actor(OrderRecordingActor.class)
+                .withId("mpsc-array-actor")
+                .withMailbox(MailboxConfig.mpscArray(2, OverflowStrategy.dropOldest()))
+                .spawnAndWait();
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Block block = new Block(release);
+        actor.tell(block);
+        // Wait until the actor took the block, so the mailbox is empty again
+        assertTrue(block.started.await(5, TimeUnit.SECONDS));
+        actor.tell(new Job(0, "job-0", received));
+        actor.tell(new Job(0, "job-1", received));
+        actor.tell(new Job(0, "job-2", received));
+        assertEquals(OfferResult.FULL, actor.offer(new Job(0, "job-3", received)));
+        release.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> received.size() == 2);
+        assertEquals(List.of("job-1", "job-2"), received);
+    }
+
+    @Test
+    void testPriorityMailboxInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.priority(null, (a, b) -> 0));
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.priority(TestCommand.class, null));
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.stablePriority(TestCommand.class, null));
+    }
+
     @Test
     void testBoundedMailboxInvalidCapacity() {
         assertThrows(IllegalArgumentException.class, () -> MailboxConfig.bounded(0));
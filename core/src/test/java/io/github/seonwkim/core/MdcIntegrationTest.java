@@ -6,7 +6,9 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -86,6 +88,11 @@ public class MdcIntegrationTest {
             return new CombinedMdcActor();
         }
 
+        @Bean
+        public LazyMdcActor mdcLazyMdcActor() {
+            return new LazyMdcActor();
+        }
+
         @Bean
         public TestParentActor mdcTestParentActor() {
             return new TestParentActor();
@@ -177,6 +184,46 @@ public class MdcIntegrationTest {
         }
     }
 
+    public static class LazyMdcActor implements SpringActorWithContext<TestCommand, SpringActorContext> {
+        static final AtomicInteger evaluations = new AtomicInteger();
+
+        @Override
+        public SpringActorBehavior<TestCommand> create(SpringActorContext actorContext) {
+            return SpringActorBehavior.builder(TestCommand.class, actorContext)
+                    .withLazyMdc(msg -> {
+                        evaluations.incrementAndGet();
+                        return Map.of("messageId", ((Ping) msg).messageId);
+                    })
+                    .onMessage(Ping.class, (ctx, msg) -> {
+                        if (msg.message.equals("restore")) {
+                            // A value set by the handler itself survives the log call
+                            org.slf4j.MDC.put("messageId", "handler-value");
+                            ctx.getLog().info("Lazy MDC actor logging over a handler value");
+                            String after = org.slf4j.MDC.get("messageId");
+                            org.slf4j.MDC.remove("messageId");
+                            msg.reply(new Pong(after, ctx.path().toString()));
+                            return Behaviors.same();
+                        }
+                        if (msg.message.equals("async")) {
+                            org.slf4j.Logger log = ctx.getLog();
+                            String path = ctx.path().toString();
+                            CompletableFuture.runAsync(() -> {
+                                log.info("Lazy MDC actor logging off the actor thread");
+                                msg.reply(new Pong("Pong: async", path));
+                            });
+                            return Behaviors.same();
+                        }
+                        if (!msg.message.equals("quiet")) {
+                            ctx.getLog().info("Lazy MDC actor received: {}", msg.message);
+                            ctx.getLog().info("Lazy MDC actor replying");
+                        }
+                        msg.reply(new Pong("Pong: " + msg.message, ctx.path().toString()));
+                        return Behaviors.same();
+                    })
+                    .build();
+        }
+    }
+
     public static class TestParentActor implements SpringActorWithContext<TestCommand, SpringActorContext> {
         @Override
         public SpringActorBehavior<TestCommand> create(SpringActorContext actorContext) {
@@ -538,4 +585,55 @@ public class MdcIntegrationTest {
         // Verify MDC with special characters
         verifyMdcInLogs("special-chars-mdc-actor", mdcWithSpecialChars);
     }
+
+    @Test
+    void testLazyMdcIsOnlyComputedWhenLogging() throws Exception {
+        logAppender.clear();
+        LazyMdcActor.evaluations.set(0);
+
+        Map<String, String> staticMdc = Map.of("service", "lazy-service");
+        SpringActorHandle<TestCommand> actor = actorSystem
+                .actor(LazyMdcActor.class)
+                .withId("lazy-mdc-actor")
+                .withMdc(MdcConfig.of(staticMdc))
+                .spawnAndWait();
+
+        sendPingAndWait(actor, "quiet", "msg-quiet");
+        assertEquals(0, LazyMdcActor.evaluations.get());
+
+        sendPingAndWait(actor, "Hello with lazy MDC", "msg-lazy-1");
+        // Computed once for the message, although the handler logs twice
+        assertEquals(1, LazyMdcActor.evaluations.get());
+        verifyMdcInLogs("lazy-mdc-actor", Map.of("service", "lazy-service", "messageId", "msg-lazy-1"));
+    }
+
+    @Test
+    void testLazyMdcLogsOffTheActorThread() throws Exception {
+        logAppender.clear();
+        Map<String, String> staticMdc = Map.of("service", "lazy-service");
+        SpringActorHandle<TestCommand> actor = actorSystem
+                .actor(LazyMdcActor.class)
+                .withId("lazy-mdc-async-actor")
+                .withMdc(MdcConfig.of(staticMdc))
+                .spawnAndWait();
+
+        Pong pong = sendPingAndWait(actor, "async", "msg-async");
+
+        assertEquals("Pong: async", pong.message);
+        verifyMdcInLogs("lazy-mdc-async-actor", staticMdc);
+    }
+
+    @Test
+    void testLazyMdcRestoresPreviousValues() throws Exception {
+        logAppender.clear();
+        SpringActorHandle<TestCommand> actor = actorSystem
+                .actor(LazyMdcActor.class)
+                .withId("lazy-mdc-restore-actor")
+                .spawnAndWait();
+
+        Pong pong = sendPingAndWait(actor, "restore", "msg-restore");
+
+        assertEquals("handler-value", pong.message);
+        verifyMdcInLogs("lazy-mdc-restore-actor", Map.of("messageId", "msg-restore"));
+    }
 }
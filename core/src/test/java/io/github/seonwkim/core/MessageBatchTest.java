@@ -0,0 +1,62 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.typesafe.config.ConfigFactory;
+import io.github.seonwkim.core.serialization.JsonSerializable;
+import java.util.List;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.serialization.Serialization;
+import org.apache.pekko.serialization.SerializationExtension;
+import org.apache.pekko.serialization.Serializer;
+import org.apache.pekko.serialization.Serializers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MessageBatchTest {
+
+    public static class Event implements JsonSerializable {
+        public final int seq;
+
+        @JsonCreator
+        public Event(@JsonProperty("seq") int seq) {
+            this.seq = seq;
+        }
+    }
+
+    private ActorTestKit testKit;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create(ConfigFactory.parseString("pekko.actor.serializers.jackson-json = "
+                + "\"org.apache.pekko.serialization.jackson.JacksonJsonSerializer\"\n"
+                + "pekko.actor.serialization-bindings {\n"
+                + "  \"io.github.seonwkim.core.serialization.JsonSerializable\" = jackson-json\n"
+                + "}"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void serializesEachMessageWithItsOwnBinding() {
+        Serialization serialization = SerializationExtension.get(testKit.system());
+        MessageBatch batch = MessageBatch.of(List.of(new Event(1), "text", new Event(2)));
+
+        Serializer serializer = serialization.findSerializerFor(batch);
+        byte[] bytes = serializer.toBinary(batch);
+        MessageBatch copy = (MessageBatch) serialization
+                .deserialize(bytes, serializer.identifier(), Serializers.manifestFor(serializer, batch))
+                .get();
+
+        assertEquals(3, copy.messages.size());
+        assertEquals(1, ((Event) copy.messages.get(0)).seq);
+        assertEquals("text", copy.messages.get(1));
+        assertEquals(2, ((Event) copy.messages.get(2)).seq);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MessageBatcherTest {
+
+    public interface Command {}
+
+    public static class Save implements Command {
+        public final int value;
+
+        public Save(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class Audit implements Command {
+        public final int value;
+
+        public Audit(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class Mark implements Command {
+        public final String label;
+
+        public Mark(String label) {
+            this.label = label;
+        }
+    }
+
+    private ActorTestKit testKit;
+    private TestProbe<String> probe;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create();
+        probe = testKit.createTestProbe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void flushesFullBatchesAndKeepsOrderWithOtherMessages() {
+        ActorRef<Command> actor = testKit.spawn(batchingActor(2, Duration.ofMinutes(1)));
+
+        actor.tell(new Save(1));
+        actor.tell(new Save(2));
+        actor.tell(new Save(3));
+        actor.tell(new Mark("a"));
+
+        assertEquals("batch[1, 2]", probe.receiveMessage());
+        assertEquals("batch[3]", probe.receiveMessage());
+        assertEquals("mark:a", probe.receiveMessage());
+    }
+
+    @Test
+    void flushesPartialBatchAfterMaxDelay() {
+        ActorRef<Command> actor = testKit.spawn(batchingActor(100, Duration.ofMillis(50)));
+
+        actor.tell(new Save(1));
+        actor.tell(new Save(2));
+
+        assertEquals("batch[1, 2]", probe.receiveMessage(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    void batchesMessagesOfBursts() {
+        ActorRef<Command> actor = testKit.spawn(batchingActor(10, Duration.ZERO));
+        SpringActorHandle<Command> handle = new SpringActorHandle<>(testKit.system().scheduler(), actor);
+
+        handle.tellAll(List.of(new Save(1), new Mark("a"), new Save(2), new Save(3)));
+
+        assertEquals("batch[1]", probe.receiveMessage());
+        assertEquals("mark:a", probe.receiveMessage());
+        assertEquals("batch[2, 3]", probe.receiveMessage());
+    }
+
+    @Test
+    void keepsOrderAcrossBatchedTypes() {
+        ActorRef<Command> actor = testKit.spawn(batchingActor(10, Duration.ofMinutes(1)));
+
+        actor.tell(new Save(1));
+        actor.tell(new Audit(1));
+        actor.tell(new Save(2));
+        actor.tell(new Mark("a"));
+
+        assertEquals("batch[1]", probe.receiveMessage());
+        assertEquals("audit[1]", probe.receiveMessage());
+        assertEquals("batch[2]", probe.receiveMessage());
+        assertEquals("mark:a", probe.receiveMessage());
+    }
+
+    @Test
+    void rejectsInvalidBatchSettings() {
+        SpringActorBehavior.Builder<Command, SpringBehaviorContext<Command>> builder =
+                SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("invalid"));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.onMessageBatch(Save.class, 0, Duration.ZERO, (ctx, batch) -> Behaviors.same()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.onMessageBatch(Save.class, 1, Duration.ofMillis(-1), (ctx, batch) -> Behaviors.same()));
+    }
+
+    private Behavior<Command> batchingActor(int maxSize, Duration maxDelay) {
+        return SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("batching"))
+                .onMessageBatch(Save.class, maxSize, maxDelay, (ctx, batch) -> {
+                    List<Integer> values = new ArrayList<>();
+                    for (Save save : batch) {
+                        values.add(save.value);
+                    }
+                    probe.getRef().tell("batch" + values);
+                    return Behaviors.same();
+                })
+                .onMessageBatch(Audit.class, maxSize, maxDelay, (ctx, batch) -> {
+                    List<Integer> values = new ArrayList<>();
+                    for (Audit audit : batch) {
+                        values.add(audit.value);
+                    }
+                    probe.getRef().tell("audit" + values);
+                    return Behaviors.same();
+                })
+                .onMessage(Mark.class, (ctx, msg) -> {
+                    probe.getRef().tell("mark:" + msg.label);
+                    return Behaviors.same();
+                })
+                .build()
+                .asBehavior();
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import java.time.Duration;
+import java.util.List;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MessageCoalescerTest {
+
+    public interface Command {}
+
+    public static class Price implements Command {
+        public final String symbol;
+        public final int value;
+
+        public Price(String symbol, int value) {
+            this.symbol = symbol;
+            this.value = value;
+        }
+    }
+
+    public static class Mark implements Command {
+        public final String label;
+
+        public Mark(String label) {
+            this.label = label;
+        }
+    }
+
+    private ActorTestKit testKit;
+    private TestProbe<String> probe;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create();
+        probe = testKit.createTestProbe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void deliversNewestQueuedMessagePerKey() {
+        SpringActorHandle<Command> actor = spawnCoalescingActor();
+
+        actor.tellAll(List.of(new Price("A", 1), new Price("B", 1), new Price("A", 2)));
+
+        assertEquals("B:1", probe.receiveMessage());
+        assertEquals("A:2", probe.receiveMessage());
+        probe.expectNoMessage(Duration.ofMillis(100));
+    }
+
+    @Test
+    void keepsOrderWithOtherMessages() {
+        SpringActorHandle<Command> actor = spawnCoalescingActor();
+
+        actor.tellAll(List.of(
+                new Price("A", 1), new Price("A", 2), new Mark("m"), new Price("A", 3), new Price("A", 4)));
+
+        assertEquals("A:2", probe.receiveMessage());
+        assertEquals("mark:m", probe.receiveMessage());
+        assertEquals("A:4", probe.receiveMessage());
+    }
+
+    @Test
+    void deliversSingleMessagesWithoutWaiting() {
+        SpringActorHandle<Command> actor = spawnCoalescingActor();
+
+        actor.tell(new Price("A", 1));
+        assertEquals("A:1", probe.receiveMessage());
+        actor.tell(new Price("A", 2));
+        assertEquals("A:2", probe.receiveMessage());
+    }
+
+    @Test
+    void rejectsNullKeyFunction() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("invalid"))
+                        .coalesce(Price.class, null));
+    }
+
+    private SpringActorHandle<Command> spawnCoalescingActor() {
+        ActorRef<Command> actor = testKit.spawn(
+                SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("coalescing"))
+                        .coalesce(Price.class, price -> price.symbol)
+                        .onMessage(Price.class, (ctx, msg) -> {
+                            probe.getRef().tell(msg.symbol + ":" + msg.value);
+                            return Behaviors.same();
+                        })
+                        .onMessage(Mark.class, (ctx, msg) -> {
+                            probe.getRef().tell("mark:" + msg.label);
+                            return Behaviors.same();
+                        })
+                        .build()
+                        .asBehavior());
+        return new SpringActorHandle<>(testKit.system().scheduler(), actor);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MessageDispatchTableTest {
+
+    interface Command {}
+
+    interface Priority extends Command {}
+
+    static class Urgent implements Priority {}
+
+    static class Routine implements Command {}
+
+    static class Unrelated {}
+
+    @Test
+    void firstMatchingHandlerTypeWins() {
+        MessageDispatchTable table = MessageDispatchTable.forHandlerTypes(
+                Command.class, List.of(Routine.class, Priority.class, Command.class));
+
+        assertEquals(0, table.indexOf(Routine.class));
+        assertEquals(1, table.indexOf(Urgent.class));
+        assertEquals(2, table.indexOf(Command.class));
+        assertEquals(MessageDispatchTable.NO_HANDLER, table.indexOf(Unrelated.class));
+        // Cached lookups return the same result
+        assertEquals(1, table.indexOf(Urgent.class));
+    }
+
+    @Test
+    void tablesAreSharedPerHandlerTypes() {
+        MessageDispatchTable first = MessageDispatchTable.forHandlerTypes(Command.class, List.of(Urgent.class));
+        MessageDispatchTable second = MessageDispatchTable.forHandlerTypes(Command.class, List.of(Urgent.class));
+        MessageDispatchTable reordered =
+                MessageDispatchTable.forHandlerTypes(Command.class, List.of(Routine.class, Urgent.class));
+
+        assertSame(first, second);
+        assertNotSame(first, reordered);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.seonwkim.core.exception.MailboxOverflowException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.DeadLetter;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.Envelope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MpscArrayMessageQueueTest {
+
+    private ActorTestKit testKit;
+    private ActorSystem system;
+    private TestProbe<Object> deadLetters;
+    private ActorRef receiver;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create();
+        system = Adapter.toClassic(testKit.system());
+        deadLetters = testKit.createTestProbe();
+        receiver = system.deadLetters();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void dropsNewestMessageWhenFull() {
+        MpscArrayMessageQueue queue = queue(3, OverflowStrategy.dropNewest());
+
+        for (int i = 0; i < 4; i++) {
+            queue.enqueue(receiver, envelope(i));
+        }
+
+        assertEquals(3, queue.numberOfMessages());
+        assertEquals(List.of(0, 1, 2), drain(queue));
+        assertEquals(3, ((DeadLetter) deadLetters.receiveMessage()).message());
+    }
+
+    @Test
+    void dropsOldestMessageWhenFull() {
+        MpscArrayMessageQueue queue = queue(2, OverflowStrategy.dropOldest());
+
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(receiver, envelope(i));
+        }
+
+        assertEquals(List.of(1, 2), drain(queue));
+        assertEquals(0, ((DeadLetter) deadLetters.receiveMessage()).message());
+    }
+
+    @Test
+    void passesRejectedMessageToCallback() {
+        List<Object> rejected = new ArrayList<>();
+        MpscArrayMessageQueue queue = queue(1, OverflowStrategy.reject(rejected::add));
+
+        queue.enqueue(receiver, envelope(0));
+        queue.enqueue(receiver, envelope(1));
+
+        assertEquals(List.of(1), rejected);
+        assertEquals(List.of(0), drain(queue));
+    }
+
+    @Test
+    void failsWhenFull() {
+        MpscArrayMessageQueue queue = queue(1, OverflowStrategy.fail());
+
+        queue.enqueue(receiver, envelope(0));
+
+        MailboxOverflowException e =
+                assertThrows(MailboxOverflowException.class, () -> queue.enqueue(receiver, envelope(1)));
+        assertEquals(1, e.getCapacity());
+    }
+
+    @Test
+    void keepsPerProducerOrderUnderContention() throws Exception {
+        MpscArrayMessageQueue queue = queue(64, OverflowStrategy.dropNewest());
+        int producers = 4;
+        int perProducer = 10_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    // Wait for room, so nothing is dropped
+                    while (queue.numberOfMessages() >= queue.capacity()) {
+                        Thread.onSpinWait();
+                    }
+                    queue.enqueue(receiver, envelope(producer * perProducer + i));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        int received = 0;
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        while (received < producers * perProducer) {
+            Envelope envelope = queue.dequeue();
+            if (envelope == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int value = (Integer) envelope.message();
+            int producer = value / perProducer;
+            assertEquals(lastPerProducer[producer] + 1, value % perProducer);
+            lastPerProducer[producer] = value % perProducer;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(queue.dequeue());
+    }
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.mpscArray(0, OverflowStrategy.dropNewest()));
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.mpscArray(1, null));
+        assertThrows(IllegalArgumentException.class, () -> OverflowStrategy.reject(null));
+    }
+
+    private MpscArrayMessageQueue queue(int capacity, OverflowStrategy strategy) {
+        return new MpscArrayMessageQueue(capacity, strategy, Adapter.toClassic(deadLetters.getRef()));
+    }
+
+    private Envelope envelope(int value) {
+        return Envelope.apply(value, ActorRef.noSender(), system);
+    }
+
+    private static List<Integer> drain(MpscArrayMessageQueue queue) {
+        List<Integer> values = new ArrayList<>();
+        Envelope envelope;
+        while ((envelope = queue.dequeue()) != null) {
+            values.add((Integer) envelope.message());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.typesafe.config.ConfigFactory;
+import io.github.seonwkim.core.serialization.JsonSerializable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.serialization.SerializationExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpillingMessageQueueTest {
+
+    public static class Event implements JsonSerializable {
+        public final int seq;
+
+        @JsonCreator
+        public Event(@JsonProperty("seq") int seq) {
+            this.seq = seq;
+        }
+    }
+
+    /** Serializes, but its creator rejects the serialized form */
+    public static class Unreadable implements JsonSerializable {
+        public final int seq;
+
+        public Unreadable(int seq) {
+            this.seq = seq;
+        }
+
+        @JsonCreator
+        public static Unreadable read(@JsonProperty("seq") int seq) {
+            throw new IllegalStateException("Unreadable " + seq);
+        }
+    }
+
+    /** Has no serialization binding */
+    static final class Unbound {}
+
+    @TempDir
+    Path directory;
+
+    private ActorTestKit testKit;
+    private ActorSystem system;
+    private ActorRef receiver;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create(ConfigFactory.parseString("pekko.actor.serializers.jackson-json = "
+                + "\"org.apache.pekko.serialization.jackson.JacksonJsonSerializer\"\n"
+                + "pekko.actor.serialization-bindings {\n"
+                + "  \"io.github.seonwkim.core.serialization.JsonSerializable\" = jackson-json\n"
+                + "}"));
+        system = Adapter.toClassic(testKit.system());
+        receiver = system.deadLetters();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void deliversInOrderAcrossMemoryAndSegments() throws IOException {
+        // Small segments, so the spilled messages span several files
+        SpillingMessageQueue queue = queue(4, 256);
+
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue(receiver, envelope(new Event(i)));
+        }
+
+        assertEquals(100, queue.numberOfMessages());
+        assertEquals(96, queue.spilled());
+        assertEquals(expectedSequence(0, 100), drain(queue));
+        assertEquals(0, queue.numberOfMessages());
+        // The last segment is kept for reuse
+        assertEquals(1, segmentFiles());
+
+        for (int i = 100; i < 200; i++) {
+            queue.enqueue(receiver, envelope(new Event(i)));
+        }
+        assertEquals(expectedSequence(100, 200), drain(queue));
+        assertEquals(1, segmentFiles());
+    }
+
+    @Test
+    void keepsSpillingUntilSegmentsAreRead() {
+        SpillingMessageQueue queue = queue(2, 1024);
+
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(receiver, envelope(new Event(i)));
+        }
+        assertEquals(0, ((Event) queue.dequeue().message()).seq);
+        assertEquals(1, ((Event) queue.dequeue().message()).seq);
+        // The heap has room again, but older messages are still spilled
+        queue.enqueue(receiver, envelope(new Event(5)));
+
+        assertEquals(4, queue.spilled());
+        assertEquals(expectedSequence(2, 6), drain(queue));
+
+        queue.enqueue(receiver, envelope(new Event(6)));
+        assertEquals(0, queue.spilled());
+    }
+
+    @Test
+    void keepsMessagesWithoutBindingInOrder() {
+        SpillingMessageQueue queue = queue(1, 1024);
+        Unbound unbound = new Unbound();
+
+        queue.enqueue(receiver, envelope(new Event(0)));
+        queue.enqueue(receiver, envelope(new Event(1)));
+        queue.enqueue(receiver, envelope(unbound));
+        queue.enqueue(receiver, envelope(new Event(2)));
+
+        assertEquals(0, ((Event) queue.dequeue().message()).seq);
+        assertEquals(1, ((Event) queue.dequeue().message()).seq);
+        assertSame(unbound, queue.dequeue().message());
+        assertEquals(2, ((Event) queue.dequeue().message()).seq);
+    }
+
+    @Test
+    void dropsMessagesWithoutBindingBeyondMemoryCapacity() {
+        SpillingMessageQueue queue = queue(2, 1024);
+        Unbound first = new Unbound();
+        Unbound second = new Unbound();
+
+        queue.enqueue(receiver, envelope(new Event(0)));
+        queue.enqueue(receiver, envelope(new Event(1)));
+        queue.enqueue(receiver, envelope(first));
+        queue.enqueue(receiver, envelope(second));
+        queue.enqueue(receiver, envelope(new Unbound()));
+
+        assertEquals(4, queue.numberOfMessages());
+        assertEquals(0, ((Event) queue.dequeue().message()).seq);
+        assertEquals(1, ((Event) queue.dequeue().message()).seq);
+        assertSame(first, queue.dequeue().message());
+        assertSame(second, queue.dequeue().message());
+        assertNull(queue.dequeue());
+    }
+
+    @Test
+    void dropsSpilledMessagesThatCannotBeRead() {
+        SpillingMessageQueue queue = queue(1, 1024);
+
+        queue.enqueue(receiver, envelope(new Event(0)));
+        queue.enqueue(receiver, envelope(new Unreadable(1)));
+        queue.enqueue(receiver, envelope(new Unreadable(2)));
+        queue.enqueue(receiver, envelope(new Event(3)));
+
+        assertEquals(List.of(0, 3), drain(queue));
+        assertEquals(0, queue.numberOfMessages());
+        assertEquals(0, queue.spilled());
+        assertFalse(queue.hasMessages());
+    }
+
+    @Test
+    void cleanUpForwardsRemainingMessagesAndDeletesSegments() throws IOException {
+        SpillingMessageQueue queue = queue(2, 1024);
+        MpscArrayMessageQueue deadLetters = new MpscArrayMessageQueue(16, OverflowStrategy.fail(), receiver);
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(receiver, envelope(new Event(i)));
+        }
+
+        queue.cleanUp(receiver, deadLetters);
+
+        assertEquals(10, deadLetters.numberOfMessages());
+        assertEquals(0, queue.numberOfMessages());
+        assertEquals(0, segmentFiles());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.spillToDisk(0, directory));
+        assertThrows(IllegalArgumentException.class, () -> MailboxConfig.spillToDisk(10, null));
+    }
+
+    private SpillingMessageQueue queue(int memoryCapacity, int segmentSize) {
+        return new SpillingMessageQueue(memoryCapacity, directory, segmentSize, SerializationExtension.get(system));
+    }
+
+    private Envelope envelope(Object message) {
+        return Envelope.apply(message, ActorRef.noSender(), system);
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static List<Integer> expectedSequence(int from, int to) {
+        List<Integer> sequence = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            sequence.add(i);
+        }
+        return sequence;
+    }
+
+    private static List<Integer> drain(SpillingMessageQueue queue) {
+        List<Integer> sequence = new ArrayList<>();
+        Envelope envelope;
+        while ((envelope = queue.dequeue()) != null) {
+            sequence.add(((Event) envelope.message()).seq);
+        }
+        return sequence;
+    }
+}
@@ -1,21 +1,37 @@
 package io.github.seonwkim.core;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
 import org.apache.pekko.actor.typed.ActorRef;
 import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.MailboxSelector;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
 
 public class SpringActorHandleTest {
 
@@ -29,6 +45,14 @@ public class SpringActorHandleTest {
         }
     }
 
+    public static class CountTo extends StreamingAskCommand<Integer> implements Command {
+        public final int limit;
+
+        public CountTo(int limit) {
+            this.limit = limit;
+        }
+    }
+
     public static class SimpleMessage implements Command {
         public final String value;
 
@@ -53,6 +77,13 @@ public class SpringActorHandleTest {
                     msg.reply("pong:" + id);
                     return Behaviors.same();
                 })
+                .onMessage(CountTo.class, msg -> {
+                    for (int i = 1; i <= msg.limit; i++) {
+                        msg.emit(i);
+                    }
+                    msg.complete();
+                    return Behaviors.same();
+                })
                 .onMessage(SimpleMessage.class, msg -> {
                     signal.complete("received: " + msg.value);
                     return Behaviors.same();
@@ -234,4 +265,452 @@ public class SpringActorHandleTest {
 
         assertEquals("timeout-occurred", result);
     }
+
+    @Test
+    void testAskChannelRepliesToEveryRequest() throws ExecutionException, InterruptedException {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "ask-channel-" + id);
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        try (AskChannel<Command> channel = springRef.askChannel(testKit.system())) {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(channel.ask(new Ping("hello-" + i)).toCompletableFuture());
+            }
+            for (CompletableFuture<String> result : results) {
+                assertEquals("pong:" + id, result.get());
+            }
+            assertEquals(0, channel.pendingCount());
+        }
+    }
+
+    @Test
+    void testAskChannelExpiresPendingRequests() {
+        String id = UUID.randomUUID().toString();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> {
+                    // Never respond - will timeout
+                    return Behaviors.same();
+                })
+                .build();
+
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "ask-channel-timeout-" + id);
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        try (AskChannel<Command> channel = springRef.askChannel(testKit.system())) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> channel.ask(
+                            new Ping("hello"), Duration.ofMillis(100))
+                    .toCompletableFuture()
+                    .get());
+
+            assertTrue(exception.getCause() instanceof TimeoutException);
+            assertEquals(0, channel.pendingCount());
+        }
+    }
+
+    @Test
+    void testAskChannelReplyToCanBeForwarded() throws ExecutionException, InterruptedException {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> worker = testKit.spawn(create(id, new CompletableFuture<>()), "channel-worker-" + id);
+        Behavior<Command> forwarder = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> {
+                    Ping forwarded = new Ping(msg.message);
+                    forwarded.withReplyTo(msg.getReplyTo());
+                    worker.tell(forwarded);
+                    return Behaviors.same();
+                })
+                .build();
+        ActorRef<Command> actorRef = testKit.spawn(forwarder, "channel-forwarder-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        try (AskChannel<Command> channel = springRef.askChannel(testKit.system())) {
+            assertEquals("pong:" + id, channel.ask(new Ping("hello")).toCompletableFuture().get());
+        }
+    }
+
+    @Test
+    void testAskChannelCancellationForgetsRequest() {
+        String id = UUID.randomUUID().toString();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> Behaviors.same())
+                .build();
+
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "ask-channel-cancel-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+        AskDeadlineTracker tracker = AskDeadlineTracker.get(testKit.system());
+
+        try (AskChannel<Command> channel = springRef.askChannel(testKit.system())) {
+            channel.ask(new Ping("hello"), Duration.ofSeconds(30)).toCompletableFuture().cancel(false);
+
+            assertEquals(0, channel.pendingCount());
+            assertEquals(0, tracker.pendingCount());
+        }
+    }
+
+    @Test
+    void testAskChannelCloseFailsPendingRequests() {
+        String id = UUID.randomUUID().toString();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> Behaviors.same())
+                .build();
+
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "ask-channel-close-" + id);
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        AskChannel<Command> channel = springRef.askChannel(testKit.system());
+        CompletableFuture<String> pending =
+                channel.ask(new Ping("hello"), Duration.ofSeconds(30)).toCompletableFuture();
+        channel.close();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, pending::get);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        assertThrows(IllegalStateException.class, () -> channel.ask(new Ping("again")));
+    }
+
+    @Test
+    void testAskThroughDeadlineTracker() throws ExecutionException, InterruptedException {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "ask-tracked-" + id);
+        AskDeadlineTracker tracker = AskDeadlineTracker.get(testKit.system());
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef, Duration.ofSeconds(3), tracker);
+
+        String result = springRef.ask(new Ping("hello")).execute().toCompletableFuture().get();
+
+        assertEquals("pong:" + id, result);
+        assertEquals(0, tracker.pendingCount());
+    }
+
+    @Test
+    void testDeadlineTrackerReplyToCanBeForwarded() throws ExecutionException, InterruptedException {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> worker = testKit.spawn(create(id, new CompletableFuture<>()), "ask-worker-" + id);
+        Behavior<Command> forwarder = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> {
+                    Ping forwarded = new Ping(msg.message);
+                    forwarded.withReplyTo(msg.getReplyTo());
+                    worker.tell(forwarded);
+                    return Behaviors.same();
+                })
+                .build();
+        ActorRef<Command> actorRef = testKit.spawn(forwarder, "ask-forwarder-" + id);
+        AskDeadlineTracker tracker = AskDeadlineTracker.get(testKit.system());
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef, Duration.ofSeconds(3), tracker);
+
+        String result = springRef.ask(new Ping("hello")).execute().toCompletableFuture().get();
+
+        assertEquals("pong:" + id, result);
+        assertEquals(0, tracker.pendingCount());
+    }
+
+    @Test
+    void testDeadlineTrackerPreservesTimeoutSemantics() throws ExecutionException, InterruptedException {
+        String id = UUID.randomUUID().toString();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> {
+                    // Never respond - will timeout
+                    return Behaviors.same();
+                })
+                .build();
+
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "ask-tracked-timeout-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(
+                testKit.system().scheduler(),
+                actorRef,
+                Duration.ofSeconds(3),
+                AskDeadlineTracker.get(testKit.system()));
+
+        String fallback = springRef
+                .ask(new Ping("hello"))
+                .withTimeout(Duration.ofMillis(100))
+                .onTimeout(() -> "default-value")
+                .execute()
+                .toCompletableFuture()
+                .get();
+        assertEquals("default-value", fallback);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> springRef
+                .ask(new Ping("hello"))
+                .withTimeout(Duration.ofMillis(100))
+                .execute()
+                .toCompletableFuture()
+                .get());
+        assertTrue(exception.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    void testAskAndAwait() {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "ask-await-" + id);
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        assertEquals("pong:" + id, springRef.askAndAwait(new Ping("hello")));
+        assertEquals("pong:" + id, springRef.askAndAwait(new Ping("hello"), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testTellAllDeliversMessagesInOrder() {
+        String id = UUID.randomUUID().toString();
+        List<String> received = new CopyOnWriteArrayList<>();
+        Behavior<Command> behavior = SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext(id))
+                .onMessage(SimpleMessage.class, (ctx, msg) -> {
+                    received.add(msg.value);
+                    return Behaviors.same();
+                })
+                .build()
+                .asBehavior();
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "tell-all-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        List<Command> burst = IntStream.range(0, 100)
+                .mapToObj(i -> new SimpleMessage(String.valueOf(i)))
+                .collect(Collectors.toList());
+        springRef.tellAll(burst);
+        springRef.tellAll(List.of());
+        springRef.tell(new SimpleMessage("after"));
+
+        List<String> expected = IntStream.range(0, 100).mapToObj(String::valueOf).collect(Collectors.toList());
+        expected.add("after");
+        await().atMost(Duration.ofSeconds(3)).until(() -> received.size() == expected.size());
+        assertEquals(expected, received);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> springRef.tellAll(Arrays.asList(new SimpleMessage("x"), null)));
+    }
+
+    @Test
+    void testTellAllHandsRemainderToNewBehavior() {
+        String id = UUID.randomUUID().toString();
+        List<String> received = new CopyOnWriteArrayList<>();
+        Behavior<Command> switched = Behaviors.receive(Command.class)
+                .onMessage(SimpleMessage.class, msg -> {
+                    received.add("switched:" + msg.value);
+                    return Behaviors.same();
+                })
+                .build();
+        Behavior<Command> behavior = SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext(id))
+                .onMessage(SimpleMessage.class, (ctx, msg) -> {
+                    received.add(msg.value);
+                    return msg.value.equals("switch") ? switched : Behaviors.same();
+                })
+                .build()
+                .asBehavior();
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "tell-all-switch-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        springRef.tellAll(List.of(new SimpleMessage("a"), new SimpleMessage("switch"), new SimpleMessage("b")));
+        springRef.tell(new SimpleMessage("c"));
+
+        // The rest of the burst reaches the new behavior before the message sent after the burst
+        await().atMost(Duration.ofSeconds(3)).until(() -> received.size() == 4);
+        assertEquals(List.of("a", "switch", "switched:b", "switched:c"), received);
+    }
+
+    @Test
+    void testOfferReportsFullBoundedMailbox() throws Exception {
+        String id = UUID.randomUUID().toString();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(SimpleMessage.class, msg -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Behaviors.same();
+                })
+                .build();
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "offer-" + id, MailboxSelector.bounded(2));
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        assertEquals(OfferResult.ACCEPTED, springRef.offer(new SimpleMessage("1")));
+        assertTrue(started.await(3, TimeUnit.SECONDS));
+        assertEquals(OfferResult.ACCEPTED, springRef.offer(new SimpleMessage("2")));
+        assertEquals(OfferResult.ACCEPTED, springRef.offer(new SimpleMessage("3")));
+        assertEquals(OfferResult.FULL, springRef.offer(new SimpleMessage("4")));
+
+        CompletableFuture<OfferResult> pending = springRef
+                .offerAsync(new SimpleMessage("5"), Duration.ofSeconds(3))
+                .toCompletableFuture();
+        assertFalse(pending.isDone());
+
+        release.countDown();
+        assertEquals(OfferResult.ACCEPTED, pending.get(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testConcurrentOffersNeverOverflowBoundedMailbox() throws Exception {
+        String id = UUID.randomUUID().toString();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(SimpleMessage.class, msg -> {
+                    if (msg.value.equals("block")) {
+                        started.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                    } else {
+                        received.add(msg.value);
+                    }
+                    return Behaviors.same();
+                })
+                .build();
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "offer-concurrent-" + id, MailboxSelector.bounded(10));
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+        springRef.tell(new SimpleMessage("block"));
+        assertTrue(started.await(3, TimeUnit.SECONDS));
+
+        List<CompletableFuture<OfferResult>> offers = IntStream.range(0, 100)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> springRef.offer(new SimpleMessage("m" + i))))
+                .collect(Collectors.toList());
+        long accepted = offers.stream()
+                .map(CompletableFuture::join)
+                .filter(result -> result == OfferResult.ACCEPTED)
+                .count();
+        release.countDown();
+
+        // Every accepted message is delivered, none of them went to dead letters
+        assertEquals(10, accepted);
+        await().atMost(Duration.ofSeconds(3)).until(() -> received.size() == 10);
+        Thread.sleep(100);
+        assertEquals(10, received.size());
+    }
+
+    @Test
+    void testOfferToStoppedActorIsDropped() {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "offer-stopped-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(testKit.system().scheduler(), actorRef);
+
+        testKit.stop(actorRef);
+
+        assertEquals(OfferResult.DROPPED, springRef.offer(new SimpleMessage("late")));
+    }
+
+    @Test
+    void testAskMonoSendsOnSubscribe() {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "ask-mono-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(
+                testKit.system().scheduler(),
+                actorRef,
+                Duration.ofSeconds(3),
+                AskDeadlineTracker.get(testKit.system()));
+
+        Mono<String> result = ReactiveAsks.of(springRef).mono(new Ping("hello"));
+
+        assertEquals("pong:" + id, result.block(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    void testAskMonoCancellationForgetsPendingAsk() {
+        String id = UUID.randomUUID().toString();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(Ping.class, msg -> {
+                    // Never respond
+                    return Behaviors.same();
+                })
+                .build();
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "ask-mono-cancel-" + id);
+        AskDeadlineTracker tracker = AskDeadlineTracker.get(testKit.system());
+        SpringActorHandle<Command> springRef =
+                new SpringActorHandle<>(testKit.system().scheduler(), actorRef, Duration.ofSeconds(30), tracker);
+
+        Disposable subscription = ReactiveAsks.of(springRef).mono(new Ping("hello")).subscribe();
+        assertEquals(1, tracker.pendingCount());
+
+        subscription.dispose();
+
+        assertEquals(0, tracker.pendingCount());
+    }
+
+    @Test
+    void testAskFluxStreamsAllReplies() {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "ask-flux-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(
+                testKit.system().scheduler(),
+                actorRef,
+                Duration.ofSeconds(3),
+                AskDeadlineTracker.get(testKit.system()));
+
+        List<Integer> values = ReactiveAsks.of(springRef)
+                .flux(new CountTo(500))
+                .limitRate(16)
+                .collectList()
+                .block(Duration.ofSeconds(3));
+
+        assertEquals(IntStream.rangeClosed(1, 500).boxed().collect(Collectors.toList()), values);
+    }
+
+    @Test
+    void testAskFluxSendsOnlyRequestedElements() throws Exception {
+        String id = UUID.randomUUID().toString();
+        ActorRef<Command> actorRef = testKit.spawn(create(id, new CompletableFuture<>()), "ask-flux-demand-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(
+                testKit.system().scheduler(),
+                actorRef,
+                Duration.ofMillis(200),
+                AskDeadlineTracker.get(testKit.system()));
+
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        BaseSubscriber<Integer> subscriber = new BaseSubscriber<Integer>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(2);
+            }
+
+            @Override
+            protected void hookOnNext(Integer value) {
+                values.add(value);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.countDown();
+            }
+        };
+        ReactiveAsks.of(springRef).flux(new CountTo(500)).subscribe(subscriber);
+
+        await().atMost(Duration.ofSeconds(3)).until(() -> values.size() == 2);
+        // Longer than the idle timeout: a stream without demand must neither advance nor time out
+        Thread.sleep(500);
+        assertEquals(List.of(1, 2), values);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertTrue(completed.await(3, TimeUnit.SECONDS));
+        assertEquals(IntStream.rangeClosed(1, 500).boxed().collect(Collectors.toList()), values);
+    }
+
+    @Test
+    void testAskFluxFailsWhenIdle() {
+        String id = UUID.randomUUID().toString();
+        Behavior<Command> behavior = Behaviors.receive(Command.class)
+                .onMessage(CountTo.class, msg -> {
+                    msg.emit(1);
+                    // Never complete
+                    return Behaviors.same();
+                })
+                .build();
+        ActorRef<Command> actorRef = testKit.spawn(behavior, "ask-flux-idle-" + id);
+        SpringActorHandle<Command> springRef = new SpringActorHandle<>(
+                testKit.system().scheduler(),
+                actorRef,
+                Duration.ofSeconds(3),
+                AskDeadlineTracker.get(testKit.system()));
+
+        List<Object> signals = new CopyOnWriteArrayList<>();
+        ReactiveAsks.of(springRef)
+                .flux(new CountTo(1), Duration.ofMillis(200))
+                .subscribe(signals::add, signals::add);
+
+        await().atMost(Duration.ofSeconds(3)).until(() -> signals.size() == 2);
+        assertEquals(1, signals.get(0));
+        assertTrue(signals.get(1) instanceof TimeoutException);
+    }
 }
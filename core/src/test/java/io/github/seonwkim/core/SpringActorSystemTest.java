@@ -1,11 +1,16 @@
 package io.github.seonwkim.core;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.seonwkim.core.SpringActorSystemTest.TestHelloActor.SayHello;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.apache.pekko.actor.typed.javadsl.Behaviors;
 import org.junit.jupiter.api.Nested;
@@ -342,6 +347,143 @@ class SpringActorSystemTest {
                     .isNull();
         }
 
+        @Test
+        void spawnedActorIsResolvedFromIndexAndEvictedOnStop(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+            ActorRefIndex index = ActorRefIndex.get(actorSystem.getRaw());
+
+            final String actorId = "indexed-actor";
+            final String actorName = ActorSpawner.buildActorName(TestHelloActor.class, actorId);
+            assertThat(index.contains(actorName)).isFalse();
+
+            SpringActorHandle<TestHelloActor.Command> actorRef =
+                    actorSystem.actor(TestHelloActor.class).withId(actorId).spawnAndWait();
+
+            // The index is populated before the spawn reply, so lookups complete without an ask
+            assertThat(index.contains(actorName)).isTrue();
+            CompletableFuture<SpringActorHandle<TestHelloActor.Command>> lookup =
+                    actorSystem.get(TestHelloActor.class, actorId).toCompletableFuture();
+            assertThat(lookup.isDone()).isTrue();
+            assertEquals(actorRef.getUnderlying(), lookup.get().getUnderlying());
+
+            actorRef.stop();
+
+            // The entry is evicted once the root guardian receives the Terminated signal
+            await().atMost(5, TimeUnit.SECONDS).until(() -> !index.contains(actorName));
+            assertThat(actorSystem
+                            .exists(TestHelloActor.class, actorId)
+                            .toCompletableFuture()
+                            .get(5, TimeUnit.SECONDS))
+                    .isFalse();
+        }
+
+        @Test
+        void concurrentGetOrSpawnResolvesToSingleActor(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+
+            final String actorId = "get-or-spawn-concurrent";
+            List<CompletableFuture<SpringActorHandle<TestHelloActor.Command>>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(actorSystem
+                        .getOrSpawn(TestHelloActor.class, actorId)
+                        .toCompletableFuture());
+            }
+
+            // All callers race on the same id, but the root guardian spawns it only once
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            SpringActorHandle<TestHelloActor.Command> first = futures.get(0).get();
+            for (CompletableFuture<SpringActorHandle<TestHelloActor.Command>> future : futures) {
+                assertEquals(first.getUnderlying(), future.get().getUnderlying());
+            }
+            assertEquals(
+                    "hello world!!",
+                    first.ask(new SayHello()).execute().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        void spawnAllSpawnsEveryActorInBatches(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+
+            List<String> actorIds = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                actorIds.add("bulk-actor-" + i);
+            }
+
+            Map<String, SpringActorHandle<TestHelloActor.Command>> handles = actorSystem
+                    .actors(TestHelloActor.class)
+                    .withIds(actorIds)
+                    .withBatchSize(8)
+                    .spawnAll()
+                    .toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals(actorIds, new ArrayList<>(handles.keySet()));
+            for (SpringActorHandle<TestHelloActor.Command> handle : handles.values()) {
+                assertEquals(
+                        "hello world!!",
+                        handle.ask(new SayHello()).execute().toCompletableFuture().get(5, TimeUnit.SECONDS));
+            }
+
+            // Spawning again resolves the existing actors instead of failing on duplicate names
+            Map<String, SpringActorHandle<TestHelloActor.Command>> again = actorSystem
+                    .actors(TestHelloActor.class)
+                    .withIds(actorIds.subList(0, 10))
+                    .spawnAllAndWait();
+            for (Map.Entry<String, SpringActorHandle<TestHelloActor.Command>> entry : again.entrySet()) {
+                assertEquals(
+                        handles.get(entry.getKey()).getUnderlying(),
+                        entry.getValue().getUnderlying());
+            }
+        }
+
+        @Test
+        void askAllGathersRepliesFromEveryActor(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+
+            List<SpringActorHandle<TestHelloActor.Command>> handles = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                handles.add(actorSystem
+                        .actor(TestHelloActor.class)
+                        .withId("ask-all-actor-" + i)
+                        .spawnAndWait());
+            }
+
+            AskAllResult<TestHelloActor.Command, Object> result = actorSystem
+                    .askAll(handles, handle -> new SayHello())
+                    .toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS);
+
+            assertTrue(result.isComplete());
+            assertEquals(20, result.getReplies().size());
+            for (SpringActorHandle<TestHelloActor.Command> handle : handles) {
+                assertEquals("hello world!!", result.getReply(handle));
+            }
+        }
+
+        @Test
+        void askAllReturnsPartialResultAtDeadline(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+
+            SpringActorHandle<TestHelloActor.Command> alive =
+                    actorSystem.actor(TestHelloActor.class).withId("ask-all-alive").spawnAndWait();
+            SpringActorHandle<TestHelloActor.Command> stopped =
+                    actorSystem.actor(TestHelloActor.class).withId("ask-all-stopped").spawnAndWait();
+            stopped.stop();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> !actorSystem
+                    .exists(TestHelloActor.class, "ask-all-stopped")
+                    .toCompletableFuture()
+                    .get());
+
+            AskAllResult<TestHelloActor.Command, Object> result = actorSystem
+                    .askAll(List.of(alive, stopped), handle -> new SayHello(), Duration.ofMillis(300))
+                    .toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(result.isComplete()).isFalse();
+            assertEquals("hello world!!", result.getReply(alive));
+            assertEquals(List.of(stopped), result.getMissing());
+        }
+
         @Test
         void actorWithoutwithStateWorks(ApplicationContext context) throws Exception {
             SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
@@ -469,4 +611,86 @@ class SpringActorSystemTest {
             assertThat(dispatcherName).contains("my-custom-dispatcher");
         }
     }
+
+    @Nested
+    @SpringBootTest(classes = TestApp.class)
+    @TestPropertySource(
+            properties = {
+                "spring.actor.pekko.loglevel=INFO",
+                "spring.actor.pekko.actor.provider=local",
+                "spring.actor.root-guardian.stripes=4"
+            })
+    class StripedRootGuardianTest {
+
+        @Test
+        void actorsAreSpawnedAndResolvedThroughTheirStripe(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+            RootGuardianStripes stripes = RootGuardianStripes.get(actorSystem.getRaw());
+            await().atMost(5, TimeUnit.SECONDS).until(() -> stripes.stripeCount() == 4);
+
+            for (int i = 0; i < 16; i++) {
+                final String actorId = "striped-actor-" + i;
+                final String actorName = ActorSpawner.buildActorName(TestHelloActor.class, actorId);
+                SpringActorHandle<TestHelloActor.Command> actorRef =
+                        actorSystem.actor(TestHelloActor.class).withId(actorId).spawnAndWait();
+
+                // The actor is a child of the stripe selected by its name
+                String expectedParent =
+                        "root-guardian-stripe-" + RootGuardianStripes.stripeIndex(actorName, 4);
+                assertEquals(expectedParent, actorRef.getUnderlying().path().parent().name());
+
+                assertTrue(actorSystem
+                        .exists(TestHelloActor.class, actorId)
+                        .toCompletableFuture()
+                        .get(5, TimeUnit.SECONDS));
+                assertEquals(
+                        "hello world!!",
+                        actorRef.ask(new SayHello()).execute().toCompletableFuture().get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        @Test
+        void spawnAllSplitsBatchesAcrossStripes(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+
+            List<String> actorIds = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                actorIds.add("striped-bulk-actor-" + i);
+            }
+
+            Map<String, SpringActorHandle<TestHelloActor.Command>> handles = actorSystem
+                    .actors(TestHelloActor.class)
+                    .withIds(actorIds)
+                    .spawnAllAndWait();
+
+            assertEquals(40, handles.size());
+            for (String actorId : actorIds) {
+                String actorName = ActorSpawner.buildActorName(TestHelloActor.class, actorId);
+                String expectedParent =
+                        "root-guardian-stripe-" + RootGuardianStripes.stripeIndex(actorName, 4);
+                assertEquals(
+                        expectedParent,
+                        handles.get(actorId).getUnderlying().path().parent().name());
+            }
+        }
+
+        @Test
+        void getOrSpawnIsAtomicWithinAStripe(ApplicationContext context) throws Exception {
+            SpringActorSystem actorSystem = context.getBean(SpringActorSystem.class);
+
+            final String actorId = "striped-get-or-spawn";
+            List<CompletableFuture<SpringActorHandle<TestHelloActor.Command>>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(actorSystem
+                        .getOrSpawn(TestHelloActor.class, actorId)
+                        .toCompletableFuture());
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            SpringActorHandle<TestHelloActor.Command> first = futures.get(0).get();
+            for (CompletableFuture<SpringActorHandle<TestHelloActor.Command>> future : futures) {
+                assertEquals(first.getUnderlying(), future.get().getUnderlying());
+            }
+        }
+    }
 }
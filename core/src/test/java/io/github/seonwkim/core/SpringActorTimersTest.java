@@ -0,0 +1,270 @@
+package io.github.seonwkim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.typesafe.config.ConfigFactory;
+import io.github.seonwkim.core.impl.DefaultSpringActorContext;
+import io.github.seonwkim.core.shard.DefaultSpringShardedActorContext;
+import io.github.seonwkim.core.shard.SpringShardedActorBehavior;
+import java.time.Duration;
+import org.apache.pekko.actor.testkit.typed.FishingOutcome;
+import org.apache.pekko.actor.testkit.typed.javadsl.ActorTestKit;
+import org.apache.pekko.actor.testkit.typed.javadsl.TestProbe;
+import org.apache.pekko.actor.typed.ActorRef;
+import org.apache.pekko.actor.typed.Behavior;
+import org.apache.pekko.actor.typed.javadsl.Behaviors;
+import org.apache.pekko.cluster.sharding.typed.javadsl.EntityContext;
+import org.apache.pekko.cluster.sharding.typed.javadsl.EntityTypeKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpringActorTimersTest {
+
+    public interface Command {}
+
+    public static class Start implements Command {
+        public final String key;
+        public final Duration delay;
+        public final boolean repeat;
+
+        public Start(String key, Duration delay, boolean repeat) {
+            this.key = key;
+            this.delay = delay;
+            this.repeat = repeat;
+        }
+    }
+
+    public static class Cancel implements Command {
+        public final String key;
+
+        public Cancel(String key) {
+            this.key = key;
+        }
+    }
+
+    public static class IsActive implements Command {
+        public final String key;
+
+        public IsActive(String key) {
+            this.key = key;
+        }
+    }
+
+    public static class Fired implements Command {
+        public final String key;
+
+        public Fired(String key) {
+            this.key = key;
+        }
+    }
+
+    public static class Stop implements Command {}
+
+    public static class Block implements Command {
+        public final Duration duration;
+
+        public Block(Duration duration) {
+            this.duration = duration;
+        }
+    }
+
+    private ActorTestKit testKit;
+    private TestProbe<String> probe;
+
+    @BeforeEach
+    void setUp() {
+        testKit = ActorTestKit.create(ConfigFactory.parseString("timers.resolution = 5ms"));
+        probe = testKit.createTestProbe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void firesSingleTimerOnce() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        actor.tell(new Start("a", Duration.ofMillis(20), false));
+        actor.tell(new IsActive("a"));
+
+        assertEquals("active:a=true", probe.receiveMessage());
+        assertEquals("fired:a", probe.receiveMessage(Duration.ofSeconds(3)));
+        actor.tell(new IsActive("a"));
+        assertEquals("active:a=false", probe.receiveMessage());
+        probe.expectNoMessage(Duration.ofMillis(100));
+    }
+
+    @Test
+    void repeatsTimerUntilCancelled() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        actor.tell(new Start("tick", Duration.ofMillis(10), true));
+
+        assertEquals("fired:tick", probe.receiveMessage(Duration.ofSeconds(3)));
+        assertEquals("fired:tick", probe.receiveMessage(Duration.ofSeconds(3)));
+        actor.tell(new Cancel("tick"));
+        // Messages handled before the cancellation may still arrive, but none after it
+        awaitInactive(actor, "tick");
+        probe.expectNoMessage(Duration.ofMillis(100));
+    }
+
+    @Test
+    void dropsMessageOfTimerCancelledWhileItWasQueued() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        actor.tell(new Start("a", Duration.ofMillis(10), false));
+        // The timer fires while the actor is busy, so its message is queued behind the cancellation
+        actor.tell(new Block(Duration.ofMillis(200)));
+        actor.tell(new Cancel("a"));
+
+        probe.expectNoMessage(Duration.ofMillis(400));
+    }
+
+    @Test
+    void dropsMessageOfTimerReplacedWhileItWasQueued() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        actor.tell(new Start("idle", Duration.ofMillis(10), false));
+        actor.tell(new Block(Duration.ofMillis(200)));
+        actor.tell(new Start("idle", Duration.ofMinutes(2), false));
+        actor.tell(new IsActive("idle"));
+
+        assertEquals("active:idle=true", probe.receiveMessage(Duration.ofSeconds(3)));
+        probe.expectNoMessage(Duration.ofMillis(200));
+    }
+
+    @Test
+    void restartingTimerReplacesPreviousOne() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        actor.tell(new Start("a", Duration.ofMillis(20), false));
+        actor.tell(new Start("a", Duration.ofMillis(40), false));
+
+        assertEquals("fired:a", probe.receiveMessage(Duration.ofSeconds(3)));
+        probe.expectNoMessage(Duration.ofMillis(150));
+    }
+
+    @Test
+    void cancelledTimerDoesNotFire() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        actor.tell(new Start("a", Duration.ofMillis(50), false));
+        actor.tell(new Cancel("a"));
+        actor.tell(new IsActive("a"));
+
+        assertEquals("active:a=false", probe.receiveMessage());
+        probe.expectNoMessage(Duration.ofMillis(150));
+    }
+
+    @Test
+    void restartingTimerKeepsOneEntry() {
+        ActorRef<Command> actor = testKit.spawn(timerActor());
+
+        for (int i = 0; i < 1000; i++) {
+            actor.tell(new Start("idle", Duration.ofMinutes(2), false));
+        }
+        actor.tell(new IsActive("idle"));
+
+        assertEquals("active:idle=true", probe.receiveMessage());
+        assertEquals(1, ActorTimerService.get(testKit.system()).scheduledCount());
+        actor.tell(new Cancel("idle"));
+        actor.tell(new IsActive("idle"));
+        assertEquals("active:idle=false", probe.receiveMessage());
+        assertEquals(0, ActorTimerService.get(testKit.system()).scheduledCount());
+    }
+
+    @Test
+    void shardedEntityCancelsTimersWhenStopped() {
+        EntityContext<Command> entityContext = new EntityContext<>(
+                EntityTypeKey.create(Command.class, "timers"), "entity-1", testKit.system().deadLetters());
+        ActorRef<Command> entity = testKit.spawn(SpringShardedActorBehavior.builder(
+                        Command.class, new DefaultSpringShardedActorContext<>(entityContext))
+                .onMessage(Start.class, (ctx, msg) -> {
+                    ctx.timers().startTimerWithFixedDelay(msg.key, new Fired(msg.key), msg.delay);
+                    probe.getRef().tell("started:" + msg.key);
+                    return Behaviors.same();
+                })
+                .onMessage(Stop.class, (ctx, msg) -> Behaviors.stopped())
+                .build()
+                .asBehavior());
+
+        entity.tell(new Start("heartbeat", Duration.ofMinutes(1), true));
+        assertEquals("started:heartbeat", probe.receiveMessage());
+        assertEquals(1, ActorTimerService.get(testKit.system()).scheduledCount());
+
+        entity.tell(new Stop());
+        probe.expectTerminated(entity);
+        assertEquals(0, ActorTimerService.get(testKit.system()).scheduledCount());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        TestProbe<SpringActorTimers<Command>> timersProbe = testKit.createTestProbe();
+        testKit.spawn(SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("invalid"))
+                .withState(ctx -> {
+                    timersProbe.getRef().tell(ctx.timers());
+                    return ctx;
+                })
+                .build()
+                .asBehavior());
+        SpringActorTimers<Command> timers = timersProbe.receiveMessage();
+
+        assertThrows(
+                IllegalArgumentException.class, () -> timers.startSingleTimer(null, new Fired("a"), Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> timers.startSingleTimer("a", null, Duration.ZERO));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> timers.startSingleTimer("a", new Fired("a"), Duration.ofMillis(-1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> timers.startTimerWithFixedDelay("a", new Fired("a"), Duration.ZERO));
+    }
+
+    private void awaitInactive(ActorRef<Command> actor, String key) {
+        actor.tell(new IsActive(key));
+        probe.fishForMessage(
+                Duration.ofSeconds(3),
+                msg -> msg.equals("active:" + key + "=false")
+                        ? FishingOutcome.complete()
+                        : FishingOutcome.continueAndIgnore());
+    }
+
+    private Behavior<Command> timerActor() {
+        return SpringActorBehavior.builder(Command.class, new DefaultSpringActorContext("timers"))
+                .withState(ctx -> ctx)
+                .onMessage(Start.class, (ctx, msg) -> {
+                    if (msg.repeat) {
+                        ctx.timers().startTimerWithFixedDelay(msg.key, new Fired(msg.key), msg.delay);
+                    } else {
+                        ctx.timers().startSingleTimer(msg.key, new Fired(msg.key), msg.delay);
+                    }
+                    return Behaviors.same();
+                })
+                .onMessage(Cancel.class, (ctx, msg) -> {
+                    ctx.timers().cancel(msg.key);
+                    return Behaviors.same();
+                })
+                .onMessage(IsActive.class, (ctx, msg) -> {
+                    probe.getRef().tell("active:" + msg.key + "=" + ctx.timers().isTimerActive(msg.key));
+                    return Behaviors.same();
+                })
+                .onMessage(Fired.class, (ctx, msg) -> {
+                    probe.getRef().tell("fired:" + msg.key);
+                    return Behaviors.same();
+                })
+                .onMessage(Block.class, (ctx, msg) -> {
+                    try {
+                        Thread.sleep(msg.duration.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Behaviors.same();
+                })
+                .build()
+                .asBehavior();
+    }
+}
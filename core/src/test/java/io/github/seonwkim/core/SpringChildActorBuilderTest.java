@@ -5,6 +5,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.seonwkim.core.impl.DefaultSpringActorContext;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.apache.pekko.actor.typed.Behavior;
 import org.apache.pekko.actor.typed.SupervisorStrategy;
@@ -557,6 +561,65 @@ class SpringChildActorBuilderTest {
             assertThat(child2).isNotNull();
             assertThat(child1.getUnderlying()).isEqualTo(child2.getUnderlying());
         }
+
+        @Test
+        void testSpawnAllSpawnsChildrenInOneRequest(ApplicationContext springContext) throws Exception {
+            // Given: A parent actor with one existing child
+            SpringActorSystem actorSystem = springContext.getBean(SpringActorSystem.class);
+            SpringActorHandle<ParentActor.Command> parent = actorSystem
+                    .actor(ParentActor.class)
+                    .withId("parent-spawn-all")
+                    .spawnAndWait();
+            SpringActorHandle<SimpleChildActor.Command> existing = parent.child(SimpleChildActor.class)
+                    .withId("bulk-child-0")
+                    .spawnAndWait();
+
+            // When: Spawning several children at once, including the existing one
+            List<String> childIds = List.of("bulk-child-0", "bulk-child-1", "bulk-child-2", "bulk-child-3");
+            Map<String, SpringActorHandle<SimpleChildActor.Command>> children = parent.child(SimpleChildActor.class)
+                    .withIds(childIds)
+                    .spawnAll()
+                    .toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then: Every child is returned in order and the existing child is reused
+            assertThat(children.keySet()).containsExactlyElementsOf(childIds);
+            assertThat(children.get("bulk-child-0").getUnderlying()).isEqualTo(existing.getUnderlying());
+            for (SpringActorHandle<SimpleChildActor.Command> child : children.values()) {
+                String response = child.ask(new SimpleChildActor.Ping())
+                        .withTimeout(Duration.ofSeconds(5))
+                        .execute()
+                        .toCompletableFuture()
+                        .get();
+                assertThat(response).isEqualTo("pong");
+            }
+        }
+
+        @Test
+        void testConcurrentGetOrSpawnResolvesToSingleChild(ApplicationContext springContext) throws Exception {
+            // Given: A parent actor
+            SpringActorSystem actorSystem = springContext.getBean(SpringActorSystem.class);
+            SpringActorHandle<ParentActor.Command> parent = actorSystem
+                    .actor(ParentActor.class)
+                    .withId("parent-getorspawn-concurrent")
+                    .spawnAndWait();
+
+            // When: Calling getOrSpawn concurrently without waiting in between
+            List<CompletableFuture<SpringActorHandle<SimpleChildActor.Command>>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(parent.child(SimpleChildActor.class)
+                        .withId("concurrent-child")
+                        .getOrSpawn()
+                        .toCompletableFuture());
+            }
+
+            // Then: Every call should resolve to the same child
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            SpringActorHandle<SimpleChildActor.Command> first = futures.get(0).get();
+            for (CompletableFuture<SpringActorHandle<SimpleChildActor.Command>> future : futures) {
+                assertThat(future.get().getUnderlying()).isEqualTo(first.getUnderlying());
+            }
+        }
     }
 
     @Nested
@@ -0,0 +1,64 @@
+package io.github.seonwkim.core.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    @Test
+    void allowsRetriesProportionalToRequests() {
+        RetryBudget budget = RetryBudget.of(0.1, 0);
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+
+        int allowed = 0;
+        while (budget.tryWithdraw()) {
+            allowed++;
+        }
+        assertEquals(10, allowed);
+    }
+
+    @Test
+    void rejectsRetriesWithoutRequests() {
+        RetryBudget budget = RetryBudget.of(0.5, 0);
+
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void alwaysAllowsMinimumRetriesPerSecond() {
+        RetryBudget budget = RetryBudget.of(0.0, 3);
+
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void capsSavedUpTokens() {
+        RetryBudget budget = RetryBudget.of(1.0, 0);
+
+        for (int i = 0; i < 5000; i++) {
+            budget.deposit();
+        }
+
+        int allowed = 0;
+        while (budget.tryWithdraw()) {
+            allowed++;
+        }
+        assertEquals(1000, allowed);
+    }
+
+    @Test
+    void rejectsInvalidRatio() {
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(1.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.of(0.1, -1));
+    }
+}
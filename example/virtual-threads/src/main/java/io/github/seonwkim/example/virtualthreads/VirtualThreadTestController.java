@@ -20,25 +20,25 @@ public class VirtualThreadTestController {
     }
 
     /**
-     * Simple API to test if actors run on virtual threads with custom virtual-thread-executor
+     * Simple API to test if actors run on virtual threads with the provisioned virtual thread dispatcher
      * GET /api/virtual
      */
     @GetMapping("/virtual")
     public Map<String, Object> testVirtual() {
-        log.info("Testing virtual-thread-executor dispatcher");
+        log.info("Testing virtual thread dispatcher");
 
         SpringActorHandle<VirtualThreadTestActor.Command> actor = actorSystem
                 .actor(VirtualThreadTestActor.class)
                 .withId("virtual-actor-" + System.currentTimeMillis())
-                .withDispatcherFromConfig("virtual-threads-dispatcher")
+                .withVirtualThreadDispatcher()
                 .spawnAndWait();
 
         actor.tell(new VirtualThreadTestActor.CheckThread("virtual-thread-executor"));
 
         Map<String, Object> response = new HashMap<>();
-        response.put("dispatcher", "virtual-threads-dispatcher");
+        response.put("dispatcher", "DispatcherConfig.virtualThreads()");
         response.put("executor", "virtual-thread-executor");
-        response.put("description", "Uses custom dispatcher with virtual-thread-executor");
+        response.put("description", "Uses the framework-provisioned virtual thread dispatcher");
         response.put("message", "Check logs to see if thread is virtual");
         return response;
     }
@@ -0,0 +1,123 @@
+package io.github.seonwkim.metrics.modules.ask;
+
+import io.github.seonwkim.metrics.agent.MetricsAgent;
+import io.github.seonwkim.metrics.api.InstrumentationModule;
+import io.github.seonwkim.metrics.api.Tags;
+import io.github.seonwkim.metrics.core.MetricsRegistry;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Instrumentation module for extra ask attempts made by hedged and retried sharded asks.
+ *
+ * Tracks:
+ * - actor.ask.hedges (counter) - hedged copies sent
+ * - actor.ask.retries (counter) - retries sent after a timeout
+ * - actor.ask.retries.rejected (counter) - retries skipped because the retry budget was exhausted
+ *
+ * Tags: entity.type
+ */
+public class AskModule implements InstrumentationModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(AskModule.class);
+    private static final String MODULE_ID = "ask";
+
+    // Instrumented hook class in the core module
+    private static final String ASK_ATTEMPT_EVENTS = "io.github.seonwkim.core.shard.AskAttemptEvents";
+
+    // Metric names
+    public static final String METRIC_ASK_HEDGES = "actor.ask.hedges";
+    public static final String METRIC_ASK_RETRIES = "actor.ask.retries";
+    public static final String METRIC_ASK_RETRIES_REJECTED = "actor.ask.retries.rejected";
+
+    @Override
+    public String moduleId() {
+        return MODULE_ID;
+    }
+
+    @Override
+    public String description() {
+        return "Ask metrics (hedged requests, retries, rejected retries)";
+    }
+
+    @Override
+    public void initialize(MetricsRegistry metricsRegistry) {
+        logger.info("Initializing Ask Module");
+        logger.info("Ask Module initialized");
+    }
+
+    @Override
+    public void shutdown() {
+        logger.info("Shutting down Ask Module");
+    }
+
+    /**
+     * Helper method to increment an attempt counter for an entity type.
+     * This is called from ByteBuddy advice and MUST be public static.
+     */
+    public static void recordAttempt(String metricName, String entityType) {
+        MetricsRegistry reg = MetricsAgent.getRegistry();
+        if (reg == null) {
+            return;
+        }
+        Tags tags = Tags.of("entity.type", entityType).and(reg.getGlobalTags());
+        reg.getBackend().counter(metricName, tags).increment();
+    }
+
+    /**
+     * Apply instrumentation to AgentBuilder.
+     * This is called by the MetricsAgent during bytecode transformation.
+     */
+    public static AgentBuilder instrument(AgentBuilder builder) {
+        return builder.type(ElementMatchers.named(ASK_ATTEMPT_EVENTS))
+                .transform((builderParam, typeDescription, classLoader, module) -> builderParam
+                        .visit(Advice.to(HedgeSentAdvice.class).on(ElementMatchers.named("hedgeSent")))
+                        .visit(Advice.to(RetrySentAdvice.class).on(ElementMatchers.named("retrySent")))
+                        .visit(Advice.to(RetryRejectedAdvice.class).on(ElementMatchers.named("retryRejected"))));
+    }
+
+    /**
+     * ByteBuddy advice for hedged requests.
+     */
+    public static class HedgeSentAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) String entityType) {
+            try {
+                recordAttempt(METRIC_ASK_HEDGES, entityType);
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+
+    /**
+     * ByteBuddy advice for retries.
+     */
+    public static class RetrySentAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) String entityType) {
+            try {
+                recordAttempt(METRIC_ASK_RETRIES, entityType);
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+
+    /**
+     * ByteBuddy advice for retries rejected by the retry budget.
+     */
+    public static class RetryRejectedAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) String entityType) {
+            try {
+                recordAttempt(METRIC_ASK_RETRIES_REJECTED, entityType);
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.github.seonwkim.metrics.api.Tags;
 import io.github.seonwkim.metrics.api.instruments.Timer;
 import io.github.seonwkim.metrics.core.MetricsRegistry;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,6 +16,10 @@ import java.util.concurrent.atomic.AtomicLong;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.matcher.ElementMatchers;
+import org.apache.pekko.actor.ActorCell;
+import org.apache.pekko.actor.ActorRefWithCell;
+import org.apache.pekko.actor.typed.javadsl.Adapter;
+import org.apache.pekko.dispatch.AbstractBoundedNodeQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +29,9 @@ import org.slf4j.LoggerFactory;
  * Tracks:
  * - actor.mailbox.size (gauge) - aggregated per actor class
  * - actor.mailbox.time (timer - time from enqueue to dequeue)
+ * - actor.mailbox.overflow (counter) - messages refused by a full bounded mailbox or offered to a
+ *   terminated actor, tagged with result (full, dropped, dead_letter, rejected)
+ * - actor.mailbox.deduplicated (counter) - duplicates dropped by a deduplicating mailbox
  *
  * Tags: actor.class, message.type (low cardinality to avoid time-series explosion)
  */
@@ -35,6 +43,11 @@ public class MailboxModule implements InstrumentationModule {
     // Metric names
     private static final String METRIC_MAILBOX_SIZE = "actor.mailbox.size";
     private static final String METRIC_MAILBOX_TIME = "actor.mailbox.time";
+    public static final String METRIC_MAILBOX_OVERFLOW = "actor.mailbox.overflow";
+    public static final String METRIC_MAILBOX_DEDUPLICATED = "actor.mailbox.deduplicated";
+
+    // Instrumented hook class in the core module
+    private static final String MAILBOX_EVENTS = "io.github.seonwkim.core.MailboxEvents";
 
     // WeakHashMap to store envelope timestamps without preventing GC
     // Must be public for ByteBuddy inline advice access
@@ -52,7 +65,7 @@ public class MailboxModule implements InstrumentationModule {
 
     @Override
     public String description() {
-        return "Mailbox metrics (size, enqueue-to-dequeue time)";
+        return "Mailbox metrics (size, enqueue-to-dequeue time, overflow, deduplication)";
     }
 
     @Override
@@ -87,6 +100,78 @@ public class MailboxModule implements InstrumentationModule {
         });
     }
 
+    /**
+     * Helper method to count a message refused by a mailbox.
+     * This is called from ByteBuddy advice and MUST be public static.
+     *
+     * @param classicRef The classic ActorRef of the receiving actor
+     * @param result The reason the message was refused (full, dropped, dead_letter or rejected)
+     */
+    public static void recordOverflow(Object classicRef, String result) {
+        recordMailboxEvent(classicRef, METRIC_MAILBOX_OVERFLOW, Tags.of("result", result));
+    }
+
+    /**
+     * Helper method to count a duplicate dropped by a deduplicating mailbox.
+     * This is called from ByteBuddy advice and MUST be public static.
+     *
+     * @param classicRef The classic ActorRef of the receiving actor
+     */
+    public static void recordDuplicate(Object classicRef) {
+        recordMailboxEvent(classicRef, METRIC_MAILBOX_DEDUPLICATED, Tags.empty());
+    }
+
+    /**
+     * Helper method to count a message enqueued into the mailbox of an actor.
+     * This is called from ByteBuddy advice and MUST be public static.
+     *
+     * @param actorCell The ActorCell of the receiving actor
+     */
+    public static void recordEnqueue(Object actorCell) {
+        MetricsRegistry reg = MetricsAgent.getRegistry();
+        if (reg == null) {
+            return;
+        }
+        ActorContext context = ActorContext.from(actorCell);
+
+        // Check filtering, sampling, and business rules (skips system/temporary actors)
+        if (!reg.shouldInstrument(context)) {
+            return;
+        }
+
+        String actorClass = context.getActorClass();
+
+        // Increment mailbox size (per actor class, aggregating all instances)
+        AtomicLong size = mailboxSizes.get(actorClass);
+        if (size == null) {
+            // Register gauge via helper method (avoids lambda issues in ByteBuddy)
+            registerMailboxGauge(actorClass, reg);
+            size = mailboxSizes.get(actorClass);
+        }
+        if (size != null) {
+            size.incrementAndGet();
+        }
+    }
+
+    private static void recordMailboxEvent(Object classicRef, String metric, Tags extraTags) {
+        MetricsRegistry reg = MetricsAgent.getRegistry();
+        if (reg == null) {
+            return;
+        }
+        Tags tags = Tags.of("actor.class", "unknown");
+        if (classicRef instanceof ActorRefWithCell) {
+            Object cell = ((ActorRefWithCell) classicRef).underlying();
+            if (cell instanceof ActorCell) {
+                ActorContext context = ActorContext.from(cell);
+                if (!reg.shouldInstrument(context)) {
+                    return;
+                }
+                tags = context.toTags();
+            }
+        }
+        reg.getBackend().counter(metric, tags.and(extraTags).and(reg.getGlobalTags())).increment();
+    }
+
     /**
      * Apply instrumentation to AgentBuilder.
      * This is called by the MetricsAgent during bytecode transformation.
@@ -106,7 +191,98 @@ public class MailboxModule implements InstrumentationModule {
                 // Instrument ActorCell.invoke to track dequeue and processing
                 .type(ElementMatchers.named("org.apache.pekko.actor.ActorCell"))
                 .transform((builderParam, typeDescription, classLoader, module) ->
-                        builderParam.visit(Advice.to(MailboxProcessAdvice.class).on(ElementMatchers.named("invoke"))));
+                        builderParam.visit(Advice.to(MailboxProcessAdvice.class).on(ElementMatchers.named("invoke"))))
+                // Instrument the bounded mailbox queue to count overflows to dead letters
+                .type(ElementMatchers.named("org.apache.pekko.dispatch.BoundedNodeMessageQueue"))
+                .transform((builderParam, typeDescription, classLoader, module) -> builderParam.visit(
+                        Advice.to(BoundedEnqueueAdvice.class).on(ElementMatchers.named("enqueue"))))
+                // Instrument the mailbox hooks to count refused offers and dropped duplicates
+                .type(ElementMatchers.named(MAILBOX_EVENTS))
+                .transform((builderParam, typeDescription, classLoader, module) -> builderParam
+                        .visit(Advice.to(OfferRejectedAdvice.class).on(ElementMatchers.named("offerRejected")))
+                        .visit(Advice.to(OfferEnqueuedAdvice.class).on(ElementMatchers.named("offerEnqueued")))
+                        .visit(Advice.to(OverflowedAdvice.class).on(ElementMatchers.named("overflowed")))
+                        .visit(Advice.to(DuplicateDroppedAdvice.class).on(ElementMatchers.named("duplicateDropped"))));
+    }
+
+    /**
+     * ByteBuddy advice for enqueueing into a bounded mailbox. A message that arrives while the
+     * queue is at capacity is sent to dead letters by Pekko.
+     */
+    public static class BoundedEnqueueAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.This Object queue, @Advice.Argument(0) Object receiver) {
+            try {
+                AbstractBoundedNodeQueue<?> bounded = (AbstractBoundedNodeQueue<?>) queue;
+                if (bounded.size() >= bounded.capacity()) {
+                    recordOverflow(receiver, "dead_letter");
+                }
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+
+    /**
+     * ByteBuddy advice for offers refused by SpringActorHandle.offer.
+     */
+    public static class OfferRejectedAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) Object target, @Advice.Argument(1) Object result) {
+            try {
+                Object classicRef = Adapter.toClassic((org.apache.pekko.actor.typed.ActorRef<?>) target);
+                recordOverflow(classicRef, result.toString().toLowerCase(Locale.ROOT));
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+
+    /**
+     * ByteBuddy advice for messages that SpringActorHandle.offer added to a bounded mailbox
+     * directly, which bypasses Dispatch.sendMessage.
+     */
+    public static class OfferEnqueuedAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) Object target) {
+            try {
+                Object classicRef = Adapter.toClassic((org.apache.pekko.actor.typed.ActorRef<?>) target);
+                if (classicRef instanceof ActorRefWithCell) {
+                    recordEnqueue(((ActorRefWithCell) classicRef).underlying());
+                }
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+
+    /**
+     * ByteBuddy advice for messages dropped or rejected by a full array-based mailbox.
+     */
+    public static class OverflowedAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) Object target, @Advice.Argument(1) boolean deadLettered) {
+            try {
+                Object classicRef = Adapter.toClassic((org.apache.pekko.actor.typed.ActorRef<?>) target);
+                recordOverflow(classicRef, deadLettered ? "dead_letter" : "rejected");
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
+    }
+
+    /**
+     * ByteBuddy advice for duplicates dropped by a deduplicating mailbox.
+     */
+    public static class DuplicateDroppedAdvice {
+        @Advice.OnMethodEnter(suppress = Throwable.class)
+        public static void onEnter(@Advice.Argument(0) Object target) {
+            try {
+                recordDuplicate(Adapter.toClassic((org.apache.pekko.actor.typed.ActorRef<?>) target));
+            } catch (Exception e) {
+                // Silently fail - don't disrupt actor system
+            }
+        }
     }
 
     /**
@@ -159,25 +335,7 @@ public class MailboxModule implements InstrumentationModule {
                     envelopeTimestamps.put(envelope, System.nanoTime());
                 }
 
-                ActorContext context = ActorContext.from(actorCell);
-
-                // Check filtering, sampling, and business rules (skips system/temporary actors)
-                if (!reg.shouldInstrument(context)) {
-                    return;
-                }
-
-                String actorClass = context.getActorClass();
-
-                // Increment mailbox size (per actor class, aggregating all instances)
-                AtomicLong size = mailboxSizes.get(actorClass);
-                if (size == null) {
-                    // Register gauge via helper method (avoids lambda issues in ByteBuddy)
-                    registerMailboxGauge(actorClass, reg);
-                    size = mailboxSizes.get(actorClass);
-                }
-                if (size != null) {
-                    size.incrementAndGet();
-                }
+                recordEnqueue(actorCell);
             } catch (Exception e) {
                 // Silently fail - don't disrupt actor system
             }
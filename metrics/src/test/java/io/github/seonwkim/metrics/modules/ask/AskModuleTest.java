@@ -0,0 +1,85 @@
+package io.github.seonwkim.metrics.modules.ask;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.seonwkim.metrics.agent.MetricsAgent;
+import io.github.seonwkim.metrics.core.MetricsConfiguration;
+import io.github.seonwkim.metrics.core.MetricsRegistry;
+import io.github.seonwkim.metrics.micrometer.MicrometerMetricsBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for AskModule.
+ * Invokes the advice methods directly; the ByteBuddy instrumentation of AskAttemptEvents
+ * requires the Java agent.
+ */
+class AskModuleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AskModule module;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        MetricsConfiguration config = MetricsConfiguration.builder()
+                .enabled(true)
+                .tag("test", "ask")
+                .build();
+
+        MetricsRegistry metricsRegistry = MetricsRegistry.builder()
+                .configuration(config)
+                .backend(new MicrometerMetricsBackend(meterRegistry))
+                .build();
+
+        module = new AskModule();
+        metricsRegistry.registerModule(module);
+
+        // Set the registry in the agent so the advice classes can access it
+        MetricsAgent.setRegistry(metricsRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        module.shutdown();
+        MetricsAgent.setRegistry(null);
+    }
+
+    @Test
+    void testModuleMetadata() {
+        assertEquals("ask", module.moduleId());
+        assertTrue(module.description().contains("Ask"));
+    }
+
+    @Test
+    void testHedgesAndRetriesAreCountedPerEntityType() {
+        AskModule.HedgeSentAdvice.onEnter("Order");
+        AskModule.HedgeSentAdvice.onEnter("Order");
+        AskModule.RetrySentAdvice.onEnter("Order");
+        AskModule.RetryRejectedAdvice.onEnter("Payment");
+
+        assertEquals(2.0, count(AskModule.METRIC_ASK_HEDGES, "Order"));
+        assertEquals(1.0, count(AskModule.METRIC_ASK_RETRIES, "Order"));
+        assertEquals(1.0, count(AskModule.METRIC_ASK_RETRIES_REJECTED, "Payment"));
+        assertNull(meterRegistry.find(AskModule.METRIC_ASK_HEDGES).tag("entity.type", "Payment").counter());
+    }
+
+    @Test
+    void testNoRegistryIsIgnored() {
+        MetricsAgent.setRegistry(null);
+
+        assertDoesNotThrow(() -> AskModule.HedgeSentAdvice.onEnter("Order"));
+        assertNull(meterRegistry.find(AskModule.METRIC_ASK_HEDGES).counter());
+    }
+
+    private double count(String metricName, String entityType) {
+        return meterRegistry
+                .get(metricName)
+                .tag("entity.type", entityType)
+                .counter()
+                .count();
+    }
+}
@@ -2,6 +2,7 @@ package io.github.seonwkim.metrics.modules.mailbox;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.seonwkim.metrics.agent.MetricsAgent;
 import io.github.seonwkim.metrics.api.MetricsBackend;
 import io.github.seonwkim.metrics.api.Tags;
 import io.github.seonwkim.metrics.api.instruments.Counter;
@@ -210,6 +211,38 @@ class MailboxModuleTest {
         assertEquals(0.0, gauge.value());
     }
 
+    @Test
+    void testOverflowIsCountedPerResult() {
+        MetricsAgent.setRegistry(metricsRegistry);
+        try {
+            MailboxModule.recordOverflow(new Object(), "full");
+            MailboxModule.recordOverflow(new Object(), "full");
+            MailboxModule.recordOverflow(new Object(), "dead_letter");
+
+            Tags full = Tags.of("actor.class", "unknown")
+                    .and("result", "full")
+                    .and(metricsRegistry.getGlobalTags());
+            assertEquals(2.0, metricsBackend.counter(MailboxModule.METRIC_MAILBOX_OVERFLOW, full).count());
+            assertEquals(2, metricsBackend.counterCount());
+        } finally {
+            MetricsAgent.setRegistry(null);
+        }
+    }
+
+    @Test
+    void testDuplicatesAreCounted() {
+        MetricsAgent.setRegistry(metricsRegistry);
+        try {
+            MailboxModule.recordDuplicate(new Object());
+            MailboxModule.recordDuplicate(new Object());
+
+            Tags tags = Tags.of("actor.class", "unknown").and(metricsRegistry.getGlobalTags());
+            assertEquals(2.0, metricsBackend.counter(MailboxModule.METRIC_MAILBOX_DEDUPLICATED, tags).count());
+        } finally {
+            MetricsAgent.setRegistry(null);
+        }
+    }
+
     /**
      * Test implementation of MetricsBackend for testing.
      */
@@ -248,6 +281,10 @@ class MailboxModuleTest {
             return "test";
         }
 
+        public int counterCount() {
+            return counters.size();
+        }
+
         public int gaugeCount() {
             return gauges.size();
         }
@@ -0,0 +1,18 @@
+plugins {
+    id("java")
+    id("java-library")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// The processor only needs the JDK compiler API; the annotation and the Behavior type are resolved
+// by name from the compilation classpath of the project being processed
+dependencies {
+    testImplementation(project(":core"))
+
+    testImplementation("org.junit.jupiter:junit-jupiter-api:5.10.2")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.10.2")
+}
@@ -0,0 +1,246 @@
+package io.github.seonwkim.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates an {@code ActorDispatcher} for every class that declares {@code @ActorHandler} methods.
+ * The generated class lives in the package of the handler class, is named after it with an
+ * {@code _ActorDispatcher} suffix (nested class names joined with {@code _}), and calls the handler
+ * methods from a switch over the handler index, so every call site is monomorphic and no lambda or
+ * reflective call is involved. {@code SpringActorBehavior} finds the generated class by name.
+ *
+ * <p>Add the processor to the annotation processor path:
+ * <pre>{@code
+ * dependencies {
+ *     annotationProcessor("io.github.seonwkim:spring-boot-starter-actor-processor:{version}")
+ * }
+ * }</pre>
+ */
+@SupportedAnnotationTypes(ActorHandlerProcessor.ACTOR_HANDLER)
+public final class ActorHandlerProcessor extends AbstractProcessor {
+
+    static final String ACTOR_HANDLER = "io.github.seonwkim.core.ActorHandler";
+    static final String ACTOR_DISPATCHER = "io.github.seonwkim.core.ActorDispatcher";
+    static final String BEHAVIOR = "org.apache.pekko.actor.typed.Behavior";
+    static final String SUFFIX = "_ActorDispatcher";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Elements elements = processingEnv.getElementUtils();
+        TypeElement actorHandler = elements.getTypeElement(ACTOR_HANDLER);
+        if (actorHandler == null) {
+            return false;
+        }
+        Set<TypeElement> handlerClasses = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(actorHandler)) {
+            if (element.getKind() == ElementKind.METHOD) {
+                handlerClasses.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement handlerClass : handlerClasses) {
+            List<ExecutableElement> methods = handlerMethods(handlerClass, actorHandler);
+            if (validate(handlerClass, methods)) {
+                write(handlerClass, methods);
+            }
+        }
+        return true;
+    }
+
+    /** Returns the annotated methods of the class in declaration order. */
+    private List<ExecutableElement> handlerMethods(TypeElement handlerClass, TypeElement actorHandler) {
+        Types types = processingEnv.getTypeUtils();
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (Element member : handlerClass.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            boolean annotated = member.getAnnotationMirrors().stream()
+                    .anyMatch(mirror -> types.isSameType(mirror.getAnnotationType(), actorHandler.asType()));
+            if (annotated) {
+                methods.add((ExecutableElement) member);
+            }
+        }
+        return methods;
+    }
+
+    /** Reports every unsupported handler declaration and returns whether the class is valid. */
+    private boolean validate(TypeElement handlerClass, List<ExecutableElement> methods) {
+        Messager messager = processingEnv.getMessager();
+        Types types = processingEnv.getTypeUtils();
+        TypeElement behavior = processingEnv.getElementUtils().getTypeElement(BEHAVIOR);
+        boolean valid = true;
+
+        Element type = handlerClass;
+        while (type.getKind().isClass() || type.getKind().isInterface()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                messager.printMessage(
+                        Diagnostic.Kind.ERROR,
+                        "@ActorHandler methods cannot be declared in a private class, because the generated "
+                                + "dispatcher must be able to call them",
+                        handlerClass);
+                return false;
+            }
+            type = type.getEnclosingElement();
+        }
+
+        Map<String, ExecutableElement> byMessageType = new HashMap<>();
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.PRIVATE)
+                    || method.getModifiers().contains(Modifier.STATIC)) {
+                messager.printMessage(
+                        Diagnostic.Kind.ERROR, "@ActorHandler methods must not be private or static", method);
+                valid = false;
+                continue;
+            }
+            if (method.getParameters().size() != 1
+                    || method.getParameters().get(0).asType().getKind() != TypeKind.DECLARED) {
+                messager.printMessage(
+                        Diagnostic.Kind.ERROR,
+                        "@ActorHandler methods must take exactly one parameter, the message",
+                        method);
+                valid = false;
+                continue;
+            }
+            if (behavior != null
+                    && !types.isAssignable(
+                            types.erasure(method.getReturnType()), types.erasure(behavior.asType()))) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@ActorHandler methods must return a Behavior", method);
+                valid = false;
+                continue;
+            }
+            String messageType = messageType(method);
+            ExecutableElement previous = byMessageType.putIfAbsent(messageType, method);
+            if (previous != null) {
+                messager.printMessage(
+                        Diagnostic.Kind.ERROR,
+                        "Duplicate @ActorHandler for message type " + messageType + ", already handled by "
+                                + previous.getSimpleName(),
+                        method);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private void write(TypeElement handlerClass, List<ExecutableElement> methods) {
+        Elements elements = processingEnv.getElementUtils();
+        PackageElement packageElement = elements.getPackageOf(handlerClass);
+        String packageName = packageElement.isUnnamed()
+                ? ""
+                : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(handlerClass).toString();
+        String simpleBinaryName =
+                packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String dispatcherName = simpleBinaryName.replace('$', '_') + SUFFIX;
+        String targetType = processingEnv
+                .getTypeUtils()
+                .erasure(handlerClass.asType())
+                .toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/** Dispatcher generated from the @ActorHandler methods of {@link ")
+                .append(targetType)
+                .append("}. */\n");
+        if (elements.getTypeElement("javax.annotation.processing.Generated") != null) {
+            source.append("@javax.annotation.processing.Generated(\"")
+                    .append(ActorHandlerProcessor.class.getName())
+                    .append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ")
+                .append(dispatcherName)
+                .append(" implements ")
+                .append(ACTOR_DISPATCHER)
+                .append('<')
+                .append(targetType)
+                .append("> {\n\n")
+                .append("    private static final java.util.List<java.lang.Class<?>> MESSAGE_TYPES =")
+                .append(" java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        for (int i = 0; i < methods.size(); i++) {
+            source.append(i == 0 ? "\n" : ",\n")
+                    .append("            ")
+                    .append(messageType(methods.get(i)))
+                    .append(".class");
+        }
+        source.append("));\n\n")
+                .append("    @java.lang.Override\n")
+                .append("    public java.util.List<java.lang.Class<?>> messageTypes() {\n")
+                .append("        return MESSAGE_TYPES;\n")
+                .append("    }\n\n")
+                .append("    @java.lang.Override\n")
+                .append("    public ")
+                .append(BEHAVIOR)
+                .append("<?> dispatch(")
+                .append(targetType)
+                .append(" target, int index, java.lang.Object message) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            source.append("            case ")
+                    .append(i)
+                    .append(":\n")
+                    .append("                return target.")
+                    .append(method.getSimpleName())
+                    .append("((")
+                    .append(messageType(method))
+                    .append(") message);\n");
+        }
+        source.append("            default:\n")
+                .append("                throw new java.lang.IllegalArgumentException(")
+                .append("\"No handler with index \" + index);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? dispatcherName : packageName + "." + dispatcherName;
+        Filer filer = processingEnv.getFiler();
+        try (Writer writer = filer.createSourceFile(qualifiedName, handlerClass).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "Failed to write " + qualifiedName + ": " + e.getMessage(),
+                            handlerClass);
+        }
+    }
+
+    /** Returns the erased source name of the message parameter of a handler method. */
+    private String messageType(ExecutableElement method) {
+        TypeMirror parameterType = method.getParameters().get(0).asType();
+        return processingEnv.getTypeUtils().erasure(parameterType).toString();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.seonwkim.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ActorHandlerProcessorTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void generatesSwitchDispatcherInDeclarationOrder() throws IOException {
+        Compilation compilation = compile(
+                "com/example/Orders.java",
+                "package com.example;\n"
+                        + "import io.github.seonwkim.core.ActorHandler;\n"
+                        + "import org.apache.pekko.actor.typed.Behavior;\n"
+                        + "import org.apache.pekko.actor.typed.javadsl.Behaviors;\n"
+                        + "public class Orders {\n"
+                        + "    public interface Command {}\n"
+                        + "    public static class Create implements Command {}\n"
+                        + "    public static class Cancel implements Command {}\n"
+                        + "    public static class Handler {\n"
+                        + "        @ActorHandler Behavior<Command> onCreate(Create msg) { return Behaviors.same(); }\n"
+                        + "        void helper() {}\n"
+                        + "        @ActorHandler Behavior<Command> onCancel(Cancel msg) { return Behaviors.same(); }\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertTrue(compilation.success, compilation.errors.toString());
+        String generated = Files.readString(
+                workDir.resolve("generated/com/example/Orders_Handler_ActorDispatcher.java"), StandardCharsets.UTF_8);
+        assertTrue(generated.contains("ActorDispatcher<com.example.Orders.Handler>"));
+        assertTrue(generated.indexOf("com.example.Orders.Create.class") < generated.indexOf("Orders.Cancel.class"));
+        assertTrue(generated.contains("case 0:\n                return target.onCreate((com.example.Orders.Create) "));
+        assertTrue(generated.contains("case 1:\n                return target.onCancel((com.example.Orders.Cancel) "));
+    }
+
+    @Test
+    void rejectsUnsupportedHandlerMethods() throws IOException {
+        Compilation compilation = compile(
+                "com/example/Invalid.java",
+                "package com.example;\n"
+                        + "import io.github.seonwkim.core.ActorHandler;\n"
+                        + "import org.apache.pekko.actor.typed.Behavior;\n"
+                        + "public class Invalid {\n"
+                        + "    @ActorHandler private Behavior<Object> hidden(String msg) { return null; }\n"
+                        + "    @ActorHandler Behavior<Object> first(Integer msg) { return null; }\n"
+                        + "    @ActorHandler Behavior<Object> second(Integer msg) { return null; }\n"
+                        + "    @ActorHandler String wrongReturn(Long msg) { return null; }\n"
+                        + "    @ActorHandler Behavior<Object> twoParameters(Long a, Long b) { return null; }\n"
+                        + "}\n");
+
+        assertFalse(compilation.success);
+        assertEquals(4, compilation.errors.size(), compilation.errors.toString());
+        assertTrue(compilation.errors.get(0).contains("must not be private or static"));
+        assertTrue(compilation.errors.get(1).contains("Duplicate @ActorHandler for message type java.lang.Integer"));
+        assertTrue(compilation.errors.get(2).contains("must return a Behavior"));
+        assertTrue(compilation.errors.get(3).contains("exactly one parameter"));
+        assertFalse(Files.exists(workDir.resolve("generated/com/example/Invalid_ActorDispatcher.java")));
+    }
+
+    private Compilation compile(String path, String source) throws IOException {
+        Path sourceFile = workDir.resolve("src").resolve(path);
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+        Path generatedDir = Files.createDirectories(workDir.resolve("generated"));
+        Path classesDir = Files.createDirectories(workDir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            List<String> options = new ArrayList<>(List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-s", generatedDir.toString(),
+                    "-d", classesDir.toString()));
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjects(sourceFile));
+            task.setProcessors(List.of(new ActorHandlerProcessor()));
+            boolean success = task.call();
+            List<String> errors = diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.toList());
+            return new Compilation(success, errors);
+        }
+    }
+
+    private static final class Compilation {
+        final boolean success;
+        final List<String> errors;
+
+        Compilation(boolean success, List<String> errors) {
+            this.success = success;
+            this.errors = errors;
+        }
+    }
+}
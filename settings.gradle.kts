@@ -3,6 +3,8 @@ rootProject.name = "spring-boot-starter-actor"
 include(":core")
 include(":core-boot3")
 include(":metrics")
+include(":processor")
+include(":benchmarks")
 
 include(":example:chat")
 include(":example:cluster")